@@ -20,11 +20,15 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.RaftError;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +36,7 @@ import org.slf4j.LoggerFactory;
 public final class RaftMemberContext {
 
   private static final int APPEND_WINDOW_SIZE = 8;
+  static final Duration SPLIT_SNAPSHOT_FILES_RETRY_INTERVAL = Duration.ofMinutes(5);
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
@@ -52,6 +57,16 @@ public final class RaftMemberContext {
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  // chunk name -> checksum, of the snapshot which is currently sent to the member
+  private Map<String, Long> sentSnapshotChunks = new HashMap<>();
+  // chunk name -> checksum, of the last snapshot which the member installed completely
+  private Map<String, Long> installedSnapshotChunks = new HashMap<>();
+  // members of older versions reject a file which is split into multiple chunks, so files are sent
+  // whole to a member once it rejected such a chunk; split files are tried again after an interval,
+  // as the member may have been updated since
+  private boolean splitSnapshotFiles = true;
+  private long splitSnapshotFilesDisabledTime;
+  private boolean sentSnapshotFileBlock;
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
@@ -67,6 +82,8 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    sentSnapshotChunks.clear();
+    installedSnapshotChunks.clear();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
@@ -443,6 +460,97 @@ public final class RaftMemberContext {
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
+  /**
+   * Returns the chunks of the last snapshot which the member installed completely. As the member
+   * keeps this snapshot until it installs the next one, these chunks don't need to be sent again.
+   *
+   * @return the checksums of the chunks the member holds, by chunk name
+   */
+  public Map<String, Long> getInstalledSnapshotChunks() {
+    return installedSnapshotChunks;
+  }
+
+  /**
+   * Records that the given chunk of the current snapshot was sent to the member.
+   *
+   * @param chunkName the name of the chunk
+   * @param checksum the checksum of the chunk
+   */
+  public void addSentSnapshotChunk(final String chunkName, final long checksum) {
+    sentSnapshotChunks.put(chunkName, checksum);
+  }
+
+  /** Records that a chunk which contains only a part of a file was sent to the member. */
+  public void addSentSnapshotFileBlock() {
+    sentSnapshotFileBlock = true;
+  }
+
+  /** Forgets about the chunks sent to the member, e.g. when the snapshot is sent from the start. */
+  public void resetSentSnapshotChunks() {
+    sentSnapshotChunks.clear();
+    sentSnapshotFileBlock = false;
+  }
+
+  /** Marks the chunks sent to the member as installed, once the snapshot is completely sent. */
+  public void completeSnapshotInstallation() {
+    final var installedChunks = installedSnapshotChunks;
+    installedSnapshotChunks = sentSnapshotChunks;
+    sentSnapshotChunks = installedChunks;
+    sentSnapshotChunks.clear();
+    sentSnapshotFileBlock = false;
+  }
+
+  /**
+   * Returns whether files which are larger than the snapshot chunk size can be sent to the member
+   * in multiple chunks.
+   *
+   * @return true unless the member rejected a snapshot after it received a part of a file, less
+   *     than {@link #SPLIT_SNAPSHOT_FILES_RETRY_INTERVAL} ago
+   */
+  public boolean canSplitSnapshotFiles() {
+    return canSplitSnapshotFiles(System.currentTimeMillis());
+  }
+
+  boolean canSplitSnapshotFiles(final long currentTime) {
+    if (!splitSnapshotFiles
+        && currentTime - splitSnapshotFilesDisabledTime
+            >= SPLIT_SNAPSHOT_FILES_RETRY_INTERVAL.toMillis()) {
+      splitSnapshotFiles = true;
+    }
+    return splitSnapshotFiles;
+  }
+
+  /**
+   * Sends whole files to the member for a while, if it failed to apply a chunk of a snapshot after
+   * it received a part of a file. Members of older versions expect each chunk to contain a whole
+   * file; the checksum of a part of a file doesn't match, so they fail to apply the chunk and
+   * respond with an {@link RaftError.Type#APPLICATION_ERROR}. Other rejections, e.g. of a chunk
+   * which was received out of order, are not caused by the split files.
+   *
+   * @param error the error the member rejected the snapshot with
+   * @return true if files were split before
+   */
+  public boolean disableSnapshotFileSplittingIfRejected(final RaftError error) {
+    if (error == null
+        || error.type() != RaftError.Type.APPLICATION_ERROR
+        || !sentSnapshotFileBlock
+        || !splitSnapshotFiles) {
+      return false;
+    }
+
+    splitSnapshotFiles = false;
+    splitSnapshotFilesDisabledTime = System.currentTimeMillis();
+    return true;
+  }
+
+  /**
+   * Forgets about the chunks the member installed, e.g. if it failed to reuse one of them, such
+   * that the next snapshot is sent completely.
+   */
+  public void resetInstalledSnapshotChunks() {
+    installedSnapshotChunks.clear();
+  }
+
   public boolean hasNextEntry() {
     return reader.hasNext();
   }
@@ -57,6 +57,7 @@ import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.StorageException;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.utils.concurrent.ComposableFuture;
@@ -111,6 +112,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private final RaftReplicationMetrics replicationMetrics;
   private final MetaStore meta;
   private final RaftLog raftLog;
+  private final RaftLogFlusher logFlusher;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
   private volatile State state = State.ACTIVE;
@@ -191,6 +193,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     // Construct the core log, reader, writer, and compactor.
     raftLog = storage.openLog();
+    logFlusher =
+        new RaftLogFlusher(
+            raftLog, threadContext, storage.flushPolicy(), this::setLastWrittenIndex);
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -442,9 +447,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
       if (raftLog.shouldFlushExplicitly() && isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
-        raftLog.flush();
-        setLastWrittenIndex(commitIndex);
+        // leader counts itself in quorum, so in order to commit the leader must persist; the flush
+        // can't be delayed, as the committed entries are applied and acknowledged right away
+        logFlusher.flushImmediately(commitIndex);
       }
       final long configurationIndex = cluster.getConfiguration().index();
       if (configurationIndex > previousCommitIndex && configurationIndex <= commitIndex) {
@@ -632,6 +637,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     startTransition();
 
+    // Complete the delayed flushes of the old state, such that their callbacks, e.g. the responses
+    // to the appended entries, are not executed after the old state is closed
+    logFlusher.flushPending();
+
     // Close the old state.
     try {
       this.role.stop().get();
@@ -769,6 +778,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
 
     // Close the log.
     try {
+      logFlusher.close();
       raftLog.close();
     } catch (final Exception e) {
       log.error("Failed to close raft log", e);
@@ -915,6 +925,15 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return raftLog;
   }
 
+  /**
+   * Returns the flusher which coalesces the explicit flushes of the log.
+   *
+   * @return The log flusher.
+   */
+  public RaftLogFlusher getLogFlusher() {
+    return logFlusher;
+  }
+
   /**
    * Returns the cluster service.
    *
@@ -1151,6 +1170,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     partitionConfig.setPreferSnapshotReplicationThreshold(snapshotReplicationThreshold);
   }
 
+  public int getSnapshotChunkSize() {
+    return partitionConfig.getSnapshotChunkSize();
+  }
+
   public int getPartitionId() {
     return partitionId;
   }
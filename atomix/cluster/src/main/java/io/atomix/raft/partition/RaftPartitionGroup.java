@@ -407,6 +407,51 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum time an explicit flush may be delayed, in order to flush the entries of
+     * multiple appends at once.
+     *
+     * @param flushDelay the maximum flush delay; if zero, the log is flushed immediately
+     * @return the Raft partition group builder
+     */
+    public Builder withFlushDelay(final Duration flushDelay) {
+      config.getStorageConfig().setFlushDelay(flushDelay);
+      return this;
+    }
+
+    /**
+     * Sets the number of appended bytes after which a delayed flush is executed immediately.
+     *
+     * @param flushMaxBytes the maximum bytes of a delayed flush
+     * @return the Raft partition group builder
+     */
+    public Builder withFlushMaxBytes(final long flushMaxBytes) {
+      config.getStorageConfig().setFlushMaxBytes(flushMaxBytes);
+      return this;
+    }
+
+    /**
+     * Sets the number of appended entries after which a delayed flush is executed immediately.
+     *
+     * @param flushMaxEntries the maximum entries of a delayed flush
+     * @return the Raft partition group builder
+     */
+    public Builder withFlushMaxEntries(final int flushMaxEntries) {
+      config.getStorageConfig().setFlushMaxEntries(flushMaxEntries);
+      return this;
+    }
+
+    /**
+     * Sets whether the file of the next log segment is prepared in the background.
+     *
+     * @param preallocateSegmentFiles whether to preallocate the file of the next segment
+     * @return the Raft partition group builder
+     */
+    public Builder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+      config.getStorageConfig().setPreallocateSegmentFiles(preallocateSegmentFiles);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
@@ -508,6 +553,20 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum size of a snapshot chunk. Snapshot files which are larger are replicated in
+     * multiple chunks, such that the memory needed to replicate a snapshot is bounded regardless of
+     * the size of its files.
+     *
+     * @param snapshotChunkSize the maximum size of a snapshot chunk in bytes
+     * @return this builder for chaining
+     */
+    public Builder withSnapshotChunkSize(final int snapshotChunkSize) {
+      checkArgument(snapshotChunkSize > 0, "snapshotChunkSize must be positive");
+      config.getPartitionConfig().setSnapshotChunkSize(snapshotChunkSize);
+      return this;
+    }
+
     @Override
     public RaftPartitionGroup build() {
       return new RaftPartitionGroup(config);
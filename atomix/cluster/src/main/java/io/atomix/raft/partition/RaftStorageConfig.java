@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import com.esotericsoftware.kryo.serializers.FieldSerializer.Optional;
 import io.atomix.utils.memory.MemorySize;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -28,12 +29,20 @@ public class RaftStorageConfig {
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+  private static final long DEFAULT_FLUSH_MAX_BYTES = 4L * 1024 * 1024;
+  private static final int DEFAULT_FLUSH_MAX_ENTRIES = 1000;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
 
   private String directory;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+  private long flushMaxBytes = DEFAULT_FLUSH_MAX_BYTES;
+  private int flushMaxEntries = DEFAULT_FLUSH_MAX_ENTRIES;
+  private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory;
@@ -152,4 +161,87 @@ public class RaftStorageConfig {
     this.journalIndexDensity = journalIndexDensity;
     return this;
   }
+
+  /**
+   * Returns the maximum time an explicit flush may be delayed, in order to flush the entries of
+   * multiple appends at once. Followers acknowledge appended entries only after they are flushed.
+   * The leader always flushes immediately before it commits entries.
+   *
+   * @return the maximum flush delay; if zero, the log is flushed immediately
+   */
+  public Duration getFlushDelay() {
+    return flushDelay;
+  }
+
+  /**
+   * Sets the maximum time an explicit flush may be delayed.
+   *
+   * @param flushDelay the maximum flush delay; if zero, the log is flushed immediately
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setFlushDelay(final Duration flushDelay) {
+    this.flushDelay = flushDelay;
+    return this;
+  }
+
+  /**
+   * Returns the number of appended bytes after which a delayed flush is executed immediately.
+   *
+   * @return the maximum bytes of a delayed flush
+   */
+  public long getFlushMaxBytes() {
+    return flushMaxBytes;
+  }
+
+  /**
+   * Sets the number of appended bytes after which a delayed flush is executed immediately.
+   *
+   * @param flushMaxBytes the maximum bytes of a delayed flush
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setFlushMaxBytes(final long flushMaxBytes) {
+    this.flushMaxBytes = flushMaxBytes;
+    return this;
+  }
+
+  /**
+   * Returns the number of appended entries after which a delayed flush is executed immediately.
+   *
+   * @return the maximum entries of a delayed flush
+   */
+  public int getFlushMaxEntries() {
+    return flushMaxEntries;
+  }
+
+  /**
+   * Sets the number of appended entries after which a delayed flush is executed immediately.
+   *
+   * @param flushMaxEntries the maximum entries of a delayed flush
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setFlushMaxEntries(final int flushMaxEntries) {
+    this.flushMaxEntries = flushMaxEntries;
+    return this;
+  }
+
+  /**
+   * Returns whether the file of the next log segment is prepared in the background.
+   *
+   * @return true if segment files are preallocated
+   */
+  public boolean shouldPreallocateSegmentFiles() {
+    return preallocateSegmentFiles;
+  }
+
+  /**
+   * Sets whether the file of the next log segment is prepared in the background, such that rolling
+   * over to the next segment doesn't create the file on the append path.
+   *
+   * @param preallocateSegmentFiles whether to preallocate the file of the next segment
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+    return this;
+  }
 }
@@ -33,6 +33,7 @@ class RaftMessageContext {
   final String pollSubject;
   final String voteSubject;
   final String appendSubject;
+  final String appendV2Subject;
   final String leaderHeartbeatSubject;
   private final String prefix;
 
@@ -52,6 +53,7 @@ class RaftMessageContext {
     pollSubject = getSubject(prefix, "poll");
     voteSubject = getSubject(prefix, "vote");
     appendSubject = getSubject(prefix, "append");
+    appendV2Subject = getSubject(prefix, "append-v2");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
@@ -35,6 +35,7 @@ import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.roles.RaftRole;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.StorageException;
+import io.atomix.raft.storage.log.RaftLogFlushPolicy;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.zeebe.ZeebeLogAppender;
 import io.atomix.utils.Managed;
@@ -349,6 +350,12 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer>, Health
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
+        .withPreallocateSegmentFiles(storageConfig.shouldPreallocateSegmentFiles())
+        .withFlushPolicy(
+            new RaftLogFlushPolicy(
+                storageConfig.getFlushDelay(),
+                storageConfig.getFlushMaxBytes(),
+                storageConfig.getFlushMaxEntries()))
         .build();
   }
 
@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -36,16 +37,27 @@ import io.atomix.raft.protocol.TransferRequest;
 import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final long LEGACY_APPEND_RETRY_INTERVAL_MS = Duration.ofMinutes(1).toMillis();
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftProtocolSBESerializer sbeSerializer = new RaftProtocolSBESerializer();
+  // members which did not register a handler for the SBE encoded append requests, e.g. because
+  // they still ran an older version during a rolling update, with the time this was detected; they
+  // receive Kryo encoded requests until the SBE encoded requests are tried again after an interval
+  private final Map<String, Long> legacyAppendMembers = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final String partitionName;
   private final RaftRequestMetrics metrics;
@@ -102,7 +114,47 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final AppendRequest request) {
-    return sendAndReceive(context.appendSubject, request, memberId);
+    final Long legacySince = legacyAppendMembers.get(memberId.id());
+    if (legacySince != null
+        && System.currentTimeMillis() - legacySince < LEGACY_APPEND_RETRY_INTERVAL_MS) {
+      return sendAndReceive(context.appendSubject, request, memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    final var sbeResponse =
+        clusterCommunicator.send(
+            context.appendV2Subject,
+            request,
+            sbeSerializer::encodeAppendRequest,
+            sbeSerializer::decodeAppendResponse,
+            MemberId.from(memberId.id()),
+            requestTimeout);
+
+    return sbeResponse
+        .handle(
+            (response, error) -> {
+              if (error == null) {
+                // the member may have been updated since it was found to be a legacy member
+                legacyAppendMembers.remove(memberId.id());
+                return sbeResponse;
+              }
+
+              if (!isNoRemoteHandler(error)) {
+                return sbeResponse;
+              }
+
+              // the request was already counted when it was sent as SBE encoded request
+              return this.<AppendRequest, AppendResponse>send(
+                      context.appendSubject, request, memberId)
+                  .thenApply(
+                      legacyResponse -> {
+                        // the member only understands the Kryo encoded requests; if it has no
+                        // handler for them either, it is not ready yet and will be asked again
+                        legacyAppendMembers.put(memberId.id(), System.currentTimeMillis());
+                        return legacyResponse;
+                      });
+            })
+        .thenCompose(Function.identity());
   }
 
   @Override
@@ -198,6 +250,12 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerAppendHandler(
       final Function<AppendRequest, CompletableFuture<AppendResponse>> handler) {
+    clusterCommunicator.subscribe(
+        context.appendV2Subject,
+        sbeSerializer::decodeAppendRequest,
+        handler.<AppendRequest>compose(this::recordReceivedMetrics),
+        sbeSerializer::encodeAppendResponse);
+    // keep accepting Kryo encoded requests from members which run an older version
     clusterCommunicator.subscribe(
         context.appendSubject,
         serializer::decode,
@@ -207,12 +265,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public void unregisterAppendHandler() {
+    clusterCommunicator.unsubscribe(context.appendV2Subject);
     clusterCommunicator.unsubscribe(context.appendSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId) {
     metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return send(subject, request, memberId);
+  }
+
+  private <T, U> CompletableFuture<U> send(
+      final String subject, final T request, final MemberId memberId) {
     return clusterCommunicator.send(
         subject,
         request,
@@ -222,6 +286,11 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         requestTimeout);
   }
 
+  private static boolean isNoRemoteHandler(final Throwable error) {
+    final var cause = error instanceof CompletionException ? error.getCause() : error;
+    return cause instanceof NoRemoteHandler;
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.PersistedRaftRecord;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes the messages which are sent most frequently between the raft members, i.e. the append
+ * requests and responses, with SBE instead of the Kryo based {@link
+ * io.atomix.raft.partition.impl.RaftNamespaces#RAFT_PROTOCOL}. The serialized journal records of
+ * an append request are copied as they are into the message, without building an intermediate
+ * object graph.
+ *
+ * <p>The encoders and decoders are created per message, so the serializer can be shared between
+ * the threads which send and receive the messages.
+ */
+public final class RaftProtocolSBESerializer {
+
+  public byte[] encodeAppendRequest(final AppendRequest request) {
+    final List<PersistedRaftRecord> entries = request.entries();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final PersistedRaftRecord entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedRaftLogEntryHeaderLength()
+              + entry.data().capacity();
+    }
+
+    final var buffer = new UnsafeBuffer(new byte[length]);
+    final var encoder =
+        new AppendRequestEncoder().wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder());
+    encoder
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final PersistedRaftRecord entry : entries) {
+      final DirectBuffer data = entry.data();
+      entriesEncoder
+          .next()
+          .index(entry.index())
+          .term(entry.term())
+          .asqn(entry.asqn())
+          .checksum(entry.checksum())
+          .putSerializedRaftLogEntry(data, 0, data.capacity());
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return buffer.byteArray();
+  }
+
+  public AppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = wrapHeader(buffer, AppendRequestDecoder.TEMPLATE_ID);
+    final var decoder =
+        new AppendRequestDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<PersistedRaftRecord> entries = new ArrayList<>(entriesDecoder.count());
+    while (entriesDecoder.hasNext()) {
+      entriesDecoder.next();
+      final byte[] serializedRaftLogEntry = new byte[entriesDecoder.serializedRaftLogEntryLength()];
+      final long index = entriesDecoder.index();
+      final long entryTerm = entriesDecoder.term();
+      final long asqn = entriesDecoder.asqn();
+      final long checksum = entriesDecoder.checksum();
+      entriesDecoder.getSerializedRaftLogEntry(
+          serializedRaftLogEntry, 0, serializedRaftLogEntry.length);
+      entries.add(new PersistedRaftRecord(entryTerm, index, asqn, checksum, serializedRaftLogEntry));
+    }
+
+    final String leader = decoder.leader();
+    return new AppendRequest(term, leader, prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final RaftError error = response.error();
+    final byte[] errorMessage =
+        error == null || error.message() == null
+            ? new byte[0]
+            : error.message().getBytes(StandardCharsets.UTF_8);
+
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendResponseEncoder.BLOCK_LENGTH
+            + AppendResponseEncoder.errorMessageHeaderLength()
+            + errorMessage.length;
+
+    final RaftErrorType errorType =
+        error == null ? RaftErrorType.NULL_VAL : RaftErrorType.valueOf(error.type().name());
+
+    final var buffer = new UnsafeBuffer(new byte[length]);
+    new AppendResponseEncoder()
+        .wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder())
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .errorType(errorType)
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return buffer.byteArray();
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = wrapHeader(buffer, AppendResponseDecoder.TEMPLATE_ID);
+    final var decoder =
+        new AppendResponseDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final Status status = decoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final long term = decoder.term();
+    final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final long lastLogIndex = decoder.lastLogIndex();
+    final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+    final RaftErrorType errorType = decoder.errorType();
+    final String errorMessage = decoder.errorMessage();
+
+    final RaftError error;
+    if (errorType == RaftErrorType.NULL_VAL) {
+      error = null;
+    } else {
+      error =
+          new RaftError(
+              RaftError.Type.valueOf(errorType.name()),
+              errorMessage.isEmpty() ? null : errorMessage);
+    }
+
+    return new AppendResponse(status, error, term, succeeded, lastLogIndex, lastSnapshotIndex);
+  }
+
+  private static MessageHeaderDecoder wrapHeader(final DirectBuffer buffer, final int templateId) {
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID
+        || headerDecoder.templateId() != templateId) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to decode message with schema id %d and template id %d, but got schema id %d and template id %d",
+              MessageHeaderDecoder.SCHEMA_ID,
+              templateId,
+              headerDecoder.schemaId(),
+              headerDecoder.templateId()));
+    }
+
+    return headerDecoder;
+  }
+}
@@ -75,6 +75,7 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private final int snapshotChunkSize;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -93,6 +94,7 @@ final class LeaderAppender {
         raft.getMaxQuorumResponseTimeout().isZero()
             ? electionTimeout * 2
             : raft.getMaxQuorumResponseTimeout().toMillis();
+    snapshotChunkSize = raft.getSnapshotChunkSize();
   }
 
   /**
@@ -351,6 +353,10 @@ final class LeaderAppender {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        snapshotChunkReader.setKnownChunks(member.getInstalledSnapshotChunks());
+        if (member.canSplitSnapshotFiles()) {
+          snapshotChunkReader.setMaximumChunkSize(snapshotChunkSize);
+        }
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -361,6 +367,7 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
+      member.resetSentSnapshotChunks();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -370,6 +377,10 @@ final class LeaderAppender {
 
     try {
       final SnapshotChunk chunk = reader.next();
+      member.addSentSnapshotChunk(chunk.getChunkName(), chunk.getChecksum());
+      if (chunk.getTotalFileSize() > chunk.getContent().length) {
+        member.addSentSnapshotFileBlock();
+      }
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -453,6 +464,7 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
       member.setSnapshotIndex(request.index());
+      member.completeSnapshotInstallation();
       resetNextIndex(member, request.index() + 1);
     }
     // If more install requests remain, increment the member's snapshot offset.
@@ -476,6 +488,15 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    // the member may have failed to reuse a chunk it was expected to hold, e.g. because it lost its
+    // data; send the next snapshot completely to be safe
+    member.resetInstalledSnapshotChunks();
+    if (member.disableSnapshotFileSplittingIfRejected(response.error())) {
+      log.info(
+          "Member {} failed to apply a snapshot chunk which contains a part of a file, probably"
+              + " because it runs an older version. Send whole files to it for a while.",
+          member.getMember().memberId());
+    }
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
   }
@@ -35,6 +35,7 @@ import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
@@ -95,6 +96,7 @@ public class PassiveRole extends InactiveRole {
   /** Truncates uncommitted entries from the log. */
   private void truncateUncommittedEntries() {
     if (role() == RaftServer.Role.PASSIVE && raft.getLog().getLastIndex() > raft.getCommitIndex()) {
+      raft.getLogFlusher().flushPending();
       raft.getLog().deleteAfter(raft.getCommitIndex());
 
       raft.getLog().flush();
@@ -118,7 +120,8 @@ public class PassiveRole extends InactiveRole {
    * @return the snapshot listener which will be installed
    */
   protected PersistedSnapshotListener createSnapshotListener() {
-    return new ResetWriterSnapshotListener(log, raft.getThreadContext(), raft.getLog());
+    return new ResetWriterSnapshotListener(
+        log, raft.getThreadContext(), raft.getLog(), raft.getLogFlusher());
   }
 
   private void addSnapshotListener() {
@@ -535,6 +538,7 @@ public class PassiveRole extends InactiveRole {
       // Reset the log to the previous index plus one.
       if (request.prevLogTerm() == 0) {
         log.debug("Reset first index to {}", request.prevLogIndex() + 1);
+        raft.getLogFlusher().flushPending();
         raft.getLog().reset(request.prevLogIndex() + 1);
       }
 
@@ -547,7 +551,8 @@ public class PassiveRole extends InactiveRole {
 
         final boolean failedToAppend = tryToAppend(future, entry, index, lastEntry);
         if (failedToAppend) {
-          flush(lastLogIndex - 1, request.prevLogIndex());
+          // the failure was already responded, but the entries before must be persisted anyway
+          flush(lastLogIndex - 1, request.prevLogIndex(), () -> {});
           return;
         }
 
@@ -569,17 +574,22 @@ public class PassiveRole extends InactiveRole {
       raft.notifyCommitListeners(commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
-
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge,
+    // the flush may be delayed to persist the entries of multiple requests at once
+    final long appendedIndex = lastLogIndex;
+    flush(
+        appendedIndex,
+        request.prevLogIndex(),
+        // Return a successful append response.
+        () -> succeedAppend(appendedIndex, future));
   }
 
-  private void flush(final long lastWrittenIndex, final long previousEntryIndex) {
+  private void flush(
+      final long lastWrittenIndex, final long previousEntryIndex, final Runnable onFlushed) {
     if (raft.getLog().shouldFlushExplicitly() && lastWrittenIndex > previousEntryIndex) {
-      raft.getLog().flush();
-      raft.setLastWrittenIndex(lastWrittenIndex);
+      raft.getLogFlusher().flush(lastWrittenIndex, onFlushed);
+    } else {
+      onFlushed.run();
     }
   }
 
@@ -601,6 +611,7 @@ public class PassiveRole extends InactiveRole {
         // If the last entry term doesn't match the leader's term for the same entry, truncate
         // the log and append the leader's entry.
         if (lastEntry.term() != entry.term()) {
+          raft.getLogFlusher().flushPending();
           raft.getLog().deleteAfter(index - 1);
           raft.getLog().flush();
           raft.setLastWrittenIndex(index - 1);
@@ -654,6 +665,7 @@ public class PassiveRole extends InactiveRole {
       // truncate
       // the log and append the leader's entry.
       if (existingEntry.term() != entry.term()) {
+        raft.getLogFlusher().flushPending();
         raft.getLog().deleteAfter(index - 1);
         raft.getLog().flush();
         raft.setLastWrittenIndex(index - 1);
@@ -746,13 +758,18 @@ public class PassiveRole extends InactiveRole {
 
     private final ThreadContext threadContext;
     private final RaftLog raftLog;
+    private final RaftLogFlusher logFlusher;
     private final Logger log;
 
     ResetWriterSnapshotListener(
-        final Logger log, final ThreadContext threadContext, final RaftLog raftLog) {
+        final Logger log,
+        final ThreadContext threadContext,
+        final RaftLog raftLog,
+        final RaftLogFlusher logFlusher) {
       this.log = log;
       this.threadContext = threadContext;
       this.raftLog = raftLog;
+      this.logFlusher = logFlusher;
     }
 
     @Override
@@ -772,6 +789,7 @@ public class PassiveRole extends InactiveRole {
               "Delete existing log (lastIndex '{}') and replace with received snapshot (index '{}')",
               lastIndex,
               index);
+          logFlusher.flushPending();
           raftLog.reset(index + 1);
         }
       } else {
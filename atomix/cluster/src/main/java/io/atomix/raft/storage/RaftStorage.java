@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlushPolicy;
 import io.atomix.raft.storage.system.MetaStore;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
@@ -57,6 +58,8 @@ public final class RaftStorage {
   private final boolean flushExplicitly;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
+  private final RaftLogFlushPolicy flushPolicy;
+  private final boolean preallocateSegmentFiles;
 
   private RaftStorage(
       final String prefix,
@@ -65,7 +68,9 @@ public final class RaftStorage {
       final long freeDiskSpace,
       final boolean flushExplicitly,
       final ReceivableSnapshotStore persistedSnapshotStore,
-      final int journalIndexDensity) {
+      final int journalIndexDensity,
+      final RaftLogFlushPolicy flushPolicy,
+      final boolean preallocateSegmentFiles) {
     this.prefix = prefix;
     this.directory = directory;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +78,8 @@ public final class RaftStorage {
     this.flushExplicitly = flushExplicitly;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
+    this.flushPolicy = flushPolicy;
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -100,6 +107,15 @@ public final class RaftStorage {
     return prefix;
   }
 
+  /**
+   * Returns the policy which defines how long flushing the log may be delayed.
+   *
+   * @return the flush policy
+   */
+  public RaftLogFlushPolicy flushPolicy() {
+    return flushPolicy;
+  }
+
   /**
    * Attempts to acquire a lock on the storage directory.
    *
@@ -171,6 +187,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withFlushExplicitly(flushExplicitly)
         .withJournalIndexDensity(journalIndexDensity)
+        .withPreallocateSegmentFiles(preallocateSegmentFiles)
         .withLastWrittenIndex(lastWrittenIndex)
         .build();
   }
@@ -226,6 +243,8 @@ public final class RaftStorage {
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+    private RaftLogFlushPolicy flushPolicy = RaftLogFlushPolicy.IMMEDIATE;
+    private boolean preallocateSegmentFiles = false;
 
     private Builder() {}
 
@@ -316,6 +335,31 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the policy which defines how long an explicit flush may be delayed, in order to flush
+     * the entries of multiple appends at once. By default, the log is flushed immediately.
+     *
+     * @param flushPolicy the flush policy
+     * @return the storage builder
+     */
+    public Builder withFlushPolicy(final RaftLogFlushPolicy flushPolicy) {
+      this.flushPolicy = checkNotNull(flushPolicy, "flushPolicy cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets whether the file of the next log segment is prepared in the background, such that
+     * rolling over to the next segment doesn't create the file on the append path. By default,
+     * segment files are not preallocated.
+     *
+     * @param preallocateSegmentFiles whether to preallocate the file of the next segment
+     * @return the storage builder
+     */
+    public Builder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+      this.preallocateSegmentFiles = preallocateSegmentFiles;
+      return this;
+    }
+
     /**
      * Builds the {@link RaftStorage} object.
      *
@@ -330,7 +374,9 @@ public final class RaftStorage {
           freeDiskSpace,
           flushExplicitly,
           persistedSnapshotStore,
-          journalIndexDensity);
+          journalIndexDensity,
+          flushPolicy,
+          preallocateSegmentFiles);
     }
   }
 }
@@ -39,6 +39,8 @@ public final class RaftLog implements Closeable {
 
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
+  private int unflushedEntries;
+  private long unflushedBytes;
 
   private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer(4 * 1024);
 
@@ -150,26 +152,32 @@ public final class RaftLog implements Closeable {
       journalRecord =
           journal.append(
               asqnEntry.lowestPosition(), new UnsafeBuffer(writeBuffer, 0, serializedLength));
+      unflushedBytes += serializedLength;
     } else if (entry.isInitialEntry()) {
       final InitialEntry initialEntry = entry.getInitialEntry();
       final int serializedLength =
           serializer.writeInitialEntry(entry.term(), initialEntry, writeBuffer, 0);
       journalRecord = journal.append(new UnsafeBuffer(writeBuffer, 0, serializedLength));
+      unflushedBytes += serializedLength;
     } else if (entry.isConfigurationEntry()) {
       final ConfigurationEntry configurationEntry = entry.getConfigurationEntry();
       final int serializedLength =
           serializer.writeConfigurationEntry(entry.term(), configurationEntry, writeBuffer, 0);
       journalRecord = journal.append(new UnsafeBuffer(writeBuffer, 0, serializedLength));
+      unflushedBytes += serializedLength;
     } else {
       throw new IllegalArgumentException("Unexpected entry type " + entry);
     }
 
+    unflushedEntries++;
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), entry.entry(), journalRecord);
     return lastAppendedEntry;
   }
 
   public IndexedRaftLogEntry append(final PersistedRaftRecord entry) {
     journal.append(entry);
+    unflushedEntries++;
+    unflushedBytes += entry.data().capacity();
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(entry.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), entry);
@@ -196,6 +204,22 @@ public final class RaftLog implements Closeable {
     if (flushExplicitly) {
       journal.flush();
     }
+    unflushedEntries = 0;
+    unflushedBytes = 0;
+  }
+
+  /**
+   * @return the number of entries which were appended since the last flush
+   */
+  public int getUnflushedEntries() {
+    return unflushedEntries;
+  }
+
+  /**
+   * @return the number of serialized bytes which were appended since the last flush
+   */
+  public long getUnflushedBytes() {
+    return unflushedBytes;
   }
 
   @Override
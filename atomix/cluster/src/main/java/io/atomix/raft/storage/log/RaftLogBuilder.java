@@ -113,6 +113,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the file of the next journal segment is prepared in the background, such that
+   * rolling over to the next segment doesn't create the file on the append path.
+   *
+   * @param preallocateSegmentFiles whether to preallocate the file of the next segment
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+    journalBuilder.withPreallocateSegmentFiles(preallocateSegmentFiles);
+    return this;
+  }
+
   public RaftLogBuilder withLastWrittenIndex(final long lastWrittenIndex) {
     journalBuilder.withLastWrittenIndex(lastWrittenIndex);
     return this;
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import java.time.Duration;
+
+/**
+ * Defines how long the {@link RaftLogFlusher} may delay a requested flush, in order to flush the
+ * entries of several requests at once.
+ *
+ * @param maxDelay the maximum time a requested flush is delayed; if zero, every flush request is
+ *     executed immediately
+ * @param maxBytes the flush is executed before the delay has elapsed, as soon as at least this
+ *     many bytes were appended since the last flush
+ * @param maxEntries the flush is executed before the delay has elapsed, as soon as at least this
+ *     many entries were appended since the last flush
+ */
+public record RaftLogFlushPolicy(Duration maxDelay, long maxBytes, int maxEntries) {
+
+  /** Executes every flush request immediately. */
+  public static final RaftLogFlushPolicy IMMEDIATE = new RaftLogFlushPolicy(Duration.ZERO, 0, 0);
+
+  public RaftLogFlushPolicy {
+    if (maxDelay == null || maxDelay.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format("Expected the flush delay to be non negative, but was %s", maxDelay));
+    }
+
+    if (!maxDelay.isZero() && (maxBytes <= 0 || maxEntries <= 0)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the maximum bytes and entries of a delayed flush to be positive, but were %d and %d",
+              maxBytes, maxEntries));
+    }
+  }
+
+  boolean isDelayed() {
+    return !maxDelay.isZero();
+  }
+}
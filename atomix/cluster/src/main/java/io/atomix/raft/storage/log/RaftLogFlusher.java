@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Coalesces the flush requests of the Raft log. Instead of flushing the log for every request, a
+ * flush may be delayed according to the {@link RaftLogFlushPolicy}, such that a single flush makes
+ * the entries of all requests in the meantime durable.
+ *
+ * <p>Once the log is flushed, the durable index is updated and the callbacks of all coalesced
+ * requests are executed, e.g. to acknowledge the appended entries to the leader. The callbacks and
+ * the delayed flush are executed on the given scheduler, which must be the Raft thread, as the log
+ * is not thread safe.
+ */
+public final class RaftLogFlusher implements AutoCloseable {
+
+  private static final long NO_PENDING_INDEX = -1L;
+
+  private final RaftLog log;
+  private final Scheduler scheduler;
+  private final RaftLogFlushPolicy policy;
+  private final LongConsumer durableIndexListener;
+  private final List<Runnable> pendingCallbacks = new ArrayList<>();
+
+  private long pendingIndex = NO_PENDING_INDEX;
+  private Scheduled scheduledFlush;
+
+  public RaftLogFlusher(
+      final RaftLog log,
+      final Scheduler scheduler,
+      final RaftLogFlushPolicy policy,
+      final LongConsumer durableIndexListener) {
+    this.log = log;
+    this.scheduler = scheduler;
+    this.policy = policy;
+    this.durableIndexListener = durableIndexListener;
+  }
+
+  /**
+   * Requests to flush the log up to the given index.
+   *
+   * @param index the index up to which the log must be durable
+   */
+  public void flush(final long index) {
+    flush(index, null);
+  }
+
+  /**
+   * Requests to flush the log up to the given index, and executes the given callback once the log
+   * was flushed. Depending on the policy, this may happen immediately or only after a delay.
+   *
+   * @param index the index up to which the log must be durable
+   * @param onFlushed executed after the log was flushed, can be null
+   */
+  public void flush(final long index, final Runnable onFlushed) {
+    pendingIndex = Math.max(pendingIndex, index);
+    if (onFlushed != null) {
+      pendingCallbacks.add(onFlushed);
+    }
+
+    if (!policy.isDelayed()
+        || log.getUnflushedEntries() >= policy.maxEntries()
+        || log.getUnflushedBytes() >= policy.maxBytes()) {
+      flushPending();
+    } else if (scheduledFlush == null) {
+      scheduledFlush = scheduler.schedule(policy.maxDelay(), this::flushPending);
+    }
+  }
+
+  /**
+   * Flushes the log up to the given index immediately, regardless of the policy, together with all
+   * pending flush requests. Used by the leader, which counts itself in the quorum and thus must not
+   * commit entries before they are durable.
+   *
+   * @param index the index up to which the log must be durable
+   */
+  public void flushImmediately(final long index) {
+    pendingIndex = Math.max(pendingIndex, index);
+    flushPending();
+  }
+
+  /**
+   * Flushes the log immediately if there are pending flush requests. Must be called before the
+   * log is truncated, such that the durable index never exceeds the entries in the log.
+   */
+  public void flushPending() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+
+    if (pendingIndex == NO_PENDING_INDEX) {
+      return;
+    }
+
+    log.flush();
+    durableIndexListener.accept(pendingIndex);
+    pendingIndex = NO_PENDING_INDEX;
+
+    final var callbacks = new ArrayList<>(pendingCallbacks);
+    pendingCallbacks.clear();
+    callbacks.forEach(Runnable::run);
+  }
+
+  @Override
+  public void close() {
+    flushPending();
+  }
+}
@@ -71,6 +71,7 @@ public final class ControllableRaftContexts {
   private Path directory;
 
   private final int nodeCount;
+  private final Function<RaftStorage.Builder, RaftStorage.Builder> storageConfigurator;
   private final Map<MemberId, RaftContext> raftServers = new HashMap<>();
   private Duration electionTimeout;
   private Duration hearbeatTimeout;
@@ -80,7 +81,14 @@ public final class ControllableRaftContexts {
   private final Map<Long, MemberId> leadersAtTerms = new HashMap<>();
 
   public ControllableRaftContexts(final int nodeCount) {
+    this(nodeCount, Function.identity());
+  }
+
+  public ControllableRaftContexts(
+      final int nodeCount,
+      final Function<RaftStorage.Builder, RaftStorage.Builder> storageConfigurator) {
     this.nodeCount = nodeCount;
+    this.storageConfigurator = storageConfigurator;
   }
 
   public Map<MemberId, RaftContext> getRaftServers() {
@@ -177,7 +185,7 @@ public final class ControllableRaftContexts {
   }
 
   private RaftStorage createStorage(final MemberId memberId) {
-    return createStorage(memberId, Function.identity());
+    return createStorage(memberId, storageConfigurator);
   }
 
   private RaftStorage createStorage(
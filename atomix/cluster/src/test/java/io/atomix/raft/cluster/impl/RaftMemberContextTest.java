@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private RaftMemberContext member;
+
+  @BeforeEach
+  void setUp() {
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.now()), null, 2);
+  }
+
+  @Test
+  void shouldDisableSplittingIfMemberFailedToApplyPartOfFile() {
+    // given
+    member.addSentSnapshotFileBlock();
+
+    // when
+    final var disabled =
+        member.disableSnapshotFileSplittingIfRejected(
+            new RaftError(RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot"));
+
+    // then
+    assertThat(disabled).isTrue();
+    assertThat(member.canSplitSnapshotFiles()).isFalse();
+  }
+
+  @Test
+  void shouldNotDisableSplittingIfMemberRejectedChunkForOtherReason() {
+    // given
+    member.addSentSnapshotFileBlock();
+
+    // when
+    final var disabled =
+        member.disableSnapshotFileSplittingIfRejected(
+            new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "Request chunk is out of order"));
+
+    // then
+    assertThat(disabled).isFalse();
+    assertThat(member.canSplitSnapshotFiles()).isTrue();
+  }
+
+  @Test
+  void shouldNotDisableSplittingIfNoPartOfFileWasSent() {
+    // when
+    final var disabled =
+        member.disableSnapshotFileSplittingIfRejected(
+            new RaftError(RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot"));
+
+    // then
+    assertThat(disabled).isFalse();
+    assertThat(member.canSplitSnapshotFiles()).isTrue();
+  }
+
+  @Test
+  void shouldSplitFilesAgainAfterRetryInterval() {
+    // given
+    member.addSentSnapshotFileBlock();
+    member.disableSnapshotFileSplittingIfRejected(
+        new RaftError(RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot"));
+    final long disabledTime = System.currentTimeMillis();
+
+    // when
+    final var retryTime =
+        disabledTime + RaftMemberContext.SPLIT_SNAPSHOT_FILES_RETRY_INTERVAL.toMillis();
+
+    // then
+    assertThat(member.canSplitSnapshotFiles(retryTime)).isTrue();
+  }
+}
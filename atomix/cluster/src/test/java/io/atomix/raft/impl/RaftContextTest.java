@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.ControllableRaftContexts;
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.storage.log.RaftLogFlushPolicy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class RaftContextTest {
+
+  private static final RaftLogFlushPolicy DELAYED_FLUSH =
+      new RaftLogFlushPolicy(Duration.ofMinutes(1), Long.MAX_VALUE, Integer.MAX_VALUE);
+
+  @TempDir Path directory;
+
+  private final ControllableRaftContexts raftContexts =
+      new ControllableRaftContexts(3, storage -> storage.withFlushPolicy(DELAYED_FLUSH));
+
+  @BeforeEach
+  void setup() throws Exception {
+    raftContexts.setup(directory, new Random(1));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    raftContexts.shudown();
+  }
+
+  @Test
+  void shouldFlushPendingAppendsBeforeTransition() {
+    // given
+    final var follower = raftContexts.getRaftContext(1);
+    raftContexts.tickHeartbeatTimeout(0);
+    raftContexts.processAllMessage();
+    raftContexts.runUntilDone();
+    final long appendedIndex = follower.getLog().getLastIndex();
+    assertThat(follower.getMetaStore().loadLastWrittenIndex()).isLessThan(appendedIndex);
+
+    // when
+    follower.getThreadContext().execute(() -> follower.transition(Role.CANDIDATE));
+    raftContexts.runUntilDone(1);
+
+    // then
+    assertThat(follower.getRole()).isEqualTo(Role.CANDIDATE);
+    assertThat(follower.getMetaStore().loadLastWrittenIndex()).isEqualTo(appendedIndex);
+  }
+}
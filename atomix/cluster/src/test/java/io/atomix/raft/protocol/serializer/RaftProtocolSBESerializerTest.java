@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.PersistedRaftRecord;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class RaftProtocolSBESerializerTest {
+
+  final RaftProtocolSBESerializer serializer = new RaftProtocolSBESerializer();
+
+  @Test
+  public void shouldSerializeAppendRequest() {
+    // given
+    final var first = new PersistedRaftRecord(3, 10, 100, 1234, "first".getBytes());
+    final var second = new PersistedRaftRecord(3, 11, -1, 5678, "second".getBytes());
+    final var request = new AppendRequest(3, "1", 9, 2, List.of(first, second), 8);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.term()).isEqualTo(3);
+    assertThat(decoded.leader().id()).isEqualTo("1");
+    assertThat(decoded.prevLogIndex()).isEqualTo(9);
+    assertThat(decoded.prevLogTerm()).isEqualTo(2);
+    assertThat(decoded.commitIndex()).isEqualTo(8);
+    assertThat(decoded.entries()).hasSize(2);
+    assertRecord(decoded.entries().get(0), first);
+    assertRecord(decoded.entries().get(1), second);
+  }
+
+  @Test
+  public void shouldSerializeAppendRequestWithoutEntries() {
+    // given
+    final var request = new AppendRequest(3, "leader", 9, 2, List.of(), 8);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.entries()).isEmpty();
+  }
+
+  @Test
+  public void shouldSerializeAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 3, true, 11, 5);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  public void shouldSerializeAppendResponseWithError() {
+    // given
+    final var error = new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower");
+    final var response = new AppendResponse(Status.ERROR, error, 3, false, 11, 5);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isEqualTo("not a follower");
+  }
+
+  @Test
+  public void shouldRejectOtherMessage() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 3, true, 11, 5);
+    final var bytes = serializer.encodeAppendResponse(response);
+
+    // when - then
+    assertThatThrownBy(() -> serializer.decodeAppendRequest(bytes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void assertRecord(
+      final PersistedRaftRecord actual, final PersistedRaftRecord expected) {
+    assertThat(actual.term()).isEqualTo(expected.term());
+    assertThat(actual.index()).isEqualTo(expected.index());
+    assertThat(actual.asqn()).isEqualTo(expected.asqn());
+    assertThat(actual.checksum()).isEqualTo(expected.checksum());
+    assertThat(actual.data()).isEqualTo(new UnsafeBuffer(expected.data()));
+  }
+}
@@ -31,6 +31,9 @@ import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlushPolicy;
+import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.atomix.utils.concurrent.Scheduler;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
@@ -72,6 +75,10 @@ public class PassiveRoleTest {
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    final var logFlusher =
+        new RaftLogFlusher(
+            log, mock(Scheduler.class), RaftLogFlushPolicy.IMMEDIATE, ctx::setLastWrittenIndex);
+    when(ctx.getLogFlusher()).thenReturn(logFlusher);
 
     role = new PassiveRole(ctx);
   }
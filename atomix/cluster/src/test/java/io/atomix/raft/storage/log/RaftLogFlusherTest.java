@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.DeterministicSingleThreadContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.Test;
+
+final class RaftLogFlusherTest {
+
+  private static final Duration DELAY = Duration.ofMillis(10);
+
+  private final RaftLog log = mock(RaftLog.class);
+  private final DeterministicSingleThreadContext threadContext =
+      (DeterministicSingleThreadContext) DeterministicSingleThreadContext.createContext();
+  private final DeterministicScheduler scheduler = threadContext.getDeterministicScheduler();
+  private final List<Long> durableIndexes = new ArrayList<>();
+
+  @Test
+  void shouldFlushImmediately() {
+    // given
+    final var flusher = createFlusher(RaftLogFlushPolicy.IMMEDIATE);
+    final var flushed = new ArrayList<Long>();
+
+    // when
+    flusher.flush(1, () -> flushed.add(1L));
+
+    // then
+    verify(log).flush();
+    assertThat(durableIndexes).containsExactly(1L);
+    assertThat(flushed).containsExactly(1L);
+  }
+
+  @Test
+  void shouldCoalesceFlushesWithinDelay() {
+    // given
+    final var flusher = createFlusher(new RaftLogFlushPolicy(DELAY, 1024, 100));
+    final var flushed = new ArrayList<Long>();
+
+    // when
+    flusher.flush(1, () -> flushed.add(1L));
+    flusher.flush(2, () -> flushed.add(2L));
+    flusher.flush(3);
+
+    // then
+    verify(log, never()).flush();
+    assertThat(flushed).isEmpty();
+
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    verify(log, times(1)).flush();
+    assertThat(durableIndexes).containsExactly(3L);
+    assertThat(flushed).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldFlushBeforeDelayIfMaxEntriesReached() {
+    // given
+    final var flusher = createFlusher(new RaftLogFlushPolicy(DELAY, 1024, 2));
+    flusher.flush(1);
+    when(log.getUnflushedEntries()).thenReturn(2);
+
+    // when
+    flusher.flush(2);
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(durableIndexes).containsExactly(2L);
+
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    verify(log, times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushBeforeDelayIfMaxBytesReached() {
+    // given
+    final var flusher = createFlusher(new RaftLogFlushPolicy(DELAY, 1024, 100));
+    when(log.getUnflushedBytes()).thenReturn(1024L);
+
+    // when
+    flusher.flush(1);
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(durableIndexes).containsExactly(1L);
+  }
+
+  @Test
+  void shouldFlushPendingRequests() {
+    // given
+    final var flusher = createFlusher(new RaftLogFlushPolicy(DELAY, 1024, 100));
+    final var flushed = new ArrayList<Long>();
+    flusher.flush(1, () -> flushed.add(1L));
+
+    // when
+    flusher.flushPending();
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(durableIndexes).containsExactly(1L);
+    assertThat(flushed).containsExactly(1L);
+
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    verify(log, times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushImmediatelyDespiteDelay() {
+    // given
+    final var flusher = createFlusher(new RaftLogFlushPolicy(DELAY, 1024, 100));
+    final var flushed = new ArrayList<Long>();
+    flusher.flush(1, () -> flushed.add(1L));
+
+    // when
+    flusher.flushImmediately(2);
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(durableIndexes).containsExactly(2L);
+    assertThat(flushed).containsExactly(1L);
+
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    verify(log, times(1)).flush();
+  }
+
+  @Test
+  void shouldNotFlushWithoutPendingRequests() {
+    // given
+    final var flusher = createFlusher(new RaftLogFlushPolicy(DELAY, 1024, 100));
+
+    // when
+    flusher.flushPending();
+
+    // then
+    verify(log, never()).flush();
+    assertThat(durableIndexes).isEmpty();
+  }
+
+  private RaftLogFlusher createFlusher(final RaftLogFlushPolicy policy) {
+    return new RaftLogFlusher(log, threadContext, policy, durableIndexes::add);
+  }
+}
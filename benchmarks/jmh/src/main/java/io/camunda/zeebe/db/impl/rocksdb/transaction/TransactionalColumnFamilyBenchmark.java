@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.jmh.TemporaryZeebeDb;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the basic operations of the {@link TransactionalColumnFamily} on a column family with
+ * composite keys, which is the layout most of the engine state uses (e.g. variables by scope, jobs
+ * by type). Every operation runs in its own transaction, the same as outside of the stream
+ * processor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionalColumnFamilyBenchmark {
+
+  @Param({"1000"})
+  private int prefixCount;
+
+  @Param({"10", "100"})
+  private int entriesPerPrefix;
+
+  private TemporaryZeebeDb<DefaultColumnFamily> db;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private DbLong value;
+  private DbLong iterationPrefix;
+  private long counter;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    db = TemporaryZeebeDb.create();
+    transactionContext = db.getZeebeDb().createContext();
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    key = new DbCompositeKey<>(prefix, suffix);
+    value = new DbLong();
+    iterationPrefix = new DbLong();
+    columnFamily =
+        db.getZeebeDb()
+            .createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < prefixCount; i++) {
+            for (int j = 0; j < entriesPerPrefix; j++) {
+              prefix.wrapLong(i);
+              suffix.wrapLong(j);
+              value.wrapLong(j);
+              columnFamily.upsert(key, value);
+            }
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Benchmark
+  public DbLong get() {
+    final long next = counter++;
+    prefix.wrapLong(next % prefixCount);
+    suffix.wrapLong(next % entriesPerPrefix);
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void put() {
+    final long next = counter++;
+    prefix.wrapLong(next % prefixCount);
+    suffix.wrapLong(next % entriesPerPrefix);
+    value.wrapLong(next);
+    columnFamily.upsert(key, value);
+  }
+
+  @Benchmark
+  public void iterateOverPrefix(final Blackhole blackhole) {
+    iterationPrefix.wrapLong(counter++ % prefixCount);
+    columnFamily.whileEqualPrefix(
+        iterationPrefix,
+        (k, v) -> {
+          blackhole.consume(v.getValue());
+        });
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.ZeebeDbState;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.jmh.MsgPackValues;
+import io.camunda.zeebe.jmh.TemporaryZeebeDb;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the collection of activatable jobs into a job batch, including the collection of the
+ * variables of each job. Collecting doesn't modify the state, so every invocation activates the
+ * same jobs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobBatchCollectorBenchmark {
+
+  private static final String JOB_TYPE = "benchmark";
+  private static final int JOB_COUNT = 1_000;
+
+  @Param({"10", "100"})
+  private int maxJobsToActivate;
+
+  @Param({"0", "10"})
+  private int variablesPerJob;
+
+  private TemporaryZeebeDb<ZbColumnFamilies> db;
+  private JobBatchCollector collector;
+  private RecordMetadata metadata;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    db = TemporaryZeebeDb.create();
+    final var transactionContext = db.getZeebeDb().createContext();
+    final var state = new ZeebeDbState(db.getZeebeDb(), transactionContext);
+    collector = new JobBatchCollector(state.getJobState(), state.getVariableState(), l -> true);
+    metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .intent(JobBatchIntent.ACTIVATE)
+            .valueType(ValueType.JOB_BATCH);
+
+    final var variableValue = MsgPackValues.packString("x".repeat(64));
+    transactionContext.runInTransaction(
+        () -> {
+          final var keyGenerator = state.getKeyGenerator();
+          final var variableState = state.getVariableState();
+          for (int i = 0; i < JOB_COUNT; i++) {
+            final long scopeKey = keyGenerator.nextKey();
+            variableState.createScope(scopeKey, VariableState.NO_PARENT);
+            for (int v = 0; v < variablesPerJob; v++) {
+              variableState.setVariableLocal(
+                  keyGenerator.nextKey(),
+                  scopeKey,
+                  scopeKey,
+                  BufferUtil.wrapString("var" + v),
+                  variableValue);
+            }
+
+            final var job =
+                new JobRecord()
+                    .setBpmnProcessId("process")
+                    .setElementId("task")
+                    .setElementInstanceKey(scopeKey)
+                    .setType(JOB_TYPE)
+                    .setRetries(3);
+            state.getJobState().create(keyGenerator.nextKey(), job);
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Benchmark
+  public Either<TooLargeJob, Integer> collectJobs() {
+    final var batchRecord =
+        new JobBatchRecord()
+            .setTimeout(Duration.ofMinutes(5).toMillis())
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .setType(JOB_TYPE)
+            .setWorker("benchmark");
+
+    return collector.collectJobs(new MockTypedRecord<>(1L, metadata, batchRecord));
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.appliers.EventAppliers;
+import io.camunda.zeebe.jmh.TemporaryZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.logstreams.util.SyncLogStream;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the {@link ProcessingStateMachine}, from reading a command from the
+ * log, over processing it and applying the resulting event to the state, to writing the follow-up
+ * event back to the log. The log is kept in memory, so that the benchmark is not dominated by the
+ * journal, while the state is a real RocksDB instance.
+ *
+ * <p>Each command creates a job, which is the cheapest command that still goes through the regular
+ * {@link CommandProcessor} and event applier path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessingStateMachineBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private final AtomicLong processedCommands = new AtomicLong();
+  private final RecordMetadata metadata =
+      new RecordMetadata()
+          .recordType(RecordType.COMMAND)
+          .valueType(ValueType.JOB)
+          .intent(JobIntent.CREATE)
+          .protocolVersion(Protocol.PROTOCOL_VERSION);
+  private final JobRecord job =
+      new JobRecord()
+          .setBpmnProcessId("process")
+          .setElementId("task")
+          .setType("benchmark")
+          .setRetries(3);
+
+  private ActorScheduler actorScheduler;
+  private SyncLogStream logStream;
+  private LogStreamBatchWriter batchWriter;
+  private TemporaryZeebeDb<ZbColumnFamilies> db;
+  private StreamProcessor streamProcessor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    logStream =
+        SyncLogStream.builder()
+            .withLogName("benchmark")
+            .withLogStorage(new ListLogStorage())
+            .withPartitionId(1)
+            .withActorSchedulingService(actorScheduler)
+            .build();
+    batchWriter = logStream.newLogStreamBatchWriter();
+
+    db = TemporaryZeebeDb.create();
+    streamProcessor =
+        StreamProcessor.builder()
+            .logStream(logStream.getAsyncLogStream())
+            .zeebeDb(db.getZeebeDb())
+            .actorSchedulingService(actorScheduler)
+            .commandResponseWriter(new NoopCommandResponseWriter())
+            .listener(processedCommand -> processedCommands.incrementAndGet())
+            .streamProcessorFactory(
+                context ->
+                    TypedRecordProcessors.processors(
+                            context.getZeebeState().getKeyGenerator(), context.getWriters())
+                        .onCommand(ValueType.JOB, JobIntent.CREATE, new CreateJobProcessor()))
+            .eventApplierFactory(EventAppliers::new)
+            .build();
+    streamProcessor.openAsync(false).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    streamProcessor.closeAsync().join();
+    logStream.close();
+    db.close();
+    actorScheduler.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void processCommands() {
+    final long expectedProcessedCommands = processedCommands.get() + BATCH_SIZE;
+
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batchWriter.event().keyNull().metadataWriter(metadata).valueWriter(job).done();
+    }
+    while (batchWriter.tryWrite() < 0) {
+      Thread.onSpinWait();
+    }
+
+    while (processedCommands.get() < expectedProcessedCommands) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static final class CreateJobProcessor implements CommandProcessor<JobRecord> {
+
+    @Override
+    public boolean onCommand(
+        final TypedRecord<JobRecord> command, final CommandControl<JobRecord> commandControl) {
+      commandControl.accept(JobIntent.CREATED, command.getValue());
+      return true;
+    }
+  }
+
+  private static final class NoopCommandResponseWriter implements CommandResponseWriter {
+
+    @Override
+    public CommandResponseWriter partitionId(final int partitionId) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter key(final long key) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter intent(final Intent intent) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter recordType(final RecordType type) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueType(final ValueType valueType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionType(final RejectionType rejectionType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionReason(final DirectBuffer rejectionReason) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueWriter(final BufferWriter value) {
+      return this;
+    }
+
+    @Override
+    public boolean tryWriteResponse(final int requestStreamId, final long requestId) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.jmh.MsgPackValues;
+import io.camunda.zeebe.jmh.TemporaryZeebeDb;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to collect the variables of a scope into a single document, e.g. when
+ * activating a job or completing a call activity, and to resolve a single variable once or
+ * repeatedly within a command, e.g. by the expressions of an element. The variables are spread over
+ * a hierarchy of nested scopes, and the collection and lookups start at the innermost one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DbVariableStateBenchmark {
+
+  private static final int LOOKUPS_PER_COMMAND = 10;
+
+  @Param({"1", "5"})
+  private int scopeDepth;
+
+  @Param({"10", "100"})
+  private int variablesPerScope;
+
+  @Param({"64", "65536"})
+  private int valueLength;
+
+  private TemporaryZeebeDb<ZbColumnFamilies> db;
+  private DbVariableState variableState;
+  private long innermostScopeKey;
+  private List<DirectBuffer> requestedNames;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    db = TemporaryZeebeDb.create();
+    final var transactionContext = db.getZeebeDb().createContext();
+    variableState = new DbVariableState(db.getZeebeDb(), transactionContext);
+
+    final var value = MsgPackValues.packString("x".repeat(valueLength));
+    transactionContext.runInTransaction(
+        () -> {
+          long variableKey = scopeDepth;
+          long parentScopeKey = VariableState.NO_PARENT;
+          for (long scopeKey = 0; scopeKey < scopeDepth; scopeKey++) {
+            variableState.createScope(scopeKey, parentScopeKey);
+            for (int i = 0; i < variablesPerScope; i++) {
+              variableState.setVariableLocal(
+                  variableKey++,
+                  scopeKey,
+                  scopeKey,
+                  BufferUtil.wrapString(variableName(scopeKey, i)),
+                  value);
+            }
+            parentScopeKey = scopeKey;
+          }
+          innermostScopeKey = parentScopeKey;
+        });
+
+    requestedNames =
+        List.of(
+            BufferUtil.wrapString(variableName(0, 0)),
+            BufferUtil.wrapString(variableName(innermostScopeKey, variablesPerScope - 1)),
+            BufferUtil.wrapString("missing"));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Benchmark
+  public DirectBuffer getAllVariablesAsDocument() {
+    return variableState.getVariablesAsDocument(innermostScopeKey);
+  }
+
+  @Benchmark
+  public DirectBuffer getRequestedVariablesAsDocument() {
+    return variableState.getVariablesAsDocument(innermostScopeKey, requestedNames);
+  }
+
+  @Benchmark
+  public DirectBuffer getVariableOnce() {
+    // the lookup cache is cleared before each command is processed
+    variableState.clearLookupCache();
+    return variableState.getVariable(innermostScopeKey, requestedNames.get(0));
+  }
+
+  @Benchmark
+  public DirectBuffer getVariableRepeatedly() {
+    variableState.clearLookupCache();
+    DirectBuffer value = null;
+    for (int i = 0; i < LOOKUPS_PER_COMMAND; i++) {
+      value = variableState.getVariable(innermostScopeKey, requestedNames.get(0));
+    }
+    return value;
+  }
+
+  private static String variableName(final long scopeKey, final int index) {
+    return "var-" + scopeKey + "-" + index;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.jmh;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A RocksDB backed {@link ZeebeDb} in a temporary folder, which is deleted again on {@link
+ * #close()}. The database is configured like the one of a broker with the default configuration,
+ * i.e. without any consistency checks, so that the benchmarks measure what runs in production.
+ */
+public final class TemporaryZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>>
+    implements AutoCloseable {
+
+  private final Path directory;
+  private final ZeebeDb<ColumnFamilyType> zeebeDb;
+
+  private TemporaryZeebeDb(final Path directory, final ZeebeDb<ColumnFamilyType> zeebeDb) {
+    this.directory = directory;
+    this.zeebeDb = zeebeDb;
+  }
+
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      TemporaryZeebeDb<ColumnFamilyType> create() throws IOException {
+    final var directory = Files.createTempDirectory("zeebe-jmh");
+    final var factory =
+        new ZeebeRocksDbFactory<ColumnFamilyType>(
+            new RocksDbConfiguration(), new ConsistencyChecksSettings());
+
+    return new TemporaryZeebeDb<>(directory, factory.createDb(directory.toFile()));
+  }
+
+  public ZeebeDb<ColumnFamilyType> getZeebeDb() {
+    return zeebeDb;
+  }
+
+  @Override
+  public void close() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+}
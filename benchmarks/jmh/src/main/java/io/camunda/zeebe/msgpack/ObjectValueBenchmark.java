@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the encoding and decoding of records with the {@link ObjectValue} based object mapping,
+ * using a {@link JobRecord} with a variables document of varying size, as well as the plain
+ * traversal of such a document with the {@link MsgPackReader}. The record is decoded eagerly and
+ * lazily, where only the job type is accessed afterwards.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectValueBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int variableCount;
+
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final JobRecord decodedRecord = new JobRecord();
+  private final JobRecord lazilyDecodedRecord = new JobRecord();
+  private final MsgPackReader reader = new MsgPackReader();
+  private JobRecord record;
+  private DirectBuffer encodedRecord;
+  private DirectBuffer variables;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    variables = createDocument(variableCount);
+    record =
+        new JobRecord()
+            .setBpmnProcessId("process")
+            .setElementId("task")
+            .setElementInstanceKey(123L)
+            .setProcessInstanceKey(456L)
+            .setProcessDefinitionKey(789L)
+            .setProcessDefinitionVersion(1)
+            .setType("benchmark")
+            .setWorker("worker")
+            .setRetries(3)
+            .setDeadline(System.currentTimeMillis())
+            .setCustomHeaders(createDocument(3))
+            .setVariables(variables);
+
+    final var buffer = new ExpandableArrayBuffer();
+    record.write(buffer, 0);
+    encodedRecord = new UnsafeBuffer(buffer, 0, record.getLength());
+    lazilyDecodedRecord.setLazyDecoding(true);
+  }
+
+  @Benchmark
+  public MutableDirectBuffer encode() {
+    record.write(writeBuffer, 0);
+    return writeBuffer;
+  }
+
+  @Benchmark
+  public JobRecord decode() {
+    decodedRecord.wrap(encodedRecord, 0, encodedRecord.capacity());
+    return decodedRecord;
+  }
+
+  @Benchmark
+  public DirectBuffer decodeAndReadType() {
+    decodedRecord.wrap(encodedRecord, 0, encodedRecord.capacity());
+    return decodedRecord.getTypeBuffer();
+  }
+
+  @Benchmark
+  public DirectBuffer decodeLazilyAndReadType() {
+    lazilyDecodedRecord.wrap(encodedRecord, 0, encodedRecord.capacity());
+    return lazilyDecodedRecord.getTypeBuffer();
+  }
+
+  @Benchmark
+  public void readDocument(final Blackhole blackhole) {
+    reader.wrap(variables, 0, variables.capacity());
+
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      blackhole.consume(reader.readToken().getValueBuffer());
+      blackhole.consume(reader.readToken().getType());
+    }
+  }
+
+  private static DirectBuffer createDocument(final int size) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+
+    writer.writeMapHeader(size);
+    for (int i = 0; i < size; i++) {
+      writer.writeString(BufferUtil.wrapString("key" + i));
+      writer.writeString(BufferUtil.wrapString("value" + i));
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.scheduler.Actor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records to a single exporter, if the exporters run in parallel. The actor has its own
+ * reader, and its own context to the state to update the position of the exporter, such that it
+ * doesn't depend on the other exporters. The exporter director still owns the state of all
+ * exporters, i.e. it reports the lowest exported position and distributes the positions.
+ */
+final class ExporterActor extends Actor {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final BooleanSupplier isPaused;
+  private final Consumer<Throwable> failureListener;
+  private LogStreamReader logStreamReader;
+  private ExportingLoop exportingLoop;
+
+  /**
+   * @param isPaused returns true if the exporting is paused; it is called on the actor thread
+   * @param failureListener called on the actor thread if the actor failed
+   */
+  ExporterActor(
+      final String name,
+      final int partitionId,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final BooleanSupplier isPaused,
+      final Consumer<Throwable> failureListener) {
+    this.name = name;
+    this.partitionId = partitionId;
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.isPaused = isPaused;
+    this.failureListener = failureListener;
+  }
+
+  void resumeExporting() {
+    actor.run(
+        () -> {
+          if (exportingLoop != null) {
+            exportingLoop.resume();
+          }
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.runOnCompletionBlockingCurrentPhase(
+        logStream.newLogStreamReader(),
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            logStreamReader = reader;
+          } else {
+            LOG.error(
+                "Unexpected error on retrieving reader from log {}",
+                logStream.getLogName(),
+                errorOnReceivingReader);
+            actor.close();
+          }
+        });
+  }
+
+  @Override
+  protected void onActorStarted() {
+    // the position is updated on this actor, so it needs its own transaction context
+    final var state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    container.initContainer(actor, metrics, state);
+    container.initPosition();
+    container.openExporter();
+    isOpened.set(true);
+
+    exportingLoop =
+        new ExportingLoop(
+            name,
+            actor,
+            List.of(container),
+            logStreamReader,
+            metrics,
+            partitionId,
+            this::isClosed,
+            isPaused,
+            this::onExportingAborted);
+    logStream.registerRecordAvailableListener(exportingLoop);
+    exportingLoop.start();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    if (exportingLoop != null) {
+      logStream.removeRecordAvailableListener(exportingLoop);
+    }
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail();
+    failureListener.accept(failure);
+  }
+
+  private void onExportingAborted() {
+    isOpened.set(false);
+    actor.close();
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+}
@@ -11,76 +11,58 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.engine.processing.streamprocessor.EventFilter;
-import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
-import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
-import io.camunda.zeebe.exporter.api.context.Context;
-import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
-import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
-import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
-public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
+public final class ExporterDirector extends Actor implements HealthMonitorable {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
-  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
-      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
+  private final List<ExporterActor> exporterActors = new ArrayList<>();
   private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
+  private ExportingLoop exportingLoop;
   private ExportersState state;
+  private ActorSchedulingService actorSchedulingService;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
-  private boolean inExportingPhase;
-  private boolean isPaused;
+  // read by the exporter actors, if the exporters run in parallel
+  private volatile boolean isPaused;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
   private final ExporterMode exporterMode;
   private final Duration distributionInterval;
+  private final boolean parallelExporting;
   private ExporterPositionsDistributionService exporterDistributionService;
   private final int partitionId;
 
@@ -92,18 +74,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     logStream = Objects.requireNonNull(context.getLogStream());
     partitionId = logStream.getPartitionId();
     metrics = new ExporterMetrics(partitionId);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
     isPaused = shouldPauseOnStart;
     partitionMessagingService = context.getPartitionMessagingService();
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
+    parallelExporting = context.isParallelExporting();
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -124,9 +105,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         () -> {
           isPaused = false;
           exporterPhase = ExporterPhase.EXPORTING;
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+          if (exportingLoop != null) {
+            exportingLoop.resume();
           }
+          exporterActors.forEach(ExporterActor::resumeExporting);
         });
   }
 
@@ -151,7 +133,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    // if the exporters run in parallel, every exporter actor has its own reader
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
@@ -207,7 +190,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       logStreamReader.close();
     }
-    logStream.removeRecordAvailableListener(this);
+    if (exportingLoop != null) {
+      logStream.removeRecordAvailableListener(exportingLoop);
+    }
+    for (final ExporterActor exporterActor : exporterActors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          exporterActor.closeAsync(),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter actor '{}'", exporterActor.getName(), error);
+            }
+          });
+    }
   }
 
   @Override
@@ -220,7 +214,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   protected void onActorCloseRequested() {
     isOpened.set(false);
     if (exporterMode == ExporterMode.ACTIVE) {
-      containers.forEach(ExporterContainer::close);
+      if (!parallelExporting) {
+        containers.forEach(ExporterContainer::close);
+      }
     } else {
       exporterDistributionService.close();
     }
@@ -235,7 +231,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         failure,
         failure);
     actor.fail();
+    reportFailure(failure);
+  }
 
+  private void reportFailure(final Throwable failure) {
     if (failure instanceof UnrecoverableException) {
       healthReport = HealthReport.dead(this).withIssue(failure);
 
@@ -262,9 +261,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.initContainer(actor, metrics, state);
       container.configureExporter();
     }
-
-    eventFilter = createEventFilter(containers);
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
   private void recoverFromSnapshot() {
@@ -276,63 +272,70 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
-  }
-
   private void onFailure() {
     isOpened.set(false);
     actor.close();
   }
 
   private void startActiveExportingMode() {
-    logStream.registerRecordAvailableListener(this);
+    if (containers.isEmpty()) {
+      actor.close();
+      return;
+    }
+
+    if (parallelExporting) {
+      startExporterActors();
+    } else {
+      startExportingLoop();
+    }
+
+    exporterPhase = isPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+    actor.runAtFixedRate(distributionInterval, this::distributeExporterPositions);
+  }
 
-    // start reading
+  private void startExportingLoop() {
     for (final ExporterContainer container : containers) {
       container.initPosition();
       container.openExporter();
     }
 
-    if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
-      final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-      if (failedToRecoverReader) {
-        throw new IllegalStateException(
-            String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, snapshotPosition, getName()));
-      }
-      if (!isPaused) {
-        exporterPhase = ExporterPhase.EXPORTING;
-        actor.submit(this::readNextEvent);
-      } else {
-        exporterPhase = ExporterPhase.PAUSED;
-      }
-
-      actor.runAtFixedRate(distributionInterval, this::distributeExporterPositions);
-
-    } else {
-      actor.close();
+    exportingLoop =
+        new ExportingLoop(
+            name,
+            actor,
+            containers,
+            logStreamReader,
+            metrics,
+            partitionId,
+            this::isClosed,
+            this::isPaused,
+            this::onFailure);
+    logStream.registerRecordAvailableListener(exportingLoop);
+    exportingLoop.start();
+  }
+
+  private void startExporterActors() {
+    for (final ExporterContainer container : containers) {
+      final var exporterActor =
+          new ExporterActor(
+              name + "-" + container.getId(),
+              partitionId,
+              container,
+              logStream,
+              zeebeDb,
+              metrics,
+              this::isPaused,
+              failure -> actor.run(() -> onExporterActorFailure(failure)));
+      exporterActors.add(exporterActor);
+      actorSchedulingService.submitActor(exporterActor, SchedulingHints.ioBound());
     }
   }
 
+  private void onExporterActorFailure(final Throwable failure) {
+    reportFailure(failure);
+    onFailure();
+  }
+
   private void startPassiveExportingMode() {
     // Only initialize the positions, do not open and start exporting
     for (final ExporterContainer container : containers) {
@@ -352,70 +355,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterPositions(exportPositionsMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
-    }
-  }
-
-  private boolean shouldExport() {
-    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
-  }
-
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -435,6 +374,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return !isOpened.get();
   }
 
+  private boolean isPaused() {
+    return isPaused;
+  }
+
   @Override
   public HealthReport getHealthReport() {
     return healthReport;
@@ -450,110 +393,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     actor.run(() -> listeners.remove(failureListener));
   }
 
-  @Override
-  public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
-  }
-
   public ActorFuture<Long> getLowestPosition() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExportersState.VALUE_NOT_FOUND);
     }
     return actor.call(() -> state.getLowestPosition());
   }
-
-  private static class RecordExporter {
-
-    private final RecordValues recordValues = new RecordValues();
-    private final RecordMetadata rawMetadata = new RecordMetadata();
-    private final List<ExporterContainer> containers;
-    private final TypedEventImpl typedEvent;
-    private final ExporterMetrics exporterMetrics;
-
-    private boolean shouldExport;
-    private int exporterIndex;
-
-    RecordExporter(
-        final ExporterMetrics exporterMetrics,
-        final List<ExporterContainer> containers,
-        final int partitionId) {
-      this.containers = containers;
-      typedEvent = new TypedEventImpl(partitionId);
-      this.exporterMetrics = exporterMetrics;
-    }
-
-    void wrap(final LoggedEvent rawEvent) {
-      rawEvent.readMetadata(rawMetadata);
-
-      final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
-
-      shouldExport = recordValue != null;
-      if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-        exporterIndex = 0;
-      }
-    }
-
-    public boolean export() {
-      if (!shouldExport) {
-        return true;
-      }
-
-      final int exportersCount = containers.size();
-
-      // current error handling strategy is simply to repeat forever until the record can be
-      // successfully exported.
-      while (exporterIndex < exportersCount) {
-        final ExporterContainer container = containers.get(exporterIndex);
-
-        if (container.exportRecord(rawMetadata, typedEvent)) {
-          exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-        } else {
-          return false;
-        }
-      }
-
-      return true;
-    }
-
-    TypedEventImpl getTypedEvent() {
-      return typedEvent;
-    }
-  }
-
-  private static class ExporterEventFilter implements EventFilter {
-
-    private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
-
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
-    }
-
-    @Override
-    public boolean applies(final LoggedEvent event) {
-      event.readMetadata(metadata);
-
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
-    }
-
-    @Override
-    public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + '}';
-    }
-  }
 }
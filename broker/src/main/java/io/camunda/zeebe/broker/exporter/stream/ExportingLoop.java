@@ -0,0 +1,311 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.engine.processing.streamprocessor.EventFilter;
+import io.camunda.zeebe.engine.processing.streamprocessor.RecordValues;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+
+/**
+ * Reads the records of the log stream and exports them to a group of exporter containers. The loop
+ * runs on the actor which owns the containers, and reads the next record only after the current
+ * record is exported by all containers of the group.
+ *
+ * <p>The exporter director runs either a single loop for all exporters, or one loop per exporter,
+ * each on its own actor with its own reader. In the latter case, a slow exporter doesn't hold back
+ * the others.
+ */
+final class ExportingLoop implements LogRecordAwaiter {
+
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
+      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+
+  private final String name;
+  private final ActorControl actor;
+  private final List<ExporterContainer> containers;
+  private final LogStreamReader logStreamReader;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final EventFilter eventFilter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final BooleanSupplier isClosed;
+  private final BooleanSupplier isPaused;
+  private final Runnable onFailure;
+
+  private boolean inExportingPhase;
+
+  /**
+   * @param isClosed returns true if the owning actor is closed, which aborts the retries
+   * @param isPaused returns true if the exporting is paused; the loop must be resumed afterwards
+   * @param onFailure called if a record could not be exported, i.e. the retries were aborted
+   */
+  ExportingLoop(
+      final String name,
+      final ActorControl actor,
+      final List<ExporterContainer> containers,
+      final LogStreamReader logStreamReader,
+      final ExporterMetrics metrics,
+      final int partitionId,
+      final BooleanSupplier isClosed,
+      final BooleanSupplier isPaused,
+      final Runnable onFailure) {
+    this.name = name;
+    this.actor = actor;
+    this.containers = containers;
+    this.logStreamReader = logStreamReader;
+    this.metrics = metrics;
+    this.isClosed = isClosed;
+    this.isPaused = isPaused;
+    this.onFailure = onFailure;
+    recordExporter = new RecordExporter(metrics, containers, partitionId);
+    eventFilter = createEventFilter(containers);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    LOG.debug("Set event filter for exporters: {}", eventFilter);
+  }
+
+  /**
+   * Seeks the reader to the lowest position of the containers, and starts to export the records
+   * after it, unless the exporting is paused. The positions of the containers must be initialized
+   * before.
+   */
+  void start() {
+    final long lowestPosition =
+        containers.stream()
+            .mapToLong(ExporterContainer::getPosition)
+            .min()
+            .orElse(ExportersState.VALUE_NOT_FOUND);
+    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(lowestPosition);
+    if (failedToRecoverReader) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, lowestPosition, name));
+    }
+
+    actor.submit(this::readNextEvent);
+  }
+
+  void resume() {
+    actor.submit(this::readNextEvent);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    final long eventPosition = currentEvent.getPosition();
+
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+
+    // increase position of all up to date exporters - an up to date exporter is one which has
+    // acknowledged the last record we passed to it
+    for (final ExporterContainer container : containers) {
+      container.updatePositionOnSkipIfUpToDate(eventPosition);
+    }
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return !isClosed.getAsBoolean()
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && !isPaused.getAsBoolean();
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  onFailure.run();
+                } else {
+                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private static ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+
+    final List<Context.RecordFilter> recordFilters =
+        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
+
+    final Map<RecordType, Boolean> acceptRecordTypes =
+        Arrays.stream(RecordType.values())
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
+
+    final Map<ValueType, Boolean> acceptValueTypes =
+        Arrays.stream(ValueType.values())
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
+
+    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+  }
+
+  private static class RecordExporter {
+
+    private final RecordValues recordValues = new RecordValues();
+    private final RecordMetadata rawMetadata = new RecordMetadata();
+    private final List<ExporterContainer> containers;
+    private final TypedEventImpl typedEvent;
+    private final ExporterMetrics exporterMetrics;
+
+    private boolean shouldExport;
+    private int exporterIndex;
+
+    RecordExporter(
+        final ExporterMetrics exporterMetrics,
+        final List<ExporterContainer> containers,
+        final int partitionId) {
+      this.containers = containers;
+      typedEvent = new TypedEventImpl(partitionId);
+      this.exporterMetrics = exporterMetrics;
+    }
+
+    void wrap(final LoggedEvent rawEvent) {
+      rawEvent.readMetadata(rawMetadata);
+
+      final UnifiedRecordValue recordValue =
+          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+
+      shouldExport = recordValue != null;
+      if (shouldExport) {
+        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+        exporterIndex = 0;
+      }
+    }
+
+    public boolean export() {
+      if (!shouldExport) {
+        return true;
+      }
+
+      final int exportersCount = containers.size();
+
+      // current error handling strategy is simply to repeat forever until the record can be
+      // successfully exported.
+      while (exporterIndex < exportersCount) {
+        final ExporterContainer container = containers.get(exporterIndex);
+
+        if (container.exportRecord(rawMetadata, typedEvent)) {
+          exporterIndex++;
+          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+        } else {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    TypedEventImpl getTypedEvent() {
+      return typedEvent;
+    }
+  }
+
+  private static class ExporterEventFilter implements EventFilter {
+
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<RecordType, Boolean> acceptRecordTypes;
+    private final Map<ValueType, Boolean> acceptValueTypes;
+
+    ExporterEventFilter(
+        final Map<RecordType, Boolean> acceptRecordTypes,
+        final Map<ValueType, Boolean> acceptValueTypes) {
+      this.acceptRecordTypes = acceptRecordTypes;
+      this.acceptValueTypes = acceptValueTypes;
+    }
+
+    @Override
+    public boolean applies(final LoggedEvent event) {
+      event.readMetadata(metadata);
+
+      final RecordType recordType = metadata.getRecordType();
+      final ValueType valueType = metadata.getValueType();
+
+      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+    }
+
+    @Override
+    public String toString() {
+      return "ExporterEventFilter{"
+          + "acceptRecordTypes="
+          + acceptRecordTypes
+          + ", acceptValueTypes="
+          + acceptValueTypes
+          + '}';
+    }
+  }
+}
@@ -67,6 +67,10 @@ final class RaftPartitionGroupFactory {
             .withMaxAppendsPerFollower(experimentalCfg.getMaxAppendsPerFollower())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
+            .withFlushDelay(experimentalCfg.getRaft().getFlushDelay())
+            .withFlushMaxBytes(experimentalCfg.getRaft().getFlushMaxBytes().toBytes())
+            .withFlushMaxEntries(experimentalCfg.getRaft().getFlushMaxEntries())
+            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark())
             .withJournalIndexDensity(dataCfg.getLogIndexDensity())
             .withPriorityElection(clusterCfg.getRaft().isEnablePriorityElection())
@@ -77,7 +81,9 @@ final class RaftPartitionGroupFactory {
             .withMaxQuorumResponseTimeout(experimentalCfg.getRaft().getMaxQuorumResponseTimeout())
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
-                experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold());
+                experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
+            .withSnapshotChunkSize(
+                (int) experimentalCfg.getRaft().getSnapshotChunkSize().toBytes());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
 
@@ -39,6 +39,12 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String SNAPSHOT_CHUNK_SIZE_ERROR_MSG =
+      "Expected to have a snapshot chunk size which is positive and smaller then '%d', but was '%s'.";
+  private static final String FLUSH_DELAY_ERROR_MSG =
+      "Expected to have a flush delay which is non negative, but was '%s'.";
+  private static final String FLUSH_LIMITS_ERROR_MSG =
+      "Expected to have a positive maximum of bytes and entries for a delayed flush, but was '%s' and '%d'.";
   private static final String REPLICATION_WITH_DISABLED_FLUSH_WARNING =
       "Disabling explicit flushing is an experimental feature and can lead to inconsistencies "
           + "and/or data loss! Please refer to the documentation whether or not you should use this!";
@@ -88,6 +94,25 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var snapshotChunkSize = experimental.getRaft().getSnapshotChunkSize();
+    if (snapshotChunkSize.toBytes() <= 0 || snapshotChunkSize.toBytes() >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(SNAPSHOT_CHUNK_SIZE_ERROR_MSG, Integer.MAX_VALUE, snapshotChunkSize));
+    }
+
+    final var raft = experimental.getRaft();
+    if (raft.getFlushDelay().isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(FLUSH_DELAY_ERROR_MSG, raft.getFlushDelay()));
+    }
+
+    if (!raft.getFlushDelay().isZero()
+        && (raft.getFlushMaxBytes().toBytes() <= 0 || raft.getFlushMaxEntries() <= 0)) {
+      throw new IllegalArgumentException(
+          String.format(
+              FLUSH_LIMITS_ERROR_MSG, raft.getFlushMaxBytes(), raft.getFlushMaxEntries()));
+    }
+
     final int replicationFactor = cluster.getReplicationFactor();
     if (replicationFactor < 1 || replicationFactor > clusterSize) {
       throw new IllegalArgumentException(
@@ -260,6 +285,7 @@ public final class SystemContext {
 
   private ActorScheduler initScheduler(final ActorClock clock, final String brokerId) {
     final ThreadsCfg cfg = brokerCfg.getThreads();
+    final boolean metricsEnabled = brokerCfg.getExperimental().isActorSchedulerMetrics();
 
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
@@ -269,6 +295,7 @@ public final class SystemContext {
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
         .setSchedulerName(brokerId)
+        .setMetricsEnabled(metricsEnabled)
         .build();
   }
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
+
+public final class EngineCfg implements ConfigurationEntry {
+
+  private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private DataSize processCacheMaxSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_SIZE);
+  private int dueDateCacheCapacity = EngineConfiguration.DEFAULT_DUE_DATE_CACHE_CAPACITY;
+  private int maxCommandsInBatch = EngineConfiguration.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private DataSize maxBatchSize = DataSize.ofBytes(EngineConfiguration.DEFAULT_MAX_BATCH_SIZE);
+  private boolean fastReplay = EngineConfiguration.DEFAULT_FAST_REPLAY;
+  private int maxRecordsInReplayBatch = EngineConfiguration.DEFAULT_MAX_RECORDS_IN_REPLAY_BATCH;
+  private int multiInstanceActivationChunkSize =
+      EngineConfiguration.DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE;
+
+  public int getDrgCacheCapacity() {
+    return drgCacheCapacity;
+  }
+
+  public void setDrgCacheCapacity(final int drgCacheCapacity) {
+    this.drgCacheCapacity = drgCacheCapacity;
+  }
+
+  public DataSize getProcessCacheMaxSize() {
+    return processCacheMaxSize;
+  }
+
+  public void setProcessCacheMaxSize(final DataSize processCacheMaxSize) {
+    this.processCacheMaxSize = processCacheMaxSize;
+  }
+
+  public int getDueDateCacheCapacity() {
+    return dueDateCacheCapacity;
+  }
+
+  public void setDueDateCacheCapacity(final int dueDateCacheCapacity) {
+    this.dueDateCacheCapacity = dueDateCacheCapacity;
+  }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public void setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public boolean isFastReplay() {
+    return fastReplay;
+  }
+
+  public void setFastReplay(final boolean fastReplay) {
+    this.fastReplay = fastReplay;
+  }
+
+  public int getMaxRecordsInReplayBatch() {
+    return maxRecordsInReplayBatch;
+  }
+
+  public void setMaxRecordsInReplayBatch(final int maxRecordsInReplayBatch) {
+    this.maxRecordsInReplayBatch = maxRecordsInReplayBatch;
+  }
+
+  public int getMultiInstanceActivationChunkSize() {
+    return multiInstanceActivationChunkSize;
+  }
+
+  public void setMultiInstanceActivationChunkSize(final int multiInstanceActivationChunkSize) {
+    this.multiInstanceActivationChunkSize = multiInstanceActivationChunkSize;
+  }
+
+  public EngineConfiguration createEngineConfiguration() {
+    return new EngineConfiguration()
+        .setDrgCacheCapacity(drgCacheCapacity)
+        .setProcessCacheMaxSize(processCacheMaxSize.toBytes())
+        .setDueDateCacheCapacity(dueDateCacheCapacity)
+        .setMaxCommandsInBatch(maxCommandsInBatch)
+        .setMaxBatchSize(maxBatchSize.toBytes())
+        .setFastReplay(fastReplay)
+        .setMaxRecordsInReplayBatch(maxRecordsInReplayBatch)
+        .setMultiInstanceActivationChunkSize(multiInstanceActivationChunkSize);
+  }
+
+  @Override
+  public String toString() {
+    return "EngineCfg{"
+        + "drgCacheCapacity="
+        + drgCacheCapacity
+        + ", processCacheMaxSize="
+        + processCacheMaxSize
+        + ", dueDateCacheCapacity="
+        + dueDateCacheCapacity
+        + ", maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", fastReplay="
+        + fastReplay
+        + ", maxRecordsInReplayBatch="
+        + maxRecordsInReplayBatch
+        + ", multiInstanceActivationChunkSize="
+        + multiInstanceActivationChunkSize
+        + '}';
+  }
+}
@@ -20,10 +20,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_PARALLEL_EXPORTING = false;
+  public static final boolean DEFAULT_ACTOR_SCHEDULER_METRICS = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private boolean parallelExporting = DEFAULT_PARALLEL_EXPORTING;
+  private boolean actorSchedulerMetrics = DEFAULT_ACTOR_SCHEDULER_METRICS;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -31,11 +35,13 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
 
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
+  private EngineCfg engine = new EngineCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     rocksdb.init(globalConfig, brokerBase);
     raft.init(globalConfig, brokerBase);
+    engine.init(globalConfig, brokerBase);
   }
 
   public int getMaxAppendsPerFollower() {
@@ -66,6 +72,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
+  public void setParallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+  }
+
+  public boolean isActorSchedulerMetrics() {
+    return actorSchedulerMetrics;
+  }
+
+  public void setActorSchedulerMetrics(final boolean actorSchedulerMetrics) {
+    this.actorSchedulerMetrics = actorSchedulerMetrics;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -114,6 +136,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.features = features;
   }
 
+  public EngineCfg getEngine() {
+    return engine;
+  }
+
+  public void setEngine(final EngineCfg engine) {
+    this.engine = engine;
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
@@ -123,6 +153,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", parallelExporting="
+        + parallelExporting
+        + ", actorSchedulerMetrics="
+        + actorSchedulerMetrics
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
@@ -133,6 +167,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + consistencyChecks
         + ", features="
         + features
+        + ", engine="
+        + engine
         + '}';
   }
 }
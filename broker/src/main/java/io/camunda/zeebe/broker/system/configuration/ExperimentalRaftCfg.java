@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
@@ -15,11 +16,21 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final DataSize DEFAULT_SNAPSHOT_CHUNK_SIZE = DataSize.ofMegabytes(1);
+  private static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_FLUSH_MAX_BYTES = DataSize.ofMegabytes(4);
+  private static final int DEFAULT_FLUSH_MAX_ENTRIES = 1000;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
 
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+  private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+  private DataSize flushMaxBytes = DEFAULT_FLUSH_MAX_BYTES;
+  private int flushMaxEntries = DEFAULT_FLUSH_MAX_ENTRIES;
+  private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -52,4 +63,44 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreferSnapshotReplicationThreshold(final int preferSnapshotReplicationThreshold) {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
+
+  public DataSize getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  public void setSnapshotChunkSize(final DataSize snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
+  public Duration getFlushDelay() {
+    return flushDelay;
+  }
+
+  public void setFlushDelay(final Duration flushDelay) {
+    this.flushDelay = flushDelay;
+  }
+
+  public DataSize getFlushMaxBytes() {
+    return flushMaxBytes;
+  }
+
+  public void setFlushMaxBytes(final DataSize flushMaxBytes) {
+    this.flushMaxBytes = flushMaxBytes;
+  }
+
+  public int getFlushMaxEntries() {
+    return flushMaxEntries;
+  }
+
+  public void setFlushMaxEntries(final int flushMaxEntries) {
+    this.flushMaxEntries = flushMaxEntries;
+  }
+
+  public boolean isPreallocateSegmentFiles() {
+    return preallocateSegmentFiles;
+  }
+
+  public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+  }
 }
@@ -25,6 +25,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
       RocksDbConfiguration.DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
+  private boolean enableNativeColumnFamilies =
+      RocksDbConfiguration.DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -110,6 +112,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.disableWal = disableWal;
   }
 
+  public boolean isEnableNativeColumnFamilies() {
+    return enableNativeColumnFamilies;
+  }
+
+  public void setEnableNativeColumnFamilies(final boolean enableNativeColumnFamilies) {
+    this.enableNativeColumnFamilies = enableNativeColumnFamilies;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -119,7 +129,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setMinWriteBufferNumberToMerge(minWriteBufferNumberToMerge)
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
-        .setWalDisabled(disableWal);
+        .setWalDisabled(disableWal)
+        .setNativeColumnFamiliesEnabled(enableNativeColumnFamilies);
   }
 
   @Override
@@ -141,6 +152,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + ioRateBytesPerSecond
         + ", disableWal="
         + disableWal
+        + ", enableNativeColumnFamilies="
+        + enableNativeColumnFamilies
         + '}';
   }
 
@@ -133,6 +133,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .listener(processedCommand -> context.getOnProcessedListener().accept(processedCommand))
         .streamProcessorFactory(context.getStreamProcessorFactory())
         .streamProcessorMode(streamProcessorMode)
+        .engineConfiguration(
+            context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration())
         .build();
   }
 }
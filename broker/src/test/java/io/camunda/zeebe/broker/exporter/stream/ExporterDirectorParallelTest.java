@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final long TIMEOUT = 2_000;
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+    exporters.forEach(exporter -> exporter.shouldAutoUpdatePosition(true));
+  }
+
+  @Test
+  public void shouldExportRecordsToAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("all exporters have exported the records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters)
+                    .allSatisfy(
+                        exporter ->
+                            assertThat(exporter.getExportedRecords())
+                                .extracting(Record::getPosition)
+                                .containsExactly(firstPosition, secondPosition)));
+
+    Awaitility.await("all exporters have updated their positions")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join())
+                    .isEqualTo(secondPosition));
+  }
+
+  @Test
+  public void shouldNotBlockExportersOnFailingExporter() {
+    // given
+    final ControlledTestExporter failingExporter = exporters.get(0);
+    final ControlledTestExporter otherExporter = exporters.get(1);
+    failingExporter.onExport(
+        record -> {
+          throw new RuntimeException("Export failed (expected)");
+        });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = writeEvent();
+    final long secondPosition = writeEvent();
+
+    // then
+    Awaitility.await("the other exporter has exported the records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(otherExporter.getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, secondPosition));
+
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("the other exporter has updated its position")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(secondPosition));
+    assertThat(failingExporter.getExportedRecords()).isEmpty();
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldPauseAndResumeAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().pauseExporting().join();
+
+    // when
+    writeEvent();
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      verify(exporter, after(TIMEOUT).times(0)).export(any());
+    }
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      verify(exporter, timeout(TIMEOUT).times(1)).export(any());
+    }
+  }
+
+  @Test
+  public void shouldCloseAllExportersOnClose() throws Exception {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.closeExporterDirector();
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      verify(exporter, timeout(TIMEOUT)).close();
+    }
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+
+  private long writeEvent() {
+    return rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+  }
+}
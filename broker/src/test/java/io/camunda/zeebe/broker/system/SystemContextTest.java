@@ -140,6 +140,45 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfSnapshotChunkSizeIsNotPositive() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotChunkSize(DataSize.ofBytes(0));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have a snapshot chunk size which is positive and smaller then '2147483647', but was '0B'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfFlushDelayIsNegative() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setFlushDelay(Duration.ofMillis(-1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected to have a flush delay which is non negative, but was 'PT-0.001S'.");
+  }
+
+  @Test
+  void shouldThrowExceptionIfDelayedFlushHasNoMaxEntries() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setFlushDelay(Duration.ofMillis(5));
+    brokerCfg.getExperimental().getRaft().setFlushMaxEntries(0);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have a positive maximum of bytes and entries for a delayed flush, but was '4194304B' and '0'.");
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
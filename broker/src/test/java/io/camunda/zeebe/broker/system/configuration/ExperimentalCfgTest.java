@@ -9,10 +9,12 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class ExperimentalCfgTest {
 
@@ -110,6 +112,77 @@ public class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  public void shouldSetSnapshotChunkSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotChunkSize()).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  public void shouldSetSnapshotChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotChunkSize", "512KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotChunkSize()).isEqualTo(DataSize.ofKilobytes(512));
+  }
+
+  @Test
+  public void shouldSetFlushPolicyFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getFlushDelay()).isEqualTo(Duration.ofMillis(5));
+    assertThat(raft.getFlushMaxBytes()).isEqualTo(DataSize.ofMegabytes(8));
+    assertThat(raft.getFlushMaxEntries()).isEqualTo(500);
+  }
+
+  @Test
+  public void shouldSetFlushDelayFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.flushDelay", "10ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getFlushDelay()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  public void shouldSetPreallocateSegmentFilesFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isPreallocateSegmentFiles()).isTrue();
+  }
+
+  @Test
+  public void shouldSetPreallocateSegmentFilesFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.preallocateSegmentFiles", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isPreallocateSegmentFiles()).isFalse();
+  }
+
   @Test
   public void shouldSetEnablePreconditionsFromConfig() {
     // when
@@ -155,4 +228,204 @@ public class ExperimentalCfgTest {
     // then
     assertThat(consistencyChecks.isEnableForeignKeyChecks()).isFalse();
   }
+
+  @Test
+  public void shouldSetDrgCacheCapacityFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getDrgCacheCapacity()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldSetDrgCacheCapacityFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.drgCacheCapacity", "10");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getDrgCacheCapacity()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldSetProcessCacheMaxSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getProcessCacheMaxSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+
+  @Test
+  public void shouldSetProcessCacheMaxSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.processCacheMaxSize", "1GB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getProcessCacheMaxSize()).isEqualTo(DataSize.ofGigabytes(1));
+  }
+
+  @Test
+  public void shouldSetDueDateCacheCapacityFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getDueDateCacheCapacity()).isEqualTo(200);
+  }
+
+  @Test
+  public void shouldSetDueDateCacheCapacityFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.dueDateCacheCapacity", "20");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getDueDateCacheCapacity()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldSetCommandBatchLimitsFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getMaxCommandsInBatch()).isEqualTo(10);
+    assertThat(engine.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(256));
+  }
+
+  @Test
+  public void shouldSetCommandBatchLimitsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.maxCommandsInBatch", "5");
+    environment.put("zeebe.broker.experimental.engine.maxBatchSize", "64KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getMaxCommandsInBatch()).isEqualTo(5);
+    assertThat(engine.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+
+  @Test
+  public void shouldSetFastReplay() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.isFastReplay()).isTrue();
+    assertThat(engine.getMaxRecordsInReplayBatch()).isEqualTo(500);
+  }
+
+  @Test
+  public void shouldSetFastReplayFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.fastReplay", "false");
+    environment.put("zeebe.broker.experimental.engine.maxRecordsInReplayBatch", "100");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.isFastReplay()).isFalse();
+    assertThat(engine.getMaxRecordsInReplayBatch()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldSetMultiInstanceActivationChunkSize() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getMultiInstanceActivationChunkSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldSetMultiInstanceActivationChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.multiInstanceActivationChunkSize", "50");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var engine = cfg.getExperimental().getEngine();
+
+    // then
+    assertThat(engine.getMultiInstanceActivationChunkSize()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldUseDefaultEngineConfiguration() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var engineConfiguration = cfg.getExperimental().getEngine().createEngineConfiguration();
+
+    // then
+    assertThat(engineConfiguration.getDrgCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY);
+    assertThat(engineConfiguration.getProcessCacheMaxSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_SIZE);
+    assertThat(engineConfiguration.getDueDateCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_DUE_DATE_CACHE_CAPACITY);
+    assertThat(engineConfiguration.getMaxCommandsInBatch())
+        .isEqualTo(EngineConfiguration.DEFAULT_MAX_COMMANDS_IN_BATCH);
+    assertThat(engineConfiguration.getMaxBatchSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_MAX_BATCH_SIZE);
+    assertThat(engineConfiguration.isFastReplay())
+        .isEqualTo(EngineConfiguration.DEFAULT_FAST_REPLAY);
+    assertThat(engineConfiguration.getMaxRecordsInReplayBatch())
+        .isEqualTo(EngineConfiguration.DEFAULT_MAX_RECORDS_IN_REPLAY_BATCH);
+    assertThat(engineConfiguration.getMultiInstanceActivationChunkSize())
+        .isEqualTo(EngineConfiguration.DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE);
+  }
+
+  @Test
+  public void shouldSetActorSchedulerMetrics() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isActorSchedulerMetrics()).isTrue();
+  }
+
+  @Test
+  public void shouldSetActorSchedulerMetricsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.actorSchedulerMetrics", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isActorSchedulerMetrics()).isFalse();
+  }
+
+  @Test
+  public void shouldDisableActorSchedulerMetricsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isActorSchedulerMetrics())
+        .isEqualTo(ExperimentalCfg.DEFAULT_ACTOR_SCHEDULER_METRICS);
+  }
 }
@@ -77,6 +77,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isFalse();
+    assertThat(rocksDbConfiguration.isNativeColumnFamiliesEnabled()).isFalse();
   }
 
   @Test
@@ -273,6 +274,30 @@ public final class RocksdbCfgTest {
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
 
+  @Test
+  public void shouldSetEnableNativeColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableNativeColumnFamilies()).isTrue();
+    assertThat(rocksdb.createRocksDbConfiguration().isNativeColumnFamiliesEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldSetEnableNativeColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableNativeColumnFamilies", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableNativeColumnFamilies()).isTrue();
+  }
+
   @Test
   public void shouldSetIsDisableWalViaEnvironmentVariables() {
     // given
@@ -132,6 +132,26 @@ func (mr *MockGatewayClientMockRecorder) CompleteJob(ctx, in interface{}, opts .
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJob", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJob), varargs...)
 }
 
+// CompleteJobs mocks base method.
+func (m *MockGatewayClient) CompleteJobs(ctx context.Context, in *pb.CompleteJobsRequest, opts ...grpc.CallOption) (*pb.CompleteJobsResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "CompleteJobs", varargs...)
+	ret0, _ := ret[0].(*pb.CompleteJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CompleteJobs indicates an expected call of CompleteJobs.
+func (mr *MockGatewayClientMockRecorder) CompleteJobs(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJobs", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJobs), varargs...)
+}
+
 // CreateProcessInstance mocks base method.
 func (m *MockGatewayClient) CreateProcessInstance(ctx context.Context, in *pb.CreateProcessInstanceRequest, opts ...grpc.CallOption) (*pb.CreateProcessInstanceResponse, error) {
 	m.ctrl.T.Helper()
@@ -232,6 +252,26 @@ func (mr *MockGatewayClientMockRecorder) FailJob(ctx, in interface{}, opts ...in
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "FailJob", reflect.TypeOf((*MockGatewayClient)(nil).FailJob), varargs...)
 }
 
+// FailJobs mocks base method.
+func (m *MockGatewayClient) FailJobs(ctx context.Context, in *pb.FailJobsRequest, opts ...grpc.CallOption) (*pb.FailJobsResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "FailJobs", varargs...)
+	ret0, _ := ret[0].(*pb.FailJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// FailJobs indicates an expected call of FailJobs.
+func (mr *MockGatewayClientMockRecorder) FailJobs(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "FailJobs", reflect.TypeOf((*MockGatewayClient)(nil).FailJobs), varargs...)
+}
+
 // PublishMessage mocks base method.
 func (m *MockGatewayClient) PublishMessage(ctx context.Context, in *pb.PublishMessageRequest, opts ...grpc.CallOption) (*pb.PublishMessageResponse, error) {
 	m.ctrl.T.Helper()
@@ -292,6 +332,26 @@ func (mr *MockGatewayClientMockRecorder) SetVariables(ctx, in interface{}, opts
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetVariables", reflect.TypeOf((*MockGatewayClient)(nil).SetVariables), varargs...)
 }
 
+// StreamJobs mocks base method.
+func (m *MockGatewayClient) StreamJobs(ctx context.Context, opts ...grpc.CallOption) (pb.Gateway_StreamJobsClient, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "StreamJobs", varargs...)
+	ret0, _ := ret[0].(pb.Gateway_StreamJobsClient)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// StreamJobs indicates an expected call of StreamJobs.
+func (mr *MockGatewayClientMockRecorder) StreamJobs(ctx interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "StreamJobs", reflect.TypeOf((*MockGatewayClient)(nil).StreamJobs), varargs...)
+}
+
 // ThrowError mocks base method.
 func (m *MockGatewayClient) ThrowError(ctx context.Context, in *pb.ThrowErrorRequest, opts ...grpc.CallOption) (*pb.ThrowErrorResponse, error) {
 	m.ctrl.T.Helper()
@@ -475,6 +535,143 @@ func (mr *MockGateway_ActivateJobsClientMockRecorder) Trailer() *gomock.Call {
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Trailer", reflect.TypeOf((*MockGateway_ActivateJobsClient)(nil).Trailer))
 }
 
+// MockGateway_StreamJobsClient is a mock of Gateway_StreamJobsClient interface.
+type MockGateway_StreamJobsClient struct {
+	ctrl     *gomock.Controller
+	recorder *MockGateway_StreamJobsClientMockRecorder
+}
+
+// MockGateway_StreamJobsClientMockRecorder is the mock recorder for MockGateway_StreamJobsClient.
+type MockGateway_StreamJobsClientMockRecorder struct {
+	mock *MockGateway_StreamJobsClient
+}
+
+// NewMockGateway_StreamJobsClient creates a new mock instance.
+func NewMockGateway_StreamJobsClient(ctrl *gomock.Controller) *MockGateway_StreamJobsClient {
+	mock := &MockGateway_StreamJobsClient{ctrl: ctrl}
+	mock.recorder = &MockGateway_StreamJobsClientMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockGateway_StreamJobsClient) EXPECT() *MockGateway_StreamJobsClientMockRecorder {
+	return m.recorder
+}
+
+// CloseSend mocks base method.
+func (m *MockGateway_StreamJobsClient) CloseSend() error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CloseSend")
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// CloseSend indicates an expected call of CloseSend.
+func (mr *MockGateway_StreamJobsClientMockRecorder) CloseSend() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CloseSend", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).CloseSend))
+}
+
+// Context mocks base method.
+func (m *MockGateway_StreamJobsClient) Context() context.Context {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Context")
+	ret0, _ := ret[0].(context.Context)
+	return ret0
+}
+
+// Context indicates an expected call of Context.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Context() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Context", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Context))
+}
+
+// Header mocks base method.
+func (m *MockGateway_StreamJobsClient) Header() (metadata.MD, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Header")
+	ret0, _ := ret[0].(metadata.MD)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// Header indicates an expected call of Header.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Header() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Header", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Header))
+}
+
+// Recv mocks base method.
+func (m *MockGateway_StreamJobsClient) Recv() (*pb.ActivateJobsResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Recv")
+	ret0, _ := ret[0].(*pb.ActivateJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// Recv indicates an expected call of Recv.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Recv() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Recv", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Recv))
+}
+
+// RecvMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsClient) RecvMsg(m interface{}) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "RecvMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// RecvMsg indicates an expected call of RecvMsg.
+func (mr *MockGateway_StreamJobsClientMockRecorder) RecvMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "RecvMsg", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).RecvMsg), m)
+}
+
+// Send mocks base method.
+func (m *MockGateway_StreamJobsClient) Send(arg0 *pb.StreamJobsRequest) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Send", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// Send indicates an expected call of Send.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Send(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Send", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Send), arg0)
+}
+
+// SendMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsClient) SendMsg(m interface{}) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "SendMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SendMsg indicates an expected call of SendMsg.
+func (mr *MockGateway_StreamJobsClientMockRecorder) SendMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SendMsg", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).SendMsg), m)
+}
+
+// Trailer mocks base method.
+func (m *MockGateway_StreamJobsClient) Trailer() metadata.MD {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Trailer")
+	ret0, _ := ret[0].(metadata.MD)
+	return ret0
+}
+
+// Trailer indicates an expected call of Trailer.
+func (mr *MockGateway_StreamJobsClientMockRecorder) Trailer() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Trailer", reflect.TypeOf((*MockGateway_StreamJobsClient)(nil).Trailer))
+}
+
 // MockGatewayServer is a mock of GatewayServer interface.
 type MockGatewayServer struct {
 	ctrl     *gomock.Controller
@@ -542,6 +739,21 @@ func (mr *MockGatewayServerMockRecorder) CompleteJob(arg0, arg1 interface{}) *go
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJob", reflect.TypeOf((*MockGatewayServer)(nil).CompleteJob), arg0, arg1)
 }
 
+// CompleteJobs mocks base method.
+func (m *MockGatewayServer) CompleteJobs(arg0 context.Context, arg1 *pb.CompleteJobsRequest) (*pb.CompleteJobsResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CompleteJobs", arg0, arg1)
+	ret0, _ := ret[0].(*pb.CompleteJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CompleteJobs indicates an expected call of CompleteJobs.
+func (mr *MockGatewayServerMockRecorder) CompleteJobs(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJobs", reflect.TypeOf((*MockGatewayServer)(nil).CompleteJobs), arg0, arg1)
+}
+
 // CreateProcessInstance mocks base method.
 func (m *MockGatewayServer) CreateProcessInstance(arg0 context.Context, arg1 *pb.CreateProcessInstanceRequest) (*pb.CreateProcessInstanceResponse, error) {
 	m.ctrl.T.Helper()
@@ -617,6 +829,21 @@ func (mr *MockGatewayServerMockRecorder) FailJob(arg0, arg1 interface{}) *gomock
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "FailJob", reflect.TypeOf((*MockGatewayServer)(nil).FailJob), arg0, arg1)
 }
 
+// FailJobs mocks base method.
+func (m *MockGatewayServer) FailJobs(arg0 context.Context, arg1 *pb.FailJobsRequest) (*pb.FailJobsResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "FailJobs", arg0, arg1)
+	ret0, _ := ret[0].(*pb.FailJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// FailJobs indicates an expected call of FailJobs.
+func (mr *MockGatewayServerMockRecorder) FailJobs(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "FailJobs", reflect.TypeOf((*MockGatewayServer)(nil).FailJobs), arg0, arg1)
+}
+
 // PublishMessage mocks base method.
 func (m *MockGatewayServer) PublishMessage(arg0 context.Context, arg1 *pb.PublishMessageRequest) (*pb.PublishMessageResponse, error) {
 	m.ctrl.T.Helper()
@@ -662,6 +889,20 @@ func (mr *MockGatewayServerMockRecorder) SetVariables(arg0, arg1 interface{}) *g
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetVariables", reflect.TypeOf((*MockGatewayServer)(nil).SetVariables), arg0, arg1)
 }
 
+// StreamJobs mocks base method.
+func (m *MockGatewayServer) StreamJobs(arg0 pb.Gateway_StreamJobsServer) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "StreamJobs", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// StreamJobs indicates an expected call of StreamJobs.
+func (mr *MockGatewayServerMockRecorder) StreamJobs(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "StreamJobs", reflect.TypeOf((*MockGatewayServer)(nil).StreamJobs), arg0)
+}
+
 // ThrowError mocks base method.
 func (m *MockGatewayServer) ThrowError(arg0 context.Context, arg1 *pb.ThrowErrorRequest) (*pb.ThrowErrorResponse, error) {
 	m.ctrl.T.Helper()
@@ -825,3 +1066,137 @@ func (mr *MockGateway_ActivateJobsServerMockRecorder) SetTrailer(arg0 interface{
 	mr.mock.ctrl.T.Helper()
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetTrailer", reflect.TypeOf((*MockGateway_ActivateJobsServer)(nil).SetTrailer), arg0)
 }
+
+// MockGateway_StreamJobsServer is a mock of Gateway_StreamJobsServer interface.
+type MockGateway_StreamJobsServer struct {
+	ctrl     *gomock.Controller
+	recorder *MockGateway_StreamJobsServerMockRecorder
+}
+
+// MockGateway_StreamJobsServerMockRecorder is the mock recorder for MockGateway_StreamJobsServer.
+type MockGateway_StreamJobsServerMockRecorder struct {
+	mock *MockGateway_StreamJobsServer
+}
+
+// NewMockGateway_StreamJobsServer creates a new mock instance.
+func NewMockGateway_StreamJobsServer(ctrl *gomock.Controller) *MockGateway_StreamJobsServer {
+	mock := &MockGateway_StreamJobsServer{ctrl: ctrl}
+	mock.recorder = &MockGateway_StreamJobsServerMockRecorder{mock}
+	return mock
+}
+
+// EXPECT returns an object that allows the caller to indicate expected use.
+func (m *MockGateway_StreamJobsServer) EXPECT() *MockGateway_StreamJobsServerMockRecorder {
+	return m.recorder
+}
+
+// Context mocks base method.
+func (m *MockGateway_StreamJobsServer) Context() context.Context {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Context")
+	ret0, _ := ret[0].(context.Context)
+	return ret0
+}
+
+// Context indicates an expected call of Context.
+func (mr *MockGateway_StreamJobsServerMockRecorder) Context() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Context", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).Context))
+}
+
+// Recv mocks base method.
+func (m *MockGateway_StreamJobsServer) Recv() (*pb.StreamJobsRequest, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Recv")
+	ret0, _ := ret[0].(*pb.StreamJobsRequest)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// Recv indicates an expected call of Recv.
+func (mr *MockGateway_StreamJobsServerMockRecorder) Recv() *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Recv", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).Recv))
+}
+
+// RecvMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsServer) RecvMsg(m interface{}) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "RecvMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// RecvMsg indicates an expected call of RecvMsg.
+func (mr *MockGateway_StreamJobsServerMockRecorder) RecvMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "RecvMsg", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).RecvMsg), m)
+}
+
+// Send mocks base method.
+func (m *MockGateway_StreamJobsServer) Send(arg0 *pb.ActivateJobsResponse) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "Send", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// Send indicates an expected call of Send.
+func (mr *MockGateway_StreamJobsServerMockRecorder) Send(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "Send", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).Send), arg0)
+}
+
+// SendHeader mocks base method.
+func (m *MockGateway_StreamJobsServer) SendHeader(arg0 metadata.MD) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "SendHeader", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SendHeader indicates an expected call of SendHeader.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SendHeader(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SendHeader", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SendHeader), arg0)
+}
+
+// SendMsg mocks base method.
+func (m_2 *MockGateway_StreamJobsServer) SendMsg(m interface{}) error {
+	m_2.ctrl.T.Helper()
+	ret := m_2.ctrl.Call(m_2, "SendMsg", m)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SendMsg indicates an expected call of SendMsg.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SendMsg(m interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SendMsg", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SendMsg), m)
+}
+
+// SetHeader mocks base method.
+func (m *MockGateway_StreamJobsServer) SetHeader(arg0 metadata.MD) error {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "SetHeader", arg0)
+	ret0, _ := ret[0].(error)
+	return ret0
+}
+
+// SetHeader indicates an expected call of SetHeader.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SetHeader(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetHeader", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SetHeader), arg0)
+}
+
+// SetTrailer mocks base method.
+func (m *MockGateway_StreamJobsServer) SetTrailer(arg0 metadata.MD) {
+	m.ctrl.T.Helper()
+	m.ctrl.Call(m, "SetTrailer", arg0)
+}
+
+// SetTrailer indicates an expected call of SetTrailer.
+func (mr *MockGateway_StreamJobsServerMockRecorder) SetTrailer(arg0 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "SetTrailer", reflect.TypeOf((*MockGateway_StreamJobsServer)(nil).SetTrailer), arg0)
+}
@@ -47,6 +47,7 @@ type ActivateJobsCommandStep3 interface {
 	Timeout(time.Duration) ActivateJobsCommandStep3
 	WorkerName(string) ActivateJobsCommandStep3
 	FetchVariables(...string) ActivateJobsCommandStep3
+	AdditionalTypes(...string) ActivateJobsCommandStep3
 }
 
 type ActivateJobsCommand struct {
@@ -79,6 +80,11 @@ func (cmd *ActivateJobsCommand) FetchVariables(fetchVariables ...string) Activat
 	return cmd
 }
 
+func (cmd *ActivateJobsCommand) AdditionalTypes(additionalTypes ...string) ActivateJobsCommandStep3 {
+	cmd.request.AdditionalType = additionalTypes
+	return cmd
+}
+
 func (cmd *ActivateJobsCommand) Send(ctx context.Context) ([]entities.Job, error) {
 	cmd.request.RequestTimeout = getLongPollingMillis(ctx)
 
@@ -243,3 +243,38 @@ func TestActivateJobsCommandWithFetchVariables(t *testing.T) {
 		t.Errorf("Failed to receive response")
 	}
 }
+
+func TestActivateJobsCommandWithAdditionalTypes(t *testing.T) {
+	ctrl := gomock.NewController(t)
+	defer ctrl.Finish()
+
+	client := mock_pb.NewMockGatewayClient(ctrl)
+	stream := mock_pb.NewMockGateway_ActivateJobsClient(ctrl)
+
+	request := &pb.ActivateJobsRequest{
+		Type:              "foo",
+		MaxJobsToActivate: 5,
+		Worker:            DefaultJobWorkerName,
+		Timeout:           DefaultJobTimeoutInMs,
+		AdditionalType:    []string{"bar", "baz"},
+		RequestTimeout:    longPollMillis,
+	}
+
+	ctx, cancel := context.WithTimeout(context.Background(), utils.DefaultTestTimeout)
+	defer cancel()
+
+	stream.EXPECT().Recv().Return(nil, io.EOF)
+	client.EXPECT().ActivateJobs(gomock.Any(), &utils.RPCTestMsg{Msg: request}).Return(stream, nil)
+
+	jobs, err := NewActivateJobsCommand(client, func(context.Context, error) bool {
+		return false
+	}).JobType("foo").MaxJobsToActivate(5).AdditionalTypes("bar", "baz").Send(ctx)
+
+	if err != nil {
+		t.Errorf("Failed to send request")
+	}
+
+	if len(jobs) != 0 {
+		t.Errorf("Failed to receive response")
+	}
+}
@@ -71,7 +71,7 @@ func (x Partition_PartitionBrokerRole) Number() protoreflect.EnumNumber {
 
 // Deprecated: Use Partition_PartitionBrokerRole.Descriptor instead.
 func (Partition_PartitionBrokerRole) EnumDescriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{33, 0}
+    return file_gateway_proto_rawDescGZIP(), []int{39, 0}
 }
 
 // Describes the current health of the partition
@@ -121,7 +121,7 @@ func (x Partition_PartitionBrokerHealth) Number() protoreflect.EnumNumber {
 
 // Deprecated: Use Partition_PartitionBrokerHealth.Descriptor instead.
 func (Partition_PartitionBrokerHealth) EnumDescriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{33, 1}
+    return file_gateway_proto_rawDescGZIP(), []int{39, 1}
 }
 
 type ActivateJobsRequest struct {
@@ -146,6 +146,12 @@ type ActivateJobsRequest struct {
     // if the requestTimeout = 0, a default timeout is used.
     // if the requestTimeout < 0, long polling is disabled and the request is completed immediately, even when no job is activated.
     RequestTimeout int64 `protobuf:"varint,6,opt,name=requestTimeout,proto3" json:"requestTimeout,omitempty"`
+    // further job types to activate in the same request; if the jobs of the given type don't fill up
+    // the maxJobsToActivate, jobs of these types are activated in the given order
+    AdditionalType []string `protobuf:"bytes,7,rep,name=additionalType,proto3" json:"additionalType,omitempty"`
+    // if true, the variables of the activated jobs are returned as MessagePack document in
+    // ActivatedJob.variablesMsgPack instead of as JSON document in ActivatedJob.variables
+    BinaryVariables bool `protobuf:"varint,8,opt,name=binaryVariables,proto3" json:"binaryVariables,omitempty"`
 }
 
 func (x *ActivateJobsRequest) Reset() {
@@ -222,6 +228,20 @@ func (x *ActivateJobsRequest) GetRequestTimeout() int64 {
     return 0
 }
 
+func (x *ActivateJobsRequest) GetAdditionalType() []string {
+    if x != nil {
+        return x.AdditionalType
+    }
+    return nil
+}
+
+func (x *ActivateJobsRequest) GetBinaryVariables() bool {
+    if x != nil {
+        return x.BinaryVariables
+    }
+    return false
+}
+
 type ActivateJobsResponse struct {
     state         protoimpl.MessageState
     sizeCache     protoimpl.SizeCache
@@ -304,6 +324,9 @@ type ActivatedJob struct {
     // JSON document, computed at activation time, consisting of all visible variables to
     // the task scope
     Variables string `protobuf:"bytes,13,opt,name=variables,proto3" json:"variables,omitempty"`
+    // MessagePack document of the same variables; only set instead of variables if the job was
+    // activated with binaryVariables
+    VariablesMsgPack []byte `protobuf:"bytes,14,opt,name=variablesMsgPack,proto3" json:"variablesMsgPack,omitempty"`
 }
 
 func (x *ActivatedJob) Reset() {
@@ -429,6 +452,113 @@ func (x *ActivatedJob) GetVariables() string {
     return ""
 }
 
+func (x *ActivatedJob) GetVariablesMsgPack() []byte {
+    if x != nil {
+        return x.VariablesMsgPack
+    }
+    return nil
+}
+
+type StreamJobsRequest struct {
+    state         protoimpl.MessageState
+    sizeCache     protoimpl.SizeCache
+    unknownFields protoimpl.UnknownFields
+
+    // the job type, as defined in the BPMN process (e.g. <zeebe:taskDefinition
+    // type="payment-service" />); only read from the first request of the stream
+    Type string `protobuf:"bytes,1,opt,name=type,proto3" json:"type,omitempty"`
+    // the name of the worker activating the jobs, mostly used for logging purposes; only read from
+    // the first request of the stream
+    Worker string `protobuf:"bytes,2,opt,name=worker,proto3" json:"worker,omitempty"`
+    // a job pushed over the stream will not be activated by another call until the timeout (in ms)
+    // has been reached; only read from the first request of the stream
+    Timeout int64 `protobuf:"varint,3,opt,name=timeout,proto3" json:"timeout,omitempty"`
+    // a list of variables to fetch as the job variables; if empty, all visible variables at
+    // the time of activation for the scope of the job will be returned; only read from the first
+    // request of the stream
+    FetchVariable []string `protobuf:"bytes,4,rep,name=fetchVariable,proto3" json:"fetchVariable,omitempty"`
+    // the amount of jobs the worker is able to handle additionally; every pushed job consumes one
+    // of these credits, and no jobs are pushed while the stream has no credits left
+    Capacity int32 `protobuf:"varint,5,opt,name=capacity,proto3" json:"capacity,omitempty"`
+    // if true, the variables of the pushed jobs are returned as MessagePack document in
+    // ActivatedJob.variablesMsgPack; only read from the first request of the stream
+    BinaryVariables bool `protobuf:"varint,6,opt,name=binaryVariables,proto3" json:"binaryVariables,omitempty"`
+}
+
+func (x *StreamJobsRequest) Reset() {
+    *x = StreamJobsRequest{}
+    if protoimpl.UnsafeEnabled {
+        mi := &file_gateway_proto_msgTypes[3]
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        ms.StoreMessageInfo(mi)
+    }
+}
+
+func (x *StreamJobsRequest) String() string {
+    return protoimpl.X.MessageStringOf(x)
+}
+
+func (*StreamJobsRequest) ProtoMessage() {}
+
+func (x *StreamJobsRequest) ProtoReflect() protoreflect.Message {
+    mi := &file_gateway_proto_msgTypes[3]
+    if protoimpl.UnsafeEnabled && x != nil {
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        if ms.LoadMessageInfo() == nil {
+            ms.StoreMessageInfo(mi)
+        }
+        return ms
+    }
+    return mi.MessageOf(x)
+}
+
+// Deprecated: Use StreamJobsRequest.ProtoReflect.Descriptor instead.
+func (*StreamJobsRequest) Descriptor() ([]byte, []int) {
+    return file_gateway_proto_rawDescGZIP(), []int{3}
+}
+
+func (x *StreamJobsRequest) GetType() string {
+    if x != nil {
+        return x.Type
+    }
+    return ""
+}
+
+func (x *StreamJobsRequest) GetWorker() string {
+    if x != nil {
+        return x.Worker
+    }
+    return ""
+}
+
+func (x *StreamJobsRequest) GetTimeout() int64 {
+    if x != nil {
+        return x.Timeout
+    }
+    return 0
+}
+
+func (x *StreamJobsRequest) GetFetchVariable() []string {
+    if x != nil {
+        return x.FetchVariable
+    }
+    return nil
+}
+
+func (x *StreamJobsRequest) GetCapacity() int32 {
+    if x != nil {
+        return x.Capacity
+    }
+    return 0
+}
+
+func (x *StreamJobsRequest) GetBinaryVariables() bool {
+    if x != nil {
+        return x.BinaryVariables
+    }
+    return false
+}
+
 type CancelProcessInstanceRequest struct {
     state         protoimpl.MessageState
     sizeCache     protoimpl.SizeCache
@@ -442,7 +572,7 @@ type CancelProcessInstanceRequest struct {
 func (x *CancelProcessInstanceRequest) Reset() {
     *x = CancelProcessInstanceRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[3]
+        mi := &file_gateway_proto_msgTypes[4]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -455,7 +585,7 @@ func (x *CancelProcessInstanceRequest) String() string {
 func (*CancelProcessInstanceRequest) ProtoMessage() {}
 
 func (x *CancelProcessInstanceRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[3]
+    mi := &file_gateway_proto_msgTypes[4]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -468,7 +598,7 @@ func (x *CancelProcessInstanceRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use CancelProcessInstanceRequest.ProtoReflect.Descriptor instead.
 func (*CancelProcessInstanceRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{3}
+    return file_gateway_proto_rawDescGZIP(), []int{4}
 }
 
 func (x *CancelProcessInstanceRequest) GetProcessInstanceKey() int64 {
@@ -487,7 +617,7 @@ type CancelProcessInstanceResponse struct {
 func (x *CancelProcessInstanceResponse) Reset() {
     *x = CancelProcessInstanceResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[4]
+        mi := &file_gateway_proto_msgTypes[5]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -500,7 +630,7 @@ func (x *CancelProcessInstanceResponse) String() string {
 func (*CancelProcessInstanceResponse) ProtoMessage() {}
 
 func (x *CancelProcessInstanceResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[4]
+    mi := &file_gateway_proto_msgTypes[5]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -513,7 +643,7 @@ func (x *CancelProcessInstanceResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use CancelProcessInstanceResponse.ProtoReflect.Descriptor instead.
 func (*CancelProcessInstanceResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{4}
+    return file_gateway_proto_rawDescGZIP(), []int{5}
 }
 
 type CompleteJobRequest struct {
@@ -530,7 +660,7 @@ type CompleteJobRequest struct {
 func (x *CompleteJobRequest) Reset() {
     *x = CompleteJobRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[5]
+        mi := &file_gateway_proto_msgTypes[6]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -543,7 +673,7 @@ func (x *CompleteJobRequest) String() string {
 func (*CompleteJobRequest) ProtoMessage() {}
 
 func (x *CompleteJobRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[5]
+    mi := &file_gateway_proto_msgTypes[6]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -556,7 +686,7 @@ func (x *CompleteJobRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use CompleteJobRequest.ProtoReflect.Descriptor instead.
 func (*CompleteJobRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{5}
+    return file_gateway_proto_rawDescGZIP(), []int{6}
 }
 
 func (x *CompleteJobRequest) GetJobKey() int64 {
@@ -582,7 +712,7 @@ type CompleteJobResponse struct {
 func (x *CompleteJobResponse) Reset() {
     *x = CompleteJobResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[6]
+        mi := &file_gateway_proto_msgTypes[7]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -595,7 +725,7 @@ func (x *CompleteJobResponse) String() string {
 func (*CompleteJobResponse) ProtoMessage() {}
 
 func (x *CompleteJobResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[6]
+    mi := &file_gateway_proto_msgTypes[7]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -608,7 +738,170 @@ func (x *CompleteJobResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use CompleteJobResponse.ProtoReflect.Descriptor instead.
 func (*CompleteJobResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{6}
+    return file_gateway_proto_rawDescGZIP(), []int{7}
+}
+
+type CompleteJobsRequest struct {
+    state         protoimpl.MessageState
+    sizeCache     protoimpl.SizeCache
+    unknownFields protoimpl.UnknownFields
+
+    // the jobs to complete; the jobs may belong to different partitions
+    Jobs []*CompleteJobRequest `protobuf:"bytes,1,rep,name=jobs,proto3" json:"jobs,omitempty"`
+}
+
+func (x *CompleteJobsRequest) Reset() {
+    *x = CompleteJobsRequest{}
+    if protoimpl.UnsafeEnabled {
+        mi := &file_gateway_proto_msgTypes[8]
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        ms.StoreMessageInfo(mi)
+    }
+}
+
+func (x *CompleteJobsRequest) String() string {
+    return protoimpl.X.MessageStringOf(x)
+}
+
+func (*CompleteJobsRequest) ProtoMessage() {}
+
+func (x *CompleteJobsRequest) ProtoReflect() protoreflect.Message {
+    mi := &file_gateway_proto_msgTypes[8]
+    if protoimpl.UnsafeEnabled && x != nil {
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        if ms.LoadMessageInfo() == nil {
+            ms.StoreMessageInfo(mi)
+        }
+        return ms
+    }
+    return mi.MessageOf(x)
+}
+
+// Deprecated: Use CompleteJobsRequest.ProtoReflect.Descriptor instead.
+func (*CompleteJobsRequest) Descriptor() ([]byte, []int) {
+    return file_gateway_proto_rawDescGZIP(), []int{8}
+}
+
+func (x *CompleteJobsRequest) GetJobs() []*CompleteJobRequest {
+    if x != nil {
+        return x.Jobs
+    }
+    return nil
+}
+
+type CompleteJobsResponse struct {
+    state         protoimpl.MessageState
+    sizeCache     protoimpl.SizeCache
+    unknownFields protoimpl.UnknownFields
+
+    // the result of each job, in the same order as the jobs of the request
+    Results []*JobCommandResult `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+}
+
+func (x *CompleteJobsResponse) Reset() {
+    *x = CompleteJobsResponse{}
+    if protoimpl.UnsafeEnabled {
+        mi := &file_gateway_proto_msgTypes[9]
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        ms.StoreMessageInfo(mi)
+    }
+}
+
+func (x *CompleteJobsResponse) String() string {
+    return protoimpl.X.MessageStringOf(x)
+}
+
+func (*CompleteJobsResponse) ProtoMessage() {}
+
+func (x *CompleteJobsResponse) ProtoReflect() protoreflect.Message {
+    mi := &file_gateway_proto_msgTypes[9]
+    if protoimpl.UnsafeEnabled && x != nil {
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        if ms.LoadMessageInfo() == nil {
+            ms.StoreMessageInfo(mi)
+        }
+        return ms
+    }
+    return mi.MessageOf(x)
+}
+
+// Deprecated: Use CompleteJobsResponse.ProtoReflect.Descriptor instead.
+func (*CompleteJobsResponse) Descriptor() ([]byte, []int) {
+    return file_gateway_proto_rawDescGZIP(), []int{9}
+}
+
+func (x *CompleteJobsResponse) GetResults() []*JobCommandResult {
+    if x != nil {
+        return x.Results
+    }
+    return nil
+}
+
+type JobCommandResult struct {
+    state         protoimpl.MessageState
+    sizeCache     protoimpl.SizeCache
+    unknownFields protoimpl.UnknownFields
+
+    // the unique job identifier, as given in the request
+    JobKey int64 `protobuf:"varint,1,opt,name=jobKey,proto3" json:"jobKey,omitempty"`
+    // the gRPC status code of the job's command; OK (0) if the command was processed successfully,
+    // otherwise the same code as returned by the single job call, e.g. NOT_FOUND
+    Code int32 `protobuf:"varint,2,opt,name=code,proto3" json:"code,omitempty"`
+    // describes why the command failed; empty if it was processed successfully
+    Message string `protobuf:"bytes,3,opt,name=message,proto3" json:"message,omitempty"`
+}
+
+func (x *JobCommandResult) Reset() {
+    *x = JobCommandResult{}
+    if protoimpl.UnsafeEnabled {
+        mi := &file_gateway_proto_msgTypes[10]
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        ms.StoreMessageInfo(mi)
+    }
+}
+
+func (x *JobCommandResult) String() string {
+    return protoimpl.X.MessageStringOf(x)
+}
+
+func (*JobCommandResult) ProtoMessage() {}
+
+func (x *JobCommandResult) ProtoReflect() protoreflect.Message {
+    mi := &file_gateway_proto_msgTypes[10]
+    if protoimpl.UnsafeEnabled && x != nil {
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        if ms.LoadMessageInfo() == nil {
+            ms.StoreMessageInfo(mi)
+        }
+        return ms
+    }
+    return mi.MessageOf(x)
+}
+
+// Deprecated: Use JobCommandResult.ProtoReflect.Descriptor instead.
+func (*JobCommandResult) Descriptor() ([]byte, []int) {
+    return file_gateway_proto_rawDescGZIP(), []int{10}
+}
+
+func (x *JobCommandResult) GetJobKey() int64 {
+    if x != nil {
+        return x.JobKey
+    }
+    return 0
+}
+
+func (x *JobCommandResult) GetCode() int32 {
+    if x != nil {
+        return x.Code
+    }
+    return 0
+}
+
+func (x *JobCommandResult) GetMessage() string {
+    if x != nil {
+        return x.Message
+    }
+    return ""
 }
 
 type CreateProcessInstanceRequest struct {
@@ -638,7 +931,7 @@ type CreateProcessInstanceRequest struct {
 func (x *CreateProcessInstanceRequest) Reset() {
     *x = CreateProcessInstanceRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[7]
+        mi := &file_gateway_proto_msgTypes[11]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -651,7 +944,7 @@ func (x *CreateProcessInstanceRequest) String() string {
 func (*CreateProcessInstanceRequest) ProtoMessage() {}
 
 func (x *CreateProcessInstanceRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[7]
+    mi := &file_gateway_proto_msgTypes[11]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -664,7 +957,7 @@ func (x *CreateProcessInstanceRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use CreateProcessInstanceRequest.ProtoReflect.Descriptor instead.
 func (*CreateProcessInstanceRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{7}
+    return file_gateway_proto_rawDescGZIP(), []int{11}
 }
 
 func (x *CreateProcessInstanceRequest) GetProcessDefinitionKey() int64 {
@@ -714,7 +1007,7 @@ type ProcessInstanceCreationStartInstruction struct {
 func (x *ProcessInstanceCreationStartInstruction) Reset() {
     *x = ProcessInstanceCreationStartInstruction{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[8]
+        mi := &file_gateway_proto_msgTypes[12]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -727,7 +1020,7 @@ func (x *ProcessInstanceCreationStartInstruction) String() string {
 func (*ProcessInstanceCreationStartInstruction) ProtoMessage() {}
 
 func (x *ProcessInstanceCreationStartInstruction) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[8]
+    mi := &file_gateway_proto_msgTypes[12]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -740,7 +1033,7 @@ func (x *ProcessInstanceCreationStartInstruction) ProtoReflect() protoreflect.Me
 
 // Deprecated: Use ProcessInstanceCreationStartInstruction.ProtoReflect.Descriptor instead.
 func (*ProcessInstanceCreationStartInstruction) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{8}
+    return file_gateway_proto_rawDescGZIP(), []int{12}
 }
 
 func (x *ProcessInstanceCreationStartInstruction) GetElementId() string {
@@ -770,7 +1063,7 @@ type CreateProcessInstanceResponse struct {
 func (x *CreateProcessInstanceResponse) Reset() {
     *x = CreateProcessInstanceResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[9]
+        mi := &file_gateway_proto_msgTypes[13]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -783,7 +1076,7 @@ func (x *CreateProcessInstanceResponse) String() string {
 func (*CreateProcessInstanceResponse) ProtoMessage() {}
 
 func (x *CreateProcessInstanceResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[9]
+    mi := &file_gateway_proto_msgTypes[13]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -796,7 +1089,7 @@ func (x *CreateProcessInstanceResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use CreateProcessInstanceResponse.ProtoReflect.Descriptor instead.
 func (*CreateProcessInstanceResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{9}
+    return file_gateway_proto_rawDescGZIP(), []int{13}
 }
 
 func (x *CreateProcessInstanceResponse) GetProcessDefinitionKey() int64 {
@@ -840,12 +1133,15 @@ type CreateProcessInstanceWithResultRequest struct {
     // list of names of variables to be included in `CreateProcessInstanceWithResultResponse.variables`
     // if empty, all visible variables in the root scope will be returned.
     FetchVariables []string `protobuf:"bytes,3,rep,name=fetchVariables,proto3" json:"fetchVariables,omitempty"`
+    // if true, the variables are returned as MessagePack document in
+    // `CreateProcessInstanceWithResultResponse.variablesMsgPack` instead of as JSON document
+    BinaryVariables bool `protobuf:"varint,4,opt,name=binaryVariables,proto3" json:"binaryVariables,omitempty"`
 }
 
 func (x *CreateProcessInstanceWithResultRequest) Reset() {
     *x = CreateProcessInstanceWithResultRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[10]
+        mi := &file_gateway_proto_msgTypes[14]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -858,7 +1154,7 @@ func (x *CreateProcessInstanceWithResultRequest) String() string {
 func (*CreateProcessInstanceWithResultRequest) ProtoMessage() {}
 
 func (x *CreateProcessInstanceWithResultRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[10]
+    mi := &file_gateway_proto_msgTypes[14]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -871,7 +1167,7 @@ func (x *CreateProcessInstanceWithResultRequest) ProtoReflect() protoreflect.Mes
 
 // Deprecated: Use CreateProcessInstanceWithResultRequest.ProtoReflect.Descriptor instead.
 func (*CreateProcessInstanceWithResultRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{10}
+    return file_gateway_proto_rawDescGZIP(), []int{14}
 }
 
 func (x *CreateProcessInstanceWithResultRequest) GetRequest() *CreateProcessInstanceRequest {
@@ -895,6 +1191,13 @@ func (x *CreateProcessInstanceWithResultRequest) GetFetchVariables() []string {
     return nil
 }
 
+func (x *CreateProcessInstanceWithResultRequest) GetBinaryVariables() bool {
+    if x != nil {
+        return x.BinaryVariables
+    }
+    return false
+}
+
 type CreateProcessInstanceWithResultResponse struct {
     state         protoimpl.MessageState
     sizeCache     protoimpl.SizeCache
@@ -913,12 +1216,15 @@ type CreateProcessInstanceWithResultResponse struct {
     // JSON document
     // consists of visible variables in the root scope
     Variables string `protobuf:"bytes,5,opt,name=variables,proto3" json:"variables,omitempty"`
+    // MessagePack document of the same variables; only set instead of variables if the request
+    // was sent with binaryVariables
+    VariablesMsgPack []byte `protobuf:"bytes,6,opt,name=variablesMsgPack,proto3" json:"variablesMsgPack,omitempty"`
 }
 
 func (x *CreateProcessInstanceWithResultResponse) Reset() {
     *x = CreateProcessInstanceWithResultResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[11]
+        mi := &file_gateway_proto_msgTypes[15]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -931,7 +1237,7 @@ func (x *CreateProcessInstanceWithResultResponse) String() string {
 func (*CreateProcessInstanceWithResultResponse) ProtoMessage() {}
 
 func (x *CreateProcessInstanceWithResultResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[11]
+    mi := &file_gateway_proto_msgTypes[15]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -944,7 +1250,7 @@ func (x *CreateProcessInstanceWithResultResponse) ProtoReflect() protoreflect.Me
 
 // Deprecated: Use CreateProcessInstanceWithResultResponse.ProtoReflect.Descriptor instead.
 func (*CreateProcessInstanceWithResultResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{11}
+    return file_gateway_proto_rawDescGZIP(), []int{15}
 }
 
 func (x *CreateProcessInstanceWithResultResponse) GetProcessDefinitionKey() int64 {
@@ -982,6 +1288,13 @@ func (x *CreateProcessInstanceWithResultResponse) GetVariables() string {
     return ""
 }
 
+func (x *CreateProcessInstanceWithResultResponse) GetVariablesMsgPack() []byte {
+    if x != nil {
+        return x.VariablesMsgPack
+    }
+    return nil
+}
+
 // Deprecated: Do not use.
 type DeployProcessRequest struct {
     state         protoimpl.MessageState
@@ -995,7 +1308,7 @@ type DeployProcessRequest struct {
 func (x *DeployProcessRequest) Reset() {
     *x = DeployProcessRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[12]
+        mi := &file_gateway_proto_msgTypes[16]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1008,7 +1321,7 @@ func (x *DeployProcessRequest) String() string {
 func (*DeployProcessRequest) ProtoMessage() {}
 
 func (x *DeployProcessRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[12]
+    mi := &file_gateway_proto_msgTypes[16]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1021,7 +1334,7 @@ func (x *DeployProcessRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use DeployProcessRequest.ProtoReflect.Descriptor instead.
 func (*DeployProcessRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{12}
+    return file_gateway_proto_rawDescGZIP(), []int{16}
 }
 
 func (x *DeployProcessRequest) GetProcesses() []*ProcessRequestObject {
@@ -1046,7 +1359,7 @@ type ProcessRequestObject struct {
 func (x *ProcessRequestObject) Reset() {
     *x = ProcessRequestObject{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[13]
+        mi := &file_gateway_proto_msgTypes[17]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1059,7 +1372,7 @@ func (x *ProcessRequestObject) String() string {
 func (*ProcessRequestObject) ProtoMessage() {}
 
 func (x *ProcessRequestObject) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[13]
+    mi := &file_gateway_proto_msgTypes[17]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1072,7 +1385,7 @@ func (x *ProcessRequestObject) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use ProcessRequestObject.ProtoReflect.Descriptor instead.
 func (*ProcessRequestObject) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{13}
+    return file_gateway_proto_rawDescGZIP(), []int{17}
 }
 
 func (x *ProcessRequestObject) GetName() string {
@@ -1104,7 +1417,7 @@ type DeployProcessResponse struct {
 func (x *DeployProcessResponse) Reset() {
     *x = DeployProcessResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[14]
+        mi := &file_gateway_proto_msgTypes[18]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1117,7 +1430,7 @@ func (x *DeployProcessResponse) String() string {
 func (*DeployProcessResponse) ProtoMessage() {}
 
 func (x *DeployProcessResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[14]
+    mi := &file_gateway_proto_msgTypes[18]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1130,7 +1443,7 @@ func (x *DeployProcessResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use DeployProcessResponse.ProtoReflect.Descriptor instead.
 func (*DeployProcessResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{14}
+    return file_gateway_proto_rawDescGZIP(), []int{18}
 }
 
 func (x *DeployProcessResponse) GetKey() int64 {
@@ -1159,7 +1472,7 @@ type DeployResourceRequest struct {
 func (x *DeployResourceRequest) Reset() {
     *x = DeployResourceRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[15]
+        mi := &file_gateway_proto_msgTypes[19]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1172,7 +1485,7 @@ func (x *DeployResourceRequest) String() string {
 func (*DeployResourceRequest) ProtoMessage() {}
 
 func (x *DeployResourceRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[15]
+    mi := &file_gateway_proto_msgTypes[19]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1185,7 +1498,7 @@ func (x *DeployResourceRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use DeployResourceRequest.ProtoReflect.Descriptor instead.
 func (*DeployResourceRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{15}
+    return file_gateway_proto_rawDescGZIP(), []int{19}
 }
 
 func (x *DeployResourceRequest) GetResources() []*Resource {
@@ -1209,7 +1522,7 @@ type Resource struct {
 func (x *Resource) Reset() {
     *x = Resource{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[16]
+        mi := &file_gateway_proto_msgTypes[20]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1222,7 +1535,7 @@ func (x *Resource) String() string {
 func (*Resource) ProtoMessage() {}
 
 func (x *Resource) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[16]
+    mi := &file_gateway_proto_msgTypes[20]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1235,7 +1548,7 @@ func (x *Resource) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use Resource.ProtoReflect.Descriptor instead.
 func (*Resource) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{16}
+    return file_gateway_proto_rawDescGZIP(), []int{20}
 }
 
 func (x *Resource) GetName() string {
@@ -1266,7 +1579,7 @@ type DeployResourceResponse struct {
 func (x *DeployResourceResponse) Reset() {
     *x = DeployResourceResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[17]
+        mi := &file_gateway_proto_msgTypes[21]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1279,7 +1592,7 @@ func (x *DeployResourceResponse) String() string {
 func (*DeployResourceResponse) ProtoMessage() {}
 
 func (x *DeployResourceResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[17]
+    mi := &file_gateway_proto_msgTypes[21]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1292,7 +1605,7 @@ func (x *DeployResourceResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use DeployResourceResponse.ProtoReflect.Descriptor instead.
 func (*DeployResourceResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{17}
+    return file_gateway_proto_rawDescGZIP(), []int{21}
 }
 
 func (x *DeployResourceResponse) GetKey() int64 {
@@ -1326,7 +1639,7 @@ type Deployment struct {
 func (x *Deployment) Reset() {
     *x = Deployment{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[18]
+        mi := &file_gateway_proto_msgTypes[22]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1339,7 +1652,7 @@ func (x *Deployment) String() string {
 func (*Deployment) ProtoMessage() {}
 
 func (x *Deployment) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[18]
+    mi := &file_gateway_proto_msgTypes[22]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1352,7 +1665,7 @@ func (x *Deployment) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use Deployment.ProtoReflect.Descriptor instead.
 func (*Deployment) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{18}
+    return file_gateway_proto_rawDescGZIP(), []int{22}
 }
 
 func (m *Deployment) GetMetadata() isDeployment_Metadata {
@@ -1428,7 +1741,7 @@ type ProcessMetadata struct {
 func (x *ProcessMetadata) Reset() {
     *x = ProcessMetadata{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[19]
+        mi := &file_gateway_proto_msgTypes[23]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1441,7 +1754,7 @@ func (x *ProcessMetadata) String() string {
 func (*ProcessMetadata) ProtoMessage() {}
 
 func (x *ProcessMetadata) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[19]
+    mi := &file_gateway_proto_msgTypes[23]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1454,7 +1767,7 @@ func (x *ProcessMetadata) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use ProcessMetadata.ProtoReflect.Descriptor instead.
 func (*ProcessMetadata) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{19}
+    return file_gateway_proto_rawDescGZIP(), []int{23}
 }
 
 func (x *ProcessMetadata) GetBpmnProcessId() string {
@@ -1511,7 +1824,7 @@ type DecisionMetadata struct {
 func (x *DecisionMetadata) Reset() {
     *x = DecisionMetadata{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[20]
+        mi := &file_gateway_proto_msgTypes[24]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1524,7 +1837,7 @@ func (x *DecisionMetadata) String() string {
 func (*DecisionMetadata) ProtoMessage() {}
 
 func (x *DecisionMetadata) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[20]
+    mi := &file_gateway_proto_msgTypes[24]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1537,7 +1850,7 @@ func (x *DecisionMetadata) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use DecisionMetadata.ProtoReflect.Descriptor instead.
 func (*DecisionMetadata) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{20}
+    return file_gateway_proto_rawDescGZIP(), []int{24}
 }
 
 func (x *DecisionMetadata) GetDmnDecisionId() string {
@@ -1605,7 +1918,7 @@ type DecisionRequirementsMetadata struct {
 func (x *DecisionRequirementsMetadata) Reset() {
     *x = DecisionRequirementsMetadata{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[21]
+        mi := &file_gateway_proto_msgTypes[25]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1618,7 +1931,7 @@ func (x *DecisionRequirementsMetadata) String() string {
 func (*DecisionRequirementsMetadata) ProtoMessage() {}
 
 func (x *DecisionRequirementsMetadata) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[21]
+    mi := &file_gateway_proto_msgTypes[25]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1631,7 +1944,7 @@ func (x *DecisionRequirementsMetadata) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use DecisionRequirementsMetadata.ProtoReflect.Descriptor instead.
 func (*DecisionRequirementsMetadata) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{21}
+    return file_gateway_proto_rawDescGZIP(), []int{25}
 }
 
 func (x *DecisionRequirementsMetadata) GetDmnDecisionRequirementsId() string {
@@ -1689,7 +2002,7 @@ type FailJobRequest struct {
 func (x *FailJobRequest) Reset() {
     *x = FailJobRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[22]
+        mi := &file_gateway_proto_msgTypes[26]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1702,7 +2015,7 @@ func (x *FailJobRequest) String() string {
 func (*FailJobRequest) ProtoMessage() {}
 
 func (x *FailJobRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[22]
+    mi := &file_gateway_proto_msgTypes[26]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1715,7 +2028,7 @@ func (x *FailJobRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use FailJobRequest.ProtoReflect.Descriptor instead.
 func (*FailJobRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{22}
+    return file_gateway_proto_rawDescGZIP(), []int{26}
 }
 
 func (x *FailJobRequest) GetJobKey() int64 {
@@ -1755,7 +2068,7 @@ type FailJobResponse struct {
 func (x *FailJobResponse) Reset() {
     *x = FailJobResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[23]
+        mi := &file_gateway_proto_msgTypes[27]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1768,7 +2081,7 @@ func (x *FailJobResponse) String() string {
 func (*FailJobResponse) ProtoMessage() {}
 
 func (x *FailJobResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[23]
+    mi := &file_gateway_proto_msgTypes[27]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1781,7 +2094,103 @@ func (x *FailJobResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use FailJobResponse.ProtoReflect.Descriptor instead.
 func (*FailJobResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{23}
+    return file_gateway_proto_rawDescGZIP(), []int{27}
+}
+
+type FailJobsRequest struct {
+    state         protoimpl.MessageState
+    sizeCache     protoimpl.SizeCache
+    unknownFields protoimpl.UnknownFields
+
+    // the jobs to fail; the jobs may belong to different partitions
+    Jobs []*FailJobRequest `protobuf:"bytes,1,rep,name=jobs,proto3" json:"jobs,omitempty"`
+}
+
+func (x *FailJobsRequest) Reset() {
+    *x = FailJobsRequest{}
+    if protoimpl.UnsafeEnabled {
+        mi := &file_gateway_proto_msgTypes[28]
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        ms.StoreMessageInfo(mi)
+    }
+}
+
+func (x *FailJobsRequest) String() string {
+    return protoimpl.X.MessageStringOf(x)
+}
+
+func (*FailJobsRequest) ProtoMessage() {}
+
+func (x *FailJobsRequest) ProtoReflect() protoreflect.Message {
+    mi := &file_gateway_proto_msgTypes[28]
+    if protoimpl.UnsafeEnabled && x != nil {
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        if ms.LoadMessageInfo() == nil {
+            ms.StoreMessageInfo(mi)
+        }
+        return ms
+    }
+    return mi.MessageOf(x)
+}
+
+// Deprecated: Use FailJobsRequest.ProtoReflect.Descriptor instead.
+func (*FailJobsRequest) Descriptor() ([]byte, []int) {
+    return file_gateway_proto_rawDescGZIP(), []int{28}
+}
+
+func (x *FailJobsRequest) GetJobs() []*FailJobRequest {
+    if x != nil {
+        return x.Jobs
+    }
+    return nil
+}
+
+type FailJobsResponse struct {
+    state         protoimpl.MessageState
+    sizeCache     protoimpl.SizeCache
+    unknownFields protoimpl.UnknownFields
+
+    // the result of each job, in the same order as the jobs of the request
+    Results []*JobCommandResult `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+}
+
+func (x *FailJobsResponse) Reset() {
+    *x = FailJobsResponse{}
+    if protoimpl.UnsafeEnabled {
+        mi := &file_gateway_proto_msgTypes[29]
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        ms.StoreMessageInfo(mi)
+    }
+}
+
+func (x *FailJobsResponse) String() string {
+    return protoimpl.X.MessageStringOf(x)
+}
+
+func (*FailJobsResponse) ProtoMessage() {}
+
+func (x *FailJobsResponse) ProtoReflect() protoreflect.Message {
+    mi := &file_gateway_proto_msgTypes[29]
+    if protoimpl.UnsafeEnabled && x != nil {
+        ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+        if ms.LoadMessageInfo() == nil {
+            ms.StoreMessageInfo(mi)
+        }
+        return ms
+    }
+    return mi.MessageOf(x)
+}
+
+// Deprecated: Use FailJobsResponse.ProtoReflect.Descriptor instead.
+func (*FailJobsResponse) Descriptor() ([]byte, []int) {
+    return file_gateway_proto_rawDescGZIP(), []int{29}
+}
+
+func (x *FailJobsResponse) GetResults() []*JobCommandResult {
+    if x != nil {
+        return x.Results
+    }
+    return nil
 }
 
 type ThrowErrorRequest struct {
@@ -1800,7 +2209,7 @@ type ThrowErrorRequest struct {
 func (x *ThrowErrorRequest) Reset() {
     *x = ThrowErrorRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[24]
+        mi := &file_gateway_proto_msgTypes[30]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1813,7 +2222,7 @@ func (x *ThrowErrorRequest) String() string {
 func (*ThrowErrorRequest) ProtoMessage() {}
 
 func (x *ThrowErrorRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[24]
+    mi := &file_gateway_proto_msgTypes[30]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1826,7 +2235,7 @@ func (x *ThrowErrorRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use ThrowErrorRequest.ProtoReflect.Descriptor instead.
 func (*ThrowErrorRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{24}
+    return file_gateway_proto_rawDescGZIP(), []int{30}
 }
 
 func (x *ThrowErrorRequest) GetJobKey() int64 {
@@ -1859,7 +2268,7 @@ type ThrowErrorResponse struct {
 func (x *ThrowErrorResponse) Reset() {
     *x = ThrowErrorResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[25]
+        mi := &file_gateway_proto_msgTypes[31]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1872,7 +2281,7 @@ func (x *ThrowErrorResponse) String() string {
 func (*ThrowErrorResponse) ProtoMessage() {}
 
 func (x *ThrowErrorResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[25]
+    mi := &file_gateway_proto_msgTypes[31]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1885,7 +2294,7 @@ func (x *ThrowErrorResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use ThrowErrorResponse.ProtoReflect.Descriptor instead.
 func (*ThrowErrorResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{25}
+    return file_gateway_proto_rawDescGZIP(), []int{31}
 }
 
 type PublishMessageRequest struct {
@@ -1910,7 +2319,7 @@ type PublishMessageRequest struct {
 func (x *PublishMessageRequest) Reset() {
     *x = PublishMessageRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[26]
+        mi := &file_gateway_proto_msgTypes[32]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1923,7 +2332,7 @@ func (x *PublishMessageRequest) String() string {
 func (*PublishMessageRequest) ProtoMessage() {}
 
 func (x *PublishMessageRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[26]
+    mi := &file_gateway_proto_msgTypes[32]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -1936,7 +2345,7 @@ func (x *PublishMessageRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use PublishMessageRequest.ProtoReflect.Descriptor instead.
 func (*PublishMessageRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{26}
+    return file_gateway_proto_rawDescGZIP(), []int{32}
 }
 
 func (x *PublishMessageRequest) GetName() string {
@@ -1986,7 +2395,7 @@ type PublishMessageResponse struct {
 func (x *PublishMessageResponse) Reset() {
     *x = PublishMessageResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[27]
+        mi := &file_gateway_proto_msgTypes[33]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -1999,7 +2408,7 @@ func (x *PublishMessageResponse) String() string {
 func (*PublishMessageResponse) ProtoMessage() {}
 
 func (x *PublishMessageResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[27]
+    mi := &file_gateway_proto_msgTypes[33]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2012,7 +2421,7 @@ func (x *PublishMessageResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use PublishMessageResponse.ProtoReflect.Descriptor instead.
 func (*PublishMessageResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{27}
+    return file_gateway_proto_rawDescGZIP(), []int{33}
 }
 
 func (x *PublishMessageResponse) GetKey() int64 {
@@ -2034,7 +2443,7 @@ type ResolveIncidentRequest struct {
 func (x *ResolveIncidentRequest) Reset() {
     *x = ResolveIncidentRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[28]
+        mi := &file_gateway_proto_msgTypes[34]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2047,7 +2456,7 @@ func (x *ResolveIncidentRequest) String() string {
 func (*ResolveIncidentRequest) ProtoMessage() {}
 
 func (x *ResolveIncidentRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[28]
+    mi := &file_gateway_proto_msgTypes[34]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2060,7 +2469,7 @@ func (x *ResolveIncidentRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use ResolveIncidentRequest.ProtoReflect.Descriptor instead.
 func (*ResolveIncidentRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{28}
+    return file_gateway_proto_rawDescGZIP(), []int{34}
 }
 
 func (x *ResolveIncidentRequest) GetIncidentKey() int64 {
@@ -2079,7 +2488,7 @@ type ResolveIncidentResponse struct {
 func (x *ResolveIncidentResponse) Reset() {
     *x = ResolveIncidentResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[29]
+        mi := &file_gateway_proto_msgTypes[35]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2092,7 +2501,7 @@ func (x *ResolveIncidentResponse) String() string {
 func (*ResolveIncidentResponse) ProtoMessage() {}
 
 func (x *ResolveIncidentResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[29]
+    mi := &file_gateway_proto_msgTypes[35]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2105,7 +2514,7 @@ func (x *ResolveIncidentResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use ResolveIncidentResponse.ProtoReflect.Descriptor instead.
 func (*ResolveIncidentResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{29}
+    return file_gateway_proto_rawDescGZIP(), []int{35}
 }
 
 type TopologyRequest struct {
@@ -2117,7 +2526,7 @@ type TopologyRequest struct {
 func (x *TopologyRequest) Reset() {
     *x = TopologyRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[30]
+        mi := &file_gateway_proto_msgTypes[36]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2130,7 +2539,7 @@ func (x *TopologyRequest) String() string {
 func (*TopologyRequest) ProtoMessage() {}
 
 func (x *TopologyRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[30]
+    mi := &file_gateway_proto_msgTypes[36]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2143,7 +2552,7 @@ func (x *TopologyRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use TopologyRequest.ProtoReflect.Descriptor instead.
 func (*TopologyRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{30}
+    return file_gateway_proto_rawDescGZIP(), []int{36}
 }
 
 type TopologyResponse struct {
@@ -2166,7 +2575,7 @@ type TopologyResponse struct {
 func (x *TopologyResponse) Reset() {
     *x = TopologyResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[31]
+        mi := &file_gateway_proto_msgTypes[37]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2179,7 +2588,7 @@ func (x *TopologyResponse) String() string {
 func (*TopologyResponse) ProtoMessage() {}
 
 func (x *TopologyResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[31]
+    mi := &file_gateway_proto_msgTypes[37]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2192,7 +2601,7 @@ func (x *TopologyResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use TopologyResponse.ProtoReflect.Descriptor instead.
 func (*TopologyResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{31}
+    return file_gateway_proto_rawDescGZIP(), []int{37}
 }
 
 func (x *TopologyResponse) GetBrokers() []*BrokerInfo {
@@ -2250,7 +2659,7 @@ type BrokerInfo struct {
 func (x *BrokerInfo) Reset() {
     *x = BrokerInfo{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[32]
+        mi := &file_gateway_proto_msgTypes[38]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2263,7 +2672,7 @@ func (x *BrokerInfo) String() string {
 func (*BrokerInfo) ProtoMessage() {}
 
 func (x *BrokerInfo) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[32]
+    mi := &file_gateway_proto_msgTypes[38]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2276,7 +2685,7 @@ func (x *BrokerInfo) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use BrokerInfo.ProtoReflect.Descriptor instead.
 func (*BrokerInfo) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{32}
+    return file_gateway_proto_rawDescGZIP(), []int{38}
 }
 
 func (x *BrokerInfo) GetNodeId() int32 {
@@ -2330,7 +2739,7 @@ type Partition struct {
 func (x *Partition) Reset() {
     *x = Partition{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[33]
+        mi := &file_gateway_proto_msgTypes[39]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2343,7 +2752,7 @@ func (x *Partition) String() string {
 func (*Partition) ProtoMessage() {}
 
 func (x *Partition) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[33]
+    mi := &file_gateway_proto_msgTypes[39]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2356,7 +2765,7 @@ func (x *Partition) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use Partition.ProtoReflect.Descriptor instead.
 func (*Partition) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{33}
+    return file_gateway_proto_rawDescGZIP(), []int{39}
 }
 
 func (x *Partition) GetPartitionId() int32 {
@@ -2394,7 +2803,7 @@ type UpdateJobRetriesRequest struct {
 func (x *UpdateJobRetriesRequest) Reset() {
     *x = UpdateJobRetriesRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[34]
+        mi := &file_gateway_proto_msgTypes[40]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2407,7 +2816,7 @@ func (x *UpdateJobRetriesRequest) String() string {
 func (*UpdateJobRetriesRequest) ProtoMessage() {}
 
 func (x *UpdateJobRetriesRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[34]
+    mi := &file_gateway_proto_msgTypes[40]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2420,7 +2829,7 @@ func (x *UpdateJobRetriesRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use UpdateJobRetriesRequest.ProtoReflect.Descriptor instead.
 func (*UpdateJobRetriesRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{34}
+    return file_gateway_proto_rawDescGZIP(), []int{40}
 }
 
 func (x *UpdateJobRetriesRequest) GetJobKey() int64 {
@@ -2446,7 +2855,7 @@ type UpdateJobRetriesResponse struct {
 func (x *UpdateJobRetriesResponse) Reset() {
     *x = UpdateJobRetriesResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[35]
+        mi := &file_gateway_proto_msgTypes[41]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2459,7 +2868,7 @@ func (x *UpdateJobRetriesResponse) String() string {
 func (*UpdateJobRetriesResponse) ProtoMessage() {}
 
 func (x *UpdateJobRetriesResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[35]
+    mi := &file_gateway_proto_msgTypes[41]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2472,7 +2881,7 @@ func (x *UpdateJobRetriesResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use UpdateJobRetriesResponse.ProtoReflect.Descriptor instead.
 func (*UpdateJobRetriesResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{35}
+    return file_gateway_proto_rawDescGZIP(), []int{41}
 }
 
 type SetVariablesRequest struct {
@@ -2500,7 +2909,7 @@ type SetVariablesRequest struct {
 func (x *SetVariablesRequest) Reset() {
     *x = SetVariablesRequest{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[36]
+        mi := &file_gateway_proto_msgTypes[42]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2513,7 +2922,7 @@ func (x *SetVariablesRequest) String() string {
 func (*SetVariablesRequest) ProtoMessage() {}
 
 func (x *SetVariablesRequest) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[36]
+    mi := &file_gateway_proto_msgTypes[42]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2526,7 +2935,7 @@ func (x *SetVariablesRequest) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use SetVariablesRequest.ProtoReflect.Descriptor instead.
 func (*SetVariablesRequest) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{36}
+    return file_gateway_proto_rawDescGZIP(), []int{42}
 }
 
 func (x *SetVariablesRequest) GetElementInstanceKey() int64 {
@@ -2562,7 +2971,7 @@ type SetVariablesResponse struct {
 func (x *SetVariablesResponse) Reset() {
     *x = SetVariablesResponse{}
     if protoimpl.UnsafeEnabled {
-        mi := &file_gateway_proto_msgTypes[37]
+        mi := &file_gateway_proto_msgTypes[43]
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         ms.StoreMessageInfo(mi)
     }
@@ -2575,7 +2984,7 @@ func (x *SetVariablesResponse) String() string {
 func (*SetVariablesResponse) ProtoMessage() {}
 
 func (x *SetVariablesResponse) ProtoReflect() protoreflect.Message {
-    mi := &file_gateway_proto_msgTypes[37]
+    mi := &file_gateway_proto_msgTypes[43]
     if protoimpl.UnsafeEnabled && x != nil {
         ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
         if ms.LoadMessageInfo() == nil {
@@ -2588,7 +2997,7 @@ func (x *SetVariablesResponse) ProtoReflect() protoreflect.Message {
 
 // Deprecated: Use SetVariablesResponse.ProtoReflect.Descriptor instead.
 func (*SetVariablesResponse) Descriptor() ([]byte, []int) {
-    return file_gateway_proto_rawDescGZIP(), []int{37}
+    return file_gateway_proto_rawDescGZIP(), []int{43}
 }
 
 func (x *SetVariablesResponse) GetKey() int64 {
@@ -2603,7 +3012,7 @@ var File_gateway_proto protoreflect.FileDescriptor
 var file_gateway_proto_rawDesc = []byte{
     0x0a, 0x0d, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x12,
     0x10, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f,
-    0x6c, 0x22, 0xd7, 0x01, 0x0a, 0x13, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f,
+    0x6c, 0x22, 0xa9, 0x02, 0x0a, 0x13, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f,
     0x62, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x12, 0x0a, 0x04, 0x74, 0x79, 0x70,
     0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x74, 0x79, 0x70, 0x65, 0x12, 0x16, 0x0a,
     0x06, 0x77, 0x6f, 0x72, 0x6b, 0x65, 0x72, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x06, 0x77,
@@ -2616,410 +3025,479 @@ var file_gateway_proto_rawDesc = []byte{
     0x20, 0x03, 0x28, 0x09, 0x52, 0x0d, 0x66, 0x65, 0x74, 0x63, 0x68, 0x56, 0x61, 0x72, 0x69, 0x61,
     0x62, 0x6c, 0x65, 0x12, 0x26, 0x0a, 0x0e, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x54, 0x69,
     0x6d, 0x65, 0x6f, 0x75, 0x74, 0x18, 0x06, 0x20, 0x01, 0x28, 0x03, 0x52, 0x0e, 0x72, 0x65, 0x71,
-    0x75, 0x65, 0x73, 0x74, 0x54, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74, 0x22, 0x4a, 0x0a, 0x14, 0x41,
-    0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f,
-    0x6e, 0x73, 0x65, 0x12, 0x32, 0x0a, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28,
-    0x0b, 0x32, 0x1e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x64, 0x4a, 0x6f,
-    0x62, 0x52, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x22, 0xda, 0x03, 0x0a, 0x0c, 0x41, 0x63, 0x74, 0x69,
-    0x76, 0x61, 0x74, 0x65, 0x64, 0x4a, 0x6f, 0x62, 0x12, 0x10, 0x0a, 0x03, 0x6b, 0x65, 0x79, 0x18,
-    0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79, 0x12, 0x12, 0x0a, 0x04, 0x74, 0x79,
-    0x70, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x74, 0x79, 0x70, 0x65, 0x12, 0x2e,
-    0x0a, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63,
-    0x65, 0x4b, 0x65, 0x79, 0x18, 0x03, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x70, 0x72, 0x6f, 0x63,
-    0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x12, 0x24,
-    0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x18,
-    0x04, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x49, 0x64, 0x12, 0x3a, 0x0a, 0x18, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44,
-    0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x56, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e,
-    0x18, 0x05, 0x20, 0x01, 0x28, 0x05, 0x52, 0x18, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44,
-    0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x56, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e,
+    0x75, 0x65, 0x73, 0x74, 0x54, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74, 0x12, 0x26, 0x0a, 0x0e, 0x61,
+    0x64, 0x64, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x6c, 0x54, 0x79, 0x70, 0x65, 0x18, 0x07, 0x20,
+    0x03, 0x28, 0x09, 0x52, 0x0e, 0x61, 0x64, 0x64, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x6c, 0x54,
+    0x79, 0x70, 0x65, 0x12, 0x28, 0x0a, 0x0f, 0x62, 0x69, 0x6e, 0x61, 0x72, 0x79, 0x56, 0x61, 0x72,
+    0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x08, 0x20, 0x01, 0x28, 0x08, 0x52, 0x0f, 0x62, 0x69,
+    0x6e, 0x61, 0x72, 0x79, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0x4a, 0x0a,
+    0x14, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x73,
+    0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x32, 0x0a, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x18, 0x01, 0x20,
+    0x03, 0x28, 0x0b, 0x32, 0x1e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72,
+    0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x64,
+    0x4a, 0x6f, 0x62, 0x52, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x22, 0x86, 0x04, 0x0a, 0x0c, 0x41, 0x63,
+    0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x64, 0x4a, 0x6f, 0x62, 0x12, 0x10, 0x0a, 0x03, 0x6b, 0x65,
+    0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79, 0x12, 0x12, 0x0a, 0x04,
+    0x74, 0x79, 0x70, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x74, 0x79, 0x70, 0x65,
+    0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61,
+    0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x03, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x70, 0x72,
+    0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79,
+    0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
+    0x64, 0x18, 0x04, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f,
+    0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12, 0x3a, 0x0a, 0x18, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73,
+    0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x56, 0x65, 0x72, 0x73, 0x69,
+    0x6f, 0x6e, 0x18, 0x05, 0x20, 0x01, 0x28, 0x05, 0x52, 0x18, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73,
+    0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x56, 0x65, 0x72, 0x73, 0x69,
+    0x6f, 0x6e, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66,
+    0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x06, 0x20, 0x01, 0x28, 0x03,
+    0x52, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74,
+    0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e,
+    0x74, 0x49, 0x64, 0x18, 0x07, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65,
+    0x6e, 0x74, 0x49, 0x64, 0x12, 0x2e, 0x0a, 0x12, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49,
+    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x08, 0x20, 0x01, 0x28, 0x03,
+    0x52, 0x12, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63,
+    0x65, 0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x63, 0x75, 0x73, 0x74, 0x6f, 0x6d, 0x48, 0x65,
+    0x61, 0x64, 0x65, 0x72, 0x73, 0x18, 0x09, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x63, 0x75, 0x73,
+    0x74, 0x6f, 0x6d, 0x48, 0x65, 0x61, 0x64, 0x65, 0x72, 0x73, 0x12, 0x16, 0x0a, 0x06, 0x77, 0x6f,
+    0x72, 0x6b, 0x65, 0x72, 0x18, 0x0a, 0x20, 0x01, 0x28, 0x09, 0x52, 0x06, 0x77, 0x6f, 0x72, 0x6b,
+    0x65, 0x72, 0x12, 0x18, 0x0a, 0x07, 0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x18, 0x0b, 0x20,
+    0x01, 0x28, 0x05, 0x52, 0x07, 0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x12, 0x1a, 0x0a, 0x08,
+    0x64, 0x65, 0x61, 0x64, 0x6c, 0x69, 0x6e, 0x65, 0x18, 0x0c, 0x20, 0x01, 0x28, 0x03, 0x52, 0x08,
+    0x64, 0x65, 0x61, 0x64, 0x6c, 0x69, 0x6e, 0x65, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69,
+    0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x0d, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72,
+    0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x2a, 0x0a, 0x10, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62,
+    0x6c, 0x65, 0x73, 0x4d, 0x73, 0x67, 0x50, 0x61, 0x63, 0x6b, 0x18, 0x0e, 0x20, 0x01, 0x28, 0x0c,
+    0x52, 0x10, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x4d, 0x73, 0x67, 0x50, 0x61,
+    0x63, 0x6b, 0x22, 0xc5, 0x01, 0x0a, 0x11, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d, 0x4a, 0x6f, 0x62,
+    0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x12, 0x0a, 0x04, 0x74, 0x79, 0x70, 0x65,
+    0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x74, 0x79, 0x70, 0x65, 0x12, 0x16, 0x0a, 0x06,
+    0x77, 0x6f, 0x72, 0x6b, 0x65, 0x72, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x06, 0x77, 0x6f,
+    0x72, 0x6b, 0x65, 0x72, 0x12, 0x18, 0x0a, 0x07, 0x74, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74, 0x18,
+    0x03, 0x20, 0x01, 0x28, 0x03, 0x52, 0x07, 0x74, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74, 0x12, 0x24,
+    0x0a, 0x0d, 0x66, 0x65, 0x74, 0x63, 0x68, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x18,
+    0x04, 0x20, 0x03, 0x28, 0x09, 0x52, 0x0d, 0x66, 0x65, 0x74, 0x63, 0x68, 0x56, 0x61, 0x72, 0x69,
+    0x61, 0x62, 0x6c, 0x65, 0x12, 0x1a, 0x0a, 0x08, 0x63, 0x61, 0x70, 0x61, 0x63, 0x69, 0x74, 0x79,
+    0x18, 0x05, 0x20, 0x01, 0x28, 0x05, 0x52, 0x08, 0x63, 0x61, 0x70, 0x61, 0x63, 0x69, 0x74, 0x79,
+    0x12, 0x28, 0x0a, 0x0f, 0x62, 0x69, 0x6e, 0x61, 0x72, 0x79, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62,
+    0x6c, 0x65, 0x73, 0x18, 0x06, 0x20, 0x01, 0x28, 0x08, 0x52, 0x0f, 0x62, 0x69, 0x6e, 0x61, 0x72,
+    0x79, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0x4e, 0x0a, 0x1c, 0x43, 0x61,
+    0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61,
+    0x6e, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72,
+    0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79,
+    0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
+    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x22, 0x1f, 0x0a, 0x1d, 0x43, 0x61,
+    0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61,
+    0x6e, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x4a, 0x0a, 0x12, 0x43,
+    0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+    0x74, 0x12, 0x16, 0x0a, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28,
+    0x03, 0x52, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72,
+    0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61,
+    0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0x15, 0x0a, 0x13, 0x43, 0x6f, 0x6d, 0x70, 0x6c,
+    0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x4f,
+    0x0a, 0x13, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65,
+    0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x38, 0x0a, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x18, 0x01, 0x20,
+    0x03, 0x28, 0x0b, 0x32, 0x24, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72,
+    0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a,
+    0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x52, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x22,
+    0x54, 0x0a, 0x14, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52,
+    0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x3c, 0x0a, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c,
+    0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x22, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
+    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x4a, 0x6f, 0x62, 0x43,
+    0x6f, 0x6d, 0x6d, 0x61, 0x6e, 0x64, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x07, 0x72, 0x65,
+    0x73, 0x75, 0x6c, 0x74, 0x73, 0x22, 0x58, 0x0a, 0x10, 0x4a, 0x6f, 0x62, 0x43, 0x6f, 0x6d, 0x6d,
+    0x61, 0x6e, 0x64, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x6a, 0x6f, 0x62,
+    0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65,
+    0x79, 0x12, 0x12, 0x0a, 0x04, 0x63, 0x6f, 0x64, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52,
+    0x04, 0x63, 0x6f, 0x64, 0x65, 0x12, 0x18, 0x0a, 0x07, 0x6d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65,
+    0x18, 0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x07, 0x6d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x22,
+    0x99, 0x02, 0x0a, 0x1c, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
+    0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
     0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e,
-    0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x06, 0x20, 0x01, 0x28, 0x03, 0x52, 0x14,
+    0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x14,
     0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f,
-    0x6e, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49,
-    0x64, 0x18, 0x07, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74,
-    0x49, 0x64, 0x12, 0x2e, 0x0a, 0x12, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e, 0x73,
-    0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x08, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12,
-    0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b,
-    0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x63, 0x75, 0x73, 0x74, 0x6f, 0x6d, 0x48, 0x65, 0x61, 0x64,
-    0x65, 0x72, 0x73, 0x18, 0x09, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x63, 0x75, 0x73, 0x74, 0x6f,
-    0x6d, 0x48, 0x65, 0x61, 0x64, 0x65, 0x72, 0x73, 0x12, 0x16, 0x0a, 0x06, 0x77, 0x6f, 0x72, 0x6b,
-    0x65, 0x72, 0x18, 0x0a, 0x20, 0x01, 0x28, 0x09, 0x52, 0x06, 0x77, 0x6f, 0x72, 0x6b, 0x65, 0x72,
-    0x12, 0x18, 0x0a, 0x07, 0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x18, 0x0b, 0x20, 0x01, 0x28,
-    0x05, 0x52, 0x07, 0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x12, 0x1a, 0x0a, 0x08, 0x64, 0x65,
-    0x61, 0x64, 0x6c, 0x69, 0x6e, 0x65, 0x18, 0x0c, 0x20, 0x01, 0x28, 0x03, 0x52, 0x08, 0x64, 0x65,
-    0x61, 0x64, 0x6c, 0x69, 0x6e, 0x65, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62,
-    0x6c, 0x65, 0x73, 0x18, 0x0d, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61,
-    0x62, 0x6c, 0x65, 0x73, 0x22, 0x4e, 0x0a, 0x1c, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72,
-    0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x71,
-    0x75, 0x65, 0x73, 0x74, 0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
-    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03,
-    0x52, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63,
-    0x65, 0x4b, 0x65, 0x79, 0x22, 0x1f, 0x0a, 0x1d, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72,
-    0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x73,
-    0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x4a, 0x0a, 0x12, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74,
-    0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x6a,
-    0x6f, 0x62, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x06, 0x6a, 0x6f, 0x62,
-    0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73,
-    0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65,
-    0x73, 0x22, 0x15, 0x0a, 0x13, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62,
-    0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x99, 0x02, 0x0a, 0x1c, 0x43, 0x72, 0x65,
-    0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e,
-    0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f,
-    0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65,
-    0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73,
-    0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a,
-    0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x02,
-    0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
-    0x73, 0x49, 0x64, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03,
-    0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x1c, 0x0a,
-    0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x04, 0x20, 0x01, 0x28, 0x09,
-    0x52, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x67, 0x0a, 0x11, 0x73,
-    0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x72, 0x75, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x73,
-    0x18, 0x05, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x39, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79,
-    0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
-    0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x43, 0x72, 0x65, 0x61, 0x74, 0x69, 0x6f,
-    0x6e, 0x53, 0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x72, 0x75, 0x63, 0x74, 0x69, 0x6f,
-    0x6e, 0x52, 0x11, 0x73, 0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x72, 0x75, 0x63, 0x74,
-    0x69, 0x6f, 0x6e, 0x73, 0x22, 0x47, 0x0a, 0x27, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
-    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x43, 0x72, 0x65, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x53,
-    0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x72, 0x75, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x12,
-    0x1c, 0x0a, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01,
-    0x28, 0x09, 0x52, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x64, 0x22, 0xc3, 0x01,
-    0x0a, 0x1d, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
-    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12,
-    0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69,
-    0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x14, 0x70,
-    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e,
-    0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x49, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d, 0x6e,
-    0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72,
-    0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73,
-    0x69, 0x6f, 0x6e, 0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e,
-    0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x04, 0x20, 0x01, 0x28, 0x03, 0x52,
-    0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65,
-    0x4b, 0x65, 0x79, 0x22, 0xc2, 0x01, 0x0a, 0x26, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72,
-    0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x57, 0x69, 0x74,
-    0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x48,
-    0x0a, 0x07, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x0b, 0x32,
-    0x2e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63,
-    0x6f, 0x6c, 0x2e, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73,
-    0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x52,
-    0x07, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x26, 0x0a, 0x0e, 0x72, 0x65, 0x71, 0x75,
-    0x65, 0x73, 0x74, 0x54, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x03,
-    0x52, 0x0e, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x54, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74,
-    0x12, 0x26, 0x0a, 0x0e, 0x66, 0x65, 0x74, 0x63, 0x68, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c,
-    0x65, 0x73, 0x18, 0x03, 0x20, 0x03, 0x28, 0x09, 0x52, 0x0e, 0x66, 0x65, 0x74, 0x63, 0x68, 0x56,
-    0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0xeb, 0x01, 0x0a, 0x27, 0x43, 0x72, 0x65,
-    0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e,
-    0x63, 0x65, 0x57, 0x69, 0x74, 0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65, 0x73, 0x70,
-    0x6f, 0x6e, 0x73, 0x65, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44,
-    0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01,
+    0x6e, 0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63,
+    0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d,
+    0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65,
+    0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72,
+    0x73, 0x69, 0x6f, 0x6e, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65,
+    0x73, 0x18, 0x04, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c,
+    0x65, 0x73, 0x12, 0x67, 0x0a, 0x11, 0x73, 0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x72,
+    0x75, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x73, 0x18, 0x05, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x39, 0x2e,
+    0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c,
+    0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65,
+    0x43, 0x72, 0x65, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x53, 0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73,
+    0x74, 0x72, 0x75, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x11, 0x73, 0x74, 0x61, 0x72, 0x74, 0x49,
+    0x6e, 0x73, 0x74, 0x72, 0x75, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x73, 0x22, 0x47, 0x0a, 0x27, 0x50,
+    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x43, 0x72,
+    0x65, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x53, 0x74, 0x61, 0x72, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x72,
+    0x75, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x12, 0x1c, 0x0a, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e,
+    0x74, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x65, 0x6c, 0x65, 0x6d, 0x65,
+    0x6e, 0x74, 0x49, 0x64, 0x22, 0xc3, 0x01, 0x0a, 0x1d, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50,
+    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65,
+    0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73,
+    0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x01,
+    0x20, 0x01, 0x28, 0x03, 0x52, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66,
+    0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70,
+    0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28,
+    0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64,
+    0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01, 0x28,
+    0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72,
+    0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79,
+    0x18, 0x04, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
+    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x22, 0xec, 0x01, 0x0a, 0x26, 0x43,
+    0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74,
+    0x61, 0x6e, 0x63, 0x65, 0x57, 0x69, 0x74, 0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65,
+    0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x48, 0x0a, 0x07, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+    0x18, 0x01, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x2e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79,
+    0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65,
+    0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52,
+    0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x52, 0x07, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12,
+    0x26, 0x0a, 0x0e, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x54, 0x69, 0x6d, 0x65, 0x6f, 0x75,
+    0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x03, 0x52, 0x0e, 0x72, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+    0x54, 0x69, 0x6d, 0x65, 0x6f, 0x75, 0x74, 0x12, 0x26, 0x0a, 0x0e, 0x66, 0x65, 0x74, 0x63, 0x68,
+    0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x03, 0x20, 0x03, 0x28, 0x09, 0x52,
+    0x0e, 0x66, 0x65, 0x74, 0x63, 0x68, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12,
+    0x28, 0x0a, 0x0f, 0x62, 0x69, 0x6e, 0x61, 0x72, 0x79, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c,
+    0x65, 0x73, 0x18, 0x04, 0x20, 0x01, 0x28, 0x08, 0x52, 0x0f, 0x62, 0x69, 0x6e, 0x61, 0x72, 0x79,
+    0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0x97, 0x02, 0x0a, 0x27, 0x43, 0x72,
+    0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61,
+    0x6e, 0x63, 0x65, 0x57, 0x69, 0x74, 0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65, 0x73,
+    0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73,
+    0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20,
+    0x01, 0x28, 0x03, 0x52, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69,
+    0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d,
+    0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09,
+    0x52, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12,
+    0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05,
+    0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72, 0x6f,
+    0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18,
+    0x04, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e,
+    0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72,
+    0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61,
+    0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x2a, 0x0a, 0x10, 0x76, 0x61, 0x72, 0x69, 0x61,
+    0x62, 0x6c, 0x65, 0x73, 0x4d, 0x73, 0x67, 0x50, 0x61, 0x63, 0x6b, 0x18, 0x06, 0x20, 0x01, 0x28,
+    0x0c, 0x52, 0x10, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x4d, 0x73, 0x67, 0x50,
+    0x61, 0x63, 0x6b, 0x22, 0x60, 0x0a, 0x14, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x50, 0x72, 0x6f,
+    0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x44, 0x0a, 0x09, 0x70,
+    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x65, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x26,
+    0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f,
+    0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+    0x4f, 0x62, 0x6a, 0x65, 0x63, 0x74, 0x52, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x65,
+    0x73, 0x3a, 0x02, 0x18, 0x01, 0x22, 0x4e, 0x0a, 0x14, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73,
+    0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x4f, 0x62, 0x6a, 0x65, 0x63, 0x74, 0x12, 0x12, 0x0a,
+    0x04, 0x6e, 0x61, 0x6d, 0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x6e, 0x61, 0x6d,
+    0x65, 0x12, 0x1e, 0x0a, 0x0a, 0x64, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x18,
+    0x02, 0x20, 0x01, 0x28, 0x0c, 0x52, 0x0a, 0x64, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f,
+    0x6e, 0x3a, 0x02, 0x18, 0x01, 0x22, 0x6e, 0x0a, 0x15, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x50,
+    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x10,
+    0x0a, 0x03, 0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79,
+    0x12, 0x3f, 0x0a, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x65, 0x73, 0x18, 0x02, 0x20,
+    0x03, 0x28, 0x0b, 0x32, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72,
+    0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x4d, 0x65,
+    0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x52, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x65,
+    0x73, 0x3a, 0x02, 0x18, 0x01, 0x22, 0x51, 0x0a, 0x15, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52,
+    0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x38,
+    0x0a, 0x09, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28,
+    0x0b, 0x32, 0x1a, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
+    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x52, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x52, 0x09, 0x72,
+    0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x73, 0x22, 0x38, 0x0a, 0x08, 0x52, 0x65, 0x73, 0x6f,
+    0x75, 0x72, 0x63, 0x65, 0x12, 0x12, 0x0a, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x18, 0x01, 0x20, 0x01,
+    0x28, 0x09, 0x52, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x12, 0x18, 0x0a, 0x07, 0x63, 0x6f, 0x6e, 0x74,
+    0x65, 0x6e, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0c, 0x52, 0x07, 0x63, 0x6f, 0x6e, 0x74, 0x65,
+    0x6e, 0x74, 0x22, 0x6a, 0x0a, 0x16, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f,
+    0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x10, 0x0a, 0x03,
+    0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79, 0x12, 0x3e,
+    0x0a, 0x0b, 0x64, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x18, 0x02, 0x20,
+    0x03, 0x28, 0x0b, 0x32, 0x1c, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72,
+    0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e,
+    0x74, 0x52, 0x0b, 0x64, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x22, 0xff,
+    0x01, 0x0a, 0x0a, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e, 0x74, 0x12, 0x3d, 0x0a,
+    0x07, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x18, 0x01, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x21,
+    0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f,
+    0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74,
+    0x61, 0x48, 0x00, 0x52, 0x07, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x12, 0x40, 0x0a, 0x08,
+    0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x22,
+    0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f,
+    0x6c, 0x2e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61,
+    0x74, 0x61, 0x48, 0x00, 0x52, 0x08, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x64,
+    0x0a, 0x14, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72,
+    0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x2e, 0x2e, 0x67,
+    0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e,
+    0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d,
+    0x65, 0x6e, 0x74, 0x73, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x48, 0x00, 0x52, 0x14,
+    0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d,
+    0x65, 0x6e, 0x74, 0x73, 0x42, 0x0a, 0x0a, 0x08, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61,
+    0x22, 0xa9, 0x01, 0x0a, 0x0f, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x4d, 0x65, 0x74, 0x61,
+    0x64, 0x61, 0x74, 0x61, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63,
+    0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x62, 0x70, 0x6d,
+    0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65,
+    0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72,
+    0x73, 0x69, 0x6f, 0x6e, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44,
+    0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x03, 0x20, 0x01,
     0x28, 0x03, 0x52, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e,
-    0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e,
-    0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52,
-    0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12, 0x18,
-    0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52,
-    0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x2e, 0x0a, 0x12, 0x70, 0x72, 0x6f, 0x63,
-    0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x04,
-    0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73,
-    0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69,
-    0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72,
-    0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0x60, 0x0a, 0x14, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79,
-    0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x44,
-    0x0a, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x65, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28,
-    0x0b, 0x32, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x71, 0x75,
-    0x65, 0x73, 0x74, 0x4f, 0x62, 0x6a, 0x65, 0x63, 0x74, 0x52, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x65, 0x73, 0x3a, 0x02, 0x18, 0x01, 0x22, 0x4e, 0x0a, 0x14, 0x50, 0x72, 0x6f, 0x63,
-    0x65, 0x73, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x4f, 0x62, 0x6a, 0x65, 0x63, 0x74,
-    0x12, 0x12, 0x0a, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04,
-    0x6e, 0x61, 0x6d, 0x65, 0x12, 0x1e, 0x0a, 0x0a, 0x64, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69,
-    0x6f, 0x6e, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0c, 0x52, 0x0a, 0x64, 0x65, 0x66, 0x69, 0x6e, 0x69,
-    0x74, 0x69, 0x6f, 0x6e, 0x3a, 0x02, 0x18, 0x01, 0x22, 0x6e, 0x0a, 0x15, 0x44, 0x65, 0x70, 0x6c,
-    0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
-    0x65, 0x12, 0x10, 0x0a, 0x03, 0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03,
-    0x6b, 0x65, 0x79, 0x12, 0x3f, 0x0a, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x65, 0x73,
-    0x18, 0x02, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79,
-    0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
-    0x73, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x52, 0x09, 0x70, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x65, 0x73, 0x3a, 0x02, 0x18, 0x01, 0x22, 0x51, 0x0a, 0x15, 0x44, 0x65, 0x70, 0x6c,
-    0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
-    0x74, 0x12, 0x38, 0x0a, 0x09, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x73, 0x18, 0x01,
-    0x20, 0x03, 0x28, 0x0b, 0x32, 0x1a, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
-    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x52, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65,
-    0x52, 0x09, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x73, 0x22, 0x38, 0x0a, 0x08, 0x52,
-    0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x12, 0x12, 0x0a, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x18,
-    0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x12, 0x18, 0x0a, 0x07, 0x63,
-    0x6f, 0x6e, 0x74, 0x65, 0x6e, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0c, 0x52, 0x07, 0x63, 0x6f,
-    0x6e, 0x74, 0x65, 0x6e, 0x74, 0x22, 0x6a, 0x0a, 0x16, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52,
-    0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12,
-    0x10, 0x0a, 0x03, 0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65,
-    0x79, 0x12, 0x3e, 0x0a, 0x0b, 0x64, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e, 0x74, 0x73,
-    0x18, 0x02, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x1c, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79,
-    0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79,
-    0x6d, 0x65, 0x6e, 0x74, 0x52, 0x0b, 0x64, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e, 0x74,
-    0x73, 0x22, 0xff, 0x01, 0x0a, 0x0a, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x6d, 0x65, 0x6e, 0x74,
-    0x12, 0x3d, 0x0a, 0x07, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x18, 0x01, 0x20, 0x01, 0x28,
-    0x0b, 0x32, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x4d, 0x65, 0x74, 0x61,
-    0x64, 0x61, 0x74, 0x61, 0x48, 0x00, 0x52, 0x07, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x12,
-    0x40, 0x0a, 0x08, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x02, 0x20, 0x01, 0x28,
-    0x0b, 0x32, 0x22, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4d, 0x65, 0x74,
-    0x61, 0x64, 0x61, 0x74, 0x61, 0x48, 0x00, 0x52, 0x08, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f,
-    0x6e, 0x12, 0x64, 0x0a, 0x14, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71,
-    0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32,
-    0x2e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63,
-    0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69,
-    0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x48,
-    0x00, 0x52, 0x14, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69,
-    0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x42, 0x0a, 0x0a, 0x08, 0x4d, 0x65, 0x74, 0x61, 0x64,
-    0x61, 0x74, 0x61, 0x22, 0xa9, 0x01, 0x0a, 0x0f, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x4d,
-    0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x12, 0x24, 0x0a, 0x0d, 0x62, 0x70, 0x6d, 0x6e, 0x50,
-    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d,
-    0x62, 0x70, 0x6d, 0x6e, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x64, 0x12, 0x18, 0x0a,
-    0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07,
-    0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x32, 0x0a, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x44, 0x65, 0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18,
-    0x03, 0x20, 0x01, 0x28, 0x03, 0x52, 0x14, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x44, 0x65,
-    0x66, 0x69, 0x6e, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x22, 0x0a, 0x0c, 0x72,
-    0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x04, 0x20, 0x01, 0x28,
-    0x09, 0x52, 0x0c, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x22,
-    0x96, 0x02, 0x0a, 0x10, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4d, 0x65, 0x74, 0x61,
-    0x64, 0x61, 0x74, 0x61, 0x12, 0x24, 0x0a, 0x0d, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73,
-    0x69, 0x6f, 0x6e, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x64, 0x6d, 0x6e,
-    0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x49, 0x64, 0x12, 0x28, 0x0a, 0x0f, 0x64, 0x6d,
-    0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x02, 0x20,
-    0x01, 0x28, 0x09, 0x52, 0x0f, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e,
-    0x4e, 0x61, 0x6d, 0x65, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18,
-    0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x20,
-    0x0a, 0x0b, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x04, 0x20,
-    0x01, 0x28, 0x03, 0x52, 0x0b, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79,
-    0x12, 0x3c, 0x0a, 0x19, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52,
-    0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x49, 0x64, 0x18, 0x05, 0x20,
-    0x01, 0x28, 0x09, 0x52, 0x19, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e,
-    0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x49, 0x64, 0x12, 0x38,
-    0x0a, 0x17, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72,
-    0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x18, 0x06, 0x20, 0x01, 0x28, 0x03, 0x52,
-    0x17, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65,
-    0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x22, 0x96, 0x02, 0x0a, 0x1c, 0x44, 0x65, 0x63,
+    0x69, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x22, 0x0a, 0x0c, 0x72, 0x65, 0x73, 0x6f,
+    0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x04, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c,
+    0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x22, 0x96, 0x02, 0x0a,
+    0x10, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74,
+    0x61, 0x12, 0x24, 0x0a, 0x0d, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e,
+    0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0d, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63,
+    0x69, 0x73, 0x69, 0x6f, 0x6e, 0x49, 0x64, 0x12, 0x28, 0x0a, 0x0f, 0x64, 0x6d, 0x6e, 0x44, 0x65,
+    0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09,
+    0x52, 0x0f, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4e, 0x61, 0x6d,
+    0x65, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01,
+    0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x12, 0x20, 0x0a, 0x0b, 0x64,
+    0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x04, 0x20, 0x01, 0x28, 0x03,
+    0x52, 0x0b, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x3c, 0x0a,
+    0x19, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75,
+    0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x49, 0x64, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09,
+    0x52, 0x19, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71,
+    0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x49, 0x64, 0x12, 0x38, 0x0a, 0x17, 0x64,
+    0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65,
+    0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x18, 0x06, 0x20, 0x01, 0x28, 0x03, 0x52, 0x17, 0x64, 0x65,
+    0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e,
+    0x74, 0x73, 0x4b, 0x65, 0x79, 0x22, 0x96, 0x02, 0x0a, 0x1c, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69,
+    0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4d, 0x65,
+    0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x12, 0x3c, 0x0a, 0x19, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63,
     0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74,
-    0x73, 0x4d, 0x65, 0x74, 0x61, 0x64, 0x61, 0x74, 0x61, 0x12, 0x3c, 0x0a, 0x19, 0x64, 0x6d, 0x6e,
-    0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d,
-    0x65, 0x6e, 0x74, 0x73, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x19, 0x64, 0x6d,
-    0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65,
-    0x6d, 0x65, 0x6e, 0x74, 0x73, 0x49, 0x64, 0x12, 0x40, 0x0a, 0x1b, 0x64, 0x6d, 0x6e, 0x44, 0x65,
+    0x73, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x19, 0x64, 0x6d, 0x6e, 0x44, 0x65,
+    0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e,
+    0x74, 0x73, 0x49, 0x64, 0x12, 0x40, 0x0a, 0x1b, 0x64, 0x6d, 0x6e, 0x44, 0x65, 0x63, 0x69, 0x73,
+    0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4e,
+    0x61, 0x6d, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x1b, 0x64, 0x6d, 0x6e, 0x44, 0x65,
     0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e,
-    0x74, 0x73, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x1b, 0x64, 0x6d,
-    0x6e, 0x44, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69, 0x72, 0x65,
-    0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4e, 0x61, 0x6d, 0x65, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72,
-    0x73, 0x69, 0x6f, 0x6e, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73,
-    0x69, 0x6f, 0x6e, 0x12, 0x38, 0x0a, 0x17, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52,
-    0x65, 0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x18, 0x04,
-    0x20, 0x01, 0x28, 0x03, 0x52, 0x17, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65,
-    0x71, 0x75, 0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x12, 0x22, 0x0a,
-    0x0c, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x05, 0x20,
-    0x01, 0x28, 0x09, 0x52, 0x0c, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d,
-    0x65, 0x22, 0x8a, 0x01, 0x0a, 0x0e, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71,
+    0x74, 0x73, 0x4e, 0x61, 0x6d, 0x65, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f,
+    0x6e, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e,
+    0x12, 0x38, 0x0a, 0x17, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75,
+    0x69, 0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x18, 0x04, 0x20, 0x01, 0x28,
+    0x03, 0x52, 0x17, 0x64, 0x65, 0x63, 0x69, 0x73, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x69,
+    0x72, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x73, 0x4b, 0x65, 0x79, 0x12, 0x22, 0x0a, 0x0c, 0x72, 0x65,
+    0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09,
+    0x52, 0x0c, 0x72, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x4e, 0x61, 0x6d, 0x65, 0x22, 0x8a,
+    0x01, 0x0a, 0x0e, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+    0x74, 0x12, 0x16, 0x0a, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28,
+    0x03, 0x52, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x12, 0x18, 0x0a, 0x07, 0x72, 0x65, 0x74,
+    0x72, 0x69, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x72, 0x65, 0x74, 0x72,
+    0x69, 0x65, 0x73, 0x12, 0x22, 0x0a, 0x0c, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x4d, 0x65, 0x73, 0x73,
+    0x61, 0x67, 0x65, 0x18, 0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c, 0x65, 0x72, 0x72, 0x6f, 0x72,
+    0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x12, 0x22, 0x0a, 0x0c, 0x72, 0x65, 0x74, 0x72, 0x79,
+    0x42, 0x61, 0x63, 0x6b, 0x4f, 0x66, 0x66, 0x18, 0x04, 0x20, 0x01, 0x28, 0x03, 0x52, 0x0c, 0x72,
+    0x65, 0x74, 0x72, 0x79, 0x42, 0x61, 0x63, 0x6b, 0x4f, 0x66, 0x66, 0x22, 0x11, 0x0a, 0x0f, 0x46,
+    0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x47,
+    0x0a, 0x0f, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+    0x74, 0x12, 0x34, 0x0a, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32,
+    0x20, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63,
+    0x6f, 0x6c, 0x2e, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+    0x74, 0x52, 0x04, 0x6a, 0x6f, 0x62, 0x73, 0x22, 0x50, 0x0a, 0x10, 0x46, 0x61, 0x69, 0x6c, 0x4a,
+    0x6f, 0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x3c, 0x0a, 0x07, 0x72,
+    0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x22, 0x2e, 0x67,
+    0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e,
+    0x4a, 0x6f, 0x62, 0x43, 0x6f, 0x6d, 0x6d, 0x61, 0x6e, 0x64, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74,
+    0x52, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x22, 0x6d, 0x0a, 0x11, 0x54, 0x68, 0x72,
+    0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x16,
+    0x0a, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x06,
+    0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x43,
+    0x6f, 0x64, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x65, 0x72, 0x72, 0x6f, 0x72,
+    0x43, 0x6f, 0x64, 0x65, 0x12, 0x22, 0x0a, 0x0c, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x4d, 0x65, 0x73,
+    0x73, 0x61, 0x67, 0x65, 0x18, 0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c, 0x65, 0x72, 0x72, 0x6f,
+    0x72, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x22, 0x14, 0x0a, 0x12, 0x54, 0x68, 0x72, 0x6f,
+    0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0xaf,
+    0x01, 0x0a, 0x15, 0x50, 0x75, 0x62, 0x6c, 0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67,
+    0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x12, 0x0a, 0x04, 0x6e, 0x61, 0x6d, 0x65,
+    0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x12, 0x26, 0x0a, 0x0e,
+    0x63, 0x6f, 0x72, 0x72, 0x65, 0x6c, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x02,
+    0x20, 0x01, 0x28, 0x09, 0x52, 0x0e, 0x63, 0x6f, 0x72, 0x72, 0x65, 0x6c, 0x61, 0x74, 0x69, 0x6f,
+    0x6e, 0x4b, 0x65, 0x79, 0x12, 0x1e, 0x0a, 0x0a, 0x74, 0x69, 0x6d, 0x65, 0x54, 0x6f, 0x4c, 0x69,
+    0x76, 0x65, 0x18, 0x03, 0x20, 0x01, 0x28, 0x03, 0x52, 0x0a, 0x74, 0x69, 0x6d, 0x65, 0x54, 0x6f,
+    0x4c, 0x69, 0x76, 0x65, 0x12, 0x1c, 0x0a, 0x09, 0x6d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x49,
+    0x64, 0x18, 0x04, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x6d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65,
+    0x49, 0x64, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18,
+    0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73,
+    0x22, 0x2a, 0x0a, 0x16, 0x50, 0x75, 0x62, 0x6c, 0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61,
+    0x67, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x10, 0x0a, 0x03, 0x6b, 0x65,
+    0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79, 0x22, 0x3a, 0x0a, 0x16,
+    0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x52,
+    0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x20, 0x0a, 0x0b, 0x69, 0x6e, 0x63, 0x69, 0x64, 0x65,
+    0x6e, 0x74, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x0b, 0x69, 0x6e, 0x63,
+    0x69, 0x64, 0x65, 0x6e, 0x74, 0x4b, 0x65, 0x79, 0x22, 0x19, 0x0a, 0x17, 0x52, 0x65, 0x73, 0x6f,
+    0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x52, 0x65, 0x73, 0x70, 0x6f,
+    0x6e, 0x73, 0x65, 0x22, 0x11, 0x0a, 0x0f, 0x54, 0x6f, 0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x52,
+    0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x22, 0xec, 0x01, 0x0a, 0x10, 0x54, 0x6f, 0x70, 0x6f, 0x6c,
+    0x6f, 0x67, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x36, 0x0a, 0x07, 0x62,
+    0x72, 0x6f, 0x6b, 0x65, 0x72, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x1c, 0x2e, 0x67,
+    0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e,
+    0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x49, 0x6e, 0x66, 0x6f, 0x52, 0x07, 0x62, 0x72, 0x6f, 0x6b,
+    0x65, 0x72, 0x73, 0x12, 0x20, 0x0a, 0x0b, 0x63, 0x6c, 0x75, 0x73, 0x74, 0x65, 0x72, 0x53, 0x69,
+    0x7a, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x0b, 0x63, 0x6c, 0x75, 0x73, 0x74, 0x65,
+    0x72, 0x53, 0x69, 0x7a, 0x65, 0x12, 0x28, 0x0a, 0x0f, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69,
+    0x6f, 0x6e, 0x73, 0x43, 0x6f, 0x75, 0x6e, 0x74, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x0f,
+    0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x73, 0x43, 0x6f, 0x75, 0x6e, 0x74, 0x12,
+    0x2c, 0x0a, 0x11, 0x72, 0x65, 0x70, 0x6c, 0x69, 0x63, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x46, 0x61,
+    0x63, 0x74, 0x6f, 0x72, 0x18, 0x04, 0x20, 0x01, 0x28, 0x05, 0x52, 0x11, 0x72, 0x65, 0x70, 0x6c,
+    0x69, 0x63, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x46, 0x61, 0x63, 0x74, 0x6f, 0x72, 0x12, 0x26, 0x0a,
+    0x0e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x56, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18,
+    0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x56, 0x65,
+    0x72, 0x73, 0x69, 0x6f, 0x6e, 0x22, 0xa3, 0x01, 0x0a, 0x0a, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72,
+    0x49, 0x6e, 0x66, 0x6f, 0x12, 0x16, 0x0a, 0x06, 0x6e, 0x6f, 0x64, 0x65, 0x49, 0x64, 0x18, 0x01,
+    0x20, 0x01, 0x28, 0x05, 0x52, 0x06, 0x6e, 0x6f, 0x64, 0x65, 0x49, 0x64, 0x12, 0x12, 0x0a, 0x04,
+    0x68, 0x6f, 0x73, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04, 0x68, 0x6f, 0x73, 0x74,
+    0x12, 0x12, 0x0a, 0x04, 0x70, 0x6f, 0x72, 0x74, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x04,
+    0x70, 0x6f, 0x72, 0x74, 0x12, 0x3b, 0x0a, 0x0a, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f,
+    0x6e, 0x73, 0x18, 0x04, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x1b, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
+    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x61, 0x72, 0x74,
+    0x69, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x0a, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e,
+    0x73, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x05, 0x20, 0x01,
+    0x28, 0x09, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x22, 0xbb, 0x02, 0x0a, 0x09,
+    0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x12, 0x20, 0x0a, 0x0b, 0x70, 0x61, 0x72,
+    0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x05, 0x52, 0x0b,
+    0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x49, 0x64, 0x12, 0x43, 0x0a, 0x04, 0x72,
+    0x6f, 0x6c, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0e, 0x32, 0x2f, 0x2e, 0x67, 0x61, 0x74, 0x65,
+    0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x61, 0x72,
+    0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e,
+    0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x52, 0x6f, 0x6c, 0x65, 0x52, 0x04, 0x72, 0x6f, 0x6c, 0x65,
+    0x12, 0x49, 0x0a, 0x06, 0x68, 0x65, 0x61, 0x6c, 0x74, 0x68, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0e,
+    0x32, 0x31, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f,
+    0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x50, 0x61,
+    0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x48, 0x65, 0x61,
+    0x6c, 0x74, 0x68, 0x52, 0x06, 0x68, 0x65, 0x61, 0x6c, 0x74, 0x68, 0x22, 0x3d, 0x0a, 0x13, 0x50,
+    0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x52, 0x6f,
+    0x6c, 0x65, 0x12, 0x0a, 0x0a, 0x06, 0x4c, 0x45, 0x41, 0x44, 0x45, 0x52, 0x10, 0x00, 0x12, 0x0c,
+    0x0a, 0x08, 0x46, 0x4f, 0x4c, 0x4c, 0x4f, 0x57, 0x45, 0x52, 0x10, 0x01, 0x12, 0x0c, 0x0a, 0x08,
+    0x49, 0x4e, 0x41, 0x43, 0x54, 0x49, 0x56, 0x45, 0x10, 0x02, 0x22, 0x3d, 0x0a, 0x15, 0x50, 0x61,
+    0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x48, 0x65, 0x61,
+    0x6c, 0x74, 0x68, 0x12, 0x0b, 0x0a, 0x07, 0x48, 0x45, 0x41, 0x4c, 0x54, 0x48, 0x59, 0x10, 0x00,
+    0x12, 0x0d, 0x0a, 0x09, 0x55, 0x4e, 0x48, 0x45, 0x41, 0x4c, 0x54, 0x48, 0x59, 0x10, 0x01, 0x12,
+    0x08, 0x0a, 0x04, 0x44, 0x45, 0x41, 0x44, 0x10, 0x02, 0x22, 0x4b, 0x0a, 0x17, 0x55, 0x70, 0x64,
+    0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x52, 0x65, 0x71,
     0x75, 0x65, 0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x18, 0x01,
     0x20, 0x01, 0x28, 0x03, 0x52, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x12, 0x18, 0x0a, 0x07,
     0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x72,
-    0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x12, 0x22, 0x0a, 0x0c, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x4d,
-    0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x18, 0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c, 0x65, 0x72,
-    0x72, 0x6f, 0x72, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x12, 0x22, 0x0a, 0x0c, 0x72, 0x65,
-    0x74, 0x72, 0x79, 0x42, 0x61, 0x63, 0x6b, 0x4f, 0x66, 0x66, 0x18, 0x04, 0x20, 0x01, 0x28, 0x03,
-    0x52, 0x0c, 0x72, 0x65, 0x74, 0x72, 0x79, 0x42, 0x61, 0x63, 0x6b, 0x4f, 0x66, 0x66, 0x22, 0x11,
-    0x0a, 0x0f, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
-    0x65, 0x22, 0x6d, 0x0a, 0x11, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52,
-    0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79,
-    0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x06, 0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x12, 0x1c,
-    0x0a, 0x09, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x43, 0x6f, 0x64, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28,
-    0x09, 0x52, 0x09, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x43, 0x6f, 0x64, 0x65, 0x12, 0x22, 0x0a, 0x0c,
-    0x65, 0x72, 0x72, 0x6f, 0x72, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x18, 0x03, 0x20, 0x01,
-    0x28, 0x09, 0x52, 0x0c, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65,
-    0x22, 0x14, 0x0a, 0x12, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52, 0x65,
-    0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0xaf, 0x01, 0x0a, 0x15, 0x50, 0x75, 0x62, 0x6c, 0x69,
-    0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
-    0x12, 0x12, 0x0a, 0x04, 0x6e, 0x61, 0x6d, 0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x04,
-    0x6e, 0x61, 0x6d, 0x65, 0x12, 0x26, 0x0a, 0x0e, 0x63, 0x6f, 0x72, 0x72, 0x65, 0x6c, 0x61, 0x74,
-    0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0e, 0x63, 0x6f,
-    0x72, 0x72, 0x65, 0x6c, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x4b, 0x65, 0x79, 0x12, 0x1e, 0x0a, 0x0a,
-    0x74, 0x69, 0x6d, 0x65, 0x54, 0x6f, 0x4c, 0x69, 0x76, 0x65, 0x18, 0x03, 0x20, 0x01, 0x28, 0x03,
-    0x52, 0x0a, 0x74, 0x69, 0x6d, 0x65, 0x54, 0x6f, 0x4c, 0x69, 0x76, 0x65, 0x12, 0x1c, 0x0a, 0x09,
-    0x6d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x49, 0x64, 0x18, 0x04, 0x20, 0x01, 0x28, 0x09, 0x52,
-    0x09, 0x6d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x49, 0x64, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61,
-    0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76,
-    0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x22, 0x2a, 0x0a, 0x16, 0x50, 0x75, 0x62, 0x6c,
-    0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e,
-    0x73, 0x65, 0x12, 0x10, 0x0a, 0x03, 0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52,
-    0x03, 0x6b, 0x65, 0x79, 0x22, 0x3a, 0x0a, 0x16, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49,
-    0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x20,
-    0x0a, 0x0b, 0x69, 0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20,
-    0x01, 0x28, 0x03, 0x52, 0x0b, 0x69, 0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x4b, 0x65, 0x79,
-    0x22, 0x19, 0x0a, 0x17, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69, 0x64,
-    0x65, 0x6e, 0x74, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x11, 0x0a, 0x0f, 0x54,
-    0x6f, 0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x22, 0xec,
-    0x01, 0x0a, 0x10, 0x54, 0x6f, 0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f,
-    0x6e, 0x73, 0x65, 0x12, 0x36, 0x0a, 0x07, 0x62, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x73, 0x18, 0x01,
-    0x20, 0x03, 0x28, 0x0b, 0x32, 0x1c, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
-    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x49, 0x6e,
-    0x66, 0x6f, 0x52, 0x07, 0x62, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x73, 0x12, 0x20, 0x0a, 0x0b, 0x63,
-    0x6c, 0x75, 0x73, 0x74, 0x65, 0x72, 0x53, 0x69, 0x7a, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05,
-    0x52, 0x0b, 0x63, 0x6c, 0x75, 0x73, 0x74, 0x65, 0x72, 0x53, 0x69, 0x7a, 0x65, 0x12, 0x28, 0x0a,
-    0x0f, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x73, 0x43, 0x6f, 0x75, 0x6e, 0x74,
-    0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x0f, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f,
-    0x6e, 0x73, 0x43, 0x6f, 0x75, 0x6e, 0x74, 0x12, 0x2c, 0x0a, 0x11, 0x72, 0x65, 0x70, 0x6c, 0x69,
-    0x63, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x46, 0x61, 0x63, 0x74, 0x6f, 0x72, 0x18, 0x04, 0x20, 0x01,
-    0x28, 0x05, 0x52, 0x11, 0x72, 0x65, 0x70, 0x6c, 0x69, 0x63, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x46,
-    0x61, 0x63, 0x74, 0x6f, 0x72, 0x12, 0x26, 0x0a, 0x0e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79,
-    0x56, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0e, 0x67,
-    0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x56, 0x65, 0x72, 0x73, 0x69, 0x6f, 0x6e, 0x22, 0xa3, 0x01,
-    0x0a, 0x0a, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x49, 0x6e, 0x66, 0x6f, 0x12, 0x16, 0x0a, 0x06,
-    0x6e, 0x6f, 0x64, 0x65, 0x49, 0x64, 0x18, 0x01, 0x20, 0x01, 0x28, 0x05, 0x52, 0x06, 0x6e, 0x6f,
-    0x64, 0x65, 0x49, 0x64, 0x12, 0x12, 0x0a, 0x04, 0x68, 0x6f, 0x73, 0x74, 0x18, 0x02, 0x20, 0x01,
-    0x28, 0x09, 0x52, 0x04, 0x68, 0x6f, 0x73, 0x74, 0x12, 0x12, 0x0a, 0x04, 0x70, 0x6f, 0x72, 0x74,
-    0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52, 0x04, 0x70, 0x6f, 0x72, 0x74, 0x12, 0x3b, 0x0a, 0x0a,
-    0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x73, 0x18, 0x04, 0x20, 0x03, 0x28, 0x0b,
-    0x32, 0x1b, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f,
-    0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x0a, 0x70,
-    0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x73, 0x12, 0x18, 0x0a, 0x07, 0x76, 0x65, 0x72,
-    0x73, 0x69, 0x6f, 0x6e, 0x18, 0x05, 0x20, 0x01, 0x28, 0x09, 0x52, 0x07, 0x76, 0x65, 0x72, 0x73,
-    0x69, 0x6f, 0x6e, 0x22, 0xbb, 0x02, 0x0a, 0x09, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f,
-    0x6e, 0x12, 0x20, 0x0a, 0x0b, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x49, 0x64,
-    0x18, 0x01, 0x20, 0x01, 0x28, 0x05, 0x52, 0x0b, 0x70, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f,
-    0x6e, 0x49, 0x64, 0x12, 0x43, 0x0a, 0x04, 0x72, 0x6f, 0x6c, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28,
-    0x0e, 0x32, 0x2f, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x50,
-    0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x52, 0x6f,
-    0x6c, 0x65, 0x52, 0x04, 0x72, 0x6f, 0x6c, 0x65, 0x12, 0x49, 0x0a, 0x06, 0x68, 0x65, 0x61, 0x6c,
-    0x74, 0x68, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0e, 0x32, 0x31, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
-    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x61, 0x72, 0x74,
-    0x69, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x42,
-    0x72, 0x6f, 0x6b, 0x65, 0x72, 0x48, 0x65, 0x61, 0x6c, 0x74, 0x68, 0x52, 0x06, 0x68, 0x65, 0x61,
-    0x6c, 0x74, 0x68, 0x22, 0x3d, 0x0a, 0x13, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e,
-    0x42, 0x72, 0x6f, 0x6b, 0x65, 0x72, 0x52, 0x6f, 0x6c, 0x65, 0x12, 0x0a, 0x0a, 0x06, 0x4c, 0x45,
-    0x41, 0x44, 0x45, 0x52, 0x10, 0x00, 0x12, 0x0c, 0x0a, 0x08, 0x46, 0x4f, 0x4c, 0x4c, 0x4f, 0x57,
-    0x45, 0x52, 0x10, 0x01, 0x12, 0x0c, 0x0a, 0x08, 0x49, 0x4e, 0x41, 0x43, 0x54, 0x49, 0x56, 0x45,
-    0x10, 0x02, 0x22, 0x3d, 0x0a, 0x15, 0x50, 0x61, 0x72, 0x74, 0x69, 0x74, 0x69, 0x6f, 0x6e, 0x42,
-    0x72, 0x6f, 0x6b, 0x65, 0x72, 0x48, 0x65, 0x61, 0x6c, 0x74, 0x68, 0x12, 0x0b, 0x0a, 0x07, 0x48,
-    0x45, 0x41, 0x4c, 0x54, 0x48, 0x59, 0x10, 0x00, 0x12, 0x0d, 0x0a, 0x09, 0x55, 0x4e, 0x48, 0x45,
-    0x41, 0x4c, 0x54, 0x48, 0x59, 0x10, 0x01, 0x12, 0x08, 0x0a, 0x04, 0x44, 0x45, 0x41, 0x44, 0x10,
-    0x02, 0x22, 0x4b, 0x0a, 0x17, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65,
-    0x74, 0x72, 0x69, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x16, 0x0a, 0x06,
-    0x6a, 0x6f, 0x62, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x06, 0x6a, 0x6f,
-    0x62, 0x4b, 0x65, 0x79, 0x12, 0x18, 0x0a, 0x07, 0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x18,
-    0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x07, 0x72, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x22, 0x1a,
-    0x0a, 0x18, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x74, 0x72, 0x69,
-    0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x79, 0x0a, 0x13, 0x53, 0x65,
-    0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
-    0x74, 0x12, 0x2e, 0x0a, 0x12, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e, 0x73, 0x74,
-    0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x65,
-    0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65,
-    0x79, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x02,
-    0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12,
-    0x14, 0x0a, 0x05, 0x6c, 0x6f, 0x63, 0x61, 0x6c, 0x18, 0x03, 0x20, 0x01, 0x28, 0x08, 0x52, 0x05,
-    0x6c, 0x6f, 0x63, 0x61, 0x6c, 0x22, 0x28, 0x0a, 0x14, 0x53, 0x65, 0x74, 0x56, 0x61, 0x72, 0x69,
-    0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x10, 0x0a,
-    0x03, 0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79, 0x32,
-    0xcc, 0x0b, 0x0a, 0x07, 0x47, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x12, 0x61, 0x0a, 0x0c, 0x41,
-    0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x12, 0x25, 0x2e, 0x67, 0x61,
-    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41,
-    0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65,
-    0x73, 0x74, 0x1a, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
-    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f,
-    0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x30, 0x01, 0x12, 0x7a,
-    0x0a, 0x15, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49,
-    0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x12, 0x2e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61,
-    0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x61, 0x6e, 0x63, 0x65,
-    0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65,
-    0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2f, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61,
-    0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x61, 0x6e, 0x63, 0x65,
+    0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x22, 0x1a, 0x0a, 0x18, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65,
+    0x4a, 0x6f, 0x62, 0x52, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e,
+    0x73, 0x65, 0x22, 0x79, 0x0a, 0x13, 0x53, 0x65, 0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c,
+    0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x2e, 0x0a, 0x12, 0x65, 0x6c, 0x65,
+    0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x18,
+    0x01, 0x20, 0x01, 0x28, 0x03, 0x52, 0x12, 0x65, 0x6c, 0x65, 0x6d, 0x65, 0x6e, 0x74, 0x49, 0x6e,
+    0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x4b, 0x65, 0x79, 0x12, 0x1c, 0x0a, 0x09, 0x76, 0x61, 0x72,
+    0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x09, 0x76, 0x61,
+    0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x14, 0x0a, 0x05, 0x6c, 0x6f, 0x63, 0x61, 0x6c,
+    0x18, 0x03, 0x20, 0x01, 0x28, 0x08, 0x52, 0x05, 0x6c, 0x6f, 0x63, 0x61, 0x6c, 0x22, 0x28, 0x0a,
+    0x14, 0x53, 0x65, 0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x73,
+    0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x10, 0x0a, 0x03, 0x6b, 0x65, 0x79, 0x18, 0x01, 0x20, 0x01,
+    0x28, 0x03, 0x52, 0x03, 0x6b, 0x65, 0x79, 0x32, 0xe3, 0x0d, 0x0a, 0x07, 0x47, 0x61, 0x74, 0x65,
+    0x77, 0x61, 0x79, 0x12, 0x61, 0x0a, 0x0c, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a,
+    0x6f, 0x62, 0x73, 0x12, 0x25, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72,
+    0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41, 0x63, 0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a,
+    0x6f, 0x62, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x26, 0x2e, 0x67, 0x61, 0x74,
+    0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41, 0x63,
+    0x74, 0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e,
+    0x73, 0x65, 0x22, 0x00, 0x30, 0x01, 0x12, 0x5f, 0x0a, 0x0a, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d,
+    0x4a, 0x6f, 0x62, 0x73, 0x12, 0x23, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
+    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d, 0x4a, 0x6f,
+    0x62, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65,
+    0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x41, 0x63, 0x74,
+    0x69, 0x76, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
+    0x65, 0x22, 0x00, 0x28, 0x01, 0x30, 0x01, 0x12, 0x7a, 0x0a, 0x15, 0x43, 0x61, 0x6e, 0x63, 0x65,
     0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65,
-    0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x5c, 0x0a, 0x0b, 0x43, 0x6f,
-    0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x12, 0x24, 0x2e, 0x67, 0x61, 0x74, 0x65,
-    0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d,
-    0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a,
-    0x25, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63,
-    0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65,
-    0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x7a, 0x0a, 0x15, 0x43, 0x72, 0x65, 0x61,
-    0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63,
-    0x65, 0x12, 0x2e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
-    0x74, 0x1a, 0x2f, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65,
-    0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e,
-    0x73, 0x65, 0x22, 0x00, 0x12, 0x98, 0x01, 0x0a, 0x1f, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50,
-    0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x57, 0x69,
-    0x74, 0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x12, 0x38, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
-    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x72, 0x65, 0x61,
-    0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63,
-    0x65, 0x57, 0x69, 0x74, 0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65, 0x71, 0x75, 0x65,
-    0x73, 0x74, 0x1a, 0x39, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
+    0x12, 0x2e, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f,
+    0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
+    0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+    0x1a, 0x2f, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f,
+    0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x61, 0x6e, 0x63, 0x65, 0x6c, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
+    0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
+    0x65, 0x22, 0x00, 0x12, 0x5c, 0x0a, 0x0b, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a,
+    0x6f, 0x62, 0x12, 0x24, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
+    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f,
+    0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x25, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
+    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d, 0x70,
+    0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22,
+    0x00, 0x12, 0x5f, 0x0a, 0x0c, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62,
+    0x73, 0x12, 0x25, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
+    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d, 0x70, 0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62,
+    0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
+    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x6f, 0x6d, 0x70,
+    0x6c, 0x65, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65,
+    0x22, 0x00, 0x12, 0x7a, 0x0a, 0x15, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63,
+    0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x12, 0x2e, 0x2e, 0x67, 0x61,
+    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43,
+    0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74,
+    0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2f, 0x2e, 0x67, 0x61,
+    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43,
+    0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74,
+    0x61, 0x6e, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x98,
+    0x01, 0x0a, 0x1f, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73,
+    0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x57, 0x69, 0x74, 0x68, 0x52, 0x65, 0x73, 0x75,
+    0x6c, 0x74, 0x12, 0x38, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
     0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63,
     0x65, 0x73, 0x73, 0x49, 0x6e, 0x73, 0x74, 0x61, 0x6e, 0x63, 0x65, 0x57, 0x69, 0x74, 0x68, 0x52,
-    0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12,
-    0x65, 0x0a, 0x0d, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73,
-    0x12, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f,
-    0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73,
-    0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x27, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
-    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c,
-    0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
-    0x65, 0x22, 0x03, 0x88, 0x02, 0x01, 0x12, 0x65, 0x0a, 0x0e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79,
-    0x52, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x12, 0x27, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
-    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c,
-    0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
-    0x74, 0x1a, 0x28, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
-    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f, 0x75,
-    0x72, 0x63, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x50, 0x0a,
-    0x07, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x12, 0x20, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
+    0x65, 0x73, 0x75, 0x6c, 0x74, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x39, 0x2e, 0x67,
+    0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e,
+    0x43, 0x72, 0x65, 0x61, 0x74, 0x65, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x49, 0x6e, 0x73,
+    0x74, 0x61, 0x6e, 0x63, 0x65, 0x57, 0x69, 0x74, 0x68, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x52,
+    0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x65, 0x0a, 0x0d, 0x44, 0x65, 0x70,
+    0x6c, 0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x12, 0x26, 0x2e, 0x67, 0x61, 0x74,
+    0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65,
+    0x70, 0x6c, 0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65,
+    0x73, 0x74, 0x1a, 0x27, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
+    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x50, 0x72, 0x6f, 0x63,
+    0x65, 0x73, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x03, 0x88, 0x02, 0x01,
+    0x12, 0x65, 0x0a, 0x0e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f, 0x75, 0x72,
+    0x63, 0x65, 0x12, 0x27, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
+    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44, 0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f,
+    0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x28, 0x2e, 0x67, 0x61,
+    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x44,
+    0x65, 0x70, 0x6c, 0x6f, 0x79, 0x52, 0x65, 0x73, 0x6f, 0x75, 0x72, 0x63, 0x65, 0x52, 0x65, 0x73,
+    0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x50, 0x0a, 0x07, 0x46, 0x61, 0x69, 0x6c, 0x4a,
+    0x6f, 0x62, 0x12, 0x20, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
+    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71,
+    0x75, 0x65, 0x73, 0x74, 0x1a, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
+    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52,
+    0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x53, 0x0a, 0x08, 0x46, 0x61, 0x69,
+    0x6c, 0x4a, 0x6f, 0x62, 0x73, 0x12, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f,
+    0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x46, 0x61, 0x69, 0x6c, 0x4a, 0x6f, 0x62,
+    0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x22, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
     0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x46, 0x61, 0x69, 0x6c,
-    0x4a, 0x6f, 0x62, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x21, 0x2e, 0x67, 0x61, 0x74,
-    0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x46, 0x61,
-    0x69, 0x6c, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12,
-    0x59, 0x0a, 0x0a, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x12, 0x23, 0x2e,
-    0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c,
-    0x2e, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52, 0x65, 0x71, 0x75, 0x65,
-    0x73, 0x74, 0x1a, 0x24, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
-    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72,
-    0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x65, 0x0a, 0x0e, 0x50, 0x75,
-    0x62, 0x6c, 0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x12, 0x27, 0x2e, 0x67,
+    0x4a, 0x6f, 0x62, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x59,
+    0x0a, 0x0a, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x12, 0x23, 0x2e, 0x67,
     0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e,
-    0x50, 0x75, 0x62, 0x6c, 0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x52, 0x65,
-    0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x28, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f,
-    0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x75, 0x62, 0x6c, 0x69, 0x73, 0x68,
-    0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22,
-    0x00, 0x12, 0x68, 0x0a, 0x0f, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69,
-    0x64, 0x65, 0x6e, 0x74, 0x12, 0x28, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
-    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49,
-    0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x29,
-    0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f,
-    0x6c, 0x2e, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e,
-    0x74, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x5f, 0x0a, 0x0c, 0x53,
-    0x65, 0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x25, 0x2e, 0x67, 0x61,
-    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x53,
-    0x65, 0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65,
-    0x73, 0x74, 0x1a, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f,
-    0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x53, 0x65, 0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c,
-    0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x53, 0x0a, 0x08,
-    0x54, 0x6f, 0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x12, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77,
-    0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x54, 0x6f, 0x70, 0x6f,
-    0x6c, 0x6f, 0x67, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x22, 0x2e, 0x67, 0x61,
-    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x54,
-    0x6f, 0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22,
-    0x00, 0x12, 0x6b, 0x0a, 0x10, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65,
-    0x74, 0x72, 0x69, 0x65, 0x73, 0x12, 0x29, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f,
-    0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a,
-    0x6f, 0x62, 0x52, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
-    0x1a, 0x2a, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f,
-    0x63, 0x6f, 0x6c, 0x2e, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x74,
-    0x72, 0x69, 0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x42, 0x2c,
-    0x0a, 0x21, 0x69, 0x6f, 0x2e, 0x63, 0x61, 0x6d, 0x75, 0x6e, 0x64, 0x61, 0x2e, 0x7a, 0x65, 0x65,
-    0x62, 0x65, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f,
-    0x63, 0x6f, 0x6c, 0x50, 0x00, 0x5a, 0x05, 0x2e, 0x2f, 0x3b, 0x70, 0x62, 0x62, 0x06, 0x70, 0x72,
-    0x6f, 0x74, 0x6f, 0x33,
+    0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+    0x74, 0x1a, 0x24, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
+    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x54, 0x68, 0x72, 0x6f, 0x77, 0x45, 0x72, 0x72, 0x6f, 0x72, 0x52,
+    0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x65, 0x0a, 0x0e, 0x50, 0x75, 0x62,
+    0x6c, 0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x12, 0x27, 0x2e, 0x67, 0x61,
+    0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50,
+    0x75, 0x62, 0x6c, 0x69, 0x73, 0x68, 0x4d, 0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x52, 0x65, 0x71,
+    0x75, 0x65, 0x73, 0x74, 0x1a, 0x28, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
+    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x50, 0x75, 0x62, 0x6c, 0x69, 0x73, 0x68, 0x4d,
+    0x65, 0x73, 0x73, 0x61, 0x67, 0x65, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00,
+    0x12, 0x68, 0x0a, 0x0f, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69, 0x64,
+    0x65, 0x6e, 0x74, 0x12, 0x28, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72,
+    0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e,
+    0x63, 0x69, 0x64, 0x65, 0x6e, 0x74, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x29, 0x2e,
+    0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c,
+    0x2e, 0x52, 0x65, 0x73, 0x6f, 0x6c, 0x76, 0x65, 0x49, 0x6e, 0x63, 0x69, 0x64, 0x65, 0x6e, 0x74,
+    0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x5f, 0x0a, 0x0c, 0x53, 0x65,
+    0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x25, 0x2e, 0x67, 0x61, 0x74,
+    0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x53, 0x65,
+    0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73,
+    0x74, 0x1a, 0x26, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74,
+    0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x53, 0x65, 0x74, 0x56, 0x61, 0x72, 0x69, 0x61, 0x62, 0x6c, 0x65,
+    0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x12, 0x53, 0x0a, 0x08, 0x54,
+    0x6f, 0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x12, 0x21, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61,
+    0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x54, 0x6f, 0x70, 0x6f, 0x6c,
+    0x6f, 0x67, 0x79, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x22, 0x2e, 0x67, 0x61, 0x74,
+    0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x54, 0x6f,
+    0x70, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00,
+    0x12, 0x6b, 0x0a, 0x10, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x74,
+    0x72, 0x69, 0x65, 0x73, 0x12, 0x29, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70,
+    0x72, 0x6f, 0x74, 0x6f, 0x63, 0x6f, 0x6c, 0x2e, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f,
+    0x62, 0x52, 0x65, 0x74, 0x72, 0x69, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a,
+    0x2a, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x5f, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63,
+    0x6f, 0x6c, 0x2e, 0x55, 0x70, 0x64, 0x61, 0x74, 0x65, 0x4a, 0x6f, 0x62, 0x52, 0x65, 0x74, 0x72,
+    0x69, 0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x22, 0x00, 0x42, 0x2c, 0x0a,
+    0x21, 0x69, 0x6f, 0x2e, 0x63, 0x61, 0x6d, 0x75, 0x6e, 0x64, 0x61, 0x2e, 0x7a, 0x65, 0x65, 0x62,
+    0x65, 0x2e, 0x67, 0x61, 0x74, 0x65, 0x77, 0x61, 0x79, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x63,
+    0x6f, 0x6c, 0x50, 0x00, 0x5a, 0x05, 0x2e, 0x2f, 0x3b, 0x70, 0x62, 0x62, 0x06, 0x70, 0x72, 0x6f,
+    0x74, 0x6f, 0x33,
 }
 
 var (
@@ -3035,97 +3513,113 @@ func file_gateway_proto_rawDescGZIP() []byte {
 }
 
 var file_gateway_proto_enumTypes = make([]protoimpl.EnumInfo, 2)
-var file_gateway_proto_msgTypes = make([]protoimpl.MessageInfo, 38)
+var file_gateway_proto_msgTypes = make([]protoimpl.MessageInfo, 44)
 var file_gateway_proto_goTypes = []interface{}{
     (Partition_PartitionBrokerRole)(0),              // 0: gateway_protocol.Partition.PartitionBrokerRole
     (Partition_PartitionBrokerHealth)(0),            // 1: gateway_protocol.Partition.PartitionBrokerHealth
     (*ActivateJobsRequest)(nil),                     // 2: gateway_protocol.ActivateJobsRequest
     (*ActivateJobsResponse)(nil),                    // 3: gateway_protocol.ActivateJobsResponse
     (*ActivatedJob)(nil),                            // 4: gateway_protocol.ActivatedJob
-    (*CancelProcessInstanceRequest)(nil),            // 5: gateway_protocol.CancelProcessInstanceRequest
-    (*CancelProcessInstanceResponse)(nil),           // 6: gateway_protocol.CancelProcessInstanceResponse
-    (*CompleteJobRequest)(nil),                      // 7: gateway_protocol.CompleteJobRequest
-    (*CompleteJobResponse)(nil),                     // 8: gateway_protocol.CompleteJobResponse
-    (*CreateProcessInstanceRequest)(nil),            // 9: gateway_protocol.CreateProcessInstanceRequest
-    (*ProcessInstanceCreationStartInstruction)(nil), // 10: gateway_protocol.ProcessInstanceCreationStartInstruction
-    (*CreateProcessInstanceResponse)(nil),           // 11: gateway_protocol.CreateProcessInstanceResponse
-    (*CreateProcessInstanceWithResultRequest)(nil),  // 12: gateway_protocol.CreateProcessInstanceWithResultRequest
-    (*CreateProcessInstanceWithResultResponse)(nil), // 13: gateway_protocol.CreateProcessInstanceWithResultResponse
-    (*DeployProcessRequest)(nil),                    // 14: gateway_protocol.DeployProcessRequest
-    (*ProcessRequestObject)(nil),                    // 15: gateway_protocol.ProcessRequestObject
-    (*DeployProcessResponse)(nil),                   // 16: gateway_protocol.DeployProcessResponse
-    (*DeployResourceRequest)(nil),                   // 17: gateway_protocol.DeployResourceRequest
-    (*Resource)(nil),                                // 18: gateway_protocol.Resource
-    (*DeployResourceResponse)(nil),                  // 19: gateway_protocol.DeployResourceResponse
-    (*Deployment)(nil),                              // 20: gateway_protocol.Deployment
-    (*ProcessMetadata)(nil),                         // 21: gateway_protocol.ProcessMetadata
-    (*DecisionMetadata)(nil),                        // 22: gateway_protocol.DecisionMetadata
-    (*DecisionRequirementsMetadata)(nil),            // 23: gateway_protocol.DecisionRequirementsMetadata
-    (*FailJobRequest)(nil),                          // 24: gateway_protocol.FailJobRequest
-    (*FailJobResponse)(nil),                         // 25: gateway_protocol.FailJobResponse
-    (*ThrowErrorRequest)(nil),                       // 26: gateway_protocol.ThrowErrorRequest
-    (*ThrowErrorResponse)(nil),                      // 27: gateway_protocol.ThrowErrorResponse
-    (*PublishMessageRequest)(nil),                   // 28: gateway_protocol.PublishMessageRequest
-    (*PublishMessageResponse)(nil),                  // 29: gateway_protocol.PublishMessageResponse
-    (*ResolveIncidentRequest)(nil),                  // 30: gateway_protocol.ResolveIncidentRequest
-    (*ResolveIncidentResponse)(nil),                 // 31: gateway_protocol.ResolveIncidentResponse
-    (*TopologyRequest)(nil),                         // 32: gateway_protocol.TopologyRequest
-    (*TopologyResponse)(nil),                        // 33: gateway_protocol.TopologyResponse
-    (*BrokerInfo)(nil),                              // 34: gateway_protocol.BrokerInfo
-    (*Partition)(nil),                               // 35: gateway_protocol.Partition
-    (*UpdateJobRetriesRequest)(nil),                 // 36: gateway_protocol.UpdateJobRetriesRequest
-    (*UpdateJobRetriesResponse)(nil),                // 37: gateway_protocol.UpdateJobRetriesResponse
-    (*SetVariablesRequest)(nil),                     // 38: gateway_protocol.SetVariablesRequest
-    (*SetVariablesResponse)(nil),                    // 39: gateway_protocol.SetVariablesResponse
+    (*StreamJobsRequest)(nil),                       // 5: gateway_protocol.StreamJobsRequest
+    (*CancelProcessInstanceRequest)(nil),            // 6: gateway_protocol.CancelProcessInstanceRequest
+    (*CancelProcessInstanceResponse)(nil),           // 7: gateway_protocol.CancelProcessInstanceResponse
+    (*CompleteJobRequest)(nil),                      // 8: gateway_protocol.CompleteJobRequest
+    (*CompleteJobResponse)(nil),                     // 9: gateway_protocol.CompleteJobResponse
+    (*CompleteJobsRequest)(nil),                     // 10: gateway_protocol.CompleteJobsRequest
+    (*CompleteJobsResponse)(nil),                    // 11: gateway_protocol.CompleteJobsResponse
+    (*JobCommandResult)(nil),                        // 12: gateway_protocol.JobCommandResult
+    (*CreateProcessInstanceRequest)(nil),            // 13: gateway_protocol.CreateProcessInstanceRequest
+    (*ProcessInstanceCreationStartInstruction)(nil), // 14: gateway_protocol.ProcessInstanceCreationStartInstruction
+    (*CreateProcessInstanceResponse)(nil),           // 15: gateway_protocol.CreateProcessInstanceResponse
+    (*CreateProcessInstanceWithResultRequest)(nil),  // 16: gateway_protocol.CreateProcessInstanceWithResultRequest
+    (*CreateProcessInstanceWithResultResponse)(nil), // 17: gateway_protocol.CreateProcessInstanceWithResultResponse
+    (*DeployProcessRequest)(nil),                    // 18: gateway_protocol.DeployProcessRequest
+    (*ProcessRequestObject)(nil),                    // 19: gateway_protocol.ProcessRequestObject
+    (*DeployProcessResponse)(nil),                   // 20: gateway_protocol.DeployProcessResponse
+    (*DeployResourceRequest)(nil),                   // 21: gateway_protocol.DeployResourceRequest
+    (*Resource)(nil),                                // 22: gateway_protocol.Resource
+    (*DeployResourceResponse)(nil),                  // 23: gateway_protocol.DeployResourceResponse
+    (*Deployment)(nil),                              // 24: gateway_protocol.Deployment
+    (*ProcessMetadata)(nil),                         // 25: gateway_protocol.ProcessMetadata
+    (*DecisionMetadata)(nil),                        // 26: gateway_protocol.DecisionMetadata
+    (*DecisionRequirementsMetadata)(nil),            // 27: gateway_protocol.DecisionRequirementsMetadata
+    (*FailJobRequest)(nil),                          // 28: gateway_protocol.FailJobRequest
+    (*FailJobResponse)(nil),                         // 29: gateway_protocol.FailJobResponse
+    (*FailJobsRequest)(nil),                         // 30: gateway_protocol.FailJobsRequest
+    (*FailJobsResponse)(nil),                        // 31: gateway_protocol.FailJobsResponse
+    (*ThrowErrorRequest)(nil),                       // 32: gateway_protocol.ThrowErrorRequest
+    (*ThrowErrorResponse)(nil),                      // 33: gateway_protocol.ThrowErrorResponse
+    (*PublishMessageRequest)(nil),                   // 34: gateway_protocol.PublishMessageRequest
+    (*PublishMessageResponse)(nil),                  // 35: gateway_protocol.PublishMessageResponse
+    (*ResolveIncidentRequest)(nil),                  // 36: gateway_protocol.ResolveIncidentRequest
+    (*ResolveIncidentResponse)(nil),                 // 37: gateway_protocol.ResolveIncidentResponse
+    (*TopologyRequest)(nil),                         // 38: gateway_protocol.TopologyRequest
+    (*TopologyResponse)(nil),                        // 39: gateway_protocol.TopologyResponse
+    (*BrokerInfo)(nil),                              // 40: gateway_protocol.BrokerInfo
+    (*Partition)(nil),                               // 41: gateway_protocol.Partition
+    (*UpdateJobRetriesRequest)(nil),                 // 42: gateway_protocol.UpdateJobRetriesRequest
+    (*UpdateJobRetriesResponse)(nil),                // 43: gateway_protocol.UpdateJobRetriesResponse
+    (*SetVariablesRequest)(nil),                     // 44: gateway_protocol.SetVariablesRequest
+    (*SetVariablesResponse)(nil),                    // 45: gateway_protocol.SetVariablesResponse
 }
 var file_gateway_proto_depIdxs = []int32{
     4,  // 0: gateway_protocol.ActivateJobsResponse.jobs:type_name -> gateway_protocol.ActivatedJob
-    10, // 1: gateway_protocol.CreateProcessInstanceRequest.startInstructions:type_name -> gateway_protocol.ProcessInstanceCreationStartInstruction
-    9,  // 2: gateway_protocol.CreateProcessInstanceWithResultRequest.request:type_name -> gateway_protocol.CreateProcessInstanceRequest
-    15, // 3: gateway_protocol.DeployProcessRequest.processes:type_name -> gateway_protocol.ProcessRequestObject
-    21, // 4: gateway_protocol.DeployProcessResponse.processes:type_name -> gateway_protocol.ProcessMetadata
-    18, // 5: gateway_protocol.DeployResourceRequest.resources:type_name -> gateway_protocol.Resource
-    20, // 6: gateway_protocol.DeployResourceResponse.deployments:type_name -> gateway_protocol.Deployment
-    21, // 7: gateway_protocol.Deployment.process:type_name -> gateway_protocol.ProcessMetadata
-    22, // 8: gateway_protocol.Deployment.decision:type_name -> gateway_protocol.DecisionMetadata
-    23, // 9: gateway_protocol.Deployment.decisionRequirements:type_name -> gateway_protocol.DecisionRequirementsMetadata
-    34, // 10: gateway_protocol.TopologyResponse.brokers:type_name -> gateway_protocol.BrokerInfo
-    35, // 11: gateway_protocol.BrokerInfo.partitions:type_name -> gateway_protocol.Partition
-    0,  // 12: gateway_protocol.Partition.role:type_name -> gateway_protocol.Partition.PartitionBrokerRole
-    1,  // 13: gateway_protocol.Partition.health:type_name -> gateway_protocol.Partition.PartitionBrokerHealth
-    2,  // 14: gateway_protocol.Gateway.ActivateJobs:input_type -> gateway_protocol.ActivateJobsRequest
-    5,  // 15: gateway_protocol.Gateway.CancelProcessInstance:input_type -> gateway_protocol.CancelProcessInstanceRequest
-    7,  // 16: gateway_protocol.Gateway.CompleteJob:input_type -> gateway_protocol.CompleteJobRequest
-    9,  // 17: gateway_protocol.Gateway.CreateProcessInstance:input_type -> gateway_protocol.CreateProcessInstanceRequest
-    12, // 18: gateway_protocol.Gateway.CreateProcessInstanceWithResult:input_type -> gateway_protocol.CreateProcessInstanceWithResultRequest
-    14, // 19: gateway_protocol.Gateway.DeployProcess:input_type -> gateway_protocol.DeployProcessRequest
-    17, // 20: gateway_protocol.Gateway.DeployResource:input_type -> gateway_protocol.DeployResourceRequest
-    24, // 21: gateway_protocol.Gateway.FailJob:input_type -> gateway_protocol.FailJobRequest
-    26, // 22: gateway_protocol.Gateway.ThrowError:input_type -> gateway_protocol.ThrowErrorRequest
-    28, // 23: gateway_protocol.Gateway.PublishMessage:input_type -> gateway_protocol.PublishMessageRequest
-    30, // 24: gateway_protocol.Gateway.ResolveIncident:input_type -> gateway_protocol.ResolveIncidentRequest
-    38, // 25: gateway_protocol.Gateway.SetVariables:input_type -> gateway_protocol.SetVariablesRequest
-    32, // 26: gateway_protocol.Gateway.Topology:input_type -> gateway_protocol.TopologyRequest
-    36, // 27: gateway_protocol.Gateway.UpdateJobRetries:input_type -> gateway_protocol.UpdateJobRetriesRequest
-    3,  // 28: gateway_protocol.Gateway.ActivateJobs:output_type -> gateway_protocol.ActivateJobsResponse
-    6,  // 29: gateway_protocol.Gateway.CancelProcessInstance:output_type -> gateway_protocol.CancelProcessInstanceResponse
-    8,  // 30: gateway_protocol.Gateway.CompleteJob:output_type -> gateway_protocol.CompleteJobResponse
-    11, // 31: gateway_protocol.Gateway.CreateProcessInstance:output_type -> gateway_protocol.CreateProcessInstanceResponse
-    13, // 32: gateway_protocol.Gateway.CreateProcessInstanceWithResult:output_type -> gateway_protocol.CreateProcessInstanceWithResultResponse
-    16, // 33: gateway_protocol.Gateway.DeployProcess:output_type -> gateway_protocol.DeployProcessResponse
-    19, // 34: gateway_protocol.Gateway.DeployResource:output_type -> gateway_protocol.DeployResourceResponse
-    25, // 35: gateway_protocol.Gateway.FailJob:output_type -> gateway_protocol.FailJobResponse
-    27, // 36: gateway_protocol.Gateway.ThrowError:output_type -> gateway_protocol.ThrowErrorResponse
-    29, // 37: gateway_protocol.Gateway.PublishMessage:output_type -> gateway_protocol.PublishMessageResponse
-    31, // 38: gateway_protocol.Gateway.ResolveIncident:output_type -> gateway_protocol.ResolveIncidentResponse
-    39, // 39: gateway_protocol.Gateway.SetVariables:output_type -> gateway_protocol.SetVariablesResponse
-    33, // 40: gateway_protocol.Gateway.Topology:output_type -> gateway_protocol.TopologyResponse
-    37, // 41: gateway_protocol.Gateway.UpdateJobRetries:output_type -> gateway_protocol.UpdateJobRetriesResponse
-    28, // [28:42] is the sub-list for method output_type
-    14, // [14:28] is the sub-list for method input_type
-    14, // [14:14] is the sub-list for extension type_name
-    14, // [14:14] is the sub-list for extension extendee
-    0,  // [0:14] is the sub-list for field type_name
+    8,  // 1: gateway_protocol.CompleteJobsRequest.jobs:type_name -> gateway_protocol.CompleteJobRequest
+    12, // 2: gateway_protocol.CompleteJobsResponse.results:type_name -> gateway_protocol.JobCommandResult
+    14, // 3: gateway_protocol.CreateProcessInstanceRequest.startInstructions:type_name -> gateway_protocol.ProcessInstanceCreationStartInstruction
+    13, // 4: gateway_protocol.CreateProcessInstanceWithResultRequest.request:type_name -> gateway_protocol.CreateProcessInstanceRequest
+    19, // 5: gateway_protocol.DeployProcessRequest.processes:type_name -> gateway_protocol.ProcessRequestObject
+    25, // 6: gateway_protocol.DeployProcessResponse.processes:type_name -> gateway_protocol.ProcessMetadata
+    22, // 7: gateway_protocol.DeployResourceRequest.resources:type_name -> gateway_protocol.Resource
+    24, // 8: gateway_protocol.DeployResourceResponse.deployments:type_name -> gateway_protocol.Deployment
+    25, // 9: gateway_protocol.Deployment.process:type_name -> gateway_protocol.ProcessMetadata
+    26, // 10: gateway_protocol.Deployment.decision:type_name -> gateway_protocol.DecisionMetadata
+    27, // 11: gateway_protocol.Deployment.decisionRequirements:type_name -> gateway_protocol.DecisionRequirementsMetadata
+    28, // 12: gateway_protocol.FailJobsRequest.jobs:type_name -> gateway_protocol.FailJobRequest
+    12, // 13: gateway_protocol.FailJobsResponse.results:type_name -> gateway_protocol.JobCommandResult
+    40, // 14: gateway_protocol.TopologyResponse.brokers:type_name -> gateway_protocol.BrokerInfo
+    41, // 15: gateway_protocol.BrokerInfo.partitions:type_name -> gateway_protocol.Partition
+    0,  // 16: gateway_protocol.Partition.role:type_name -> gateway_protocol.Partition.PartitionBrokerRole
+    1,  // 17: gateway_protocol.Partition.health:type_name -> gateway_protocol.Partition.PartitionBrokerHealth
+    2,  // 18: gateway_protocol.Gateway.ActivateJobs:input_type -> gateway_protocol.ActivateJobsRequest
+    5,  // 19: gateway_protocol.Gateway.StreamJobs:input_type -> gateway_protocol.StreamJobsRequest
+    6,  // 20: gateway_protocol.Gateway.CancelProcessInstance:input_type -> gateway_protocol.CancelProcessInstanceRequest
+    8,  // 21: gateway_protocol.Gateway.CompleteJob:input_type -> gateway_protocol.CompleteJobRequest
+    10, // 22: gateway_protocol.Gateway.CompleteJobs:input_type -> gateway_protocol.CompleteJobsRequest
+    13, // 23: gateway_protocol.Gateway.CreateProcessInstance:input_type -> gateway_protocol.CreateProcessInstanceRequest
+    16, // 24: gateway_protocol.Gateway.CreateProcessInstanceWithResult:input_type -> gateway_protocol.CreateProcessInstanceWithResultRequest
+    18, // 25: gateway_protocol.Gateway.DeployProcess:input_type -> gateway_protocol.DeployProcessRequest
+    21, // 26: gateway_protocol.Gateway.DeployResource:input_type -> gateway_protocol.DeployResourceRequest
+    28, // 27: gateway_protocol.Gateway.FailJob:input_type -> gateway_protocol.FailJobRequest
+    30, // 28: gateway_protocol.Gateway.FailJobs:input_type -> gateway_protocol.FailJobsRequest
+    32, // 29: gateway_protocol.Gateway.ThrowError:input_type -> gateway_protocol.ThrowErrorRequest
+    34, // 30: gateway_protocol.Gateway.PublishMessage:input_type -> gateway_protocol.PublishMessageRequest
+    36, // 31: gateway_protocol.Gateway.ResolveIncident:input_type -> gateway_protocol.ResolveIncidentRequest
+    44, // 32: gateway_protocol.Gateway.SetVariables:input_type -> gateway_protocol.SetVariablesRequest
+    38, // 33: gateway_protocol.Gateway.Topology:input_type -> gateway_protocol.TopologyRequest
+    42, // 34: gateway_protocol.Gateway.UpdateJobRetries:input_type -> gateway_protocol.UpdateJobRetriesRequest
+    3,  // 35: gateway_protocol.Gateway.ActivateJobs:output_type -> gateway_protocol.ActivateJobsResponse
+    3,  // 36: gateway_protocol.Gateway.StreamJobs:output_type -> gateway_protocol.ActivateJobsResponse
+    7,  // 37: gateway_protocol.Gateway.CancelProcessInstance:output_type -> gateway_protocol.CancelProcessInstanceResponse
+    9,  // 38: gateway_protocol.Gateway.CompleteJob:output_type -> gateway_protocol.CompleteJobResponse
+    11, // 39: gateway_protocol.Gateway.CompleteJobs:output_type -> gateway_protocol.CompleteJobsResponse
+    15, // 40: gateway_protocol.Gateway.CreateProcessInstance:output_type -> gateway_protocol.CreateProcessInstanceResponse
+    17, // 41: gateway_protocol.Gateway.CreateProcessInstanceWithResult:output_type -> gateway_protocol.CreateProcessInstanceWithResultResponse
+    20, // 42: gateway_protocol.Gateway.DeployProcess:output_type -> gateway_protocol.DeployProcessResponse
+    23, // 43: gateway_protocol.Gateway.DeployResource:output_type -> gateway_protocol.DeployResourceResponse
+    29, // 44: gateway_protocol.Gateway.FailJob:output_type -> gateway_protocol.FailJobResponse
+    31, // 45: gateway_protocol.Gateway.FailJobs:output_type -> gateway_protocol.FailJobsResponse
+    33, // 46: gateway_protocol.Gateway.ThrowError:output_type -> gateway_protocol.ThrowErrorResponse
+    35, // 47: gateway_protocol.Gateway.PublishMessage:output_type -> gateway_protocol.PublishMessageResponse
+    37, // 48: gateway_protocol.Gateway.ResolveIncident:output_type -> gateway_protocol.ResolveIncidentResponse
+    45, // 49: gateway_protocol.Gateway.SetVariables:output_type -> gateway_protocol.SetVariablesResponse
+    39, // 50: gateway_protocol.Gateway.Topology:output_type -> gateway_protocol.TopologyResponse
+    43, // 51: gateway_protocol.Gateway.UpdateJobRetries:output_type -> gateway_protocol.UpdateJobRetriesResponse
+    35, // [35:52] is the sub-list for method output_type
+    18, // [18:35] is the sub-list for method input_type
+    18, // [18:18] is the sub-list for extension type_name
+    18, // [18:18] is the sub-list for extension extendee
+    0,  // [0:18] is the sub-list for field type_name
 }
 
 func init() { file_gateway_proto_init() }
@@ -3171,7 +3665,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[3].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CancelProcessInstanceRequest); i {
+            switch v := v.(*StreamJobsRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3183,7 +3677,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[4].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CancelProcessInstanceResponse); i {
+            switch v := v.(*CancelProcessInstanceRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3195,7 +3689,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[5].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CompleteJobRequest); i {
+            switch v := v.(*CancelProcessInstanceResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3207,7 +3701,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[6].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CompleteJobResponse); i {
+            switch v := v.(*CompleteJobRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3219,7 +3713,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[7].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CreateProcessInstanceRequest); i {
+            switch v := v.(*CompleteJobResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3231,7 +3725,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[8].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ProcessInstanceCreationStartInstruction); i {
+            switch v := v.(*CompleteJobsRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3243,7 +3737,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[9].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CreateProcessInstanceResponse); i {
+            switch v := v.(*CompleteJobsResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3255,7 +3749,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[10].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CreateProcessInstanceWithResultRequest); i {
+            switch v := v.(*JobCommandResult); i {
             case 0:
                 return &v.state
             case 1:
@@ -3267,7 +3761,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[11].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*CreateProcessInstanceWithResultResponse); i {
+            switch v := v.(*CreateProcessInstanceRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3279,7 +3773,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[12].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*DeployProcessRequest); i {
+            switch v := v.(*ProcessInstanceCreationStartInstruction); i {
             case 0:
                 return &v.state
             case 1:
@@ -3291,7 +3785,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[13].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ProcessRequestObject); i {
+            switch v := v.(*CreateProcessInstanceResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3303,7 +3797,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[14].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*DeployProcessResponse); i {
+            switch v := v.(*CreateProcessInstanceWithResultRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3315,7 +3809,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[15].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*DeployResourceRequest); i {
+            switch v := v.(*CreateProcessInstanceWithResultResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3327,7 +3821,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[16].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*Resource); i {
+            switch v := v.(*DeployProcessRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3339,7 +3833,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[17].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*DeployResourceResponse); i {
+            switch v := v.(*ProcessRequestObject); i {
             case 0:
                 return &v.state
             case 1:
@@ -3351,7 +3845,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[18].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*Deployment); i {
+            switch v := v.(*DeployProcessResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3363,7 +3857,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[19].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ProcessMetadata); i {
+            switch v := v.(*DeployResourceRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3375,7 +3869,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[20].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*DecisionMetadata); i {
+            switch v := v.(*Resource); i {
             case 0:
                 return &v.state
             case 1:
@@ -3387,7 +3881,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[21].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*DecisionRequirementsMetadata); i {
+            switch v := v.(*DeployResourceResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3399,7 +3893,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[22].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*FailJobRequest); i {
+            switch v := v.(*Deployment); i {
             case 0:
                 return &v.state
             case 1:
@@ -3411,7 +3905,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[23].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*FailJobResponse); i {
+            switch v := v.(*ProcessMetadata); i {
             case 0:
                 return &v.state
             case 1:
@@ -3423,7 +3917,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[24].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ThrowErrorRequest); i {
+            switch v := v.(*DecisionMetadata); i {
             case 0:
                 return &v.state
             case 1:
@@ -3435,7 +3929,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[25].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ThrowErrorResponse); i {
+            switch v := v.(*DecisionRequirementsMetadata); i {
             case 0:
                 return &v.state
             case 1:
@@ -3447,7 +3941,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[26].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*PublishMessageRequest); i {
+            switch v := v.(*FailJobRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3459,7 +3953,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[27].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*PublishMessageResponse); i {
+            switch v := v.(*FailJobResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3471,7 +3965,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[28].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ResolveIncidentRequest); i {
+            switch v := v.(*FailJobsRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3483,7 +3977,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[29].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*ResolveIncidentResponse); i {
+            switch v := v.(*FailJobsResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3495,7 +3989,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[30].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*TopologyRequest); i {
+            switch v := v.(*ThrowErrorRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3507,7 +4001,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[31].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*TopologyResponse); i {
+            switch v := v.(*ThrowErrorResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3519,7 +4013,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[32].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*BrokerInfo); i {
+            switch v := v.(*PublishMessageRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3531,7 +4025,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[33].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*Partition); i {
+            switch v := v.(*PublishMessageResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3543,7 +4037,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[34].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*UpdateJobRetriesRequest); i {
+            switch v := v.(*ResolveIncidentRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3555,7 +4049,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[35].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*UpdateJobRetriesResponse); i {
+            switch v := v.(*ResolveIncidentResponse); i {
             case 0:
                 return &v.state
             case 1:
@@ -3567,7 +4061,7 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[36].Exporter = func(v interface{}, i int) interface{} {
-            switch v := v.(*SetVariablesRequest); i {
+            switch v := v.(*TopologyRequest); i {
             case 0:
                 return &v.state
             case 1:
@@ -3579,6 +4073,78 @@ func file_gateway_proto_init() {
             }
         }
         file_gateway_proto_msgTypes[37].Exporter = func(v interface{}, i int) interface{} {
+            switch v := v.(*TopologyResponse); i {
+            case 0:
+                return &v.state
+            case 1:
+                return &v.sizeCache
+            case 2:
+                return &v.unknownFields
+            default:
+                return nil
+            }
+        }
+        file_gateway_proto_msgTypes[38].Exporter = func(v interface{}, i int) interface{} {
+            switch v := v.(*BrokerInfo); i {
+            case 0:
+                return &v.state
+            case 1:
+                return &v.sizeCache
+            case 2:
+                return &v.unknownFields
+            default:
+                return nil
+            }
+        }
+        file_gateway_proto_msgTypes[39].Exporter = func(v interface{}, i int) interface{} {
+            switch v := v.(*Partition); i {
+            case 0:
+                return &v.state
+            case 1:
+                return &v.sizeCache
+            case 2:
+                return &v.unknownFields
+            default:
+                return nil
+            }
+        }
+        file_gateway_proto_msgTypes[40].Exporter = func(v interface{}, i int) interface{} {
+            switch v := v.(*UpdateJobRetriesRequest); i {
+            case 0:
+                return &v.state
+            case 1:
+                return &v.sizeCache
+            case 2:
+                return &v.unknownFields
+            default:
+                return nil
+            }
+        }
+        file_gateway_proto_msgTypes[41].Exporter = func(v interface{}, i int) interface{} {
+            switch v := v.(*UpdateJobRetriesResponse); i {
+            case 0:
+                return &v.state
+            case 1:
+                return &v.sizeCache
+            case 2:
+                return &v.unknownFields
+            default:
+                return nil
+            }
+        }
+        file_gateway_proto_msgTypes[42].Exporter = func(v interface{}, i int) interface{} {
+            switch v := v.(*SetVariablesRequest); i {
+            case 0:
+                return &v.state
+            case 1:
+                return &v.sizeCache
+            case 2:
+                return &v.unknownFields
+            default:
+                return nil
+            }
+        }
+        file_gateway_proto_msgTypes[43].Exporter = func(v interface{}, i int) interface{} {
             switch v := v.(*SetVariablesResponse); i {
             case 0:
                 return &v.state
@@ -3591,7 +4157,7 @@ func file_gateway_proto_init() {
             }
         }
     }
-    file_gateway_proto_msgTypes[18].OneofWrappers = []interface{}{
+    file_gateway_proto_msgTypes[22].OneofWrappers = []interface{}{
         (*Deployment_Process)(nil),
         (*Deployment_Decision)(nil),
         (*Deployment_DecisionRequirements)(nil),
@@ -3602,7 +4168,7 @@ func file_gateway_proto_init() {
             GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
             RawDescriptor: file_gateway_proto_rawDesc,
             NumEnums:      2,
-            NumMessages:   38,
+            NumMessages:   44,
             NumExtensions: 0,
             NumServices:   1,
         },
@@ -3641,6 +4207,20 @@ type GatewayClient interface {
     //- maxJobsToActivate is less than 1
     ActivateJobs(ctx context.Context, in *ActivateJobsRequest, opts ...grpc.CallOption) (Gateway_ActivateJobsClient, error)
     //
+    //Opens a stream over which jobs of the given type are pushed to the worker as soon as they are
+    //available, for as long as the worker has capacity left. The first request registers the worker
+    //and its initial capacity; every further request adds its capacity to the stream, e.g. after the
+    //worker has handled some of the pushed jobs. The stream is kept open until the worker completes
+    //or cancels it.
+    //
+    //Errors:
+    //INVALID_ARGUMENT:
+    //- type is blank (empty string, null)
+    //- worker is blank (empty string, null)
+    //- timeout less than 1
+    //- capacity is less than 0
+    StreamJobs(ctx context.Context, opts ...grpc.CallOption) (Gateway_StreamJobsClient, error)
+    //
     //Cancels a running process instance
     //
     //Errors:
@@ -3660,6 +4240,13 @@ type GatewayClient interface {
     //the job can be activated again and completed.
     CompleteJob(ctx context.Context, in *CompleteJobRequest, opts ...grpc.CallOption) (*CompleteJobResponse, error)
     //
+    //Completes several jobs with one call, with the same semantics as CompleteJob for each job. The
+    //gateway groups the jobs by their partition and sends one batch command per partition, with a
+    //limited number of batch commands in flight at the same time. A failure to complete one job
+    //doesn't affect the other jobs; the response contains the result of every job instead, e.g.
+    //NOT_FOUND if a job doesn't exist anymore.
+    CompleteJobs(ctx context.Context, in *CompleteJobsRequest, opts ...grpc.CallOption) (*CompleteJobsResponse, error)
+    //
     //Creates and starts an instance of the specified process. The process definition to use to
     //create the instance can be specified either using its unique key (as returned by
     //DeployProcess), or using the BPMN process ID and a version. Pass -1 as the version to use the
@@ -3721,6 +4308,12 @@ type GatewayClient interface {
     //- the job is already in a failed state, i.e. ran out of retries
     FailJob(ctx context.Context, in *FailJobRequest, opts ...grpc.CallOption) (*FailJobResponse, error)
     //
+    //Fails several jobs with one call, with the same semantics as FailJob for each job. The gateway
+    //groups the jobs by their partition and sends one batch command per partition, with a limited
+    //number of batch commands in flight at the same time. A failure to fail one job doesn't affect
+    //the other jobs; the response contains the result of every job instead.
+    FailJobs(ctx context.Context, in *FailJobsRequest, opts ...grpc.CallOption) (*FailJobsResponse, error)
+    //
     //Reports a business error (i.e. non-technical) that occurs while processing a job. The error is handled in the process by an error catch event. If there is no error catch event with the specified errorCode then an incident will be raised instead.
     //
     //Errors:
@@ -3814,6 +4407,37 @@ func (x *gatewayActivateJobsClient) Recv() (*ActivateJobsResponse, error) {
     return m, nil
 }
 
+func (c *gatewayClient) StreamJobs(ctx context.Context, opts ...grpc.CallOption) (Gateway_StreamJobsClient, error) {
+    stream, err := c.cc.NewStream(ctx, &_Gateway_serviceDesc.Streams[1], "/gateway_protocol.Gateway/StreamJobs", opts...)
+    if err != nil {
+        return nil, err
+    }
+    x := &gatewayStreamJobsClient{stream}
+    return x, nil
+}
+
+type Gateway_StreamJobsClient interface {
+    Send(*StreamJobsRequest) error
+    Recv() (*ActivateJobsResponse, error)
+    grpc.ClientStream
+}
+
+type gatewayStreamJobsClient struct {
+    grpc.ClientStream
+}
+
+func (x *gatewayStreamJobsClient) Send(m *StreamJobsRequest) error {
+    return x.ClientStream.SendMsg(m)
+}
+
+func (x *gatewayStreamJobsClient) Recv() (*ActivateJobsResponse, error) {
+    m := new(ActivateJobsResponse)
+    if err := x.ClientStream.RecvMsg(m); err != nil {
+        return nil, err
+    }
+    return m, nil
+}
+
 func (c *gatewayClient) CancelProcessInstance(ctx context.Context, in *CancelProcessInstanceRequest, opts ...grpc.CallOption) (*CancelProcessInstanceResponse, error) {
     out := new(CancelProcessInstanceResponse)
     err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CancelProcessInstance", in, out, opts...)
@@ -3832,6 +4456,15 @@ func (c *gatewayClient) CompleteJob(ctx context.Context, in *CompleteJobRequest,
     return out, nil
 }
 
+func (c *gatewayClient) CompleteJobs(ctx context.Context, in *CompleteJobsRequest, opts ...grpc.CallOption) (*CompleteJobsResponse, error) {
+    out := new(CompleteJobsResponse)
+    err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CompleteJobs", in, out, opts...)
+    if err != nil {
+        return nil, err
+    }
+    return out, nil
+}
+
 func (c *gatewayClient) CreateProcessInstance(ctx context.Context, in *CreateProcessInstanceRequest, opts ...grpc.CallOption) (*CreateProcessInstanceResponse, error) {
     out := new(CreateProcessInstanceResponse)
     err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CreateProcessInstance", in, out, opts...)
@@ -3878,6 +4511,15 @@ func (c *gatewayClient) FailJob(ctx context.Context, in *FailJobRequest, opts ..
     return out, nil
 }
 
+func (c *gatewayClient) FailJobs(ctx context.Context, in *FailJobsRequest, opts ...grpc.CallOption) (*FailJobsResponse, error) {
+    out := new(FailJobsResponse)
+    err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/FailJobs", in, out, opts...)
+    if err != nil {
+        return nil, err
+    }
+    return out, nil
+}
+
 func (c *gatewayClient) ThrowError(ctx context.Context, in *ThrowErrorRequest, opts ...grpc.CallOption) (*ThrowErrorResponse, error) {
     out := new(ThrowErrorResponse)
     err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/ThrowError", in, out, opts...)
@@ -3946,6 +4588,20 @@ type GatewayServer interface {
     //- maxJobsToActivate is less than 1
     ActivateJobs(*ActivateJobsRequest, Gateway_ActivateJobsServer) error
     //
+    //Opens a stream over which jobs of the given type are pushed to the worker as soon as they are
+    //available, for as long as the worker has capacity left. The first request registers the worker
+    //and its initial capacity; every further request adds its capacity to the stream, e.g. after the
+    //worker has handled some of the pushed jobs. The stream is kept open until the worker completes
+    //or cancels it.
+    //
+    //Errors:
+    //INVALID_ARGUMENT:
+    //- type is blank (empty string, null)
+    //- worker is blank (empty string, null)
+    //- timeout less than 1
+    //- capacity is less than 0
+    StreamJobs(Gateway_StreamJobsServer) error
+    //
     //Cancels a running process instance
     //
     //Errors:
@@ -3965,6 +4621,13 @@ type GatewayServer interface {
     //the job can be activated again and completed.
     CompleteJob(context.Context, *CompleteJobRequest) (*CompleteJobResponse, error)
     //
+    //Completes several jobs with one call, with the same semantics as CompleteJob for each job. The
+    //gateway groups the jobs by their partition and sends one batch command per partition, with a
+    //limited number of batch commands in flight at the same time. A failure to complete one job
+    //doesn't affect the other jobs; the response contains the result of every job instead, e.g.
+    //NOT_FOUND if a job doesn't exist anymore.
+    CompleteJobs(context.Context, *CompleteJobsRequest) (*CompleteJobsResponse, error)
+    //
     //Creates and starts an instance of the specified process. The process definition to use to
     //create the instance can be specified either using its unique key (as returned by
     //DeployProcess), or using the BPMN process ID and a version. Pass -1 as the version to use the
@@ -4026,6 +4689,12 @@ type GatewayServer interface {
     //- the job is already in a failed state, i.e. ran out of retries
     FailJob(context.Context, *FailJobRequest) (*FailJobResponse, error)
     //
+    //Fails several jobs with one call, with the same semantics as FailJob for each job. The gateway
+    //groups the jobs by their partition and sends one batch command per partition, with a limited
+    //number of batch commands in flight at the same time. A failure to fail one job doesn't affect
+    //the other jobs; the response contains the result of every job instead.
+    FailJobs(context.Context, *FailJobsRequest) (*FailJobsResponse, error)
+    //
     //Reports a business error (i.e. non-technical) that occurs while processing a job. The error is handled in the process by an error catch event. If there is no error catch event with the specified errorCode then an incident will be raised instead.
     //
     //Errors:
@@ -4086,12 +4755,18 @@ type UnimplementedGatewayServer struct {
 func (*UnimplementedGatewayServer) ActivateJobs(*ActivateJobsRequest, Gateway_ActivateJobsServer) error {
     return status.Errorf(codes.Unimplemented, "method ActivateJobs not implemented")
 }
+func (*UnimplementedGatewayServer) StreamJobs(Gateway_StreamJobsServer) error {
+    return status.Errorf(codes.Unimplemented, "method StreamJobs not implemented")
+}
 func (*UnimplementedGatewayServer) CancelProcessInstance(context.Context, *CancelProcessInstanceRequest) (*CancelProcessInstanceResponse, error) {
     return nil, status.Errorf(codes.Unimplemented, "method CancelProcessInstance not implemented")
 }
 func (*UnimplementedGatewayServer) CompleteJob(context.Context, *CompleteJobRequest) (*CompleteJobResponse, error) {
     return nil, status.Errorf(codes.Unimplemented, "method CompleteJob not implemented")
 }
+func (*UnimplementedGatewayServer) CompleteJobs(context.Context, *CompleteJobsRequest) (*CompleteJobsResponse, error) {
+    return nil, status.Errorf(codes.Unimplemented, "method CompleteJobs not implemented")
+}
 func (*UnimplementedGatewayServer) CreateProcessInstance(context.Context, *CreateProcessInstanceRequest) (*CreateProcessInstanceResponse, error) {
     return nil, status.Errorf(codes.Unimplemented, "method CreateProcessInstance not implemented")
 }
@@ -4107,6 +4782,9 @@ func (*UnimplementedGatewayServer) DeployResource(context.Context, *DeployResour
 func (*UnimplementedGatewayServer) FailJob(context.Context, *FailJobRequest) (*FailJobResponse, error) {
     return nil, status.Errorf(codes.Unimplemented, "method FailJob not implemented")
 }
+func (*UnimplementedGatewayServer) FailJobs(context.Context, *FailJobsRequest) (*FailJobsResponse, error) {
+    return nil, status.Errorf(codes.Unimplemented, "method FailJobs not implemented")
+}
 func (*UnimplementedGatewayServer) ThrowError(context.Context, *ThrowErrorRequest) (*ThrowErrorResponse, error) {
     return nil, status.Errorf(codes.Unimplemented, "method ThrowError not implemented")
 }
@@ -4151,6 +4829,32 @@ func (x *gatewayActivateJobsServer) Send(m *ActivateJobsResponse) error {
     return x.ServerStream.SendMsg(m)
 }
 
+func _Gateway_StreamJobs_Handler(srv interface{}, stream grpc.ServerStream) error {
+    return srv.(GatewayServer).StreamJobs(&gatewayStreamJobsServer{stream})
+}
+
+type Gateway_StreamJobsServer interface {
+    Send(*ActivateJobsResponse) error
+    Recv() (*StreamJobsRequest, error)
+    grpc.ServerStream
+}
+
+type gatewayStreamJobsServer struct {
+    grpc.ServerStream
+}
+
+func (x *gatewayStreamJobsServer) Send(m *ActivateJobsResponse) error {
+    return x.ServerStream.SendMsg(m)
+}
+
+func (x *gatewayStreamJobsServer) Recv() (*StreamJobsRequest, error) {
+    m := new(StreamJobsRequest)
+    if err := x.ServerStream.RecvMsg(m); err != nil {
+        return nil, err
+    }
+    return m, nil
+}
+
 func _Gateway_CancelProcessInstance_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
     in := new(CancelProcessInstanceRequest)
     if err := dec(in); err != nil {
@@ -4187,6 +4891,24 @@ func _Gateway_CompleteJob_Handler(srv interface{}, ctx context.Context, dec func
     return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_CompleteJobs_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+    in := new(CompleteJobsRequest)
+    if err := dec(in); err != nil {
+        return nil, err
+    }
+    if interceptor == nil {
+        return srv.(GatewayServer).CompleteJobs(ctx, in)
+    }
+    info := &grpc.UnaryServerInfo{
+        Server:     srv,
+        FullMethod: "/gateway_protocol.Gateway/CompleteJobs",
+    }
+    handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+        return srv.(GatewayServer).CompleteJobs(ctx, req.(*CompleteJobsRequest))
+    }
+    return interceptor(ctx, in, info, handler)
+}
+
 func _Gateway_CreateProcessInstance_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
     in := new(CreateProcessInstanceRequest)
     if err := dec(in); err != nil {
@@ -4277,6 +4999,24 @@ func _Gateway_FailJob_Handler(srv interface{}, ctx context.Context, dec func(int
     return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_FailJobs_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+    in := new(FailJobsRequest)
+    if err := dec(in); err != nil {
+        return nil, err
+    }
+    if interceptor == nil {
+        return srv.(GatewayServer).FailJobs(ctx, in)
+    }
+    info := &grpc.UnaryServerInfo{
+        Server:     srv,
+        FullMethod: "/gateway_protocol.Gateway/FailJobs",
+    }
+    handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+        return srv.(GatewayServer).FailJobs(ctx, req.(*FailJobsRequest))
+    }
+    return interceptor(ctx, in, info, handler)
+}
+
 func _Gateway_ThrowError_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
     in := new(ThrowErrorRequest)
     if err := dec(in); err != nil {
@@ -4397,6 +5137,10 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
             MethodName: "CompleteJob",
             Handler:    _Gateway_CompleteJob_Handler,
         },
+        {
+            MethodName: "CompleteJobs",
+            Handler:    _Gateway_CompleteJobs_Handler,
+        },
         {
             MethodName: "CreateProcessInstance",
             Handler:    _Gateway_CreateProcessInstance_Handler,
@@ -4417,6 +5161,10 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
             MethodName: "FailJob",
             Handler:    _Gateway_FailJob_Handler,
         },
+        {
+            MethodName: "FailJobs",
+            Handler:    _Gateway_FailJobs_Handler,
+        },
         {
             MethodName: "ThrowError",
             Handler:    _Gateway_ThrowError_Handler,
@@ -4448,6 +5196,12 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
             Handler:       _Gateway_ActivateJobs_Handler,
             ServerStreams: true,
         },
+        {
+            StreamName:    "StreamJobs",
+            Handler:       _Gateway_StreamJobs_Handler,
+            ServerStreams: true,
+            ClientStreams: true,
+        },
     },
     Metadata: "gateway.proto",
 }
@@ -98,5 +98,44 @@ public interface ActivateJobsCommandStep1 {
      *     it to the broker.
      */
     ActivateJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Set further job types to activate with the same command.
+     *
+     * <p>If there are fewer jobs of the job type available than the maximum of jobs to activate,
+     * jobs of these types are activated as well, in the given order, until the maximum is reached.
+     *
+     * @param additionalJobTypes the further types of jobs (e.g. "refund")
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 additionalJobTypes(List<String> additionalJobTypes);
+
+    /**
+     * Set further job types to activate with the same command.
+     *
+     * <p>If there are fewer jobs of the job type available than the maximum of jobs to activate,
+     * jobs of these types are activated as well, in the given order, until the maximum is reached.
+     *
+     * @param additionalJobTypes the further types of jobs (e.g. "refund")
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 additionalJobTypes(String... additionalJobTypes);
+
+    /**
+     * Request the variables of the activated jobs as MessagePack document instead of as JSON
+     * document.
+     *
+     * <p>This saves the conversion of the variables to JSON in the gateway and from JSON in the
+     * client. The variables are decoded only when they are accessed, and {@link
+     * io.camunda.zeebe.client.api.response.ActivatedJob#getVariableAsTypeByKey(String, Class)}
+     * decodes only the requested variable.
+     *
+     * @param binaryVariables {@code true} to receive the variables as MessagePack document
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    ActivateJobsCommandStep3 binaryVariables(boolean binaryVariables);
   }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.command;
+
+import io.camunda.zeebe.client.api.response.FailJobsResponse;
+import java.time.Duration;
+
+public interface FailJobsCommandStep1 {
+
+  /**
+   * Add a job to mark as failed.
+   *
+   * <p>If the retries are greater than zero then this job will be picked up again by a job
+   * subscription. Otherwise, an incident is created for this job, tagged with the given error
+   * message.
+   *
+   * @param jobKey the key which identifies the job
+   * @param remainingRetries the remaining retries of this job
+   * @param errorMessage the error message describing the reason for the job failure
+   * @return the builder for this command. Call {@link FailJobsCommandStep2#send()} to complete the
+   *     command and send it to the broker.
+   */
+  FailJobsCommandStep2 addJob(long jobKey, int remainingRetries, String errorMessage);
+
+  /**
+   * Add a job to mark as failed, which is picked up again after the given backoff timeout if the
+   * retries are greater than zero.
+   *
+   * @param jobKey the key which identifies the job
+   * @param remainingRetries the remaining retries of this job
+   * @param errorMessage the error message describing the reason for the job failure
+   * @param retryBackoff the backoff timeout of this job
+   * @return the builder for this command. Call {@link FailJobsCommandStep2#send()} to complete the
+   *     command and send it to the broker.
+   */
+  FailJobsCommandStep2 addJob(
+      long jobKey, int remainingRetries, String errorMessage, Duration retryBackoff);
+
+  interface FailJobsCommandStep2 extends FailJobsCommandStep1, FinalCommandStep<FailJobsResponse> {
+    // the place for new optional parameters
+  }
+}
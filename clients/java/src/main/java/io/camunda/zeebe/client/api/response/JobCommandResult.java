@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.api.response;
+
+/** The result of the command of a single job of a batch call, e.g. to complete several jobs. */
+public interface JobCommandResult {
+
+  /**
+   * @return the key of the job
+   */
+  long getJobKey();
+
+  /**
+   * @return {@code true} if the command of the job was processed successfully
+   */
+  boolean isSuccessful();
+
+  /**
+   * @return the gRPC status code of the job's command, e.g. {@code 5} (NOT_FOUND) if the job
+   *     doesn't exist anymore; {@code 0} (OK) if it was processed successfully
+   */
+  int getCode();
+
+  /**
+   * @return the reason why the command of the job failed; empty if it was processed successfully
+   */
+  String getMessage();
+}
@@ -16,7 +16,9 @@
 package io.camunda.zeebe.client.api.worker;
 
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 
@@ -68,6 +70,25 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(ActivatedJob job);
 
+  /**
+   * Command to complete several jobs with one call.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(firstJobKey, json)
+   *  .addJob(secondJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs may belong to different partitions. The gateway sends one command per partition,
+   * which completes the jobs of the partition like single complete commands. A failure to complete
+   * one job doesn't affect the other jobs; the response contains the result of each job instead.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
@@ -108,6 +129,25 @@ public interface JobClient {
    */
   FailJobCommandStep1 newFailCommand(ActivatedJob job);
 
+  /**
+   * Command to mark several jobs as failed with one call.
+   *
+   * <pre>
+   * jobClient
+   *  .newFailJobsCommand()
+   *  .addJob(firstJobKey, 3, "first job failed")
+   *  .addJob(secondJobKey, 0, "second job failed")
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs may belong to different partitions. The gateway sends one command per partition,
+   * which fails the jobs of the partition like single fail commands. A failure to fail one job
+   * doesn't affect the other jobs; the response contains the result of each job instead.
+   *
+   * @return a builder for the command
+   */
+  FailJobsCommandStep1 newFailJobsCommand();
+
   /**
    * Command to report a business error (i.e. non-technical) that occurs while processing a job.
    *
@@ -176,6 +176,20 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Request the variables of the activated jobs as MessagePack document instead of as JSON
+     * document.
+     *
+     * <p>This saves the conversion of the variables to JSON in the gateway and from JSON in the
+     * client. The variables are decoded only when they are accessed, and {@link
+     * io.camunda.zeebe.client.api.response.ActivatedJob#getVariableAsTypeByKey(String, Class)}
+     * decodes only the requested variable.
+     *
+     * @param binaryVariables {@code true} to receive the variables as MessagePack document
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 binaryVariables(boolean binaryVariables);
+
     /**
      * Sets the backoff supplier. The supplier is called to determine the retry delay after each
      * failed request; the worker then waits until the returned delay has elapsed before sending the
@@ -191,6 +205,22 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 backoffSupplier(BackoffSupplier backoffSupplier);
 
+    /**
+     * Receive the jobs over a job stream instead of polling for them.
+     *
+     * <p>The worker opens a long-lived stream to the gateway, which pushes jobs to the worker as
+     * soon as they are available, as long as the worker has not reached its {@link
+     * #maxJobsActive(int)}. The worker then doesn't poll, so the {@link #pollInterval(Duration)}
+     * and the {@link #requestTimeout(Duration)} are not used, except that the poll interval is the
+     * initial delay before a failed stream is reopened.
+     *
+     * <p>By default, the worker polls for jobs.
+     *
+     * @param streamEnabled {@code true} to receive the jobs over a job stream
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 streamEnabled(boolean streamEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
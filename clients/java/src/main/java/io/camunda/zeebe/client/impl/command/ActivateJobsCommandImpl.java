@@ -95,6 +95,23 @@ public final class ActivateJobsCommandImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public ActivateJobsCommandStep3 additionalJobTypes(final List<String> additionalJobTypes) {
+    builder.addAllAdditionalType(additionalJobTypes);
+    return this;
+  }
+
+  @Override
+  public ActivateJobsCommandStep3 additionalJobTypes(final String... additionalJobTypes) {
+    return additionalJobTypes(Arrays.asList(additionalJobTypes));
+  }
+
+  @Override
+  public ActivateJobsCommandStep3 binaryVariables(final boolean binaryVariables) {
+    builder.setBinaryVariables(binaryVariables);
+    return this;
+  }
+
   @Override
   public FinalCommandStep<ActivateJobsResponse> requestTimeout(final Duration requestTimeout) {
     builder.setRequestTimeout(requestTimeout.toMillis());
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1.FailJobsCommandStep2;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.FailJobsResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.response.FailJobsResponseImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest.Builder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class FailJobsCommandImpl implements FailJobsCommandStep1, FailJobsCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final Builder builder;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public FailJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = FailJobsRequest.newBuilder();
+  }
+
+  @Override
+  public FailJobsCommandStep2 addJob(
+      final long jobKey, final int remainingRetries, final String errorMessage) {
+    return addJob(jobKey, remainingRetries, errorMessage, Duration.ZERO);
+  }
+
+  @Override
+  public FailJobsCommandStep2 addJob(
+      final long jobKey,
+      final int remainingRetries,
+      final String errorMessage,
+      final Duration retryBackoff) {
+    ArgumentUtil.ensureNotNull("errorMessage", errorMessage);
+    ArgumentUtil.ensureNotNull("retryBackoff", retryBackoff);
+    builder.addJobs(
+        FailJobRequest.newBuilder()
+            .setJobKey(jobKey)
+            .setRetries(remainingRetries)
+            .setErrorMessage(errorMessage)
+            .setRetryBackOff(retryBackoff.toMillis()));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<FailJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<FailJobsResponse> send() {
+    final FailJobsRequest request = builder.build();
+
+    final RetriableClientFutureImpl<FailJobsResponse, GatewayOuterClass.FailJobsResponse> future =
+        new RetriableClientFutureImpl<>(
+            FailJobsResponseImpl::new,
+            retryPredicate,
+            streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final FailJobsRequest request,
+      final StreamObserver<GatewayOuterClass.FailJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .failJobs(request, streamObserver);
+  }
+}
@@ -38,7 +38,9 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final String worker;
   private final int retries;
   private final long deadline;
-  private final String variables;
+  private String variables;
+  // only set if the variables were received as MessagePack document; decoded on access
+  @JsonIgnore private final MsgPackDocument variablesDocument;
 
   public ActivatedJobImpl(final JsonMapper jsonMapper, final GatewayOuterClass.ActivatedJob job) {
     this.jsonMapper = jsonMapper;
@@ -49,7 +51,12 @@ public final class ActivatedJobImpl implements ActivatedJob {
     worker = job.getWorker();
     retries = job.getRetries();
     deadline = job.getDeadline();
-    variables = job.getVariables();
+    if (job.getVariablesMsgPack().isEmpty()) {
+      variables = job.getVariables();
+      variablesDocument = null;
+    } else {
+      variablesDocument = new MsgPackDocument(job.getVariablesMsgPack().toByteArray());
+    }
     processInstanceKey = job.getProcessInstanceKey();
     bpmnProcessId = job.getBpmnProcessId();
     processDefinitionVersion = job.getProcessDefinitionVersion();
@@ -120,24 +127,39 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
   @Override
   public String getVariables() {
+    if (variables == null) {
+      variables = jsonMapper.toJson(variablesDocument.toMap());
+    }
     return variables;
   }
 
   @Override
   public Map<String, Object> getVariablesAsMap() {
+    if (variablesDocument != null) {
+      return variablesDocument.toMap();
+    }
     return jsonMapper.fromJsonAsMap(variables);
   }
 
   @Override
   public <T> T getVariablesAsType(final Class<T> variableType) {
+    if (variablesDocument != null) {
+      return jsonMapper.fromObject(variablesDocument.toMap(), variableType);
+    }
     return jsonMapper.fromJson(variables, variableType);
   }
 
   @Override
   public <T> T getVariableAsTypeByKey(String key, Class<T> variableType) {
-    Map<String, Object> variablesAsMap = getVariablesAsMap();
-    if (variablesAsMap == null) return null;
-    Object variable = variablesAsMap.get(key);
+    final Object variable;
+    if (variablesDocument != null) {
+      // decode only the requested variable
+      variable = variablesDocument.get(key);
+    } else {
+      Map<String, Object> variablesAsMap = getVariablesAsMap();
+      if (variablesAsMap == null) return null;
+      variable = variablesAsMap.get(key);
+    }
     if (variable == null) return null;
     return jsonMapper.fromObject(variable, variableType);
   }
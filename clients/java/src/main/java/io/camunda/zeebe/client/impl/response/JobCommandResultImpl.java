@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.JobCommandResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.grpc.Status.Code;
+
+public final class JobCommandResultImpl implements JobCommandResult {
+
+  private final long jobKey;
+  private final int code;
+  private final String message;
+
+  public JobCommandResultImpl(final GatewayOuterClass.JobCommandResult result) {
+    jobKey = result.getJobKey();
+    code = result.getCode();
+    message = result.getMessage();
+  }
+
+  @Override
+  public long getJobKey() {
+    return jobKey;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return code == Code.OK.value();
+  }
+
+  @Override
+  public int getCode() {
+    return code;
+  }
+
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return "JobCommandResultImpl{"
+        + "jobKey="
+        + jobKey
+        + ", code="
+        + code
+        + ", message='"
+        + message
+        + '\''
+        + '}';
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.command.ClientException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A MessagePack document of variables, as sent by the gateway if the variables are requested as
+ * binary document. The document is decoded on access only: reading a single variable decodes the
+ * value of this variable, and skips the values of the other variables.
+ *
+ * <p>The values are decoded to the same types as a JSON document is decoded by the default {@link
+ * io.camunda.zeebe.client.api.JsonMapper}, i.e. maps, lists, strings, booleans, integers, longs,
+ * big integers and doubles. The access is synchronized, since the document keeps the read offset.
+ */
+final class MsgPackDocument {
+
+  private final byte[] document;
+  private int offset;
+
+  MsgPackDocument(final byte[] document) {
+    this.document = document;
+  }
+
+  /** Decodes the whole document. An empty document is decoded as empty map. */
+  synchronized Map<String, Object> toMap() {
+    if (document.length == 0) {
+      return new LinkedHashMap<>();
+    }
+
+    offset = 0;
+    final Object value = readValue();
+    if (!(value instanceof Map)) {
+      throw new ClientException("Expected variables to be a MessagePack map, but was " + value);
+    }
+
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> variables = (Map<String, Object>) value;
+    return variables;
+  }
+
+  /**
+   * Decodes the value of the given variable only.
+   *
+   * @return the value of the variable, or {@code null} if the document doesn't contain it
+   */
+  synchronized Object get(final String name) {
+    if (document.length == 0) {
+      return null;
+    }
+
+    final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    offset = 0;
+    final int size = readMapHeader();
+    for (int i = 0; i < size; i++) {
+      if (readStringEquals(nameBytes)) {
+        return readValue();
+      }
+      skipValue();
+    }
+
+    return null;
+  }
+
+  private int readMapHeader() {
+    final int header = readUnsignedByte();
+    if ((header & 0xf0) == 0x80) {
+      return header & 0x0f;
+    } else if (header == 0xde) {
+      return readUnsignedShort();
+    } else if (header == 0xdf) {
+      return readLength();
+    }
+
+    throw unexpectedHeader("map", header);
+  }
+
+  private boolean readStringEquals(final byte[] expected) {
+    final int length = readStringLength(readUnsignedByte());
+    final int start = offset;
+    offset += length;
+
+    if (length != expected.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (document[start + i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Object readValue() {
+    final int header = readUnsignedByte();
+
+    if (header <= 0x7f) {
+      return header;
+    } else if (header >= 0xe0) {
+      return (int) (byte) header;
+    } else if ((header & 0xf0) == 0x80) {
+      return readMap(header & 0x0f);
+    } else if ((header & 0xf0) == 0x90) {
+      return readArray(header & 0x0f);
+    } else if ((header & 0xe0) == 0xa0) {
+      return readString(header & 0x1f);
+    }
+
+    switch (header) {
+      case 0xc0:
+        return null;
+      case 0xc2:
+        return false;
+      case 0xc3:
+        return true;
+      case 0xc4:
+        return readBytes(readUnsignedByte());
+      case 0xc5:
+        return readBytes(readUnsignedShort());
+      case 0xc6:
+        return readBytes(readLength());
+      case 0xca:
+        return (double) Float.intBitsToFloat(readInt());
+      case 0xcb:
+        return Double.longBitsToDouble(readLong());
+      case 0xcc:
+        return readUnsignedByte();
+      case 0xcd:
+        return readUnsignedShort();
+      case 0xce:
+        return toNumber(readInt() & 0xffffffffL);
+      case 0xcf:
+        final long unsignedLong = readLong();
+        return unsignedLong >= 0
+            ? toNumber(unsignedLong)
+            : new BigInteger(Long.toUnsignedString(unsignedLong));
+      case 0xd0:
+        return (int) (byte) readUnsignedByte();
+      case 0xd1:
+        return (int) (short) readUnsignedShort();
+      case 0xd2:
+        return readInt();
+      case 0xd3:
+        return toNumber(readLong());
+      case 0xd9:
+      case 0xda:
+      case 0xdb:
+        return readString(readStringLength(header));
+      case 0xdc:
+        return readArray(readUnsignedShort());
+      case 0xdd:
+        return readArray(readLength());
+      case 0xde:
+        return readMap(readUnsignedShort());
+      case 0xdf:
+        return readMap(readLength());
+      default:
+        throw unexpectedHeader("value", header);
+    }
+  }
+
+  private void skipValue() {
+    final int header = readUnsignedByte();
+
+    if (header <= 0x7f || header >= 0xe0 || header == 0xc0 || header == 0xc2 || header == 0xc3) {
+      return;
+    } else if ((header & 0xf0) == 0x80) {
+      skipValues(2 * (header & 0x0f));
+      return;
+    } else if ((header & 0xf0) == 0x90) {
+      skipValues(header & 0x0f);
+      return;
+    } else if ((header & 0xe0) == 0xa0) {
+      offset += header & 0x1f;
+      return;
+    }
+
+    switch (header) {
+      case 0xc4:
+      case 0xd9:
+        offset += readUnsignedByte();
+        break;
+      case 0xc5:
+      case 0xda:
+        offset += readUnsignedShort();
+        break;
+      case 0xc6:
+      case 0xdb:
+        offset += readLength();
+        break;
+      case 0xcc:
+      case 0xd0:
+        offset += 1;
+        break;
+      case 0xcd:
+      case 0xd1:
+        offset += 2;
+        break;
+      case 0xca:
+      case 0xce:
+      case 0xd2:
+        offset += 4;
+        break;
+      case 0xcb:
+      case 0xcf:
+      case 0xd3:
+        offset += 8;
+        break;
+      case 0xdc:
+        skipValues(readUnsignedShort());
+        break;
+      case 0xdd:
+        skipValues(readLength());
+        break;
+      case 0xde:
+        skipValues(2 * readUnsignedShort());
+        break;
+      case 0xdf:
+        skipValues(2 * readLength());
+        break;
+      default:
+        throw unexpectedHeader("value", header);
+    }
+  }
+
+  private void skipValues(final int count) {
+    for (int i = 0; i < count; i++) {
+      skipValue();
+    }
+  }
+
+  private Map<String, Object> readMap(final int size) {
+    final Map<String, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      final String key = readString(readStringLength(readUnsignedByte()));
+      map.put(key, readValue());
+    }
+    return map;
+  }
+
+  private List<Object> readArray(final int size) {
+    final List<Object> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(readValue());
+    }
+    return list;
+  }
+
+  private int readStringLength(final int header) {
+    if ((header & 0xe0) == 0xa0) {
+      return header & 0x1f;
+    } else if (header == 0xd9) {
+      return readUnsignedByte();
+    } else if (header == 0xda) {
+      return readUnsignedShort();
+    } else if (header == 0xdb) {
+      return readLength();
+    }
+
+    throw unexpectedHeader("string", header);
+  }
+
+  private String readString(final int length) {
+    final String value = new String(document, offset, length, StandardCharsets.UTF_8);
+    offset += length;
+    return value;
+  }
+
+  private byte[] readBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    System.arraycopy(document, offset, bytes, 0, length);
+    offset += length;
+    return bytes;
+  }
+
+  private int readUnsignedByte() {
+    if (offset >= document.length) {
+      throw new ClientException("Expected more data in MessagePack document of variables");
+    }
+    return document[offset++] & 0xff;
+  }
+
+  private int readUnsignedShort() {
+    return (readUnsignedByte() << 8) | readUnsignedByte();
+  }
+
+  private int readInt() {
+    return (readUnsignedShort() << 16) | readUnsignedShort();
+  }
+
+  private long readLong() {
+    return ((long) readInt() << 32) | (readInt() & 0xffffffffL);
+  }
+
+  private int readLength() {
+    final int length = readInt();
+    if (length < 0) {
+      throw new ClientException("Expected a length of at most 2^31 - 1, but was " + length);
+    }
+    return length;
+  }
+
+  private static Number toNumber(final long value) {
+    return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : value;
+  }
+
+  private static ClientException unexpectedHeader(final String type, final int header) {
+    return new ClientException(
+        String.format(
+            "Expected a MessagePack %s in the variables, but found header 0x%02x", type, header));
+  }
+}
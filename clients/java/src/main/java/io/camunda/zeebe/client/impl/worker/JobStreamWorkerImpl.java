@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.BackoffSupplier;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.camunda.zeebe.client.impl.Loggers;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+
+/**
+ * A job worker which receives its jobs over a job stream instead of polling for them.
+ *
+ * <p>The worker opens the stream with a capacity of {@code maxJobsActive}. Every time a job is
+ * finished, the worker gets back one unit of capacity. It hands the capacity back to the gateway
+ * in batches, as soon as it has collected at least {@code capacityThreshold} units, so not every
+ * finished job results in a request.
+ *
+ * <p>If the stream fails or is completed by the gateway, the worker opens a new stream with a delay
+ * using the {@code retryDelay}, which is adjusted by the {@code backoffSupplier} like the poll
+ * interval of the polling {@link JobWorkerImpl}. The new stream starts with the capacity which is
+ * not taken by the jobs which are still handled.
+ */
+public final class JobStreamWorkerImpl implements JobWorker, Closeable {
+
+  private static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
+      JobWorkerBuilderImpl.DEFAULT_BACKOFF_SUPPLIER;
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+  private static final String SUPPLY_RETRY_DELAY_FAILURE_MESSAGE =
+      "Expected to supply retry delay, but an exception was thrown. Falling back to default backoff supplier";
+
+  // job queue state
+  private final int maxJobsActive;
+  private final int capacityThreshold;
+  private int activeJobs;
+  private int unreportedCapacity;
+
+  // job execution facilities
+  private final ScheduledExecutorService executor;
+  private final JobRunnableFactory jobHandlerFactory;
+  private final JobStreamer jobStreamer;
+  private final long initialRetryDelay;
+  private final BackoffSupplier backoffSupplier;
+
+  private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
+  private boolean isStreamOpen;
+  private long retryDelay;
+
+  public JobStreamWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration retryDelay,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier) {
+    this.maxJobsActive = maxJobsActive;
+    capacityThreshold = Math.max(1, Math.round(maxJobsActive * 0.3f));
+
+    this.executor = executor;
+    this.jobHandlerFactory = jobHandlerFactory;
+    this.jobStreamer = jobStreamer;
+    initialRetryDelay = retryDelay.toMillis();
+    this.retryDelay = initialRetryDelay;
+    this.backoffSupplier = backoffSupplier;
+
+    executor.execute(this::openStream);
+  }
+
+  @Override
+  public boolean isOpen() {
+    return acquiringJobs.get();
+  }
+
+  @Override
+  public synchronized boolean isClosed() {
+    return !isOpen() && activeJobs <= 0;
+  }
+
+  @Override
+  public void close() {
+    if (acquiringJobs.compareAndSet(true, false)) {
+      synchronized (this) {
+        isStreamOpen = false;
+        jobStreamer.close();
+      }
+    }
+  }
+
+  private synchronized void openStream() {
+    if (!isOpen() || isStreamOpen) {
+      return;
+    }
+
+    isStreamOpen = true;
+    unreportedCapacity = 0;
+    try {
+      jobStreamer.open(maxJobsActive - activeJobs, this::handleJob, this::onStreamClosed);
+    } catch (final Exception error) {
+      LOG.warn("Unexpected failure to open job stream", error);
+      onStreamClosed(error);
+    }
+  }
+
+  private synchronized void onStreamClosed(final Throwable error) {
+    isStreamOpen = false;
+    if (!isOpen()) {
+      return;
+    }
+
+    if (error != null) {
+      backoff(error);
+    }
+    executor.schedule(this::openStream, retryDelay, TimeUnit.MILLISECONDS);
+  }
+
+  /** Apply the backoff strategy by delaying the next stream by a new retry delay */
+  private void backoff(final Throwable error) {
+    final long prevDelay = retryDelay;
+    try {
+      retryDelay = backoffSupplier.supplyRetryDelay(prevDelay);
+    } catch (final Exception e) {
+      LOG.warn(SUPPLY_RETRY_DELAY_FAILURE_MESSAGE, e);
+      retryDelay = DEFAULT_BACKOFF_SUPPLIER.supplyRetryDelay(prevDelay);
+    }
+    LOG.debug(
+        "Job stream failed due to {}, delay reopening for {} ms", error.getMessage(), retryDelay);
+  }
+
+  private void handleJob(final ActivatedJob job) {
+    synchronized (this) {
+      activeJobs++;
+      // the stream works again, so a following failure starts with the initial delay
+      retryDelay = initialRetryDelay;
+    }
+    executor.execute(jobHandlerFactory.create(job, this::handleJobFinished));
+  }
+
+  private synchronized void handleJobFinished() {
+    activeJobs--;
+    if (!isStreamOpen) {
+      // the next stream is opened with the capacity of all finished jobs
+      return;
+    }
+
+    unreportedCapacity++;
+    if (unreportedCapacity >= capacityThreshold) {
+      jobStreamer.addCapacity(unreportedCapacity);
+      unreportedCapacity = 0;
+    }
+  }
+}
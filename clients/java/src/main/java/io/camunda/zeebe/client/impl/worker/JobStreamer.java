@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.client.impl.response.ActivatedJobImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
+import io.grpc.stub.StreamObserver;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Receives jobs over a job stream, i.e. the StreamJobs RPC, instead of polling for them. The first
+ * request of a stream registers the worker with its initial capacity; every further request adds
+ * capacity to the stream. The gateway pushes jobs as long as the stream has capacity left, and each
+ * pushed job consumes one unit of it.
+ *
+ * <p>The requests are sent from the threads which hand back capacity, so sending is synchronized.
+ */
+public final class JobStreamer implements StreamObserver<ActivateJobsResponse> {
+
+  private static final Logger LOG = Loggers.JOB_POLLER_LOGGER;
+
+  private final GatewayStub gatewayStub;
+  private final StreamJobsRequest openRequest;
+  private final JsonMapper jsonMapper;
+
+  private Consumer<ActivatedJob> jobConsumer;
+  private Consumer<Throwable> closeCallback;
+  private StreamObserver<StreamJobsRequest> requestObserver;
+
+  public JobStreamer(
+      final GatewayStub gatewayStub,
+      final StreamJobsRequest openRequest,
+      final JsonMapper jsonMapper) {
+    this.gatewayStub = gatewayStub;
+    this.openRequest = openRequest;
+    this.jsonMapper = jsonMapper;
+  }
+
+  /**
+   * Opens a new job stream. Only one stream is open at a time; the stream must have been closed
+   * before it is opened again.
+   *
+   * @param capacity the number of jobs which can be pushed initially
+   * @param jobConsumer consumes each pushed job individually
+   * @param closeCallback called when the stream was closed by the gateway; consumes the error, or
+   *     {@code null} if the stream was completed
+   */
+  public synchronized void open(
+      final int capacity,
+      final Consumer<ActivatedJob> jobConsumer,
+      final Consumer<Throwable> closeCallback) {
+    this.jobConsumer = jobConsumer;
+    this.closeCallback = closeCallback;
+
+    LOG.trace(
+        "Open job stream with capacity {} for worker {} and job type {}",
+        capacity,
+        openRequest.getWorker(),
+        openRequest.getType());
+    requestObserver = gatewayStub.streamJobs(this);
+    requestObserver.onNext(openRequest.toBuilder().setCapacity(capacity).build());
+  }
+
+  /**
+   * Adds capacity to the open stream. Does nothing if no stream is open, as the capacity is then
+   * part of the initial capacity of the next stream.
+   *
+   * @param capacity the number of further jobs which can be pushed
+   */
+  public synchronized void addCapacity(final int capacity) {
+    if (requestObserver != null) {
+      requestObserver.onNext(StreamJobsRequest.newBuilder().setCapacity(capacity).build());
+    }
+  }
+
+  /** Completes the open stream, if there is one. The close callback is not called. */
+  public synchronized void close() {
+    if (requestObserver != null) {
+      requestObserver.onCompleted();
+      requestObserver = null;
+    }
+  }
+
+  @Override
+  public void onNext(final ActivateJobsResponse response) {
+    response.getJobsList().stream()
+        .map(job -> new ActivatedJobImpl(jsonMapper, job))
+        .forEach(jobConsumer);
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    if (onClosed()) {
+      LOG.warn(
+          "Job stream of worker {} and job type {} failed",
+          openRequest.getWorker(),
+          openRequest.getType(),
+          throwable);
+      closeCallback.accept(throwable);
+    }
+  }
+
+  @Override
+  public void onCompleted() {
+    if (onClosed()) {
+      LOG.debug(
+          "Job stream of worker {} and job type {} was completed by the gateway",
+          openRequest.getWorker(),
+          openRequest.getType());
+      closeCallback.accept(null);
+    }
+  }
+
+  /**
+   * @return true if the stream was still open, false if it was closed by the worker before
+   */
+  private synchronized boolean onClosed() {
+    if (requestObserver == null) {
+      return false;
+    }
+    requestObserver = null;
+    return true;
+  }
+}
@@ -31,6 +31,7 @@ import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilder
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
@@ -58,7 +59,9 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean binaryVariables;
   private BackoffSupplier backoffSupplier;
+  private boolean streamEnabled;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -141,12 +144,24 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 binaryVariables(final boolean binaryVariables) {
+    this.binaryVariables = binaryVariables;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 backoffSupplier(final BackoffSupplier backoffSupplier) {
     this.backoffSupplier = backoffSupplier;
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 streamEnabled(final boolean streamEnabled) {
+    this.streamEnabled = streamEnabled;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -155,13 +170,18 @@ public final class JobWorkerBuilderImpl
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
+    if (streamEnabled) {
+      return openStreamWorker();
+    }
+
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
             .setType(jobType)
             .setTimeout(timeout)
             .setWorker(workerName)
             .setMaxJobsToActivate(maxJobsActive)
-            .setRequestTimeout(requestTimeout.toMillis());
+            .setRequestTimeout(requestTimeout.toMillis())
+            .setBinaryVariables(binaryVariables);
 
     if (fetchVariables != null) {
       requestBuilder.addAllFetchVariable(fetchVariables);
@@ -184,4 +204,32 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  private JobWorker openStreamWorker() {
+    final StreamJobsRequest.Builder requestBuilder =
+        StreamJobsRequest.newBuilder()
+            .setType(jobType)
+            .setTimeout(timeout)
+            .setWorker(workerName)
+            .setBinaryVariables(binaryVariables);
+
+    if (fetchVariables != null) {
+      requestBuilder.addAllFetchVariable(fetchVariables);
+    }
+
+    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
+    final JobStreamer jobStreamer =
+        new JobStreamer(gatewayStub, requestBuilder.build(), jsonMapper);
+
+    final JobStreamWorkerImpl jobWorker =
+        new JobStreamWorkerImpl(
+            maxJobsActive,
+            executorService,
+            pollInterval,
+            jobRunnableFactory,
+            jobStreamer,
+            backoffSupplier);
+    closeables.add(jobWorker);
+    return jobWorker;
+  }
 }
@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.job;
 
+import com.google.protobuf.ByteString;
 import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
 import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
@@ -183,6 +184,23 @@ public final class ActivateJobsTest extends ClientTest {
     assertThat(request.getFetchVariableList()).containsExactlyInAnyOrder(fetchVariables);
   }
 
+  @Test
+  public void shouldSetAdditionalJobTypes() {
+    // when
+    client
+        .newActivateJobsCommand()
+        .jobType("foo")
+        .maxJobsToActivate(3)
+        .additionalJobTypes("bar", "baz")
+        .send()
+        .join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getType()).isEqualTo("foo");
+    assertThat(request.getAdditionalTypeList()).containsExactly("bar", "baz");
+  }
+
   @Test
   public void shouldSetDefaultValues() {
     // when
@@ -268,6 +286,53 @@ public final class ActivateJobsTest extends ClientTest {
     assertThat(variablesPojo.getD()).isEqualTo("Z");
   }
 
+  @Test
+  public void shouldSetBinaryVariables() {
+    // when
+    client
+        .newActivateJobsCommand()
+        .jobType("foo")
+        .maxJobsToActivate(3)
+        .binaryVariables(true)
+        .send()
+        .join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getBinaryVariables()).isTrue();
+  }
+
+  @Test
+  public void shouldDecodeBinaryVariables() {
+    // given
+    // {"a":1,"b":{"c":1,"d":"Z"}}
+    final byte[] variables = {
+      (byte) 0x82, (byte) 0xa1, 'a', 0x01, (byte) 0xa1, 'b', (byte) 0x82, (byte) 0xa1, 'c', 0x01,
+      (byte) 0xa1, 'd', (byte) 0xa1, 'Z'
+    };
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder()
+                .setCustomHeaders("{}")
+                .setVariablesMsgPack(ByteString.copyFrom(variables))
+                .build());
+
+    // when
+    final KeyVariablesPojo variablesPojo =
+        activatedJob.getVariableAsTypeByKey("b", KeyVariablesPojo.class);
+
+    // then
+    assertThat(variablesPojo.getC()).isEqualTo(1);
+    assertThat(variablesPojo.getD()).isEqualTo("Z");
+    assertThat(activatedJob.getVariableAsTypeByKey("x", Integer.class)).isNull();
+    assertThat(activatedJob.getVariablesAsType(VariablesPojo.class).getA()).isEqualTo(1);
+    assertThat(activatedJob.getVariablesAsMap())
+        .isEqualTo(fromJsonAsMap("{\"a\":1,\"b\":{\"c\":1,\"d\":\"Z\"}}"));
+    assertThat(fromJsonAsMap(activatedJob.getVariables()))
+        .isEqualTo(fromJsonAsMap("{\"a\":1,\"b\":{\"c\":1,\"d\":\"Z\"}}"));
+  }
+
   static class VariablesPojo {
 
     int a;
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.client.api.response.CompleteJobsResponse;
+import io.camunda.zeebe.client.api.response.JobCommandResult;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.grpc.Status.Code;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    client
+        .newCompleteJobsCommand()
+        .addJob(12, json)
+        .addJob(13, Collections.singletonMap("foo", "bar"))
+        .addJob(14)
+        .send()
+        .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(12L, 13L, 14L);
+    JsonUtil.assertEquality(request.getJobs(0).getVariables(), json);
+    JsonUtil.assertEquality(request.getJobs(1).getVariables(), "{'foo': 'bar'}");
+    assertThat(request.getJobs(2).getVariables()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        GatewayOuterClass.JobCommandResult.newBuilder()
+            .setJobKey(12)
+            .setCode(Code.OK.value())
+            .build(),
+        GatewayOuterClass.JobCommandResult.newBuilder()
+            .setJobKey(13)
+            .setCode(Code.NOT_FOUND.value())
+            .setMessage("not found")
+            .build());
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(
+            JobCommandResult::getJobKey,
+            JobCommandResult::isSuccessful,
+            JobCommandResult::getCode,
+            JobCommandResult::getMessage)
+        .containsExactly(
+            tuple(12L, true, Code.OK.value(), ""),
+            tuple(13L, false, Code.NOT_FOUND.value(), "not found"));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.client.api.response.FailJobsResponse;
+import io.camunda.zeebe.client.api.response.JobCommandResult;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.grpc.Status.Code;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class FailJobsTest extends ClientTest {
+
+  @Test
+  public void shouldFailJobs() {
+    // given
+    final Duration backoffTimeout = Duration.ofSeconds(1);
+
+    // when
+    client
+        .newFailJobsCommand()
+        .addJob(12, 3, "first failed")
+        .addJob(13, 0, "second failed", backoffTimeout)
+        .send()
+        .join();
+
+    // then
+    final FailJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(
+            FailJobRequest::getJobKey,
+            FailJobRequest::getRetries,
+            FailJobRequest::getErrorMessage,
+            FailJobRequest::getRetryBackOff)
+        .containsExactly(
+            tuple(12L, 3, "first failed", 0L),
+            tuple(13L, 0, "second failed", backoffTimeout.toMillis()));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    gatewayService.onFailJobsRequest(
+        GatewayOuterClass.JobCommandResult.newBuilder()
+            .setJobKey(12)
+            .setCode(Code.FAILED_PRECONDITION.value())
+            .setMessage("not activated")
+            .build(),
+        GatewayOuterClass.JobCommandResult.newBuilder()
+            .setJobKey(13)
+            .setCode(Code.OK.value())
+            .build());
+
+    // when
+    final FailJobsResponse response =
+        client.newFailJobsCommand().addJob(12, 1, "failed").addJob(13, 1, "failed").send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(
+            JobCommandResult::getJobKey,
+            JobCommandResult::isSuccessful,
+            JobCommandResult::getCode,
+            JobCommandResult::getMessage)
+        .containsExactly(
+            tuple(12L, false, Code.FAILED_PRECONDITION.value(), "not activated"),
+            tuple(13L, true, Code.OK.value(), ""));
+  }
+}
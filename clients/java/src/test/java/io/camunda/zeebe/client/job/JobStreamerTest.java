@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.camunda.zeebe.client.impl.worker.JobStreamer;
+import io.camunda.zeebe.client.util.ClientTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class JobStreamerTest extends ClientTest {
+
+  private Consumer<ActivatedJob> jobConsumer;
+  private Consumer<Throwable> closeCallback;
+
+  @Before
+  public void setup() {
+    jobConsumer = Mockito.spy(Consumer.class);
+    closeCallback = Mockito.spy(Consumer.class);
+  }
+
+  @Test
+  public void shouldOpenStreamWithCapacity() {
+    // when
+    getJobStreamer().open(3, jobConsumer, closeCallback);
+
+    // then
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(gatewayService.getRequests()).hasSize(1));
+    final StreamJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getType()).isEqualTo("foo");
+    assertThat(request.getWorker()).isEqualTo("worker1");
+    assertThat(request.getTimeout()).isEqualTo(1000);
+    assertThat(request.getCapacity()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldAddCapacity() {
+    // given
+    final JobStreamer jobStreamer = getJobStreamer();
+    jobStreamer.open(3, jobConsumer, closeCallback);
+
+    // when
+    jobStreamer.addCapacity(2);
+
+    // then
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(gatewayService.getRequests()).hasSize(2));
+    final StreamJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getType()).isEmpty();
+    assertThat(request.getCapacity()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldConsumePushedJobs() {
+    // given
+    gatewayService.onStreamJobsRequest(TestData.job(), TestData.job());
+
+    // when
+    getJobStreamer().open(3, jobConsumer, closeCallback);
+
+    // then
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              verify(jobConsumer, times(2)).accept(any(ActivatedJob.class));
+              verify(closeCallback, never()).accept(any());
+            });
+  }
+
+  @Test
+  public void shouldCallbackWhenStreamFailed() {
+    // given
+    gatewayService.onStreamJobsRequest(new StatusRuntimeException(Status.RESOURCE_EXHAUSTED));
+
+    // when
+    getJobStreamer().open(3, jobConsumer, closeCallback);
+
+    // then
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              verify(jobConsumer, never()).accept(any(ActivatedJob.class));
+              verify(closeCallback).accept(any(StatusRuntimeException.class));
+            });
+  }
+
+  @Test
+  public void shouldNotCallbackWhenStreamIsClosedByWorker() {
+    // given
+    final JobStreamer jobStreamer = getJobStreamer();
+    jobStreamer.open(3, jobConsumer, closeCallback);
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(gatewayService.getRequests()).hasSize(1));
+
+    // when
+    jobStreamer.close();
+    jobStreamer.addCapacity(2);
+
+    // then
+    verify(closeCallback, never()).accept(any());
+    assertThat(gatewayService.getRequests()).hasSize(1);
+  }
+
+  private JobStreamer getJobStreamer() {
+    return new JobStreamer(
+        rule.getGatewayStub(),
+        StreamJobsRequest.newBuilder().setType("foo").setWorker("worker1").setTimeout(1000).build(),
+        new ZeebeObjectMapper());
+  }
+
+  private static final class TestData {
+    private static GatewayOuterClass.ActivatedJob job() {
+      return GatewayOuterClass.ActivatedJob.newBuilder()
+          .setKey(12)
+          .setType("foo")
+          .setProcessInstanceKey(123)
+          .setBpmnProcessId("test1")
+          .setProcessDefinitionVersion(2)
+          .setProcessDefinitionKey(23)
+          .setElementId("foo")
+          .setElementInstanceKey(23213)
+          .setCustomHeaders("{\"version\": \"1\"}")
+          .setWorker("worker1")
+          .setRetries(34)
+          .setDeadline(1231)
+          .setVariables("{\"key\": \"val\"}")
+          .build();
+    }
+  }
+}
@@ -25,6 +25,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -38,6 +40,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployResourceRespons
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Deployment;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
@@ -48,6 +53,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentReques
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -94,9 +100,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(
         UpdateJobRetriesRequest.class, r -> UpdateJobRetriesResponse.getDefaultInstance());
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
+    addRequestHandler(FailJobsRequest.class, r -> FailJobsResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(CompleteJobsRequest.class, r -> CompleteJobsResponse.getDefaultInstance());
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
+    addRequestHandler(StreamJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
   }
@@ -201,6 +210,25 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamJobsRequest> streamJobs(
+      final StreamObserver<ActivateJobsResponse> responseObserver) {
+    return new StreamObserver<>() {
+      @Override
+      public void onNext(final StreamJobsRequest request) {
+        handleStreamed(request, responseObserver);
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {}
+
+      @Override
+      public void onCompleted() {
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
   @Override
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
@@ -215,6 +243,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
@@ -249,6 +284,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void failJobs(
+      final FailJobsRequest request, final StreamObserver<FailJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void throwError(
       final ThrowErrorRequest request, final StreamObserver<ThrowErrorResponse> responseObserver) {
@@ -378,6 +419,29 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(ActivateJobsRequest.class, () -> error);
   }
 
+  public void onStreamJobsRequest(final ActivatedJob... activatedJobs) {
+    addRequestHandler(
+        StreamJobsRequest.class,
+        request ->
+            ActivateJobsResponse.newBuilder().addAllJobs(Arrays.asList(activatedJobs)).build());
+  }
+
+  public void onStreamJobsRequest(final Throwable error) {
+    addRequestHandler(StreamJobsRequest.class, () -> error);
+  }
+
+  public void onCompleteJobsRequest(final JobCommandResult... results) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        request -> CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
+  public void onFailJobsRequest(final JobCommandResult... results) {
+    addRequestHandler(
+        FailJobsRequest.class,
+        request -> FailJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
   public void onSetVariablesRequest(final long key) {
     addRequestHandler(
         SetVariablesRequest.class,
@@ -443,6 +507,32 @@ public final class RecordingGatewayService extends GatewayImplBase {
     }
   }
 
+  /**
+   * Like {@link #handle(GeneratedMessageV3, StreamObserver)}, but keeps the stream open after the
+   * response to a request of a bidirectional stream.
+   */
+  @SuppressWarnings("unchecked")
+  private <RequestT extends GeneratedMessageV3, ResponseT extends GeneratedMessageV3>
+      void handleStreamed(
+          final RequestT request, final StreamObserver<ResponseT> responseObserver) {
+    requests.add(request);
+    try {
+      final Class<? extends GeneratedMessageV3> requestType = request.getClass();
+      if (requestHandlers.containsKey(requestType)) {
+        responseObserver.onNext((ResponseT) requestHandlers.get(requestType).handle(request));
+      } else if (errorHandlers.containsKey(requestType)) {
+        final Throwable error = errorHandlers.get(requestType).get();
+        responseObserver.onError(Status.fromThrowable(error).asRuntimeException());
+      } else {
+        throw new IllegalStateException(
+            "No request or error handler found for request class: " + requestType);
+      }
+
+    } catch (final Exception e) {
+      responseObserver.onError(convertThrowable(e));
+    }
+  }
+
   @FunctionalInterface
   interface RequestHandler<
       RequestT extends GeneratedMessageV3, ResponseT extends GeneratedMessageV3> {
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine;
+
+/** Tuning options of the engine, which are passed down from the broker configuration. */
+public final class EngineConfiguration {
+
+  public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  public static final long DEFAULT_PROCESS_CACHE_MAX_SIZE = 64 * 1024 * 1024L;
+  public static final int DEFAULT_DUE_DATE_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 1;
+  public static final long DEFAULT_MAX_BATCH_SIZE = 512 * 1024L;
+  public static final boolean DEFAULT_FAST_REPLAY = false;
+  public static final int DEFAULT_MAX_RECORDS_IN_REPLAY_BATCH = 10_000;
+  public static final int DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE = 0;
+
+  private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private long processCacheMaxSize = DEFAULT_PROCESS_CACHE_MAX_SIZE;
+  private int dueDateCacheCapacity = DEFAULT_DUE_DATE_CACHE_CAPACITY;
+  private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private long maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private boolean fastReplay = DEFAULT_FAST_REPLAY;
+  private int maxRecordsInReplayBatch = DEFAULT_MAX_RECORDS_IN_REPLAY_BATCH;
+  private int multiInstanceActivationChunkSize = DEFAULT_MULTI_INSTANCE_ACTIVATION_CHUNK_SIZE;
+
+  public int getDrgCacheCapacity() {
+    return drgCacheCapacity;
+  }
+
+  /**
+   * @param drgCacheCapacity the maximum number of parsed decision requirements graphs that are
+   *     kept in memory per partition
+   */
+  public EngineConfiguration setDrgCacheCapacity(final int drgCacheCapacity) {
+    this.drgCacheCapacity = drgCacheCapacity;
+    return this;
+  }
+
+  public long getProcessCacheMaxSize() {
+    return processCacheMaxSize;
+  }
+
+  /**
+   * @param processCacheMaxSize the budget in bytes for the executable processes that are kept in
+   *     memory per partition; the latest version of each process is always kept, even if this
+   *     exceeds the budget
+   */
+  public EngineConfiguration setProcessCacheMaxSize(final long processCacheMaxSize) {
+    this.processCacheMaxSize = processCacheMaxSize;
+    return this;
+  }
+
+  public int getDueDateCacheCapacity() {
+    return dueDateCacheCapacity;
+  }
+
+  /**
+   * @param dueDateCacheCapacity the number of entries which are due next that are kept in memory
+   *     per due date index (timers, job deadlines, job backoffs and message deadlines) and
+   *     partition
+   */
+  public EngineConfiguration setDueDateCacheCapacity(final int dueDateCacheCapacity) {
+    this.dueDateCacheCapacity = dueDateCacheCapacity;
+    return this;
+  }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  /**
+   * @param maxCommandsInBatch the maximum number of consecutive commands which are processed in
+   *     one transaction, and whose follow-up records are written in one batch; with 1, every
+   *     command is processed and committed on its own
+   */
+  public EngineConfiguration setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public long getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * @param maxBatchSize the budget in bytes for the follow-up records of a batch of commands; no
+   *     further command is added to a batch once its follow-up records exceed the budget
+   */
+  public EngineConfiguration setMaxBatchSize(final long maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public boolean isFastReplay() {
+    return fastReplay;
+  }
+
+  /**
+   * @param fastReplay if true, the events are replayed in large transactions of several batches,
+   *     without the consistency checks of the state; otherwise, each batch of events is replayed
+   *     and committed on its own, like it was processed
+   */
+  public EngineConfiguration setFastReplay(final boolean fastReplay) {
+    this.fastReplay = fastReplay;
+    return this;
+  }
+
+  public int getMaxRecordsInReplayBatch() {
+    return maxRecordsInReplayBatch;
+  }
+
+  /**
+   * @param maxRecordsInReplayBatch the number of records after which a transaction is committed
+   *     on fast replay; the transaction is only committed after a whole batch of events, so it may
+   *     contain more records
+   */
+  public EngineConfiguration setMaxRecordsInReplayBatch(final int maxRecordsInReplayBatch) {
+    this.maxRecordsInReplayBatch = maxRecordsInReplayBatch;
+    return this;
+  }
+
+  public int getMultiInstanceActivationChunkSize() {
+    return multiInstanceActivationChunkSize;
+  }
+
+  /**
+   * @param multiInstanceActivationChunkSize the number of inner instances of a parallel
+   *     multi-instance body which are activated by one command; the next chunk is activated when
+   *     the last instance of the previous chunk is activated. If it is 0, all inner instances are
+   *     activated at once.
+   */
+  public EngineConfiguration setMultiInstanceActivationChunkSize(
+      final int multiInstanceActivationChunkSize) {
+    this.multiInstanceActivationChunkSize = multiInstanceActivationChunkSize;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "EngineConfiguration{"
+        + "drgCacheCapacity="
+        + drgCacheCapacity
+        + ", processCacheMaxSize="
+        + processCacheMaxSize
+        + ", dueDateCacheCapacity="
+        + dueDateCacheCapacity
+        + ", maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", fastReplay="
+        + fastReplay
+        + ", maxRecordsInReplayBatch="
+        + maxRecordsInReplayBatch
+        + ", multiInstanceActivationChunkSize="
+        + multiInstanceActivationChunkSize
+        + '}';
+  }
+}
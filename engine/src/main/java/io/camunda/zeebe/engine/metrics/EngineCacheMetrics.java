@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Histogram.Timer;
+
+/** Metrics of the in-memory caches that the engine keeps in front of its state. */
+public final class EngineCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String CACHE_LABEL = "cache";
+  private static final String PARTITION_LABEL = "partition";
+
+  static final Counter CACHE_HITS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_hits_total")
+          .help("Number of lookups that were served from an engine cache")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  static final Counter CACHE_MISSES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_misses_total")
+          .help("Number of lookups that were not found in an engine cache and had to be loaded")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  static final Counter CACHE_EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_evictions_total")
+          .help("Number of entries that were evicted from an engine cache")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  static final Counter CACHE_EVICTED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_evicted_bytes_total")
+          .help("Estimated size in bytes of the entries that were evicted from an engine cache")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge CACHE_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_size")
+          .help("Current number of entries in an engine cache")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge CACHE_WEIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_weight_bytes")
+          .help("Current estimated size in bytes of all entries in an engine cache")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Histogram CACHE_LOAD_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("engine_cache_load_latency")
+          .help("Time in seconds to load an entry of an engine cache from the state")
+          .labelNames(CACHE_LABEL, PARTITION_LABEL)
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Counter.Child evictedBytes;
+  private final Gauge.Child size;
+  private final Gauge.Child weight;
+  private final Histogram.Child loadLatency;
+
+  public EngineCacheMetrics(final String cacheName, final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = CACHE_HITS.labels(cacheName, partitionIdLabel);
+    misses = CACHE_MISSES.labels(cacheName, partitionIdLabel);
+    evictions = CACHE_EVICTIONS.labels(cacheName, partitionIdLabel);
+    evictedBytes = CACHE_EVICTED_BYTES.labels(cacheName, partitionIdLabel);
+    size = CACHE_SIZE.labels(cacheName, partitionIdLabel);
+    weight = CACHE_WEIGHT.labels(cacheName, partitionIdLabel);
+    loadLatency = CACHE_LOAD_LATENCY.labels(cacheName, partitionIdLabel);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void evicted() {
+    evictions.inc();
+  }
+
+  public void evicted(final long bytes) {
+    evictions.inc();
+    evictedBytes.inc(bytes);
+  }
+
+  public void setSize(final int entries) {
+    size.set(entries);
+  }
+
+  public void setWeight(final long bytes) {
+    weight.set(bytes);
+  }
+
+  /**
+   * Starts measuring the time to load an entry into the cache. The measurement is completed by
+   * calling {@link Timer#close()} on the returned timer.
+   */
+  public Timer startLoadTimer() {
+    return loadLatency.startTimer();
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class MessageMetrics {
+
+  private static final Counter EXPIRED_MESSAGES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_expired_total")
+          .help("Number of expire commands which were written for messages past their deadline")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPIRY_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("message_expiry_lag")
+          .help(
+              "Time in milliseconds since the deadline of the oldest message which is due but not"
+                  + " expired yet, or 0 if there is no backlog")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child expiredMessages;
+  private final Gauge.Child expiryLag;
+
+  public MessageMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    expiredMessages = EXPIRED_MESSAGES.labels(partitionIdLabel);
+    expiryLag = EXPIRY_LAG.labels(partitionIdLabel);
+  }
+
+  public void messagesExpired(final int count) {
+    expiredMessages.inc(count);
+  }
+
+  public void setExpiryLag(final long lagMillis) {
+    expiryLag.set(lagMillis);
+  }
+}
@@ -41,6 +41,23 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Counter APPLIED_EVENTS_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("replay_applied_events_total")
+          .help("Number of events applied to the state by the stream processor on replay.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram TRANSACTION_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("replay_transaction_records")
+          .help("Number of records replayed in one transaction")
+          .labelNames(LABEL_NAME_PARTITION)
+          .exponentialBuckets(1, 4, 10)
+          .register();
+
   private final String partitionIdLabel;
 
   public ReplayMetrics(final int partitionId) {
@@ -55,6 +72,14 @@ public final class ReplayMetrics {
     return REPLAY_DURATION.labels(partitionIdLabel).startTimer();
   }
 
+  public void eventApplied() {
+    APPLIED_EVENTS_COUNT.labels(partitionIdLabel).inc();
+  }
+
+  public void transactionCommitted(final int records) {
+    TRANSACTION_SIZE.labels(partitionIdLabel).observe(records);
+  }
+
   public void setLastSourcePosition(final long position) {
     LAST_SOURCE_POSITION.labels(partitionIdLabel).set(position);
   }
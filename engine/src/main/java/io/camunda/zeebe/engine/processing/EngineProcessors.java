@@ -126,7 +126,8 @@ public final class EngineProcessors {
             eventTriggerBehavior,
             writers,
             timerChecker,
-            jobMetrics);
+            jobMetrics,
+            processingContext.getMultiInstanceActivationChunkSize());
 
     JobEventProcessors.addJobProcessors(
         typedRecordProcessors,
@@ -156,7 +157,8 @@ public final class EngineProcessors {
       final EventTriggerBehavior eventTriggerBehavior,
       final Writers writers,
       final DueDateTimerChecker timerChecker,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final int multiInstanceActivationChunkSize) {
     return ProcessEventProcessors.addProcessProcessors(
         zeebeState,
         expressionProcessor,
@@ -166,7 +168,8 @@ public final class EngineProcessors {
         timerChecker,
         eventTriggerBehavior,
         writers,
-        jobMetrics);
+        jobMetrics,
+        multiInstanceActivationChunkSize);
   }
 
   private static void addDeploymentRelatedProcessorAndServices(
@@ -55,7 +55,8 @@ public final class ProcessEventProcessors {
       final DueDateTimerChecker timerChecker,
       final EventTriggerBehavior eventTriggerBehavior,
       final Writers writers,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final int multiInstanceActivationChunkSize) {
     final MutableProcessMessageSubscriptionState subscriptionState =
         zeebeState.getProcessMessageSubscriptionState();
     final VariableBehavior variableBehavior =
@@ -75,7 +76,8 @@ public final class ProcessEventProcessors {
             zeebeState,
             writers,
             jobMetrics,
-            processEngineMetrics);
+            processEngineMetrics,
+            multiInstanceActivationChunkSize);
     addBpmnStepProcessor(typedRecordProcessors, bpmnStreamProcessor);
 
     addMessageStreamProcessors(
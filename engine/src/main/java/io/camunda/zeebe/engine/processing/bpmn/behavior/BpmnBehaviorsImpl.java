@@ -109,7 +109,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
             jobMetrics);
 
     multiInstanceOutputCollectionBehavior =
-        new MultiInstanceOutputCollectionBehavior(stateBehavior, expressionBehavior());
+        new MultiInstanceOutputCollectionBehavior(
+            stateBehavior, expressionBehavior(), stateWriter);
   }
 
   @Override
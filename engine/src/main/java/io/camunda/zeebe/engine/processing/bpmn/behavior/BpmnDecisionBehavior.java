@@ -26,7 +26,6 @@ import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCal
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.KeyGenerator;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
-import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import io.camunda.zeebe.engine.state.immutable.DecisionState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.immutable.ZeebeState;
@@ -39,7 +38,6 @@ import io.camunda.zeebe.protocol.record.intent.DecisionEvaluationIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
-import java.io.ByteArrayInputStream;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
@@ -93,17 +91,16 @@ public final class BpmnDecisionBehavior {
     }
 
     final var decisionId = decisionIdOrFailure.get();
-    // todo(#8571): avoid parsing drg every time
     final var decisionOrFailure = findDecisionById(decisionId);
     final var resultOrFailure =
         decisionOrFailure
-            .flatMap(this::findDrgByDecision)
+            .flatMap(this::findParsedDrgByDecision)
             .mapLeft(
                 failure ->
                     new Failure(
                         "Expected to evaluate decision '%s', but %s"
                             .formatted(decisionId, failure.getMessage())))
-            .flatMap(drg -> parseDrg(drg.getResource()))
+            .flatMap(this::requireValidDrg)
             // all the above failures have the same error type and the correct scope
             .mapLeft(f -> new Failure(f.getMessage(), ErrorType.CALLED_DECISION_ERROR, scopeKey))
             .flatMap(
@@ -152,27 +149,21 @@ public final class BpmnDecisionBehavior {
         .orElse(new Failure("no decision found for id '%s'".formatted(decisionId)));
   }
 
-  private Either<Failure, PersistedDecisionRequirements> findDrgByDecision(
+  private Either<Failure, ParsedDecisionRequirementsGraph> findParsedDrgByDecision(
       final PersistedDecision decision) {
     final var key = decision.getDecisionRequirementsKey();
     final var id = decision.getDecisionRequirementsId();
-    return Either.ofOptional(decisionState.findDecisionRequirementsByKey(key))
+    return Either.ofOptional(decisionState.findParsedDecisionRequirementsByKey(key))
         .orElse(new Failure("no drg found for id '%s'".formatted(bufferAsString(id))));
   }
 
-  private Either<Failure, ParsedDecisionRequirementsGraph> parseDrg(final DirectBuffer resource) {
-    return Either.<Failure, DirectBuffer>right(resource)
-        .map(BufferUtil::bufferAsArray)
-        .map(ByteArrayInputStream::new)
-        .map(decisionEngine::parse)
-        .flatMap(
-            parseResult -> {
-              if (parseResult.isValid()) {
-                return Either.right(parseResult);
-              } else {
-                return Either.left(new Failure(parseResult.getFailureMessage()));
-              }
-            });
+  private Either<Failure, ParsedDecisionRequirementsGraph> requireValidDrg(
+      final ParsedDecisionRequirementsGraph drg) {
+    if (drg.isValid()) {
+      return Either.right(drg);
+    } else {
+      return Either.left(new Failure(drg.getFailureMessage()));
+    }
   }
 
   private DecisionEvaluationResult evaluateDecisionInDrg(
@@ -139,6 +139,12 @@ public final class BpmnStateBehavior {
     return variablesState.getVariableLocal(context.getElementInstanceKey(), variableName);
   }
 
+  public DirectBuffer getMultiInstanceOutputElement(
+      final BpmnElementContext context, final int loopCounter) {
+    return elementInstanceState.getMultiInstanceOutputElement(
+        context.getElementInstanceKey(), loopCounter);
+  }
+
   public void setLocalVariable(
       final BpmnElementContext context,
       final DirectBuffer variableName,
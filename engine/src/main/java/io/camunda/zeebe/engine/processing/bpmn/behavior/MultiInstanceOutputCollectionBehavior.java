@@ -8,15 +8,19 @@
 package io.camunda.zeebe.engine.processing.bpmn.behavior;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.MultiInstanceOutputElementRecord;
+import io.camunda.zeebe.protocol.record.intent.MultiInstanceOutputElementIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import java.util.Optional;
@@ -24,20 +28,42 @@ import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the output elements of the inner instances of a multi-instance body in its output
+ * collection.
+ *
+ * <p>Rewriting the whole collection for every inner instance is quadratic in the size of the
+ * collection. If the collection can't be observed before the multi-instance body completes, the
+ * output element of a completed inner instance is collected with a {@link
+ * MultiInstanceOutputElementIntent#COLLECTED} event instead. The event stores it apart from the
+ * variables, keyed by the body and the loop counter of the instance. The output collection is then
+ * written only once, when the multi-instance body completes, so the output elements never become
+ * visible as variables. They are removed together with the body afterwards.
+ *
+ * <p>The collection can be observed by the inner instances of a sequential multi-instance body, and
+ * by a completion condition that refers to it. In these cases, the output element is written into
+ * the output collection directly.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer updatedOutputCollectionBuffer = new UnsafeBuffer(0, 0);
+  private final MultiInstanceOutputElementRecord outputElementRecord =
+      new MultiInstanceOutputElementRecord();
 
   private final BpmnStateBehavior stateBehavior;
   private final ExpressionProcessor expressionProcessor;
+  private final StateWriter stateWriter;
 
   MultiInstanceOutputCollectionBehavior(
-      final BpmnStateBehavior stateBehavior, final ExpressionProcessor expressionProcessor) {
+      final BpmnStateBehavior stateBehavior,
+      final ExpressionProcessor expressionProcessor,
+      final StateWriter stateWriter) {
     this.stateBehavior = stateBehavior;
     this.expressionProcessor = expressionProcessor;
+    this.stateWriter = stateWriter;
   }
 
   public void initializeOutputCollection(
@@ -56,6 +82,11 @@ public final class MultiInstanceOutputCollectionBehavior {
     stateBehavior.setLocalVariable(context, variableName, outputCollectionBuffer, 0, length);
   }
 
+  /**
+   * Writes the output element of the completed inner instance into the output collection, or
+   * collects it to be written when the multi-instance body completes. A collected output element is
+   * verified when the last inner instance completes, since this requires reading the collection.
+   */
   public Either<Failure, Void> updateOutputCollection(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext childContext,
@@ -82,27 +113,146 @@ public final class MultiInstanceOutputCollectionBehavior {
     return readOutputElementVariable(element, childContext)
         .flatMap(
             elementVariable -> {
-              // we need to read the output element variable before the current collection
-              // is read, because readOutputElementVariable(Context) uses the same
-              // buffer as getVariableLocal this could also be avoided by cloning the current
-              // collection, but that is slower.
-              final var currentCollection =
-                  stateBehavior.getLocalVariable(flowScopeContext, variableName);
-              return replaceAt(
-                      currentCollection,
-                      loopCounter,
-                      elementVariable,
-                      flowScopeContext.getElementInstanceKey(),
-                      variableName)
-                  .map(
-                      updatedCollection -> {
-                        stateBehavior.setLocalVariable(
-                            flowScopeContext, variableName, updatedCollection);
-                        return null;
-                      });
+              if (isObservableBeforeCompletion(element, variableName)) {
+                return replaceOutputElement(
+                    flowScopeContext, variableName, loopCounter, elementVariable);
+              }
+
+              collectOutputElement(flowScopeContext, loopCounter, elementVariable);
+              return verifyCollectedOutputElements(childContext, flowScopeContext, variableName);
             });
   }
 
+  private void collectOutputElement(
+      final BpmnElementContext flowScopeContext,
+      final int loopCounter,
+      final DirectBuffer elementVariable) {
+    final var multiInstanceBodyKey = flowScopeContext.getElementInstanceKey();
+    outputElementRecord
+        .setMultiInstanceBodyKey(multiInstanceBodyKey)
+        .setLoopCounter(loopCounter)
+        .setOutputElement(elementVariable)
+        .setProcessInstanceKey(flowScopeContext.getProcessInstanceKey())
+        .setProcessDefinitionKey(flowScopeContext.getProcessDefinitionKey());
+
+    stateWriter.appendFollowUpEvent(
+        multiInstanceBodyKey, MultiInstanceOutputElementIntent.COLLECTED, outputElementRecord);
+  }
+
+  private boolean isObservableBeforeCompletion(
+      final ExecutableMultiInstanceBody element, final DirectBuffer variableName) {
+    final var loopCharacteristics = element.getLoopCharacteristics();
+    if (loopCharacteristics.isSequential()) {
+      return true;
+    }
+
+    // the condition can only access the collection if it refers to it by its name
+    final var name = bufferAsString(variableName);
+    return loopCharacteristics
+        .getCompletionCondition()
+        .map(condition -> condition.getReferencedVariableNames().contains(name))
+        .orElse(false);
+  }
+
+  private Either<Failure, Void> replaceOutputElement(
+      final BpmnElementContext flowScopeContext,
+      final DirectBuffer variableName,
+      final int loopCounter,
+      final DirectBuffer elementVariable) {
+    // we need to read the output element variable before the current collection is read, because
+    // readOutputElementVariable(Context) uses the same buffer as getVariableLocal this could also
+    // be avoided by cloning the current collection, but that is slower.
+    final var currentCollection = stateBehavior.getLocalVariable(flowScopeContext, variableName);
+    return replaceAt(
+            currentCollection,
+            loopCounter,
+            elementVariable,
+            flowScopeContext.getElementInstanceKey(),
+            variableName)
+        .map(
+            updatedCollection -> {
+              stateBehavior.setLocalVariable(flowScopeContext, variableName, updatedCollection);
+              return null;
+            });
+  }
+
+  private Either<Failure, Void> verifyCollectedOutputElements(
+      final BpmnElementContext childContext,
+      final BpmnElementContext flowScopeContext,
+      final DirectBuffer variableName) {
+    final var flowScopeInstance = stateBehavior.getFlowScopeInstance(childContext);
+    if (flowScopeInstance.getNumberOfActiveElementInstances() > 1) {
+      // the collection is verified only once, when the last inner instance completes
+      return Either.right(null);
+    }
+
+    // the loop counter of the body is the highest loop counter of its inner instances
+    final var currentCollection = stateBehavior.getLocalVariable(flowScopeContext, variableName);
+    final var optValidationFailure =
+        validateCanBeReplacedAt(
+            currentCollection,
+            flowScopeInstance.getMultiInstanceLoopCounter(),
+            flowScopeContext.getElementInstanceKey(),
+            variableName);
+    if (optValidationFailure.isPresent()) {
+      return Either.left(optValidationFailure.get());
+    }
+    return Either.right(null);
+  }
+
+  /**
+   * Writes the collected output elements of the inner instances into the output collection. Must be
+   * called when the multi-instance body completes, before the output collection is propagated. The
+   * elements of inner instances which didn't complete keep their previous value in the collection.
+   */
+  public void completeOutputCollection(
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext context,
+      final DirectBuffer variableName) {
+    if (isObservableBeforeCompletion(element, variableName)) {
+      // the output elements were written into the collection directly
+      return;
+    }
+
+    final var currentCollection = stateBehavior.getLocalVariable(context, variableName);
+    if (currentCollection == null) {
+      return;
+    }
+
+    // the collection must be copied, because its buffer is only valid until the next state access
+    final var collection = cloneBuffer(currentCollection);
+    outputCollectionReader.wrap(collection, 0, collection.capacity());
+    final var token = outputCollectionReader.readToken();
+    if (token.getType() != MsgPackType.ARRAY) {
+      // the collection was overwritten after the last inner instance completed; keep the new value
+      return;
+    }
+
+    final int size = token.getSize();
+    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+    outputCollectionWriter.writeArrayHeader(size);
+
+    boolean hasOutputElements = false;
+    for (int loopCounter = 1; loopCounter <= size; loopCounter++) {
+      final var offsetBefore = outputCollectionReader.getOffset();
+      outputCollectionReader.skipValue();
+      final var offsetAfter = outputCollectionReader.getOffset();
+
+      final var outputElement = stateBehavior.getMultiInstanceOutputElement(context, loopCounter);
+      if (outputElement != null) {
+        outputCollectionWriter.writeRaw(outputElement);
+        hasOutputElements = true;
+      } else {
+        outputCollectionWriter.writeRaw(collection, offsetBefore, offsetAfter - offsetBefore);
+      }
+    }
+
+    if (hasOutputElements) {
+      final var length = outputCollectionWriter.getOffset();
+      stateBehavior.setLocalVariable(context, variableName, outputCollectionBuffer, 0, length);
+    }
+  }
+
   private Either<Failure, DirectBuffer> readOutputElementVariable(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     final var expression = element.getLoopCharacteristics().getOutputElement().orElseThrow();
@@ -142,6 +292,18 @@ public final class MultiInstanceOutputCollectionBehavior {
     return Either.right(updatedOutputCollectionBuffer);
   }
 
+  private Optional<Failure> validateCanBeReplacedAt(
+      final DirectBuffer array,
+      final int index,
+      final long variableScopeKey,
+      final DirectBuffer variableName) {
+
+    outputCollectionReader.wrap(array, 0, array.capacity());
+    final var token = outputCollectionReader.readToken();
+
+    return validateIsCollectionAndHasAppropriateSIze(index, variableScopeKey, variableName, token);
+  }
+
   private Optional<Failure> validateIsCollectionAndHasAppropriateSIze(
       final int index,
       final long variableScopeKey,
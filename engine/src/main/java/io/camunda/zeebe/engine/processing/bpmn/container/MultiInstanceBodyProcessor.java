@@ -62,8 +62,16 @@ public final class MultiInstanceBodyProcessor
   private final BpmnStateBehavior stateBehavior;
   private final BpmnIncidentBehavior incidentBehavior;
   private final MultiInstanceOutputCollectionBehavior multiInstanceOutputCollectionBehavior;
-
-  public MultiInstanceBodyProcessor(final BpmnBehaviors bpmnBehaviors) {
+  private final int activationChunkSize;
+
+  /**
+   * @param activationChunkSize the number of inner instances of a parallel multi-instance body
+   *     which are activated at once; the next chunk is activated when the last inner instance of
+   *     the previous chunk is activated. If it is 0, all inner instances are activated at once.
+   */
+  public MultiInstanceBodyProcessor(
+      final BpmnBehaviors bpmnBehaviors, final int activationChunkSize) {
+    this.activationChunkSize = activationChunkSize;
     stateTransitionBehavior = bpmnBehaviors.stateTransitionBehavior();
     eventSubscriptionBehavior = bpmnBehaviors.eventSubscriptionBehavior();
     stateBehavior = bpmnBehaviors.stateBehavior();
@@ -101,7 +109,12 @@ public final class MultiInstanceBodyProcessor
     element
         .getLoopCharacteristics()
         .getOutputCollection()
-        .ifPresent(variableName -> stateBehavior.propagateVariable(context, variableName));
+        .ifPresent(
+            variableName -> {
+              multiInstanceOutputCollectionBehavior.completeOutputCollection(
+                  element, context, variableName);
+              stateBehavior.propagateVariable(context, variableName);
+            });
 
     stateTransitionBehavior
         .transitionToCompleted(element, context)
@@ -139,7 +152,10 @@ public final class MultiInstanceBodyProcessor
               final var index = loopCounter - 1;
               if (index < collection.size()) {
                 final var item = collection.get(index);
-                return Either.right(item);
+                setLoopVariables(multiInstanceBody, childContext, loopCounter, item);
+                activateNextChunk(
+                    multiInstanceBody, flowScopeContext, loopCounter, collection.size());
+                return Either.right(null);
               } else {
                 final var incidentMessage =
                     String.format(
@@ -148,11 +164,6 @@ public final class MultiInstanceBodyProcessor
                 final var failure = new Failure(incidentMessage, ErrorType.EXTRACT_VALUE_ERROR);
                 return Either.left(failure);
               }
-            })
-        .map(
-            inputElement -> {
-              setLoopVariables(multiInstanceBody, childContext, loopCounter, inputElement);
-              return null;
             });
   }
 
@@ -161,6 +172,7 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext flowScopeContext,
       final BpmnElementContext childContext) {
+    // the output collection is updated first, because the completion condition may refer to it
     final var updatedOrFailure =
         multiInstanceOutputCollectionBehavior.updateOutputCollection(
             element, childContext, flowScopeContext);
@@ -271,11 +283,55 @@ public final class MultiInstanceBodyProcessor
 
     if (loopCharacteristics.isSequential()) {
       createInnerInstance(element, activated);
+    } else if (activationChunkSize > 0) {
+      createInnerInstances(
+          element, activated, Math.min(activationChunkSize, inputCollection.size()));
     } else {
       inputCollection.forEach(item -> createInnerInstance(element, activated));
     }
   }
 
+  /**
+   * Activates the next chunk of inner instances of a parallel multi-instance body, if the given
+   * inner instance is the last one of its chunk. The chunks are activated one after the other, so
+   * the loop counters of the inner instances keep the order of the input collection.
+   *
+   * <p>The activation of an inner instance is repeated if an incident on it is resolved. The next
+   * chunk is activated only if no inner instance was activated after the given one, i.e. the loop
+   * counter of the body still equals the loop counter of the inner instance. Otherwise, the next
+   * chunk was activated already.
+   */
+  private void activateNextChunk(
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext flowScopeContext,
+      final int loopCounter,
+      final int inputCollectionSize) {
+    if (activationChunkSize <= 0
+        || element.getLoopCharacteristics().isSequential()
+        || loopCounter % activationChunkSize != 0
+        || loopCounter >= inputCollectionSize) {
+      return;
+    }
+
+    final var bodyInstance = stateBehavior.getElementInstance(flowScopeContext);
+    if (bodyInstance.getMultiInstanceLoopCounter() != loopCounter) {
+      return;
+    }
+
+    final var remainingInstances = inputCollectionSize - loopCounter;
+    createInnerInstances(
+        element, flowScopeContext, Math.min(activationChunkSize, remainingInstances));
+  }
+
+  private void createInnerInstances(
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext context,
+      final int numberOfInstances) {
+    for (int i = 0; i < numberOfInstances; i++) {
+      createInnerInstance(element, context);
+    }
+  }
+
   private void terminate(
       final ExecutableMultiInstanceBody element, final BpmnElementContext flowScopeContext) {
 
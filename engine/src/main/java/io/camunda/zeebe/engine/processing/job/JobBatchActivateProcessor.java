@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 
 import io.camunda.zeebe.engine.metrics.JobMetrics;
@@ -20,6 +21,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWri
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.KeyGenerator;
 import io.camunda.zeebe.engine.state.immutable.ZeebeState;
+import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -29,6 +31,8 @@ import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.ByteValue;
 import io.camunda.zeebe.util.Either;
+import java.util.HashSet;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 public final class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchRecord> {
@@ -73,7 +77,18 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private boolean isValid(final JobBatchRecord record) {
     return record.getMaxJobsToActivate() > 0
         && record.getTimeout() > 0
-        && record.getTypeBuffer().capacity() > 0;
+        && record.getTypeBuffer().capacity() > 0
+        && hasOnlyPresentAdditionalTypes(record)
+        && findRepeatedType(record) == null;
+  }
+
+  private boolean hasOnlyPresentAdditionalTypes(final JobBatchRecord record) {
+    for (final StringValue additionalType : record.additionalTypes()) {
+      if (additionalType.getValue().capacity() < 1) {
+        return false;
+      }
+    }
+    return true;
   }
 
   private void activateJobs(final TypedRecord<JobBatchRecord> record) {
@@ -88,6 +103,23 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     activateJobBatch(record, value, jobBatchKey, activatedJobCount);
   }
 
+  /**
+   * Returns the first job type which is requested more than once, either because an additional
+   * type equals the type or because it is listed multiple times. Repeated types would collect the
+   * same jobs twice.
+   */
+  private String findRepeatedType(final JobBatchRecord record) {
+    final Set<String> types = new HashSet<>();
+    types.add(record.getType());
+    for (final StringValue additionalType : record.additionalTypes()) {
+      final String type = bufferAsString(additionalType.getValue());
+      if (!types.add(type)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
   private void rejectCommand(final TypedRecord<JobBatchRecord> record) {
     final RejectionType rejectionType;
     final String rejectionReason;
@@ -110,6 +142,16 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     } else if (value.getTypeBuffer().capacity() < 1) {
       rejectionType = RejectionType.INVALID_ARGUMENT;
       rejectionReason = String.format(format, "type", "present", "blank");
+    } else if (!hasOnlyPresentAdditionalTypes(value)) {
+      rejectionType = RejectionType.INVALID_ARGUMENT;
+      rejectionReason = String.format(format, "additional types", "present", "blank");
+    } else if (findRepeatedType(value) != null) {
+      rejectionType = RejectionType.INVALID_ARGUMENT;
+      rejectionReason =
+          String.format(
+              "Expected to activate job batch with distinct job types, but type '%s' was "
+                  + "requested more than once",
+              findRepeatedType(value));
     } else {
       throw new IllegalStateException(
           "Expected to reject an invalid activate job batch command, but it appears to be valid");
@@ -126,7 +168,11 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
       final Integer activatedCount) {
     stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, value);
     responseWriter.writeEventOnCommand(jobBatchKey, JobBatchIntent.ACTIVATED, value, record);
-    jobMetrics.jobActivated(value.getType(), activatedCount);
+    if (value.hasAdditionalTypes()) {
+      value.jobs().forEach(job -> jobMetrics.jobActivated(job.getType(), 1));
+    } else {
+      jobMetrics.jobActivated(value.getType(), activatedCount);
+    }
   }
 
   private void raiseIncidentJobTooLargeForMessageSize(final long jobKey, final JobRecord job) {
@@ -18,7 +18,10 @@ import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
@@ -29,10 +32,12 @@ import org.agrona.collections.ObjectHashSet;
 /**
  * Collects jobs to be activated as part of a {@link JobBatchRecord}. Activate-able jobs are read
  * from the {@link JobState}, resolving and setting their variables from the {@link VariableState},
- * and added to the given batch record.
+ * and added to the given batch record. If the batch requests additional job types, they are
+ * collected one after the other until the batch is full.
  */
 final class JobBatchCollector {
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+  private final List<DirectBuffer> jobTypes = new ArrayList<>();
 
   private final JobState jobState;
   private final VariableState variableState;
@@ -76,8 +81,7 @@ final class JobBatchCollector {
     final var jobCopyBuffer = new ExpandableArrayBuffer();
     final var unwritableJob = new MutableReference<TooLargeJob>();
 
-    jobState.forEachActivatableJobs(
-        value.getTypeBuffer(),
+    final BiFunction<Long, JobRecord, Boolean> jobCollector =
         (key, jobRecord) -> {
           // fill in the job record properties first in order to accurately estimate its size before
           // adding it to the batch
@@ -107,7 +111,14 @@ final class JobBatchCollector {
           }
 
           return activatedCount.value < maxActivatedCount;
-        });
+        };
+
+    for (final DirectBuffer jobType : collectJobTypes(value)) {
+      if (activatedCount.value >= maxActivatedCount || value.getTruncated()) {
+        break;
+      }
+      jobState.forEachActivatableJobs(jobType, jobCollector);
+    }
 
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
@@ -142,6 +153,17 @@ final class JobBatchCollector {
     arrayValueJob.wrap(jobCopyBuffer, 0, jobRecord.getLength());
   }
 
+  private List<DirectBuffer> collectJobTypes(final JobBatchRecord batchRecord) {
+    jobTypes.clear();
+    jobTypes.add(batchRecord.getTypeBuffer());
+    // copy the additional types, as the batch record is modified while its jobs are collected
+    batchRecord
+        .additionalTypes()
+        .forEach(jobType -> jobTypes.add(BufferUtil.cloneBuffer(jobType.getValue())));
+
+    return jobTypes;
+  }
+
   private Collection<DirectBuffer> collectVariableNames(final JobBatchRecord batchRecord) {
     final ValueArray<StringValue> requestedVariables = batchRecord.variables();
 
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.CommandProcessor.CommandControl;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectQueue;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.KeyGenerator;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchJobResult;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Processes a command which completes or fails several jobs of the partition at once. The command
+ * contains the key of each job, and a job record with the arguments of the job's command, e.g. the
+ * variables to complete the job with.
+ *
+ * <p>Each job is processed by the processor of the single job command, so a job of the batch is
+ * completed or failed exactly like by a single command, and the same events and rejections are
+ * written. The rejection of a job doesn't affect the other jobs of the batch. The result of each
+ * job is added to the {@link JobBatchRecord#jobResults() job results} of the batch event instead,
+ * which is the response to the command.
+ */
+public final class JobBatchCommandProcessor
+    implements TypedRecordProcessor<JobBatchRecord>, CommandControl<JobRecord> {
+
+  private static final String JOB_COUNT_MISMATCH_MESSAGE =
+      "Expected to %s job batch with a job for each job key, but it has %d job keys and %d jobs";
+
+  private final SideEffectQueue sideEffectQueue = new SideEffectQueue();
+  private final JobCommand jobCommand = new JobCommand();
+  private final JobBatchRecord batchResult = new JobBatchRecord();
+
+  private final String intentName;
+  private final JobIntent jobIntent;
+  private final JobBatchIntent batchResultIntent;
+  private final CommandProcessor<JobRecord> jobCommandProcessor;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final TypedRejectionWriter rejectionWriter;
+
+  private boolean isAccepted;
+  private Intent newState;
+  private JobRecord updatedValue;
+  private RejectionType rejectionType;
+  private String rejectionReason;
+
+  public JobBatchCommandProcessor(
+      final String intentName,
+      final JobIntent jobIntent,
+      final JobBatchIntent batchResultIntent,
+      final CommandProcessor<JobRecord> jobCommandProcessor,
+      final KeyGenerator keyGenerator,
+      final Writers writers) {
+    this.intentName = intentName;
+    this.jobIntent = jobIntent;
+    this.batchResultIntent = batchResultIntent;
+    this.jobCommandProcessor = jobCommandProcessor;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    rejectionWriter = writers.rejection();
+  }
+
+  @Override
+  public void processRecord(
+      final TypedRecord<JobBatchRecord> record,
+      final TypedResponseWriter responseWriter,
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
+    sideEffect.accept(sideEffectQueue);
+    sideEffectQueue.clear();
+    sideEffectQueue.add(responseWriter);
+
+    final JobBatchRecord value = record.getValue();
+    final long jobKeyCount = value.jobKeys().stream().count();
+    final long jobCount = value.jobs().stream().count();
+    if (jobKeyCount != jobCount) {
+      final String reason =
+          String.format(JOB_COUNT_MISMATCH_MESSAGE, intentName, jobKeyCount, jobCount);
+      rejectionWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    batchResult.reset();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+    for (final LongValue jobKey : value.jobKeys()) {
+      jobCommand.wrap(record, jobKey.getValue(), jobIntent, jobs.next());
+      batchResult.jobKeys().add().setValue(jobCommand.getKey());
+      processJobCommand(batchResult.jobResults().add().setJobKey(jobCommand.getKey()));
+    }
+
+    final long batchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(batchKey, batchResultIntent, batchResult);
+    responseWriter.writeEventOnCommand(batchKey, batchResultIntent, batchResult, record);
+  }
+
+  private void processJobCommand(final JobBatchJobResult jobResult) {
+    isAccepted = false;
+    jobCommandProcessor.onCommand(jobCommand, this, sideEffectQueue::add);
+
+    final long jobKey = jobCommand.getKey();
+    if (isAccepted) {
+      stateWriter.appendFollowUpEvent(jobKey, newState, updatedValue);
+      jobCommandProcessor.afterAccept(commandWriter, stateWriter, jobKey, newState, updatedValue);
+    } else {
+      rejectionWriter.appendRejection(jobCommand, rejectionType, rejectionReason);
+      jobResult.setRejectionType(rejectionType).setRejectionReason(rejectionReason);
+    }
+  }
+
+  @Override
+  public long accept(final Intent newState, final JobRecord updatedValue) {
+    isAccepted = true;
+    this.newState = newState;
+    this.updatedValue = updatedValue;
+    return jobCommand.getKey();
+  }
+
+  @Override
+  public void reject(final RejectionType type, final String reason) {
+    isAccepted = false;
+    rejectionType = type;
+    rejectionReason = reason;
+  }
+
+  /** The command of a single job of the batch, as it is passed to the job command processor. */
+  private static final class JobCommand implements TypedRecord<JobRecord> {
+
+    private TypedRecord<JobBatchRecord> batchCommand;
+    private long key;
+    private JobIntent intent;
+    private JobRecord value;
+
+    private void wrap(
+        final TypedRecord<JobBatchRecord> batchCommand,
+        final long key,
+        final JobIntent intent,
+        final JobRecord value) {
+      this.batchCommand = batchCommand;
+      this.key = key;
+      this.intent = intent;
+      this.value = value;
+    }
+
+    @Override
+    public String toJson() {
+      return null;
+    }
+
+    @Override
+    public long getPosition() {
+      return batchCommand.getPosition();
+    }
+
+    @Override
+    public long getSourceRecordPosition() {
+      return batchCommand.getSourceRecordPosition();
+    }
+
+    @Override
+    public long getTimestamp() {
+      return batchCommand.getTimestamp();
+    }
+
+    @Override
+    public Intent getIntent() {
+      return intent;
+    }
+
+    @Override
+    public int getPartitionId() {
+      return batchCommand.getPartitionId();
+    }
+
+    @Override
+    public RecordType getRecordType() {
+      return RecordType.COMMAND;
+    }
+
+    @Override
+    public RejectionType getRejectionType() {
+      return RejectionType.NULL_VAL;
+    }
+
+    @Override
+    public String getRejectionReason() {
+      return "";
+    }
+
+    @Override
+    public String getBrokerVersion() {
+      return batchCommand.getBrokerVersion();
+    }
+
+    @Override
+    public ValueType getValueType() {
+      return ValueType.JOB;
+    }
+
+    @Override
+    public Record<JobRecord> copyOf() {
+      return this;
+    }
+
+    @Override
+    public long getKey() {
+      return key;
+    }
+
+    @Override
+    public JobRecord getValue() {
+      return value;
+    }
+
+    @Override
+    public int getRequestStreamId() {
+      return batchCommand.getRequestStreamId();
+    }
+
+    @Override
+    public long getRequestId() {
+      return batchCommand.getRequestId();
+    }
+
+    @Override
+    public int getLength() {
+      return value.getLength();
+    }
+  }
+}
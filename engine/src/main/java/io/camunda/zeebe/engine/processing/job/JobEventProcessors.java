@@ -44,16 +44,13 @@ public final class JobEventProcessors {
             eventTriggerBehavior);
 
     final var jobBackoffChecker = new JobBackoffChecker(jobState);
+    final var jobCompleteProcessor = new JobCompleteProcessor(zeebeState, jobMetrics, eventHandle);
+    final var jobFailProcessor =
+        new JobFailProcessor(
+            zeebeState, zeebeState.getKeyGenerator(), jobMetrics, jobBackoffChecker);
     typedRecordProcessors
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.COMPLETE,
-            new JobCompleteProcessor(zeebeState, jobMetrics, eventHandle))
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.FAIL,
-            new JobFailProcessor(
-                zeebeState, zeebeState.getKeyGenerator(), jobMetrics, jobBackoffChecker))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, jobCompleteProcessor)
+        .onCommand(ValueType.JOB, JobIntent.FAIL, jobFailProcessor)
         .onCommand(
             ValueType.JOB,
             JobIntent.THROW_ERROR,
@@ -70,6 +67,26 @@ public final class JobEventProcessors {
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
                 writers, zeebeState, zeebeState.getKeyGenerator(), jobMetrics))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCommandProcessor(
+                "complete",
+                JobIntent.COMPLETE,
+                JobBatchIntent.COMPLETED,
+                jobCompleteProcessor,
+                keyGenerator,
+                writers))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.FAIL,
+            new JobBatchCommandProcessor(
+                "fail",
+                JobIntent.FAIL,
+                JobBatchIntent.FAILED,
+                jobFailProcessor,
+                keyGenerator,
+                writers))
         .withListener(new JobTimeoutTrigger(jobState))
         .withListener(jobBackoffChecker)
         .withListener(
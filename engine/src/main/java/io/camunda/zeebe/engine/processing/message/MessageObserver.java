@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.MessageMetrics;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
@@ -18,6 +20,10 @@ import java.time.Duration;
 public final class MessageObserver implements StreamProcessorLifecycleAware {
 
   public static final Duration MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL = Duration.ofSeconds(60);
+  // a run expires at most as many messages as the deadline cache holds by default, such that it is
+  // usually served from the cache; more expired messages are expired by the rescheduled runs
+  public static final int MESSAGE_TIME_TO_LIVE_CHECK_EXPIRY_LIMIT =
+      EngineConfiguration.DEFAULT_DUE_DATE_CACHE_CAPACITY;
 
   public static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofSeconds(10);
   public static final Duration SUBSCRIPTION_CHECK_INTERVAL = Duration.ofSeconds(30);
@@ -40,7 +46,12 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     final ActorControl actor = context.getActor();
     // it is safe to reuse the write because we running in the same actor/thread
     final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(context.getLogStreamWriter(), messageState);
+        new MessageTimeToLiveChecker(
+            context.getLogStreamWriter(),
+            messageState,
+            MESSAGE_TIME_TO_LIVE_CHECK_EXPIRY_LIMIT,
+            actor::submit,
+            new MessageMetrics(context.getLogStream().getPartitionId()));
     context.getActor().runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
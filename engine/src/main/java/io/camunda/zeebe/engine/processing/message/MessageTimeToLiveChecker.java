@@ -7,33 +7,91 @@
  */
 package io.camunda.zeebe.engine.processing.message;
 
-import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.metrics.MessageMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.engine.state.message.StoredMessage;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.function.Consumer;
 
+/**
+ * Writes the expire commands for the messages which are past their deadline. The commands are
+ * written in batches, as many per flush as fit into one batch of the log stream writer.
+ *
+ * <p>A single run writes at most {@code expiryLimit} commands, so that a burst of expired messages
+ * doesn't block the stream processor. If more messages are expired, the checker yields and
+ * reschedules itself immediately. The next run continues after the last written message, because
+ * the written commands are not processed yet and the messages are still in the state.
+ */
 public final class MessageTimeToLiveChecker implements Runnable {
 
-  private final TypedCommandWriter writer;
+  private static final int RECORD_METADATA_LENGTH = new RecordMetadata().getLength();
+
+  private final TypedStreamWriter writer;
   private final MessageState messageState;
+  private final int expiryLimit;
+  private final Consumer<Runnable> rescheduler;
+  private final MessageMetrics metrics;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
+  private Index lastWrittenIndex;
+  private long pendingDeadline;
+  private long pendingMessageKey;
+  private int commandsInBatch;
+  private int commandsInRun;
+  private boolean writeFailed;
+
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
+      final TypedStreamWriter writer,
+      final MessageState messageState,
+      final int expiryLimit,
+      final Consumer<Runnable> rescheduler,
+      final MessageMetrics metrics) {
     this.writer = writer;
     this.messageState = messageState;
+    this.expiryLimit = expiryLimit;
+    this.rescheduler = rescheduler;
+    this.metrics = metrics;
   }
 
   @Override
   public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+    commandsInRun = 0;
+    writeFailed = false;
+    writer.reset();
+
+    final long now = ActorClock.currentTimeMillis();
+    final long nextDeadline =
+        messageState.visitMessagesWithDeadlineBefore(
+            now, lastWrittenIndex, this::writeDeleteMessageCommand);
+    flush();
+
+    metrics.setExpiryLag(nextDeadline >= 0 && nextDeadline <= now ? now - nextDeadline : 0);
+
+    if (writeFailed) {
+      // continue after the last written message with the next scheduled run
+      return;
+    }
+
+    if (nextDeadline >= 0 && nextDeadline <= now) {
+      // the visit stopped before all expired messages were written, e.g. because the limit was
+      // reached; continue after the last written message
+      rescheduler.accept(this);
+    } else {
+      lastWrittenIndex = null;
+    }
   }
 
   private boolean writeDeleteMessageCommand(final StoredMessage storedMessage) {
+    if (commandsInRun >= expiryLimit) {
+      return false;
+    }
+
     final var message = storedMessage.getMessage();
 
     deleteMessageCommand.reset();
@@ -47,11 +105,36 @@ public final class MessageTimeToLiveChecker implements Runnable {
       deleteMessageCommand.setMessageId(message.getMessageIdBuffer());
     }
 
-    writer.reset();
+    final int commandLength = deleteMessageCommand.getLength() + RECORD_METADATA_LENGTH;
+    if (commandsInBatch > 0 && !writer.canWriteEventOfLength(commandLength) && !flush()) {
+      return false;
+    }
+
     writer.appendFollowUpCommand(
         storedMessage.getMessageKey(), MessageIntent.EXPIRE, deleteMessageCommand);
+    pendingDeadline = message.getDeadline();
+    pendingMessageKey = storedMessage.getMessageKey();
+    commandsInBatch++;
+    commandsInRun++;
+    return true;
+  }
+
+  private boolean flush() {
+    if (commandsInBatch == 0) {
+      return true;
+    }
 
     final long position = writer.flush();
-    return position > 0;
+    writer.reset();
+
+    if (position > 0) {
+      lastWrittenIndex = new Index(pendingDeadline, pendingMessageKey);
+      metrics.messagesExpired(commandsInBatch);
+    } else {
+      writeFailed = true;
+    }
+
+    commandsInBatch = 0;
+    return !writeFailed;
   }
 }
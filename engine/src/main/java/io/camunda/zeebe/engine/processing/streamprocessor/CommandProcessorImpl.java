@@ -76,7 +76,7 @@ public final class CommandProcessorImpl<T extends UnifiedRecordValue>
 
     sideEffect.accept(sideEffectQueue);
     sideEffectQueue.clear();
-    sideEffectQueue.add(responseWriter::flush);
+    sideEffectQueue.add(responseWriter);
 
     final boolean shouldRespond = wrappedProcessor.onCommand(command, this, sideEffectQueue::add);
 
@@ -49,6 +49,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private StreamProcessorListener streamProcessorListener = NOOP_LISTENER;
 
   private int maxFragmentSize;
+  private int maxCommandsInBatch = 1;
+  private long maxBatchSize;
+  private boolean fastReplay;
+  private int maxRecordsInReplayBatch = 1;
+  private int multiInstanceActivationChunkSize;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
 
   public ProcessingContext() {
@@ -122,6 +127,26 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public ProcessingContext maxBatchSize(final long maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public ProcessingContext fastReplay(final boolean fastReplay) {
+    this.fastReplay = fastReplay;
+    return this;
+  }
+
+  public ProcessingContext maxRecordsInReplayBatch(final int maxRecordsInReplayBatch) {
+    this.maxRecordsInReplayBatch = maxRecordsInReplayBatch;
+    return this;
+  }
+
   public ProcessingContext eventApplier(final EventApplier eventApplier) {
     this.eventApplier = eventApplier;
     return this;
@@ -203,6 +228,32 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return eventApplier;
   }
 
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public long getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public ProcessingContext multiInstanceActivationChunkSize(
+      final int multiInstanceActivationChunkSize) {
+    this.multiInstanceActivationChunkSize = multiInstanceActivationChunkSize;
+    return this;
+  }
+
+  public boolean isFastReplay() {
+    return fastReplay;
+  }
+
+  public int getMaxRecordsInReplayBatch() {
+    return maxRecordsInReplayBatch;
+  }
+
+  public int getMultiInstanceActivationChunkSize() {
+    return multiInstanceActivationChunkSize;
+  }
+
   public StreamProcessorListener getStreamProcessorListener() {
     return streamProcessorListener;
   }
@@ -16,6 +16,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWri
 import io.camunda.zeebe.engine.state.mutable.MutableLastProcessedPositionState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
@@ -34,7 +35,10 @@ import io.camunda.zeebe.util.exception.RecoverableException;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.prometheus.client.Histogram;
 import java.time.Duration;
+import java.util.BitSet;
 import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
 import org.slf4j.Logger;
 
 /**
@@ -75,6 +79,14 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If more than one command is allowed per batch, {@code processCommand()} continues with the
+ * next commands on the log in the same transaction, until the batch is full, the processing should
+ * pause, or a command has a response or side effect to flush. The follow-up records of all
+ * commands of the batch are written together, and the transaction is committed once. If a command
+ * of the batch can't be processed, or the batch can't be written, the transaction is rolled back
+ * and the commands are processed again one by one, such that the error handling applies only to
+ * the failing command.
  */
 public final class ProcessingStateMachine {
 
@@ -97,6 +109,8 @@ public final class ProcessingStateMachine {
       "Expected to process record '%s' without errors, but exception occurred with message '%s'.";
   private static final String NOTIFY_PROCESSED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for record {} successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_BATCH_ABORTED =
+      "Expected to process record '{} {}' as part of a batch, but caught an exception. Roll back the batch and process its commands one by one.";
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
 
@@ -115,6 +129,7 @@ public final class ProcessingStateMachine {
   private final MutableZeebeState zeebeState;
   private final MutableLastProcessedPositionState lastProcessedPositionState;
   private final RecordMetadata metadata = new RecordMetadata();
+  private final RecordMetadata batchMetadata = new RecordMetadata();
   private final TypedResponseWriter responseWriter;
   private final ActorControl actor;
   private final LogStream logStream;
@@ -132,6 +147,8 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedCommand;
   private final StreamProcessorMetrics metrics;
   private final StreamProcessorListener streamProcessorListener;
+  private final int maxCommandsInBatch;
+  private final int minBatchCapacity;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -147,6 +164,18 @@ public final class ProcessingStateMachine {
   private Histogram.Timer processingTimer;
   private boolean reachedEnd = true;
 
+  // current batch
+  private int commandsInBatch;
+  private long batchStartPosition = StreamProcessor.UNSET_POSITION;
+  // commands before this position are not batched, because a batch containing them failed before
+  private long unbatchedUntilPosition = StreamProcessor.UNSET_POSITION;
+  // the records of the current batch are copied, as the listener is only notified after the commit
+  private final ExpandableArrayBuffer batchRecordsBuffer = new ExpandableArrayBuffer();
+  private final IntArrayList batchRecordOffsets = new IntArrayList();
+  private final BitSet skippedBatchRecords = new BitSet();
+  private final LoggedEventImpl batchRecord = new LoggedEventImpl();
+  private int batchRecordsLength;
+
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
 
@@ -172,6 +201,13 @@ public final class ProcessingStateMachine {
 
     metrics = new StreamProcessorMetrics(partitionId);
     streamProcessorListener = context.getStreamProcessorListener();
+
+    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    // a batch is only extended while this much space is left, such that the follow-up records of
+    // the next command are not limited by the previous commands of the batch
+    final int maxFragmentSize = context.getMaxFragmentSize();
+    minBatchCapacity =
+        maxFragmentSize - (int) Math.min(context.getMaxBatchSize(), maxFragmentSize / 2);
   }
 
   private void skipRecord() {
@@ -232,7 +268,7 @@ public final class ProcessingStateMachine {
     metadata.reset();
     command.readMetadata(metadata);
 
-    currentProcessor = chooseNextProcessor(command);
+    currentProcessor = chooseNextProcessor(command, metadata);
     if (currentProcessor == null) {
       skipRecord();
       return;
@@ -250,11 +286,16 @@ public final class ProcessingStateMachine {
 
       metrics.processingLatency(command.getTimestamp(), processingStartTime);
 
+      batchStartPosition = command.getPosition();
+      commandsInBatch = 0;
       processInTransaction(typedCommand);
+      commandsInBatch = 1;
 
       metrics.commandsProcessed();
 
-      writeRecords();
+      if (processNextCommandsInBatch()) {
+        writeRecords();
+      }
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -271,15 +312,123 @@ public final class ProcessingStateMachine {
     }
   }
 
-  private TypedRecordProcessor<?> chooseNextProcessor(final LoggedEvent command) {
+  /**
+   * Processes the commands which follow the current command on the log as part of the current
+   * batch, as long as {@link #canExtendBatch()} allows it.
+   *
+   * @return false if a command of the batch failed, in which case the batch was aborted
+   */
+  private boolean processNextCommandsInBatch() {
+    while (canExtendBatch()) {
+      if (batchRecordOffsets.isEmpty()) {
+        // the first command is only copied once the batch is extended
+        addBatchRecord(currentRecord, false);
+      }
+
+      currentRecord = logStreamReader.next();
+
+      if (!eventFilter.applies(currentRecord)) {
+        addBatchRecord(currentRecord, true);
+        metrics.eventSkipped();
+        continue;
+      }
+
+      // the metadata of the current command is only replaced if the next one is processed
+      batchMetadata.reset();
+      currentRecord.readMetadata(batchMetadata);
+      final var processor = chooseNextProcessor(currentRecord, batchMetadata);
+      if (processor == null) {
+        addBatchRecord(currentRecord, true);
+        metrics.eventSkipped();
+        continue;
+      }
+
+      try {
+        currentProcessor = processor;
+        metadata.reset();
+        currentRecord.readMetadata(metadata);
+        final var value = recordValues.readRecordValue(currentRecord, metadata.getValueType());
+        typedCommand.wrap(currentRecord, metadata, value);
+
+        metrics.processingLatency(currentRecord.getTimestamp(), ActorClock.currentTimeMillis());
+
+        processInTransaction(typedCommand);
+        addBatchRecord(currentRecord, false);
+        commandsInBatch++;
+
+        metrics.commandsProcessed();
+      } catch (final UnrecoverableException unrecoverableException) {
+        throw unrecoverableException;
+      } catch (final Exception e) {
+        LOG.debug(ERROR_MESSAGE_BATCH_ABORTED, currentRecord, metadata, e);
+        abortBatch(currentRecord.getPosition());
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void addBatchRecord(final LoggedEvent record, final boolean skipped) {
+    record.write(batchRecordsBuffer, batchRecordsLength);
+    skippedBatchRecords.set(batchRecordOffsets.size(), skipped);
+    batchRecordOffsets.addInt(batchRecordsLength);
+    batchRecordsLength += record.getLength();
+  }
+
+  private void resetBatchRecords() {
+    batchRecordOffsets.clear();
+    skippedBatchRecords.clear();
+    batchRecordsLength = 0;
+  }
+
+  private boolean canExtendBatch() {
+    // responses and side effects refer to the state of the processor which processed the command,
+    // so they end the batch to be flushed before the next command is processed
+    return commandsInBatch < maxCommandsInBatch
+        && currentRecord.getPosition() >= unbatchedUntilPosition
+        && sideEffectProducer.isEmpty()
+        && logStreamWriter.canWriteEventOfLength(minBatchCapacity)
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  /**
+   * Rolls back the current batch and continues with its first command. The commands of the batch
+   * up to the given position are processed one by one afterwards.
+   */
+  private void abortBatch(final long lastUnbatchedPosition) {
+    unbatchedUntilPosition = lastUnbatchedPosition;
+
+    actor.runOnCompletion(
+        rollbackTransaction(),
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentRecord, metadata, throwable);
+          }
+
+          resetOutput(StreamProcessor.UNSET_POSITION);
+          resetBatchRecords();
+          processingTimer.close();
+          logStreamReader.seek(batchStartPosition);
+
+          currentProcessor = null;
+          actor.submit(this::readNextRecord);
+        });
+  }
+
+  private TypedRecordProcessor<?> chooseNextProcessor(
+      final LoggedEvent command, final RecordMetadata commandMetadata) {
     TypedRecordProcessor<?> typedRecordProcessor = null;
 
     try {
       typedRecordProcessor =
           recordProcessorMap.get(
-              metadata.getRecordType(), metadata.getValueType(), metadata.getIntent().value());
+              commandMetadata.getRecordType(),
+              commandMetadata.getValueType(),
+              commandMetadata.getIntent().value());
     } catch (final Exception e) {
-      LOG.error(ERROR_MESSAGE_ON_EVENT_FAILED_SKIP_EVENT, command, metadata, e);
+      LOG.error(ERROR_MESSAGE_ON_EVENT_FAILED_SKIP_EVENT, command, commandMetadata, e);
     }
 
     return typedRecordProcessor;
@@ -290,7 +439,15 @@ public final class ProcessingStateMachine {
     zeebeDbTransaction.run(
         () -> {
           final long position = typedRecord.getPosition();
-          resetOutput(position);
+          if (commandsInBatch == 0) {
+            resetOutput(position);
+          } else {
+            // keep the follow-up records of the previous commands of the batch
+            responseWriter.reset();
+            logStreamWriter.configureSourceContext(position);
+          }
+
+          zeebeState.onProcessingCommand();
 
           // default side effect is responses; can be changed by processor
           sideEffectProducer = responseWriter;
@@ -324,20 +481,14 @@ public final class ProcessingStateMachine {
     if (onErrorRetries > 1) {
       onErrorHandlingLoop = true;
     }
-    final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
-            () -> {
-              zeebeDbTransaction.rollback();
-              return true;
-            },
-            abortCondition);
-
     actor.runOnCompletion(
-        retryFuture,
+        rollbackTransaction(),
         (bool, throwable) -> {
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentRecord, metadata, throwable);
           }
+          // the rolled back commands of a batch are not processed, only the rejected command
+          resetBatchRecords();
           try {
             errorHandlingInTransaction(processingException);
 
@@ -348,6 +499,16 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private ActorFuture<Boolean> rollbackTransaction() {
+    return updateStateRetryStrategy.runWithRetry(
+        () -> {
+          zeebeDbTransaction.rollback();
+          zeebeState.onRollback();
+          return true;
+        },
+        abortCondition);
+  }
+
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
@@ -397,7 +558,12 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
-            onError(t, this::writeRecords);
+            if (commandsInBatch > 1) {
+              // the batch may be too large to be written, so write the records of each command
+              abortBatch(typedCommand.getPosition());
+            } else {
+              onError(t, this::writeRecords);
+            }
           } else {
             // We write various type of records. The positions are always increasing and
             // incremented by 1 for one record (even in a batch), so we can count the amount
@@ -414,7 +580,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
+              lastSuccessfulProcessedRecordPosition = typedCommand.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
               return true;
@@ -445,7 +611,7 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
-          notifyProcessedListener(typedCommand);
+          notifyProcessedListeners();
 
           // observe the processing duration
           processingTimer.close();
@@ -456,6 +622,33 @@ public final class ProcessingStateMachine {
         });
   }
 
+  /**
+   * Notifies the listener about the processed and skipped records once they are committed. The
+   * records of a batch are notified from their copies, as the typed command is reused for all
+   * commands of the batch.
+   */
+  private void notifyProcessedListeners() {
+    if (batchRecordOffsets.isEmpty()) {
+      notifyProcessedListener(typedCommand);
+      return;
+    }
+
+    for (int i = 0; i < batchRecordOffsets.size(); i++) {
+      batchRecord.wrap(batchRecordsBuffer, batchRecordOffsets.getInt(i));
+      if (skippedBatchRecords.get(i)) {
+        notifySkippedListener(batchRecord);
+      } else {
+        batchMetadata.reset();
+        batchRecord.readMetadata(batchMetadata);
+        final var value = recordValues.readRecordValue(batchRecord, batchMetadata.getValueType());
+        typedCommand.wrap(batchRecord, batchMetadata, value);
+        notifyProcessedListener(typedCommand);
+      }
+    }
+
+    resetBatchRecords();
+  }
+
   private void notifyProcessedListener(final TypedRecord processedRecord) {
     try {
       streamProcessorListener.onProcessed(processedRecord);
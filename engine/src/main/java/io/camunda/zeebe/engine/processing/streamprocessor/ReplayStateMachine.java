@@ -33,7 +33,14 @@ import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>By default, every batch of events is replayed and committed in its own transaction, like it
+ * was processed. On fast replay, the batches are replayed in large transactions of at least {@link
+ * ProcessingContext#getMaxRecordsInReplayBatch()} records, without the consistency checks of the
+ * state; the events were already checked when their commands were processed.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -66,6 +73,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final boolean fastReplay;
+  private final int maxRecordsInReplayBatch;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
@@ -74,6 +83,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
+  // current transaction, to read its records again on a retry
+  private int recordsInTransaction;
+  private long lastReadRecordPositionBeforeTransaction = StreamProcessor.UNSET_POSITION;
+  private long lastReplayedEventPositionBeforeTransaction = StreamProcessor.UNSET_POSITION;
+
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
   private final StreamProcessorMode streamProcessorMode;
@@ -103,6 +117,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    fastReplay = context.isFastReplay();
+    maxRecordsInReplayBatch = context.getMaxRecordsInReplayBatch();
   }
 
   /**
@@ -122,9 +138,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
 
     LOG.info(
-        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}]",
+        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}, fast-replay: {}]",
         snapshotPosition,
-        streamProcessorMode);
+        streamProcessorMode,
+        fastReplay);
 
     replayNextEvent();
 
@@ -155,10 +172,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
-        replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
-            .onComplete(
+        final ActorFuture<Boolean> replayFuture;
+        if (fastReplay) {
+          replayFuture = replayStrategy.runWithRetry(this::tryToReplayBatches, abortCondition);
+        } else {
+          final var batch = logStreamBatchReader.next();
+          replayFuture = replayStrategy.runWithRetry(() -> tryToReplayBatch(batch), abortCondition);
+        }
+        replayFuture.onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(failure);
@@ -195,10 +216,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
+      zeebeState.onRollback();
       // reading the whole batch from the beginning again
       batch.head();
     }
 
+    recordsInTransaction = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
@@ -211,6 +234,56 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
     zeebeDbTransaction.commit();
     zeebeDbTransaction = null;
+    replayMetrics.transactionCommitted(recordsInTransaction);
+
+    return true;
+  }
+
+  /**
+   * Replays the next batches in one transaction, until the transaction contains at least {@link
+   * #maxRecordsInReplayBatch} records or there is no further batch. On a retry, the reader is set
+   * back to the first batch of the transaction, since the batches can't be read again otherwise.
+   */
+  private boolean tryToReplayBatches() throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    if (onRetry) {
+      zeebeDbTransaction.rollback();
+      zeebeState.onRollback();
+      // reading all batches of the transaction from the beginning again
+      logStreamBatchReader.seekToNextBatch(
+          lastReadRecordPositionBeforeTransaction != StreamProcessor.UNSET_POSITION
+              ? lastReadRecordPositionBeforeTransaction
+              : snapshotPosition);
+      lastReadRecordPosition = lastReadRecordPositionBeforeTransaction;
+      lastReplayedEventPosition = lastReplayedEventPositionBeforeTransaction;
+    } else {
+      lastReadRecordPositionBeforeTransaction = lastReadRecordPosition;
+      lastReplayedEventPositionBeforeTransaction = lastReplayedEventPosition;
+    }
+
+    recordsInTransaction = 0;
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.disableConsistencyChecks();
+    zeebeDbTransaction.run(
+        () -> {
+          long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+          do {
+            logStreamBatchReader.next().forEachRemaining(this::replayEvent);
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+          } while (recordsInTransaction < maxRecordsInReplayBatch
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean());
+          batchSourceEventPosition = transactionSourceEventPosition;
+
+          if (batchSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          }
+        });
+
+    zeebeDbTransaction.commit();
+    zeebeDbTransaction = null;
+    replayMetrics.transactionCommitted(recordsInTransaction);
 
     return true;
   }
@@ -256,6 +329,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    recordsInTransaction++;
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
     final var currentPosition = currentEvent.getPosition();
     final var currentRecordKey = currentEvent.getKey();
@@ -304,6 +378,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     eventApplier.applyState(
         currentEvent.getKey(), currentEvent.getIntent(), currentEvent.getValue());
     lastReplayedEventPosition = currentEvent.getPosition();
+    replayMetrics.eventApplied();
   }
 
   private void notifyReplayListener() {
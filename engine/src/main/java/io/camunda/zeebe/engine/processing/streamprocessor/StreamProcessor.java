@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.state.EventApplier;
@@ -92,6 +93,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   private final int partitionId;
   // snapshotting
   private final ZeebeDb zeebeDb;
+  private final EngineConfiguration engineConfiguration;
   // processing
   private final ProcessingContext processingContext;
   private final TypedRecordProcessorFactory typedRecordProcessorFactory;
@@ -116,6 +118,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     typedRecordProcessorFactory = processorBuilder.getTypedRecordProcessorFactory();
     typedStreamWriterFactory = processorBuilder.getTypedStreamWriterFactory();
     zeebeDb = processorBuilder.getZeebeDb();
+    engineConfiguration = processorBuilder.getEngineConfiguration();
     eventApplierFactory = processorBuilder.getEventApplierFactory();
 
     processingContext =
@@ -123,7 +126,13 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
             .getProcessingContext()
             .eventCache(new RecordValues())
             .actor(actor)
-            .abortCondition(this::isClosed);
+            .abortCondition(this::isClosed)
+            .maxCommandsInBatch(engineConfiguration.getMaxCommandsInBatch())
+            .maxBatchSize(engineConfiguration.getMaxBatchSize())
+            .fastReplay(engineConfiguration.isFastReplay())
+            .maxRecordsInReplayBatch(engineConfiguration.getMaxRecordsInReplayBatch())
+            .multiInstanceActivationChunkSize(
+                engineConfiguration.getMultiInstanceActivationChunkSize());
     logStream = processingContext.getLogStream();
     partitionId = logStream.getPartitionId();
     actorName = buildActorName(processorBuilder.getNodeId(), "StreamProcessor", partitionId);
@@ -341,7 +350,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
 
   private ZeebeDbState recoverState() {
     final TransactionContext transactionContext = zeebeDb.createContext();
-    final ZeebeDbState zeebeState = new ZeebeDbState(partitionId, zeebeDb, transactionContext);
+    final ZeebeDbState zeebeState =
+        new ZeebeDbState(partitionId, zeebeDb, transactionContext, engineConfiguration);
 
     processingContext.transactionContext(transactionContext);
     processingContext.zeebeState(zeebeState);
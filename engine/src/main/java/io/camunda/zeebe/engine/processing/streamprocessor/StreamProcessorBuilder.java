@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriterImpl;
@@ -30,6 +31,7 @@ public final class StreamProcessorBuilder {
   private ZeebeDb zeebeDb;
   private Function<MutableZeebeState, EventApplier> eventApplierFactory;
   private int nodeId;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
   private Function<LogStreamBatchWriter, TypedStreamWriter> typedStreamWriterFactory =
       TypedStreamWriterImpl::new;
 
@@ -81,6 +83,12 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder engineConfiguration(
+      final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+    return this;
+  }
+
   public StreamProcessorBuilder streamProcessorMode(final StreamProcessorMode streamProcessorMode) {
     processingContext.processorMode(streamProcessorMode);
     return this;
@@ -114,6 +122,10 @@ public final class StreamProcessorBuilder {
     return eventApplierFactory;
   }
 
+  public EngineConfiguration getEngineConfiguration() {
+    return engineConfiguration;
+  }
+
   public StreamProcessor build() {
     validate();
 
@@ -128,6 +140,7 @@ public final class StreamProcessorBuilder {
         processingContext.getWriters().response(), "No command response writer provided.");
     Objects.requireNonNull(zeebeDb, "No database provided.");
     Objects.requireNonNull(eventApplierFactory, "No factory for the event supplier provided.");
+    Objects.requireNonNull(engineConfiguration, "No engine configuration provided.");
   }
 
   public Function<LogStreamBatchWriter, TypedStreamWriter> getTypedStreamWriterFactory() {
@@ -17,7 +17,9 @@ import io.camunda.zeebe.logstreams.log.LoggedEvent;
 public interface StreamProcessorListener {
 
   /**
-   * Is called when a command is processed.
+   * Is called when a command is processed, once its state changes are committed. If commands are
+   * processed in batches, it is called for each command of the batch after the batch is committed,
+   * and not for the commands of a batch which is rolled back.
    *
    * @param processedCommand the command that is processed
    */
@@ -20,4 +20,14 @@ public interface SideEffectProducer {
    * @return <code>false</code> to indicate that the side effect could not be applied successfully
    */
   boolean flush();
+
+  /**
+   * Returns whether there is nothing to apply, in which case the side effect doesn't need to be
+   * flushed before the next record is processed.
+   *
+   * @return <code>true</code> if flushing would not apply anything, <code>false</code> if it might
+   */
+  default boolean isEmpty() {
+    return false;
+  }
 }
@@ -48,6 +48,17 @@ public final class SideEffectQueue implements SideEffectProducer, SideEffects {
     return flushed;
   }
 
+  @Override
+  public boolean isEmpty() {
+    for (final SideEffectProducer sideEffect : sideEffects) {
+      if (sideEffect != null && !sideEffect.isEmpty()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   @Override
   public void add(final SideEffectProducer sideEffectProducer) {
     sideEffects.add(sideEffectProducer);
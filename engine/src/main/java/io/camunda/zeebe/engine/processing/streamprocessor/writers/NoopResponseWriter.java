@@ -43,6 +43,11 @@ public final class NoopResponseWriter implements TypedResponseWriter {
     return false;
   }
 
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
   @Override
   public void reset() {}
 }
@@ -0,0 +1,450 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state;
+
+import java.util.Arrays;
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * Keeps the entries of a due date index which are due next in memory, such that the due date
+ * checkers don't have to scan the index in the state on every run. Scanning the index means
+ * seeking to its start and walking over the tombstones of all the entries which were removed
+ * since the last compaction, which is expensive for indexes with a high churn like timer due
+ * dates or job deadlines.
+ *
+ * <p>The cache is a binary min-heap of at most {@code capacity} entries, backed by primitive
+ * arrays. It is loaded lazily from the index and guarantees that it contains all entries of the
+ * index which are ordered before its horizon. The owning state must mirror every change of the
+ * index to the cache via {@link #add(long, long, long)} and {@link #remove(long, long)}. Due
+ * entries after the horizon are visited by scanning the index from the horizon on, and once the
+ * cache runs out of entries, it is loaded again from the horizon on.
+ *
+ * <p>Each entry is identified by a key which must be unique within the index, e.g. the key of the
+ * timer or of the job, and can carry a second key which is required to look up the entry. The
+ * entries are ordered by due date, second key and key, which must be the order of the index.
+ *
+ * <p>The cache is not thread-safe, and must only be used by the stream processor actor. If a
+ * transaction which changed the index is rolled back, the cache must be invalidated.
+ */
+public final class DueDateCache {
+
+  private static final long MISSING_POSITION = -1L;
+
+  private final int capacity;
+  private final Long2LongHashMap positions = new Long2LongHashMap(MISSING_POSITION);
+  private final EntryVisitor entryLoader = this::loadEntry;
+
+  private long[] dueDates;
+  private long[] keys;
+  private long[] secondKeys;
+  private int size;
+
+  private boolean loaded;
+  // if false, all entries of the index which are ordered before the horizon are contained in the
+  // cache, and the cache contains no other entries
+  private boolean loadedCompletely;
+  private long horizonDueDate;
+  private long horizonSecondKey;
+  private long horizonKey;
+
+  // the due entries are copied here before visiting them, since visitors may change the cache
+  private long[] dueEntryDueDates;
+  private long[] dueEntryKeys;
+  private long[] dueEntrySecondKeys;
+
+  // the entries which are kept when the cache is full are copied here, while the heap is rebuilt
+  private long[] keptDueDates;
+  private long[] keptKeys;
+  private long[] keptSecondKeys;
+
+  public DueDateCache(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the capacity of the due date cache to be greater than 0, but was "
+              + capacity);
+    }
+
+    this.capacity = capacity;
+    final var initialLength = Math.min(capacity, 64);
+    dueDates = new long[initialLength];
+    keys = new long[initialLength];
+    secondKeys = new long[initialLength];
+    dueEntryDueDates = new long[initialLength];
+    dueEntryKeys = new long[initialLength];
+    dueEntrySecondKeys = new long[initialLength];
+    keptDueDates = new long[0];
+    keptKeys = new long[0];
+    keptSecondKeys = new long[0];
+  }
+
+  /** Mirrors an entry which was added to the index. */
+  public void add(final long dueDate, final long key, final long secondKey) {
+    if (!loaded || !isBeforeHorizon(dueDate, secondKey, key)) {
+      // will be loaded from the index once needed
+      return;
+    }
+
+    final var position = (int) positions.get(key);
+    if (position != MISSING_POSITION) {
+      removeAt(position);
+    }
+
+    if (size >= capacity) {
+      evictLatestEntries();
+      if (!isBeforeHorizon(dueDate, secondKey, key)) {
+        return;
+      }
+    }
+
+    push(dueDate, key, secondKey);
+  }
+
+  /** Mirrors an entry which was removed from the index. */
+  public void remove(final long dueDate, final long key) {
+    if (!loaded) {
+      return;
+    }
+
+    final var position = (int) positions.get(key);
+    if (position != MISSING_POSITION && dueDates[position] == dueDate) {
+      removeAt(position);
+    }
+  }
+
+  /** Drops all entries, such that the cache is loaded again from the index once needed. */
+  public void invalidate() {
+    loaded = false;
+    clear();
+  }
+
+  /**
+   * Visits the entries which are due at the given timestamp in order of the index, until the
+   * visitor returns {@code false}. The entries are not removed from the cache; they are removed
+   * once the owning state removes them from the index.
+   *
+   * @param timestamp the timestamp at which the entries are due (inclusive)
+   * @param scanner reads the index from the state, if the cache doesn't contain all due entries
+   * @param visitor visits the due entries
+   * @return the due date of the first entry which was not visited or not consumed by the visitor,
+   *     or {@code -1} if there are no more entries
+   */
+  public long visitDueEntries(
+      final long timestamp, final IndexScanner scanner, final EntryVisitor visitor) {
+    return visitDueEntries(timestamp, 0, 0, 0, scanner, visitor);
+  }
+
+  /**
+   * Same as {@link #visitDueEntries(long, IndexScanner, EntryVisitor)}, but starts at the entry
+   * with the given due date, second key and key, or at the next one after it if the entry doesn't
+   * exist, e.g. to continue after the last entry which was visited by a previous call.
+   */
+  public long visitDueEntries(
+      final long timestamp,
+      final long fromDueDate,
+      final long fromSecondKey,
+      final long fromKey,
+      final IndexScanner scanner,
+      final EntryVisitor visitor) {
+    if (!loaded) {
+      load(scanner, 0, 0, 0);
+    } else if (!loadedCompletely && !hasEntryBeforeHorizon()) {
+      // the cache is exhausted, so the index contains no entries before the horizon either
+      load(scanner, horizonDueDate, horizonSecondKey, horizonKey);
+    }
+
+    // pop the cached due entries in order, and put them back afterwards
+    var dueEntryCount = 0;
+    if (isBeforeHorizon(fromDueDate, fromSecondKey, fromKey)) {
+      while (hasEntryBeforeHorizon() && dueDates[0] <= timestamp) {
+        ensureDueEntriesCapacity(dueEntryCount + 1);
+        dueEntryDueDates[dueEntryCount] = dueDates[0];
+        dueEntryKeys[dueEntryCount] = keys[0];
+        dueEntrySecondKeys[dueEntryCount] = secondKeys[0];
+        dueEntryCount++;
+        removeAt(0);
+      }
+    }
+
+    final long nextCachedDueDate;
+    if (hasEntryBeforeHorizon()) {
+      nextCachedDueDate = dueDates[0];
+    } else {
+      nextCachedDueDate = loadedCompletely ? -1L : horizonDueDate;
+    }
+
+    for (int i = 0; i < dueEntryCount; i++) {
+      push(dueEntryDueDates[i], dueEntryKeys[i], dueEntrySecondKeys[i]);
+    }
+
+    for (int i = 0; i < dueEntryCount; i++) {
+      if (isBefore(
+          dueEntryDueDates[i],
+          dueEntrySecondKeys[i],
+          dueEntryKeys[i],
+          fromDueDate,
+          fromSecondKey,
+          fromKey)) {
+        // visited by a previous call already
+        continue;
+      }
+
+      if (!visitor.visit(dueEntryDueDates[i], dueEntryKeys[i], dueEntrySecondKeys[i])) {
+        return dueEntryDueDates[i];
+      }
+    }
+
+    if (loadedCompletely || horizonDueDate > timestamp) {
+      return nextCachedDueDate;
+    }
+
+    // the index may contain more due entries from the horizon on, which are not cached
+    if (isBeforeHorizon(fromDueDate, fromSecondKey, fromKey)) {
+      return visitDueEntriesOfIndex(
+          timestamp, horizonDueDate, horizonSecondKey, horizonKey, scanner, visitor);
+    } else {
+      return visitDueEntriesOfIndex(
+          timestamp, fromDueDate, fromSecondKey, fromKey, scanner, visitor);
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  private long visitDueEntriesOfIndex(
+      final long timestamp,
+      final long fromDueDate,
+      final long fromSecondKey,
+      final long fromKey,
+      final IndexScanner scanner,
+      final EntryVisitor visitor) {
+    final long[] nextDueDate = {-1L};
+    scanner.scan(
+        fromDueDate,
+        fromSecondKey,
+        fromKey,
+        (dueDate, key, secondKey) -> {
+          if (dueDate > timestamp || !visitor.visit(dueDate, key, secondKey)) {
+            nextDueDate[0] = dueDate;
+            return false;
+          }
+          return true;
+        });
+    return nextDueDate[0];
+  }
+
+  private void load(
+      final IndexScanner scanner,
+      final long fromDueDate,
+      final long fromSecondKey,
+      final long fromKey) {
+    clear();
+    loaded = true;
+    loadedCompletely = true;
+
+    // the index is ordered like the heap, so appending the entries results in a valid heap
+    scanner.scan(fromDueDate, fromSecondKey, fromKey, entryLoader);
+  }
+
+  private boolean loadEntry(final long dueDate, final long key, final long secondKey) {
+    if (size >= capacity) {
+      // the remaining entries are read from the index once needed, starting at this entry
+      setHorizon(dueDate, secondKey, key);
+      return false;
+    }
+
+    ensureCapacity(size + 1);
+    set(size, dueDate, key, secondKey);
+    size++;
+    return true;
+  }
+
+  /**
+   * Drops the latest half of the entries and moves the horizon to the earliest dropped entry, such
+   * that the cache only contains entries before the horizon. We can't drop the latest entry of a
+   * min-heap cheaply, so instead the heap is rebuilt from the kept entries, once every {@code
+   * capacity / 2} added entries.
+   */
+  private void evictLatestEntries() {
+    final var keptEntries = capacity / 2;
+    if (keptDueDates.length < keptEntries) {
+      keptDueDates = new long[keptEntries];
+      keptKeys = new long[keptEntries];
+      keptSecondKeys = new long[keptEntries];
+    }
+
+    for (int i = 0; i < keptEntries; i++) {
+      keptDueDates[i] = dueDates[0];
+      keptKeys[i] = keys[0];
+      keptSecondKeys[i] = secondKeys[0];
+      removeAt(0);
+    }
+
+    // the dropped entries are read from the index once needed, starting at the earliest one
+    setHorizon(dueDates[0], secondKeys[0], keys[0]);
+    clear();
+
+    // the kept entries are ordered, so appending them results in a valid heap
+    for (int i = 0; i < keptEntries; i++) {
+      set(size, keptDueDates[i], keptKeys[i], keptSecondKeys[i]);
+      size++;
+    }
+  }
+
+  private void clear() {
+    size = 0;
+    positions.clear();
+  }
+
+  private void setHorizon(final long dueDate, final long secondKey, final long key) {
+    loadedCompletely = false;
+    horizonDueDate = dueDate;
+    horizonSecondKey = secondKey;
+    horizonKey = key;
+  }
+
+  private boolean hasEntryBeforeHorizon() {
+    return size > 0 && isBeforeHorizon(dueDates[0], secondKeys[0], keys[0]);
+  }
+
+  private boolean isBeforeHorizon(final long dueDate, final long secondKey, final long key) {
+    return loadedCompletely
+        || isBefore(dueDate, secondKey, key, horizonDueDate, horizonSecondKey, horizonKey);
+  }
+
+  /**
+   * Entries are ordered by due date, second key and key, which is the order of the index. The
+   * values are compared unsigned, like the big-endian encoded keys of the index, e.g. the element
+   * instance key {@code -1} of a timer of a process start event is ordered last.
+   */
+  private static boolean isBefore(
+      final long dueDate,
+      final long secondKey,
+      final long key,
+      final long otherDueDate,
+      final long otherSecondKey,
+      final long otherKey) {
+    if (dueDate != otherDueDate) {
+      return Long.compareUnsigned(dueDate, otherDueDate) < 0;
+    } else if (secondKey != otherSecondKey) {
+      return Long.compareUnsigned(secondKey, otherSecondKey) < 0;
+    }
+    return Long.compareUnsigned(key, otherKey) < 0;
+  }
+
+  private void push(final long dueDate, final long key, final long secondKey) {
+    ensureCapacity(size + 1);
+    set(size, dueDate, key, secondKey);
+    size++;
+    siftUp(size - 1);
+  }
+
+  private void removeAt(final int position) {
+    positions.remove(keys[position]);
+    size--;
+
+    if (position != size) {
+      set(position, dueDates[size], keys[size], secondKeys[size]);
+      siftDown(position);
+      siftUp(position);
+    }
+  }
+
+  private void siftUp(final int position) {
+    var child = position;
+    while (child > 0) {
+      final var parent = (child - 1) >>> 1;
+      if (!isBefore(child, parent)) {
+        return;
+      }
+      swap(parent, child);
+      child = parent;
+    }
+  }
+
+  private void siftDown(final int position) {
+    var parent = position;
+    while (true) {
+      final var left = 2 * parent + 1;
+      if (left >= size) {
+        return;
+      }
+
+      final var right = left + 1;
+      final var smallest = right < size && isBefore(right, left) ? right : left;
+      if (!isBefore(smallest, parent)) {
+        return;
+      }
+      swap(parent, smallest);
+      parent = smallest;
+    }
+  }
+
+  private boolean isBefore(final int position, final int otherPosition) {
+    return isBefore(
+        dueDates[position],
+        secondKeys[position],
+        keys[position],
+        dueDates[otherPosition],
+        secondKeys[otherPosition],
+        keys[otherPosition]);
+  }
+
+  private void swap(final int first, final int second) {
+    final var dueDate = dueDates[first];
+    final var key = keys[first];
+    final var secondKey = secondKeys[first];
+    set(first, dueDates[second], keys[second], secondKeys[second]);
+    set(second, dueDate, key, secondKey);
+  }
+
+  private void set(final int position, final long dueDate, final long key, final long secondKey) {
+    dueDates[position] = dueDate;
+    keys[position] = key;
+    secondKeys[position] = secondKey;
+    positions.put(key, position);
+  }
+
+  private void ensureCapacity(final int requiredLength) {
+    if (requiredLength > dueDates.length) {
+      final var newLength = Math.max(requiredLength, dueDates.length * 2);
+      dueDates = Arrays.copyOf(dueDates, newLength);
+      keys = Arrays.copyOf(keys, newLength);
+      secondKeys = Arrays.copyOf(secondKeys, newLength);
+    }
+  }
+
+  private void ensureDueEntriesCapacity(final int requiredLength) {
+    if (requiredLength > dueEntryDueDates.length) {
+      final var newLength = Math.max(requiredLength, dueEntryDueDates.length * 2);
+      dueEntryDueDates = Arrays.copyOf(dueEntryDueDates, newLength);
+      dueEntryKeys = Arrays.copyOf(dueEntryKeys, newLength);
+      dueEntrySecondKeys = Arrays.copyOf(dueEntrySecondKeys, newLength);
+    }
+  }
+
+  /** Reads the entries of the index in order. */
+  @FunctionalInterface
+  public interface IndexScanner {
+
+    /**
+     * Visits the entries of the index, starting at the entry with the given due date, second key
+     * and key, or at the next one after it if the entry doesn't exist.
+     */
+    void scan(long fromDueDate, long fromSecondKey, long fromKey, EntryVisitor collector);
+  }
+
+  @FunctionalInterface
+  public interface EntryVisitor {
+
+    /**
+     * @return {@code true} to continue with the next entry, otherwise {@code false}
+     */
+    boolean visit(long dueDate, long key, long secondKey);
+  }
+}
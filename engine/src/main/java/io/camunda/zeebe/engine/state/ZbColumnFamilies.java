@@ -7,7 +7,10 @@
  */
 package io.camunda.zeebe.engine.state;
 
-public enum ZbColumnFamilies {
+import io.camunda.zeebe.db.ColumnFamilyProfile;
+import io.camunda.zeebe.db.ProfiledColumnFamily;
+
+public enum ZbColumnFamilies implements ProfiledColumnFamily {
   DEFAULT,
 
   // util
@@ -17,40 +20,40 @@ public enum ZbColumnFamilies {
   PROCESS_VERSION,
 
   // process cache
-  PROCESS_CACHE,
-  PROCESS_CACHE_BY_ID_AND_VERSION,
-  PROCESS_CACHE_DIGEST_BY_ID,
+  PROCESS_CACHE(ColumnFamilyProfile.COLD),
+  PROCESS_CACHE_BY_ID_AND_VERSION(ColumnFamilyProfile.COLD),
+  PROCESS_CACHE_DIGEST_BY_ID(ColumnFamilyProfile.COLD),
 
   // element instance
   ELEMENT_INSTANCE_PARENT_CHILD,
   ELEMENT_INSTANCE_KEY,
 
-  NUMBER_OF_TAKEN_SEQUENCE_FLOWS,
+  NUMBER_OF_TAKEN_SEQUENCE_FLOWS(ColumnFamilyProfile.SHORT_LIVED),
 
   // variable state
   ELEMENT_INSTANCE_CHILD_PARENT,
   VARIABLES,
   @Deprecated
-  TEMPORARY_VARIABLE_STORE,
+  TEMPORARY_VARIABLE_STORE(ColumnFamilyProfile.SHORT_LIVED),
 
   // timer state
   TIMERS,
-  TIMER_DUE_DATES,
+  TIMER_DUE_DATES(ColumnFamilyProfile.SHORT_LIVED),
 
   // pending deployments
   PENDING_DEPLOYMENT,
-  DEPLOYMENT_RAW,
+  DEPLOYMENT_RAW(ColumnFamilyProfile.COLD),
 
   // jobs
   JOBS,
   JOB_STATES,
-  JOB_DEADLINES,
-  JOB_ACTIVATABLE,
+  JOB_DEADLINES(ColumnFamilyProfile.SHORT_LIVED),
+  JOB_ACTIVATABLE(ColumnFamilyProfile.SHORT_LIVED),
 
   // message
   MESSAGE_KEY,
   MESSAGES,
-  MESSAGE_DEADLINES,
+  MESSAGE_DEADLINES(ColumnFamilyProfile.SHORT_LIVED),
   MESSAGE_IDS,
   MESSAGE_CORRELATED,
   MESSAGE_PROCESSES_ACTIVE_BY_CORRELATION_KEY,
@@ -81,19 +84,36 @@ public enum ZbColumnFamilies {
 
   // event
   EVENT_SCOPE,
-  EVENT_TRIGGER,
+  EVENT_TRIGGER(ColumnFamilyProfile.SHORT_LIVED),
 
   BLACKLIST,
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT,
+  AWAIT_WORKLOW_RESULT(ColumnFamilyProfile.SHORT_LIVED),
 
-  JOB_BACKOFF,
+  JOB_BACKOFF(ColumnFamilyProfile.SHORT_LIVED),
 
-  DMN_DECISIONS,
-  DMN_DECISION_REQUIREMENTS,
+  DMN_DECISIONS(ColumnFamilyProfile.COLD),
+  DMN_DECISION_REQUIREMENTS(ColumnFamilyProfile.COLD),
   DMN_LATEST_DECISION_BY_ID,
   DMN_LATEST_DECISION_REQUIREMENTS_BY_ID,
   DMN_DECISION_KEY_BY_DECISION_REQUIREMENTS_KEY,
+
+  MULTI_INSTANCE_OUTPUT_ELEMENTS(ColumnFamilyProfile.SHORT_LIVED);
+
+  private final ColumnFamilyProfile profile;
+
+  ZbColumnFamilies() {
+    this(ColumnFamilyProfile.DEFAULT);
+  }
+
+  ZbColumnFamilies(final ColumnFamilyProfile profile) {
+    this.profile = profile;
+  }
+
+  @Override
+  public ColumnFamilyProfile getProfile() {
+    return profile;
+  }
 }
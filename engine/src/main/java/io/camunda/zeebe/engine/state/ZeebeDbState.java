@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
@@ -49,6 +50,7 @@ import io.camunda.zeebe.engine.state.processing.DbKeyGenerator;
 import io.camunda.zeebe.engine.state.processing.DbLastProcessedPositionState;
 import io.camunda.zeebe.engine.state.variable.DbVariableState;
 import io.camunda.zeebe.protocol.Protocol;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 public class ZeebeDbState implements MutableZeebeState {
@@ -60,7 +62,7 @@ public class ZeebeDbState implements MutableZeebeState {
   private final MutableTimerInstanceState timerInstanceState;
   private final MutableElementInstanceState elementInstanceState;
   private final MutableEventScopeInstanceState eventScopeInstanceState;
-  private final MutableVariableState variableState;
+  private final DbVariableState variableState;
 
   private final MutableDeploymentState deploymentState;
   private final MutableJobState jobState;
@@ -74,6 +76,8 @@ public class ZeebeDbState implements MutableZeebeState {
   private final MutableMigrationState mutableMigrationState;
   private final MutableDecisionState decisionState;
 
+  private final List<DueDateCache> dueDateCaches;
+
   private final int partitionId;
 
   public ZeebeDbState(
@@ -85,19 +89,38 @@ public class ZeebeDbState implements MutableZeebeState {
       final int partitionId,
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext) {
+    this(partitionId, zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public ZeebeDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyGenerator = new DbKeyGenerator(partitionId, zeebeDb, transactionContext);
 
-    variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    final var timerDueDateCache = new DueDateCache(config.getDueDateCacheCapacity());
+    final var jobDeadlineCache = new DueDateCache(config.getDueDateCacheCapacity());
+    final var jobBackoffCache = new DueDateCache(config.getDueDateCacheCapacity());
+    final var messageDeadlineCache = new DueDateCache(config.getDueDateCacheCapacity());
+    dueDateCaches =
+        List.of(timerDueDateCache, jobDeadlineCache, jobBackoffCache, messageDeadlineCache);
+
+    variableState = new DbVariableState(zeebeDb, transactionContext, partitionId);
+    processState =
+        new DbProcessState(
+            zeebeDb, transactionContext, partitionId, config.getProcessCacheMaxSize());
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateCache);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext, partitionId);
-    messageState = new DbMessageState(zeebeDb, transactionContext);
+    jobState =
+        new DbJobState(
+            zeebeDb, transactionContext, partitionId, jobDeadlineCache, jobBackoffCache);
+    messageState = new DbMessageState(zeebeDb, transactionContext, messageDeadlineCache);
     messageSubscriptionState = new DbMessageSubscriptionState(zeebeDb, transactionContext);
     messageStartEventSubscriptionState =
         new DbMessageStartEventSubscriptionState(zeebeDb, transactionContext);
@@ -106,7 +129,9 @@ public class ZeebeDbState implements MutableZeebeState {
     incidentState = new DbIncidentState(zeebeDb, transactionContext, partitionId);
     blackListState = new DbBlackListState(zeebeDb, transactionContext, partitionId);
     lastProcessedPositionState = new DbLastProcessedPositionState(zeebeDb, transactionContext);
-    decisionState = new DbDecisionState(zeebeDb, transactionContext);
+    decisionState =
+        new DbDecisionState(
+            zeebeDb, transactionContext, partitionId, config.getDrgCacheCapacity());
 
     mutableMigrationState = new DbMigrationState(zeebeDb, transactionContext);
   }
@@ -117,6 +142,17 @@ public class ZeebeDbState implements MutableZeebeState {
     processMessageSubscriptionState.onRecovered(context);
   }
 
+  @Override
+  public void onRollback() {
+    dueDateCaches.forEach(DueDateCache::invalidate);
+    variableState.clearLookupCache();
+  }
+
+  @Override
+  public void onProcessingCommand() {
+    variableState.clearLookupCache();
+  }
+
   @Override
   public MutableDeploymentState getDeploymentState() {
     return deploymentState;
@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.MultiInstanceOutputElementRecord;
+import io.camunda.zeebe.protocol.record.intent.MultiInstanceOutputElementIntent;
+
+/** Stores the output element of an inner instance until the multi-instance body completes. */
+final class MultiInstanceOutputElementCollectedApplier
+    implements TypedEventApplier<
+        MultiInstanceOutputElementIntent, MultiInstanceOutputElementRecord> {
+
+  private final MutableElementInstanceState elementInstanceState;
+
+  public MultiInstanceOutputElementCollectedApplier(
+      final MutableElementInstanceState elementInstanceState) {
+    this.elementInstanceState = elementInstanceState;
+  }
+
+  @Override
+  public void applyState(final long key, final MultiInstanceOutputElementRecord value) {
+    elementInstanceState.setMultiInstanceOutputElement(
+        value.getMultiInstanceBodyKey(), value.getLoopCounter(), value.getOutputElementBuffer());
+  }
+}
@@ -15,17 +15,26 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineFactory;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.engine.metrics.EngineCacheMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
 
 public final class DbDecisionState implements MutableDecisionState {
 
+  private static final String DRG_CACHE_NAME = "drg";
+
   private final DbLong dbDecisionKey;
   private final DbForeignKey<DbLong> fkDecision;
   private final PersistedDecision dbPersistedDecision;
@@ -47,8 +56,18 @@ public final class DbDecisionState implements MutableDecisionState {
   private final ColumnFamily<DbLong, PersistedDecisionRequirements> decisionRequirementsByKey;
   private final ColumnFamily<DbString, DbForeignKey<DbLong>> latestDecisionRequirementsKeysById;
 
+  private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+  // parsed DRGs by decision requirements key; a key always refers to the same immutable resource,
+  // so an entry never becomes stale. The cache lives as long as this state instance, which is
+  // recreated on every partition transition.
+  private final Map<Long, ParsedDecisionRequirementsGraph> parsedDrgsByKey;
+  private final EngineCacheMetrics drgCacheMetrics;
+
   public DbDecisionState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final int drgCacheCapacity) {
     dbDecisionKey = new DbLong();
     fkDecision = new DbForeignKey<>(dbDecisionKey, ZbColumnFamilies.DMN_DECISIONS);
 
@@ -92,6 +111,20 @@ public final class DbDecisionState implements MutableDecisionState {
             transactionContext,
             dbDecisionRequirementsKeyAndDecisionKey,
             DbNil.INSTANCE);
+
+    drgCacheMetrics = new EngineCacheMetrics(DRG_CACHE_NAME, partitionId);
+    parsedDrgsByKey =
+        new LinkedHashMap<Long, ParsedDecisionRequirementsGraph>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              final Map.Entry<Long, ParsedDecisionRequirementsGraph> eldest) {
+            final boolean evict = size() > drgCacheCapacity;
+            if (evict) {
+              drgCacheMetrics.evicted();
+            }
+            return evict;
+          }
+        };
   }
 
   @Override
@@ -121,6 +154,37 @@ public final class DbDecisionState implements MutableDecisionState {
         .map(PersistedDecisionRequirements::copy);
   }
 
+  @Override
+  public Optional<ParsedDecisionRequirementsGraph> findParsedDecisionRequirementsByKey(
+      final long decisionRequirementsKey) {
+    final var cachedDrg = parsedDrgsByKey.get(decisionRequirementsKey);
+    if (cachedDrg != null) {
+      drgCacheMetrics.hit();
+      return Optional.of(cachedDrg);
+    }
+
+    drgCacheMetrics.miss();
+    dbDecisionRequirementsKey.wrapLong(decisionRequirementsKey);
+    final var persistedDrg = decisionRequirementsByKey.get(dbDecisionRequirementsKey);
+    if (persistedDrg == null) {
+      return Optional.empty();
+    }
+
+    final ParsedDecisionRequirementsGraph parsedDrg;
+    try (final var ignored = drgCacheMetrics.startLoadTimer()) {
+      parsedDrg = parseDrg(persistedDrg.getResource());
+    }
+    parsedDrgsByKey.put(decisionRequirementsKey, parsedDrg);
+    drgCacheMetrics.setSize(parsedDrgsByKey.size());
+    return Optional.of(parsedDrg);
+  }
+
+  private ParsedDecisionRequirementsGraph parseDrg(final DirectBuffer resource) {
+    try (final var stream = new DirectBufferInputStream(resource)) {
+      return decisionEngine.parse(stream);
+    }
+  }
+
   @Override
   public List<PersistedDecision> findDecisionsByDecisionRequirementsKey(
       final long decisionRequirementsKey) {
@@ -161,6 +225,8 @@ public final class DbDecisionState implements MutableDecisionState {
     dbDecisionRequirementsKey.wrapLong(record.getDecisionRequirementsKey());
     dbPersistedDecisionRequirements.wrap(record);
     decisionRequirementsByKey.insert(dbDecisionRequirementsKey, dbPersistedDecisionRequirements);
+    // the DRG is parsed and cached on its first evaluation
+    parsedDrgsByKey.remove(record.getDecisionRequirementsKey());
 
     updateLatestDecisionRequirementsVersion(record);
   }
@@ -17,6 +17,7 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.EngineCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -31,27 +32,24 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
+  private static final String PROCESS_CACHE_NAME = "process";
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
-      processesByProcessIdAndVersion = new HashMap<>();
-  private final Long2ObjectHashMap<DeployedProcess> processesByKey;
+  private final EngineCacheMetrics processCacheMetrics;
+  private final DeployedProcessCache processCache;
 
   // process
   private final ColumnFamily<DbLong, PersistedProcess> processColumnFamily;
@@ -72,7 +70,10 @@ public final class DbProcessState implements MutableProcessState {
   private final NextValueManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final long processCacheMaxSize) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     processColumnFamily =
@@ -99,7 +100,8 @@ public final class DbProcessState implements MutableProcessState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID, transactionContext, fkProcessId, digest);
 
-    processesByKey = new Long2ObjectHashMap<>();
+    processCacheMetrics = new EngineCacheMetrics(PROCESS_CACHE_NAME, partitionId);
+    processCache = new DeployedProcessCache(processCacheMaxSize, processCacheMetrics);
 
     versionManager =
         new NextValueManager(
@@ -156,12 +158,33 @@ public final class DbProcessState implements MutableProcessState {
 
     if (nextVersion > currentVersion) {
       versionManager.setValue(bpmnProcessId, nextVersion);
+      // only the latest version is pinned in the cache; older versions may be evicted now
+      processCache.unpinVersions(processRecord.getBpmnProcessIdBuffer());
     }
   }
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    try (final var ignored = processCacheMetrics.startLoadTimer()) {
+      final int sizeInBytes = persistedProcess.getLength();
+      final DeployedProcess deployedProcess = createDeployedProcess(persistedProcess);
 
+      final long latestVersion = versionManager.getCurrentValue(deployedProcess.getBpmnProcessId());
+      final boolean isLatestVersion = deployedProcess.getVersion() >= latestVersion;
+      processCache.put(deployedProcess, sizeInBytes, isLatestVersion);
+
+      return deployedProcess;
+    }
+  }
+
+  private DeployedProcess getCachedOrCreateDeployedProcess(
+      final PersistedProcess persistedProcess) {
+    final DeployedProcess cachedProcess =
+        processCache.peek(persistedProcess.getBpmnProcessId(), persistedProcess.getVersion());
+    return cachedProcess != null ? cachedProcess : createDeployedProcess(persistedProcess);
+  }
+
+  private DeployedProcess createDeployedProcess(final PersistedProcess persistedProcess) {
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedProcess.getLength()];
     final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
@@ -180,11 +203,7 @@ public final class DbProcessState implements MutableProcessState {
             .findFirst()
             .orElseThrow();
 
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
-
-    addProcessToInMemoryState(deployedProcess);
-
-    return deployedProcess;
+    return new DeployedProcess(executableProcess, copiedProcess);
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -193,55 +212,29 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
-  private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
-    processesByKey.put(deployedProcess.getKey(), deployedProcess);
-
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.computeIfAbsent(
-            bpmnProcessId, id -> new Long2ObjectHashMap<>());
-
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
-  }
-
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(final DirectBuffer processIdBuffer) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processIdBuffer);
-
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getCurrentValue(processIdBuffer);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
+    final DeployedProcess deployedProcess = processCache.get(processIdBuffer, latestVersion);
+    if (deployedProcess != null) {
+      return deployedProcess;
     } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-      }
+      return lookupProcessByIdAndPersistedVersion(latestVersion);
     }
-    return deployedProcess;
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null ? deployedProcess : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
-    }
+    final DeployedProcess deployedProcess = processCache.get(processId, version);
+    return deployedProcess != null ? deployedProcess : lookupPersistenceState(processId, version);
   }
 
   @Override
   public DeployedProcess getProcessByKey(final long key) {
-    final DeployedProcess deployedProcess = processesByKey.get(key);
+    final DeployedProcess deployedProcess = processCache.get(key);
 
     if (deployedProcess != null) {
       return deployedProcess;
@@ -250,23 +243,32 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
+  /**
+   * Returns all deployed processes. Cached processes are reused; the others are transformed from
+   * the state and not added to the cache, since they may not fit into it.
+   */
   @Override
   public Collection<DeployedProcess> getProcesses() {
-    updateCompleteInMemoryState();
-    return processesByKey.values();
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processColumnFamily.forEach(
+        persistedProcess -> processes.add(getCachedOrCreateDeployedProcess(persistedProcess)));
+    return processes;
   }
 
+  /**
+   * Returns all deployed versions of the given process. Cached processes are reused; the others
+   * are transformed from the state and not added to the cache, since they may not fit into it.
+   */
   @Override
   public Collection<DeployedProcess> getProcessesByBpmnProcessId(final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedProcess> processesByVersions =
-        processesByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (processesByVersions != null) {
-      return processesByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processId.wrapBuffer(bpmnProcessId);
+    processByIdAndVersionColumnFamily.whileEqualPrefix(
+        processId,
+        (idAndVersion, persistedProcess) -> {
+          processes.add(getCachedOrCreateDeployedProcess(persistedProcess));
+        });
+    return processes;
   }
 
   @Override
@@ -326,14 +328,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByProcessIdAndVersion.get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -344,15 +339,9 @@ public final class DbProcessState implements MutableProcessState {
 
     final PersistedProcess processWithKey = processColumnFamily.get(this.processDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processesByKey.get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
-
-  private void updateCompleteInMemoryState() {
-    processColumnFamily.forEach(this::updateInMemoryState);
-  }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.metrics.EngineCacheMetrics;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * An in-memory cache of deployed processes, which is bounded by the estimated size of the cached
+ * processes. The size of a process is estimated by the length of its persisted representation,
+ * which includes the BPMN resource it was transformed from.
+ *
+ * <p>Entries that are not pinned are evicted in least-recently-used order as soon as the total
+ * size exceeds the budget. Pinned entries, i.e. the latest version of a process, are never evicted
+ * but still count towards the total size, so the budget may be exceeded if there are more latest
+ * versions than fit into it.
+ *
+ * <p>This class is not thread-safe; it is meant to be used by the stream processor only.
+ */
+final class DeployedProcessCache {
+
+  private final long maxSize;
+  private final EngineCacheMetrics metrics;
+
+  // unpinned entries in access order, the eldest entry is evicted first
+  private final LinkedHashMap<Long, CachedProcess> evictableProcessesByKey =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final Long2ObjectHashMap<CachedProcess> pinnedProcessesByKey = new Long2ObjectHashMap<>();
+  private final Map<DirectBuffer, Long2ObjectHashMap<CachedProcess>>
+      processesByProcessIdAndVersion = new HashMap<>();
+
+  private long size;
+
+  DeployedProcessCache(final long maxSize, final EngineCacheMetrics metrics) {
+    this.maxSize = maxSize;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached process with the given key, or {@code null} if it is not cached
+   */
+  DeployedProcess get(final long processDefinitionKey) {
+    CachedProcess cachedProcess = pinnedProcessesByKey.get(processDefinitionKey);
+    if (cachedProcess == null) {
+      cachedProcess = evictableProcessesByKey.get(processDefinitionKey);
+    }
+    return recordAccess(cachedProcess);
+  }
+
+  /**
+   * @return the cached process with the given id and version, or {@code null} if it is not cached
+   */
+  DeployedProcess get(final DirectBuffer bpmnProcessId, final long version) {
+    final var versions = processesByProcessIdAndVersion.get(bpmnProcessId);
+    if (versions == null) {
+      return recordAccess(null);
+    }
+
+    final var cachedProcess = versions.get(version);
+    if (cachedProcess != null && !cachedProcess.pinned) {
+      // touch the entry to move it to the end of the access order
+      evictableProcessesByKey.get(cachedProcess.process.getKey());
+    }
+    return recordAccess(cachedProcess);
+  }
+
+  /**
+   * Returns the cached process with the given id and version, without counting the access as hit
+   * or miss and without changing the eviction order, e.g. to reuse a cached process while
+   * iterating over all processes of the state.
+   *
+   * @return the cached process with the given id and version, or {@code null} if it is not cached
+   */
+  DeployedProcess peek(final DirectBuffer bpmnProcessId, final long version) {
+    final var versions = processesByProcessIdAndVersion.get(bpmnProcessId);
+    final var cachedProcess = versions != null ? versions.get(version) : null;
+    return cachedProcess != null ? cachedProcess.process : null;
+  }
+
+  /**
+   * Adds the given process to the cache and evicts unpinned processes if the cache exceeds its
+   * budget afterwards.
+   *
+   * @param process the process to cache
+   * @param sizeInBytes the estimated size of the process
+   * @param pinned {@code true} if the process must not be evicted
+   */
+  void put(final DeployedProcess process, final long sizeInBytes, final boolean pinned) {
+    remove(process.getKey());
+
+    final var cachedProcess = new CachedProcess(process, sizeInBytes, pinned);
+    if (pinned) {
+      pinnedProcessesByKey.put(process.getKey(), cachedProcess);
+    } else {
+      evictableProcessesByKey.put(process.getKey(), cachedProcess);
+    }
+    processesByProcessIdAndVersion
+        .computeIfAbsent(process.getBpmnProcessId(), id -> new Long2ObjectHashMap<>())
+        .put(process.getVersion(), cachedProcess);
+    size += sizeInBytes;
+
+    evictIfNecessary();
+  }
+
+  /**
+   * Unpins all cached versions of the given process, e.g. because a newer version was deployed.
+   * The unpinned versions are evicted like any other entry afterwards.
+   */
+  void unpinVersions(final DirectBuffer bpmnProcessId) {
+    final var versions = processesByProcessIdAndVersion.get(bpmnProcessId);
+    if (versions == null) {
+      return;
+    }
+
+    for (final CachedProcess cachedProcess : versions.values()) {
+      if (cachedProcess.pinned) {
+        cachedProcess.pinned = false;
+        pinnedProcessesByKey.remove(cachedProcess.process.getKey());
+        evictableProcessesByKey.put(cachedProcess.process.getKey(), cachedProcess);
+      }
+    }
+
+    evictIfNecessary();
+  }
+
+  int getEntryCount() {
+    return pinnedProcessesByKey.size() + evictableProcessesByKey.size();
+  }
+
+  long getSize() {
+    return size;
+  }
+
+  private DeployedProcess recordAccess(final CachedProcess cachedProcess) {
+    if (cachedProcess == null) {
+      metrics.miss();
+      return null;
+    }
+
+    metrics.hit();
+    return cachedProcess.process;
+  }
+
+  private void remove(final long processDefinitionKey) {
+    CachedProcess cachedProcess = pinnedProcessesByKey.remove(processDefinitionKey);
+    if (cachedProcess == null) {
+      cachedProcess = evictableProcessesByKey.remove(processDefinitionKey);
+    }
+
+    if (cachedProcess != null) {
+      removeFromVersionIndex(cachedProcess);
+      size -= cachedProcess.sizeInBytes;
+    }
+  }
+
+  private void evictIfNecessary() {
+    final Iterator<CachedProcess> eldestFirst = evictableProcessesByKey.values().iterator();
+    while (size > maxSize && eldestFirst.hasNext()) {
+      final var evicted = eldestFirst.next();
+      eldestFirst.remove();
+      removeFromVersionIndex(evicted);
+      size -= evicted.sizeInBytes;
+
+      metrics.evicted(evicted.sizeInBytes);
+    }
+
+    metrics.setSize(getEntryCount());
+    metrics.setWeight(size);
+  }
+
+  private void removeFromVersionIndex(final CachedProcess cachedProcess) {
+    final var bpmnProcessId = cachedProcess.process.getBpmnProcessId();
+    final var versions = processesByProcessIdAndVersion.get(bpmnProcessId);
+    if (versions != null) {
+      versions.remove(cachedProcess.process.getVersion());
+      if (versions.isEmpty()) {
+        processesByProcessIdAndVersion.remove(bpmnProcessId);
+      }
+    }
+  }
+
+  private static final class CachedProcess {
+    private final DeployedProcess process;
+    private final long sizeInBytes;
+    private boolean pinned;
+
+    private CachedProcess(
+        final DeployedProcess process, final long sizeInBytes, final boolean pinned) {
+      this.process = process;
+      this.sizeInBytes = sizeInBytes;
+      this.pinned = pinned;
+    }
+  }
+}
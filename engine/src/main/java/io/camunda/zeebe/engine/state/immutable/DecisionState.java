@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
 import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
 import java.util.List;
@@ -44,6 +45,19 @@ public interface DecisionState {
   Optional<PersistedDecisionRequirements> findDecisionRequirementsByKey(
       long decisionRequirementsKey);
 
+  /**
+   * Query decision requirements (DRGs) by the given decision requirements key and return the
+   * parsed DRG. The parsed DRG is cached, so subsequent queries for the same key don't need to
+   * parse the DMN resource again.
+   *
+   * @param decisionRequirementsKey the key of the DRG
+   * @return the parsed DRG, or {@link Optional#empty()} if no DRG is deployed with the given key.
+   *     Use {@link ParsedDecisionRequirementsGraph#isValid()} to check if the DRG was parsed
+   *     successfully.
+   */
+  Optional<ParsedDecisionRequirementsGraph> findParsedDecisionRequirementsByKey(
+      long decisionRequirementsKey);
+
   /**
    * Query decisions by the given decision requirements (DRG) key.
    *
@@ -31,4 +31,18 @@ public interface ElementInstanceState {
    * @return the number of taken sequence flows of the given gateway
    */
   int getNumberOfTakenSequenceFlows(final long flowScopeKey, final DirectBuffer gatewayElementId);
+
+  /**
+   * Returns the collected output element of the inner instance of a parallel multi-instance body
+   * with the given loop counter.
+   *
+   * <p>The returned buffer is only valid until the next access to the state.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param loopCounter the loop counter of the inner instance
+   * @return the output element, or {@code null} if no output element was collected for the inner
+   *     instance
+   */
+  DirectBuffer getMultiInstanceOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter);
 }
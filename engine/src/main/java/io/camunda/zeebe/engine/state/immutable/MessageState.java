@@ -24,10 +24,27 @@ public interface MessageState {
 
   void visitMessagesWithDeadlineBefore(long timestamp, MessageVisitor visitor);
 
+  /**
+   * Visits the messages with a deadline before the given timestamp in order of their deadline and
+   * key, until the visitor returns {@code false}. The visit starts after the given index, which
+   * allows to continue a previous visit without visiting the messages before again.
+   *
+   * @param timestamp the timestamp at which the messages are expired (inclusive)
+   * @param startAfter the index of the last message which was visited before, or {@code null} to
+   *     start with the first message
+   * @param visitor visits the expired messages
+   * @return the deadline of the first message which was not visited or not consumed by the
+   *     visitor, or {@code -1} if there are no more messages
+   */
+  long visitMessagesWithDeadlineBefore(long timestamp, Index startAfter, MessageVisitor visitor);
+
   boolean exist(DirectBuffer name, DirectBuffer correlationKey, DirectBuffer messageId);
 
   @FunctionalInterface
   interface MessageVisitor {
     boolean visit(StoredMessage message);
   }
+
+  /** The position of a message in the order of the deadlines. */
+  record Index(long deadline, long messageKey) {}
 }
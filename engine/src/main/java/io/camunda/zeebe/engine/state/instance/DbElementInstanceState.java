@@ -57,6 +57,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbLong, DbString>, DbString>, DbInt>
       numberOfTakenSequenceFlowsColumnFamily;
 
+  private final DbLong multiInstanceBodyKey = new DbLong();
+  private final DbInt loopCounter = new DbInt();
+  private final DbCompositeKey<DbLong, DbInt> multiInstanceBodyKeyAndLoopCounter;
+  private final MultiInstanceOutputElement multiInstanceOutputElement;
+  /** [multi-instance body key | loop counter] => [output element of the inner instance] */
+  private final ColumnFamily<DbCompositeKey<DbLong, DbInt>, MultiInstanceOutputElement>
+      multiInstanceOutputElementsColumnFamily;
+
   private final MutableVariableState variableState;
 
   public DbElementInstanceState(
@@ -109,6 +117,15 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             numberOfTakenSequenceFlowsKey,
             numberOfTakenSequenceFlows);
+
+    multiInstanceBodyKeyAndLoopCounter = new DbCompositeKey<>(multiInstanceBodyKey, loopCounter);
+    multiInstanceOutputElement = new MultiInstanceOutputElement();
+    multiInstanceOutputElementsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS,
+            transactionContext,
+            multiInstanceBodyKeyAndLoopCounter,
+            multiInstanceOutputElement);
   }
 
   @Override
@@ -151,6 +168,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
       awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
       removeNumberOfTakenSequenceFlows(key);
+      removeMultiInstanceOutputElements(key);
 
       final long parentKey = instance.getParentKey();
       if (parentKey > 0) {
@@ -237,6 +255,17 @@ public final class DbElementInstanceState implements MutableElementInstanceState
         });
   }
 
+  @Override
+  public void setMultiInstanceOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter, final DirectBuffer outputElement) {
+    this.multiInstanceBodyKey.wrapLong(multiInstanceBodyKey);
+    this.loopCounter.wrapInt(loopCounter);
+    multiInstanceOutputElement.set(outputElement);
+
+    multiInstanceOutputElementsColumnFamily.upsert(
+        multiInstanceBodyKeyAndLoopCounter, multiInstanceOutputElement);
+  }
+
   @Override
   public ElementInstance getInstance(final long key) {
     elementInstanceKey.wrapLong(key);
@@ -287,6 +316,17 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return count.get();
   }
 
+  @Override
+  public DirectBuffer getMultiInstanceOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter) {
+    this.multiInstanceBodyKey.wrapLong(multiInstanceBodyKey);
+    this.loopCounter.wrapInt(loopCounter);
+
+    final var outputElement =
+        multiInstanceOutputElementsColumnFamily.get(multiInstanceBodyKeyAndLoopCounter);
+    return outputElement != null ? outputElement.get() : null;
+  }
+
   private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
     if (elementInstance != null) {
       final byte[] bytes = new byte[elementInstance.getLength()];
@@ -309,4 +349,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           numberOfTakenSequenceFlowsColumnFamily.deleteExisting(key);
         });
   }
+
+  private void removeMultiInstanceOutputElements(final long multiInstanceBodyKey) {
+    this.multiInstanceBodyKey.wrapLong(multiInstanceBodyKey);
+
+    multiInstanceOutputElementsColumnFamily.whileEqualPrefix(
+        this.multiInstanceBodyKey,
+        (key, outputElement) -> {
+          multiInstanceOutputElementsColumnFamily.deleteExisting(key);
+        });
+  }
 }
@@ -17,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.state.DueDateCache;
+import io.camunda.zeebe.engine.state.DueDateCache.EntryVisitor;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
@@ -63,7 +65,9 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> backoffJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
-  private long nextBackOffDueDate;
+
+  private final DueDateCache deadlineCache;
+  private final DueDateCache backoffCache;
 
   private final JobMetrics metrics;
 
@@ -72,7 +76,11 @@ public final class DbJobState implements JobState, MutableJobState {
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final int partitionId) {
+      final int partitionId,
+      final DueDateCache deadlineCache,
+      final DueDateCache backoffCache) {
+    this.deadlineCache = deadlineCache;
+    this.backoffCache = backoffCache;
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
     jobsColumnFamily =
@@ -126,6 +134,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
+    deadlineCache.add(deadline, key, 0);
   }
 
   @Override
@@ -134,6 +143,7 @@ public final class DbJobState implements JobState, MutableJobState {
     jobKey.wrapLong(key);
     backoffKey.wrapLong(record.getRecurringTime());
     backoffColumnFamily.deleteExisting(backoffJobKey);
+    backoffCache.remove(record.getRecurringTime(), key);
   }
 
   @Override
@@ -145,7 +155,7 @@ public final class DbJobState implements JobState, MutableJobState {
     EnsureUtil.ensureGreaterThan("deadline", deadline, 0);
 
     updateJob(key, record, State.ACTIVATABLE);
-    removeJobDeadline(deadline);
+    removeJobDeadline(key, deadline);
   }
 
   @Override
@@ -182,7 +192,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     makeJobNotActivatable(type);
 
-    removeJobDeadline(deadline);
+    removeJobDeadline(key, deadline);
   }
 
   @Override
@@ -192,6 +202,7 @@ public final class DbJobState implements JobState, MutableJobState {
         jobKey.wrapLong(key);
         backoffKey.wrapLong(updatedValue.getRecurringTime());
         backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+        backoffCache.add(updatedValue.getRecurringTime(), key, 0);
         updateJob(key, updatedValue, State.FAILED);
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
@@ -237,7 +248,7 @@ public final class DbJobState implements JobState, MutableJobState {
     }
 
     if (deadline > 0) {
-      removeJobDeadline(deadline);
+      removeJobDeadline(key, deadline);
     }
   }
 
@@ -248,16 +259,25 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void forEachTimedOutEntry(
       final long upperBound, final BiFunction<Long, JobRecord, Boolean> callback) {
+    // the upper bound is exclusive
+    deadlineCache.visitDueEntries(
+        upperBound - 1,
+        this::scanDeadlines,
+        (deadline, key, ignored) ->
+            visitJob(key, callback::apply, () -> removeJobDeadline(key, deadline)));
+  }
+
+  private void scanDeadlines(
+      final long fromDeadline,
+      final long ignored,
+      final long fromJobKey,
+      final EntryVisitor collector) {
+    deadlineKey.wrapLong(fromDeadline);
+    jobKey.wrapLong(fromJobKey);
     deadlinesColumnFamily.whileTrue(
+        deadlineJobKey,
         (key, value) -> {
-          final long deadline = key.first().getValue();
-          final boolean isDue = deadline < upperBound;
-          if (isDue) {
-            final long jobKey1 = key.second().inner().getValue();
-            return visitJob(
-                jobKey1, callback::apply, () -> deadlinesColumnFamily.deleteExisting(key));
-          }
-          return false;
+          return collector.visit(key.first().getValue(), key.second().inner().getValue(), 0);
         });
   }
 
@@ -313,21 +333,25 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
-    nextBackOffDueDate = -1L;
+    return backoffCache.visitDueEntries(
+        timestamp,
+        this::scanBackoffs,
+        (recurringTime, key, ignored) ->
+            visitJob(key, callback, () -> removeJobBackoff(key, recurringTime)));
+  }
+
+  private void scanBackoffs(
+      final long fromRecurringTime,
+      final long ignored,
+      final long fromJobKey,
+      final EntryVisitor collector) {
+    backoffKey.wrapLong(fromRecurringTime);
+    jobKey.wrapLong(fromJobKey);
     backoffColumnFamily.whileTrue(
+        backoffJobKey,
         (key, value) -> {
-          final long deadline = key.first().getValue();
-          boolean consumed = false;
-          if (deadline <= timestamp) {
-            final long jobKey = key.second().inner().getValue();
-            consumed = visitJob(jobKey, callback, () -> backoffColumnFamily.deleteExisting(key));
-          }
-          if (!consumed) {
-            nextBackOffDueDate = deadline;
-          }
-          return consumed;
+          return collector.visit(key.first().getValue(), key.second().inner().getValue(), 0);
         });
-    return nextBackOffDueDate;
   }
 
   boolean visitJob(
@@ -395,8 +419,17 @@ public final class DbJobState implements JobState, MutableJobState {
     activatableColumnFamily.deleteIfExists(typeJobKey);
   }
 
-  private void removeJobDeadline(final long deadline) {
+  private void removeJobDeadline(final long key, final long deadline) {
+    jobKey.wrapLong(key);
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.deleteIfExists(deadlineJobKey);
+    deadlineCache.remove(deadline, key);
+  }
+
+  private void removeJobBackoff(final long key, final long recurringTime) {
+    jobKey.wrapLong(key);
+    backoffKey.wrapLong(recurringTime);
+    backoffColumnFamily.deleteExisting(backoffJobKey);
+    backoffCache.remove(recurringTime, key);
   }
 }
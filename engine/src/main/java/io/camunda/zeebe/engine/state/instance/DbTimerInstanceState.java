@@ -15,6 +15,8 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.DueDateCache;
+import io.camunda.zeebe.engine.state.DueDateCache.EntryVisitor;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import java.util.function.Consumer;
@@ -35,10 +37,13 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
-  private long nextDueDate;
+  private final DueDateCache dueDateCache;
 
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final DueDateCache dueDateCache) {
+    this.dueDateCache = dueDateCache;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -71,6 +76,7 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+    dueDateCache.add(timer.getDueDate(), timer.getKey(), timer.getElementInstanceKey());
   }
 
   @Override
@@ -81,30 +87,39 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+    dueDateCache.remove(timer.getDueDate(), timer.getKey());
   }
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
-    nextDueDate = -1L;
+    return dueDateCache.visitDueEntries(
+        timestamp,
+        this::scanDueDates,
+        (dueDate, timerKey, elementInstanceKey) -> {
+          this.elementInstanceKey.inner().wrapLong(elementInstanceKey);
+          this.timerKey.wrapLong(timerKey);
+          final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+          return consumer.visit(timerInstance);
+        });
+  }
 
+  private void scanDueDates(
+      final long fromDueDate,
+      final long fromElementInstanceKey,
+      final long fromTimerKey,
+      final EntryVisitor collector) {
+    dueDate.wrapLong(fromDueDate);
+    elementInstanceKey.inner().wrapLong(fromElementInstanceKey);
+    timerKey.wrapLong(fromTimerKey);
     dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
         (key, nil) -> {
-          final DbLong dueDate = key.first();
-
-          boolean consumed = false;
-          if (dueDate.getValue() <= timestamp) {
-            final var elementAndTimerKey = key.second();
-            final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            consumed = consumer.visit(timerInstance);
-          }
-
-          if (!consumed) {
-            nextDueDate = dueDate.getValue();
-          }
-          return consumed;
+          final var elementAndTimerKey = key.second();
+          return collector.visit(
+              key.first().getValue(),
+              elementAndTimerKey.second().getValue(),
+              elementAndTimerKey.first().inner().getValue());
         });
-
-    return nextDueDate;
   }
 
   @Override
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import org.agrona.DirectBuffer;
+
+public class MultiInstanceOutputElement extends UnpackedObject implements DbValue {
+  private final BinaryProperty outputElementProp = new BinaryProperty("outputElement");
+
+  public MultiInstanceOutputElement() {
+    declareProperty(outputElementProp);
+  }
+
+  public void set(final DirectBuffer outputElement) {
+    outputElementProp.setValue(outputElement);
+  }
+
+  public DirectBuffer get() {
+    return outputElementProp.getValue();
+  }
+}
@@ -18,6 +18,8 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.state.DueDateCache;
+import io.camunda.zeebe.engine.state.DueDateCache.EntryVisitor;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -102,8 +104,13 @@ public final class DbMessageState implements MutableMessageState {
 
   private final ColumnFamily<DbLong, DbString> processInstanceCorrelationKeyColumnFamiliy;
 
+  private final DueDateCache deadlineCache;
+
   public DbMessageState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final DueDateCache deadlineCache) {
+    this.deadlineCache = deadlineCache;
     messageKey = new DbLong();
     fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
     message = new StoredMessage();
@@ -178,6 +185,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    deadlineCache.add(record.getDeadline(), key, 0);
 
     final DirectBuffer messageId = record.getMessageIdBuffer();
     if (messageId.capacity() > 0) {
@@ -272,6 +280,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    deadlineCache.remove(storedMessage.getMessage().getDeadline(), storedMessage.getMessageKey());
 
     correlatedMessageColumnFamily.whileEqualPrefix(
         messageKey,
@@ -337,16 +346,42 @@ public final class DbMessageState implements MutableMessageState {
 
   @Override
   public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+    visitMessagesWithDeadlineBefore(timestamp, null, visitor);
+  }
+
+  @Override
+  public long visitMessagesWithDeadlineBefore(
+      final long timestamp, final Index startAfter, final MessageVisitor visitor) {
+    final EntryVisitor messageVisitor =
+        (deadline, messageKey, ignored) -> visitor.visit(getMessage(messageKey));
+    if (startAfter == null) {
+      return deadlineCache.visitDueEntries(timestamp, this::scanDeadlines, messageVisitor);
+    }
+
+    // the deadline index is ordered by deadline and message key, so the next message may have the
+    // same deadline and the next higher key
+    return deadlineCache.visitDueEntries(
+        timestamp,
+        startAfter.deadline(),
+        0,
+        startAfter.messageKey() + 1,
+        this::scanDeadlines,
+        messageVisitor);
+  }
+
+  private void scanDeadlines(
+      final long fromDeadline,
+      final long ignored,
+      final long fromMessageKey,
+      final EntryVisitor collector) {
+    deadline.wrapLong(fromDeadline);
+    messageKey.wrapLong(fromMessageKey);
     deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
-          final long deadline = compositeKey.first().getValue();
-          if (deadline <= timestamp) {
-            final long messageKey = compositeKey.second().inner().getValue();
-            final StoredMessage message = getMessage(messageKey);
-            return visitor.visit(message);
-          }
-          return false;
-        }));
+        deadlineMessageKey,
+        (compositeKey, zbNil) -> {
+          return collector.visit(
+              compositeKey.first().getValue(), compositeKey.second().inner().getValue(), 0);
+        });
   }
 
   @Override
@@ -60,4 +60,17 @@ public interface MutableElementInstanceState extends ElementInstanceState {
    */
   void decrementNumberOfTakenSequenceFlows(
       final long flowScopeKey, final DirectBuffer gatewayElementId);
+
+  /**
+   * Stores the output element of a completed inner instance of a parallel multi-instance body.
+   *
+   * <p>The output elements are merged into the output collection when the multi-instance body
+   * completes, and are removed together with the multi-instance body.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body
+   * @param loopCounter the loop counter of the inner instance
+   * @param outputElement the output element of the inner instance
+   */
+  void setMultiInstanceOutputElement(
+      final long multiInstanceBodyKey, final int loopCounter, final DirectBuffer outputElement);
 }
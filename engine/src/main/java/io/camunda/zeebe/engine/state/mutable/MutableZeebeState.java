@@ -63,4 +63,16 @@ public interface MutableZeebeState extends ZeebeState {
 
   @Override
   MutableDecisionState getDecisionState();
+
+  /**
+   * Must be called after the current transaction was rolled back, to drop the in-memory views of
+   * the state which may contain changes of that transaction.
+   */
+  void onRollback();
+
+  /**
+   * Must be called before a command is processed, to drop the in-memory views of the state which
+   * are only kept while processing a single command.
+   */
+  void onProcessingCommand();
 }
@@ -13,10 +13,12 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.EngineCacheMetrics;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.Protocol;
 import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -30,6 +32,10 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final int LOOKUP_CACHE_MAX_ENTRIES = 10_000;
+  private static final String VARIABLE_LOOKUP_CACHE_NAME = "variable";
+  private static final String SCOPE_LOOKUP_CACHE_NAME = "variable-scope";
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -53,8 +59,22 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // resolved parent scopes and variables of the current command
+  private final VariableLookupCache lookupCache =
+      new VariableLookupCache(LOOKUP_CACHE_MAX_ENTRIES);
+  private final DirectBuffer lookupNameView = new UnsafeBuffer(0, 0);
+  private final EngineCacheMetrics variableLookupMetrics;
+  private final EngineCacheMetrics scopeLookupMetrics;
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, Protocol.DEPLOYMENT_PARTITION);
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -72,6 +92,9 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    variableLookupMetrics = new EngineCacheMetrics(VARIABLE_LOOKUP_CACHE_NAME, partitionId);
+    scopeLookupMetrics = new EngineCacheMetrics(SCOPE_LOOKUP_CACHE_NAME, partitionId);
   }
 
   @Override
@@ -106,6 +129,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    lookupCache.removeVariable(scopeKey, variableNameView);
   }
 
   @Override
@@ -114,6 +138,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    lookupCache.putParentScopeKey(childKey, parentKey);
   }
 
   @Override
@@ -125,6 +150,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    lookupCache.removeScope(scopeKey);
   }
 
   @Override
@@ -134,17 +160,12 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    lookupCache.removeVariables(scopeKey);
   }
 
   @Override
   public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
-    final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
-
-    if (variable != null) {
-      return variable.getValue();
-    } else {
-      return null;
-    }
+    return getCachedVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
   /**
@@ -176,11 +197,11 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      final DirectBuffer value =
+          getCachedVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
-      if (variable != null) {
-        return variable.getValue();
+      if (value != null) {
+        return value;
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -281,10 +302,48 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final long cachedParentScopeKey = lookupCache.getParentScopeKey(childScopeKey);
+    if (cachedParentScopeKey != VariableLookupCache.NOT_CACHED) {
+      scopeLookupMetrics.hit();
+      return cachedParentScopeKey;
+    }
+
+    scopeLookupMetrics.miss();
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentKey = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    lookupCache.putParentScopeKey(childScopeKey, parentKey);
+    return parentKey;
+  }
+
+  /**
+   * Drops the resolved parent scopes and variables. Must be called when the transaction is rolled
+   * back, and is called before a command is processed to limit the cache to a single command.
+   */
+  public void clearLookupCache() {
+    lookupCache.clear();
+  }
+
+  /**
+   * Like {@link #getVariableLocal(long, DirectBuffer, int, int)} but returns the value from the
+   * lookup cache, if the variable was looked up before.
+   */
+  private DirectBuffer getCachedVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    lookupNameView.wrap(name, nameOffset, nameLength);
+
+    final DirectBuffer cachedValue = lookupCache.getVariable(scopeKey, lookupNameView);
+    if (cachedValue != null) {
+      variableLookupMetrics.hit();
+      return cachedValue != VariableLookupCache.MISSING_VARIABLE ? cachedValue : null;
+    }
+
+    variableLookupMetrics.miss();
+    final VariableInstance variable = getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    final DirectBuffer value = variable != null ? variable.getValue() : null;
+    lookupCache.putVariable(scopeKey, lookupNameView, value);
+    return value;
   }
 
   private VariableInstance getVariableLocal(
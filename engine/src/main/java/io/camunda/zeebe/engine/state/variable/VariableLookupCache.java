@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps the parent scopes and the local variables which were looked up while processing a command,
+ * such that resolving the same variable names again, e.g. by every expression of an element,
+ * doesn't walk the scope hierarchy in the state again.
+ *
+ * <p>The cache only mirrors the state; the owning state must update it whenever it changes a scope
+ * or a variable, and clear it when the transaction is rolled back. It holds at most {@code
+ * maxEntries} entries, and is cleared once the limit is reached.
+ *
+ * <p>Most variables are read only once per command, so the value of a variable is only cached when
+ * it is looked up the second time. The cached names and values are copied into pooled buffers,
+ * which are reused once the cache is cleared.
+ */
+final class VariableLookupCache {
+
+  /** Returned by {@link #getParentScopeKey(long)} if the parent scope is not cached. */
+  static final long NOT_CACHED = Long.MIN_VALUE;
+
+  /** Returned by {@link #getVariable(long, DirectBuffer)} if the variable doesn't exist. */
+  static final DirectBuffer MISSING_VARIABLE = new UnsafeBuffer(0, 0);
+
+  /** Marks a variable which was looked up once; its value is cached on the next lookup. */
+  private static final DirectBuffer LOOKED_UP_ONCE = new UnsafeBuffer(0, 0);
+
+  /** Pooled buffers which grew beyond this capacity are released when the cache is cleared. */
+  private static final int MAX_POOLED_BUFFER_CAPACITY = 32 * 1024;
+
+  private final Long2LongHashMap parentScopes = new Long2LongHashMap(NOT_CACHED);
+  private final Long2ObjectHashMap<Object2ObjectHashMap<DirectBuffer, DirectBuffer>> variables =
+      new Long2ObjectHashMap<>();
+  private final List<PooledBuffer> bufferPool = new ArrayList<>();
+  private final int maxEntries;
+  private int entries;
+  private int pooledBuffersInUse;
+
+  VariableLookupCache(final int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  long getParentScopeKey(final long scopeKey) {
+    return parentScopes.get(scopeKey);
+  }
+
+  void putParentScopeKey(final long scopeKey, final long parentScopeKey) {
+    ensureCapacity();
+    if (parentScopes.put(scopeKey, parentScopeKey) == NOT_CACHED) {
+      entries++;
+    }
+  }
+
+  /**
+   * @return the cached value of the variable, {@link #MISSING_VARIABLE} if the variable is known to
+   *     not exist in the scope, or {@code null} if the variable is not cached
+   */
+  DirectBuffer getVariable(final long scopeKey, final DirectBuffer name) {
+    final var scopeVariables = variables.get(scopeKey);
+    final var cachedValue = scopeVariables != null ? scopeVariables.get(name) : null;
+    return cachedValue != LOOKED_UP_ONCE ? cachedValue : null;
+  }
+
+  /**
+   * Caches the variable after it was looked up in the state. The value is only copied if the
+   * variable was looked up before, otherwise only the lookup is remembered. The name and the value
+   * are copied, so the given buffers can be reused afterwards.
+   *
+   * @param value the value of the variable, or {@code null} if it doesn't exist in the scope
+   */
+  void putVariable(final long scopeKey, final DirectBuffer name, final DirectBuffer value) {
+    ensureCapacity();
+    final var scopeVariables =
+        variables.computeIfAbsent(scopeKey, k -> new Object2ObjectHashMap<>());
+    final var previousValue = scopeVariables.get(name);
+
+    final DirectBuffer cachedValue;
+    if (value == null) {
+      cachedValue = MISSING_VARIABLE;
+    } else if (previousValue == LOOKED_UP_ONCE) {
+      cachedValue = copyOf(value);
+    } else {
+      cachedValue = LOOKED_UP_ONCE;
+    }
+
+    scopeVariables.put(copyOf(name), cachedValue);
+    if (previousValue == null) {
+      entries++;
+    }
+  }
+
+  void removeVariable(final long scopeKey, final DirectBuffer name) {
+    final var scopeVariables = variables.get(scopeKey);
+    if (scopeVariables != null && scopeVariables.remove(name) != null) {
+      entries--;
+    }
+  }
+
+  void removeVariables(final long scopeKey) {
+    final var scopeVariables = variables.remove(scopeKey);
+    if (scopeVariables != null) {
+      entries -= scopeVariables.size();
+    }
+  }
+
+  void removeScope(final long scopeKey) {
+    removeVariables(scopeKey);
+    if (parentScopes.remove(scopeKey) != NOT_CACHED) {
+      entries--;
+    }
+  }
+
+  void clear() {
+    parentScopes.clear();
+    variables.clear();
+    entries = 0;
+
+    for (int i = 0; i < pooledBuffersInUse; i++) {
+      if (bufferPool.get(i).capacity() > MAX_POOLED_BUFFER_CAPACITY) {
+        bufferPool.set(i, new PooledBuffer());
+      }
+    }
+    pooledBuffersInUse = 0;
+  }
+
+  int size() {
+    return entries;
+  }
+
+  private void ensureCapacity() {
+    // replaced names and values stay in use until the cache is cleared, so the pool is bounded too
+    if (entries >= maxEntries || pooledBuffersInUse >= 2 * maxEntries) {
+      clear();
+    }
+  }
+
+  private DirectBuffer copyOf(final DirectBuffer buffer) {
+    if (pooledBuffersInUse == bufferPool.size()) {
+      bufferPool.add(new PooledBuffer());
+    }
+    return bufferPool.get(pooledBuffersInUse++).copyOf(buffer);
+  }
+
+  private static final class PooledBuffer {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer view = new UnsafeBuffer(0, 0);
+
+    private DirectBuffer copyOf(final DirectBuffer source) {
+      final int length = source.capacity();
+      buffer.putBytes(0, source, 0, length);
+      view.wrap(buffer, 0, length);
+      return view;
+    }
+
+    private int capacity() {
+      return buffer.capacity();
+    }
+  }
+}
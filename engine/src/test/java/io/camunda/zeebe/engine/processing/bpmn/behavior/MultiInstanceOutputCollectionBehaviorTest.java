@@ -22,6 +22,7 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
@@ -54,7 +55,7 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     final var outputElementExpression = new StaticExpression("dummy expression");
     final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
     final var loopCharacteristics =
-        createLoopCharacteristics(outputCollectionName, outputElementExpression);
+        createLoopCharacteristics(true, outputCollectionName, outputElementExpression);
     final var flowScopeContextKey = 12345L;
 
     final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
@@ -76,7 +77,8 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mockExpressionProcessor, mock(StateWriter.class));
 
     // when
     final var result =
@@ -102,7 +104,7 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     final var outputElementExpression = new StaticExpression("dummy expression");
     final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
     final var loopCharacteristics =
-        createLoopCharacteristics(outputCollectionName, outputElementExpression);
+        createLoopCharacteristics(true, outputCollectionName, outputElementExpression);
     final var flowScopeContextKey = 12345L;
 
     final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
@@ -124,7 +126,8 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mockExpressionProcessor, mock(StateWriter.class));
 
     // when
     final var result =
@@ -141,10 +144,64 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
   }
 
+  @Test
+  void shouldReturnFailureWhenLastOutputElementOfParallelBodyIsOutOfBounds() {
+    // given
+    final var collectionWithSize1 = createCollection(1);
+    final var elementToAdd = createMsgPackString("element to add");
+    final var indexThatIsOutOfBounds = 2;
+    final var outputElementExpression = new StaticExpression("dummy expression");
+    final var outputCollectionName = wrapString("OUTPUT_COLLECTION");
+    final var loopCharacteristics =
+        createLoopCharacteristics(false, outputCollectionName, outputElementExpression);
+    final var flowScopeContextKey = 12345L;
+
+    final var mockStateBehavior = mock(BpmnStateBehavior.class, Answers.RETURNS_DEEP_STUBS);
+    when(mockStateBehavior.getLocalVariable(any(), eq(outputCollectionName)))
+        .thenReturn(collectionWithSize1);
+
+    final var mockExpressionProcessor = mock(ExpressionProcessor.class);
+    when(mockExpressionProcessor.evaluateAnyExpression(eq(outputElementExpression), anyLong()))
+        .thenReturn(Either.right(elementToAdd));
+
+    final var mockElement = mock(ExecutableMultiInstanceBody.class);
+    when(mockElement.getLoopCharacteristics()).thenReturn(loopCharacteristics);
+
+    final var mockChildContext = mock(BpmnElementContext.class);
+    when(mockStateBehavior.getElementInstance(mockChildContext).getMultiInstanceLoopCounter())
+        .thenReturn(indexThatIsOutOfBounds);
+    final var mockFlowScopeInstance = mockStateBehavior.getFlowScopeInstance(mockChildContext);
+    when(mockFlowScopeInstance.getNumberOfActiveElementInstances()).thenReturn(1);
+    when(mockFlowScopeInstance.getMultiInstanceLoopCounter()).thenReturn(indexThatIsOutOfBounds);
+
+    final var mockFlowScopeContext = mock(BpmnElementContext.class);
+    when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
+
+    final var sut =
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mockExpressionProcessor, mock(StateWriter.class));
+
+    // when
+    final var result =
+        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+
+    // then
+    assertThat(result.isLeft()).isTrue();
+
+    final var failure = result.getLeft();
+    assertThat(failure.getErrorType()).isEqualTo(ErrorType.EXTRACT_VALUE_ERROR);
+    assertThat(failure.getMessage())
+        .isEqualTo(
+            "Unable to update an item in output collection 'OUTPUT_COLLECTION' at position 2 because the size of the collection is: 1. This may happen when multiple BPMN elements write to the same variable.");
+    assertThat(failure.getVariableScopeKey()).isEqualTo(flowScopeContextKey);
+  }
+
   private ExecutableLoopCharacteristics createLoopCharacteristics(
-      final DirectBuffer outputCollection, final Expression outputElement) {
+      final boolean isSequential,
+      final DirectBuffer outputCollection,
+      final Expression outputElement) {
     return new ExecutableLoopCharacteristics(
-        false,
+        isSequential,
         Optional.empty(),
         null,
         Optional.empty(),
@@ -19,13 +19,16 @@ import io.camunda.zeebe.model.bpmn.builder.MultiInstanceLoopCharacteristicsBuild
 import io.camunda.zeebe.model.bpmn.builder.zeebe.MessageBuilder;
 import io.camunda.zeebe.model.bpmn.instance.ServiceTask;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.intent.MultiInstanceOutputElementIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.protocol.record.value.MultiInstanceOutputElementRecordValue;
 import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
 import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
 import io.camunda.zeebe.test.util.JsonUtil;
@@ -421,6 +424,43 @@ public final class MultiInstanceActivityTest {
     }
   }
 
+  @Test
+  public void shouldCompleteBodyWhenCompleteConditionAccessOutputCollectionEvaluateTrue() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            process(miBuilder.andThen(m -> m.completionCondition("= list contains(results, 22)"))))
+        .deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, 2);
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+                .exists())
+        .describedAs("the completion condition is satisfied by the output collection")
+        .isTrue();
+
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .hasValue("[11,22,null]");
+  }
+
   @Test
   public void shouldCompleteBodyWhenCompleteConditionEvaluateFalse() {
     // given
@@ -857,9 +897,71 @@ public final class MultiInstanceActivityTest {
             RecordingExporter.variableRecords()
                 .withName(OUTPUT_COLLECTION_VARIABLE)
                 .withScopeKey(multiInstanceBody.getKey())
-                .limit(INPUT_COLLECTION.size() + 1))
+                .limit(2))
         .extracting(r -> r.getValue().getValue())
-        .contains("[null,null,null]", "[11,null,null]", "[11,22,null]", "[11,22,33]");
+        .containsExactly("[null,null,null]", "[11,22,33]");
+  }
+
+  @Test
+  public void shouldCollectOutputElementsWithoutVariables() {
+    // given
+    ENGINE.deployment().withXmlResource(process(miBuilder)).deploy();
+
+    // when
+    final var processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION_EXPRESSION, INPUT_COLLECTION)
+            .create();
+
+    completeJobs(processInstanceKey, INPUT_COLLECTION.size());
+
+    // then
+    final var multiInstanceBody =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+            .getFirst();
+
+    assertThat(
+            RecordingExporter.records()
+                .betweenProcessInstance(processInstanceKey)
+                .variableRecords()
+                .filter(r -> r.getValue().getName().startsWith(OUTPUT_COLLECTION_VARIABLE + "[")))
+        .describedAs("the output elements are not stored as variables")
+        .isEmpty();
+
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .hasValue(JsonUtil.toJson(OUTPUT_COLLECTION));
+
+    final var collectedOutputElements =
+        RecordingExporter.records()
+            .betweenProcessInstance(processInstanceKey)
+            .withValueType(ValueType.MULTI_INSTANCE_OUTPUT_ELEMENT)
+            .withIntent(MultiInstanceOutputElementIntent.COLLECTED)
+            .map(r -> (MultiInstanceOutputElementRecordValue) r.getValue());
+
+    if ("parallel".equals(loopCharacteristics)) {
+      assertThat(collectedOutputElements)
+          .extracting(
+              MultiInstanceOutputElementRecordValue::getMultiInstanceBodyKey,
+              MultiInstanceOutputElementRecordValue::getLoopCounter,
+              MultiInstanceOutputElementRecordValue::getOutputElement)
+          .containsExactlyInAnyOrder(
+              tuple(multiInstanceBody.getKey(), 1, "11"),
+              tuple(multiInstanceBody.getKey(), 2, "22"),
+              tuple(multiInstanceBody.getKey(), 3, "33"));
+    } else {
+      assertThat(collectedOutputElements)
+          .describedAs("the inner instances write into the output collection directly")
+          .isEmpty();
+    }
   }
 
   @Test
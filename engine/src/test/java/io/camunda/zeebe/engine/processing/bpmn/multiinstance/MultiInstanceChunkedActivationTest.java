@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MultiInstanceChunkedActivationTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withEngineConfiguration(
+              new EngineConfiguration().setMultiInstanceActivationChunkSize(CHUNK_SIZE));
+
+  private static final String PROCESS_ID = "process";
+  private static final String ELEMENT_ID = "task";
+  private static final String INPUT_COLLECTION = "items";
+  private static final String INPUT_ELEMENT = "item";
+  private static final List<Integer> ITEMS = List.of(10, 20, 30, 40, 50);
+
+  private static final BpmnModelInstance PROCESS =
+      Bpmn.createExecutableProcess(PROCESS_ID)
+          .startEvent()
+          .manualTask(ELEMENT_ID)
+          .multiInstance(
+              b ->
+                  b.parallel()
+                      .zeebeInputCollectionExpression(INPUT_COLLECTION)
+                      .zeebeInputElement(INPUT_ELEMENT))
+          .endEvent()
+          .done();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldActivateInnerInstancesInChunks() {
+    // given
+    ENGINE.deployment().withXmlResource(PROCESS).deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, ITEMS)
+            .create();
+
+    // then
+    final Map<Long, List<Record<?>>> activateCommandsBySource =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ACTIVATE_ELEMENT)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MANUAL_TASK)
+            .limit(ITEMS.size())
+            .collect(Collectors.groupingBy(Record::getSourceRecordPosition));
+
+    assertThat(activateCommandsBySource.values())
+        .extracting(List::size)
+        .containsExactlyInAnyOrder(2, 2, 1);
+  }
+
+  @Test
+  public void shouldActivateAllInnerInstancesInOrder() {
+    // given
+    ENGINE.deployment().withXmlResource(PROCESS).deploy();
+
+    // when
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, ITEMS)
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withName(INPUT_ELEMENT)
+                .limit(ITEMS.size()))
+        .extracting(r -> r.getValue().getValue())
+        .containsExactly("10", "20", "30", "40", "50");
+
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementType(BpmnElementType.MANUAL_TASK))
+        .hasSize(ITEMS.size());
+  }
+
+  @Test
+  public void shouldActivateNextChunkOnceAfterIncidentIsResolved() {
+    // given
+    final var process =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .serviceTask(ELEMENT_ID, t -> t.zeebeJobTypeExpression(INPUT_ELEMENT))
+            .multiInstance(
+                b ->
+                    b.parallel()
+                        .zeebeInputCollectionExpression(INPUT_COLLECTION)
+                        .zeebeInputElement(INPUT_ELEMENT))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    // the job type of the last inner instance of the first chunk is not a string
+    final long processInstanceKey =
+        ENGINE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, List.of("a", 2, "c"))
+            .create();
+
+    final var incident =
+        RecordingExporter.incidentRecords(IncidentIntent.CREATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .getFirst();
+
+    // when
+    ENGINE
+        .variables()
+        .ofScope(incident.getValue().getElementInstanceKey())
+        .withDocument(Map.of(INPUT_ELEMENT, "b"))
+        .update();
+    ENGINE.incident().ofInstance(processInstanceKey).withKey(incident.getKey()).resolve();
+
+    List.of("a", "b", "c")
+        .forEach(
+            jobType ->
+                ENGINE.job().ofInstance(processInstanceKey).withType(jobType).complete());
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ACTIVATE_ELEMENT)
+                .withProcessInstanceKey(processInstanceKey)
+                .limitToProcessInstanceCompleted()
+                .withElementType(BpmnElementType.SERVICE_TASK))
+        .describedAs("the next chunk is activated once")
+        .hasSize(3);
+  }
+}
@@ -113,6 +113,59 @@ public final class ActivateJobsTest {
             "Expected to activate job batch with type to be present, but it was blank");
   }
 
+  @Test
+  public void shouldRejectInvalidAdditionalType() {
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE.jobs().withType(taskType).withAdditionalTypes("").expectRejection().activate();
+
+    // then
+    assertThat(batchRecord)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            "Expected to activate job batch with additional types to be present, but it was blank");
+  }
+
+  @Test
+  public void shouldRejectAdditionalTypeEqualToType() {
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE.jobs().withType(taskType).withAdditionalTypes(taskType).expectRejection().activate();
+
+    // then
+    assertThat(batchRecord)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            String.format(
+                "Expected to activate job batch with distinct job types, but type '%s' was "
+                    + "requested more than once",
+                taskType));
+  }
+
+  @Test
+  public void shouldRejectRepeatedAdditionalType() {
+    // given
+    final var otherType = "other" + taskType;
+
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE
+            .jobs()
+            .withType(taskType)
+            .withAdditionalTypes(otherType, otherType)
+            .expectRejection()
+            .activate();
+
+    // then
+    assertThat(batchRecord)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            String.format(
+                "Expected to activate job batch with distinct job types, but type '%s' was "
+                    + "requested more than once",
+                otherType));
+  }
+
   @Test
   public void shouldAcceptEmptyWorker() {
     // given
@@ -263,6 +316,54 @@ public final class ActivateJobsTest {
         .containsOnly(taskType);
   }
 
+  @Test
+  public void shouldActivateJobsOfAdditionalTypes() {
+    // given
+    final var otherType = "other" + taskType;
+    final var jobKeys = deployAndCreateJobs(taskType, 2);
+    final var otherJobKeys = deployAndCreateJobs(otherType, 2);
+    deployAndCreateJobs("different" + taskType, 2);
+
+    // when
+    final var jobBatch =
+        ENGINE
+            .jobs()
+            .withType(taskType)
+            .withAdditionalTypes(otherType)
+            .withMaxJobsToActivate(10)
+            .activate()
+            .getValue();
+
+    // then
+    assertThat(jobBatch.getJobKeys())
+        .containsExactly(jobKeys.get(0), jobKeys.get(1), otherJobKeys.get(0), otherJobKeys.get(1));
+    assertThat(jobBatch.getJobs())
+        .extracting(JobRecordValue::getType)
+        .containsExactly(taskType, taskType, otherType, otherType);
+  }
+
+  @Test
+  public void shouldActivateJobsOfAdditionalTypesUpToMaxJobsToActivate() {
+    // given
+    final var otherType = "other" + taskType;
+    final var jobKeys = deployAndCreateJobs(taskType, 2);
+    final var otherJobKeys = deployAndCreateJobs(otherType, 2);
+
+    // when
+    final var jobBatch =
+        ENGINE
+            .jobs()
+            .withType(taskType)
+            .withAdditionalTypes(otherType)
+            .withMaxJobsToActivate(3)
+            .activate()
+            .getValue();
+
+    // then
+    assertThat(jobBatch.getJobKeys())
+        .containsExactly(jobKeys.get(0), jobKeys.get(1), otherJobKeys.get(0));
+  }
+
   @Test
   public void shouldActivateJobsFromProcess() {
     // given
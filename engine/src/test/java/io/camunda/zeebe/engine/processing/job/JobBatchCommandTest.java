@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobBatchCommandTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+  private static String jobType;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final long processInstanceKey =
+        ENGINE.createJob(jobType, PROCESS_ID).getValue().getProcessInstanceKey();
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys();
+
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE.jobBatch().withJob(jobKeys.get(0)).withJob(jobKeys.get(1)).complete();
+
+    // then
+    assertThat(batchRecord.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+    assertThat(RecordingExporter.jobRecords(JobIntent.COMPLETED).withType(jobType).limit(2))
+        .extracting(Record::getKey)
+        .containsExactlyElementsOf(jobKeys);
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.PROCESS)
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldCompleteOtherJobsIfJobIsNotFound() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+    final long notExistingJobKey = 123L;
+
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE.jobBatch().withJob(notExistingJobKey).withJob(jobKey).complete();
+
+    // then
+    assertThat(batchRecord.getValue().getJobKeys()).containsExactly(notExistingJobKey, jobKey);
+    Assertions.assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETE)
+                .onlyCommandRejections()
+                .withRecordKey(notExistingJobKey)
+                .getFirst())
+        .hasRejectionType(RejectionType.NOT_FOUND);
+    assertThat(RecordingExporter.jobRecords(JobIntent.COMPLETED).withRecordKey(jobKey).exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldFailJobs() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys();
+
+    // when
+    ENGINE
+        .jobBatch()
+        .withJob(jobKeys.get(0), 2, "first failed")
+        .withJob(jobKeys.get(1), 1, "second failed")
+        .fail();
+
+    // then
+    assertThat(RecordingExporter.jobRecords(JobIntent.FAILED).withType(jobType).limit(2))
+        .extracting(
+            Record::getKey,
+            record -> record.getValue().getRetries(),
+            record -> record.getValue().getErrorMessage())
+        .containsExactly(
+            tuple(jobKeys.get(0), 2, "first failed"), tuple(jobKeys.get(1), 1, "second failed"));
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.metrics.MessageMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
+import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MessageTimeToLiveCheckerTest {
+
+  private static final int EXPIRY_LIMIT = 2;
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private final TypedStreamWriter writer = mock(TypedStreamWriter.class);
+  private final List<Long> expiredMessageKeys = new ArrayList<>();
+  private final List<Runnable> rescheduledRuns = new ArrayList<>();
+
+  private MutableMessageState messageState;
+  private MessageTimeToLiveChecker checker;
+
+  @Before
+  public void setUp() {
+    messageState = stateRule.getZeebeState().getMessageState();
+
+    when(writer.canWriteEventOfLength(anyInt())).thenReturn(true);
+    when(writer.flush()).thenReturn(1L);
+    doAnswer(invocation -> expiredMessageKeys.add(invocation.getArgument(0)))
+        .when(writer)
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.EXPIRE), any());
+
+    checker =
+        new MessageTimeToLiveChecker(
+            writer, messageState, EXPIRY_LIMIT, rescheduledRuns::add, new MessageMetrics(1));
+  }
+
+  @Test
+  public void shouldRescheduleIfLimitIsReached() {
+    // given
+    putExpiredMessages(1L, 2L, 3L);
+
+    // when
+    checker.run();
+
+    // then
+    assertThat(expiredMessageKeys).containsExactly(1L, 2L);
+    assertThat(rescheduledRuns).containsExactly(checker);
+  }
+
+  @Test
+  public void shouldContinueAfterLastExpiredMessage() {
+    // given
+    putExpiredMessages(1L, 2L, 3L, 4L, 5L);
+
+    // when
+    checker.run();
+    checker.run();
+    checker.run();
+
+    // then
+    assertThat(expiredMessageKeys).containsExactly(1L, 2L, 3L, 4L, 5L);
+    assertThat(rescheduledRuns)
+        .describedAs("the last run expired the remaining messages")
+        .hasSize(2);
+  }
+
+  @Test
+  public void shouldNotRescheduleIfAllMessagesAreExpired() {
+    // given
+    putExpiredMessages(1L, 2L);
+
+    // when
+    checker.run();
+
+    // then
+    assertThat(expiredMessageKeys).containsExactly(1L, 2L);
+    assertThat(rescheduledRuns).isEmpty();
+  }
+
+  private void putExpiredMessages(final long... messageKeys) {
+    for (final long messageKey : messageKeys) {
+      messageState.put(
+          messageKey,
+          new MessageRecord()
+              .setName("name")
+              .setCorrelationKey("correlationKey")
+              .setTimeToLive(1L)
+              .setDeadline(1_000L));
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriterImpl;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.engine.util.Records;
+import io.camunda.zeebe.engine.util.StreamProcessorRule;
+import io.camunda.zeebe.engine.util.TypedRecordStream;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.util.TestUtil;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class StreamProcessorBatchTest {
+
+  private static final long NO_FAILING_PROCESS_INSTANCE = -1L;
+  private static final long FAILING_PROCESS_INSTANCE_KEY = 2L;
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule()
+          .withEngineConfiguration(new EngineConfiguration().setMaxCommandsInBatch(10));
+
+  private TypedStreamWriter streamWriter;
+
+  @Test
+  public void shouldWriteFollowUpRecordsOfCommandsInOneBatch() {
+    // given
+    final long lastCommandPosition = writeActivateCommands();
+
+    // when
+    startStreamProcessor(new ActivatingProcessor(NO_FAILING_PROCESS_INSTANCE, false));
+
+    // then
+    final var activatingEvents = waitForActivatingEvents(3);
+    assertThat(activatingEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastCommandPosition - 2, lastCommandPosition - 1, lastCommandPosition);
+    verify(streamWriter, times(1)).flush();
+    assertThat(streamProcessorRule.getStreamProcessor(0).getLastProcessedPositionAsync().join())
+        .isEqualTo(lastCommandPosition);
+  }
+
+  @Test
+  public void shouldEndBatchOnSideEffect() {
+    // given
+    final long lastCommandPosition = writeActivateCommands();
+
+    // when
+    startStreamProcessor(new ActivatingProcessor(NO_FAILING_PROCESS_INSTANCE, true));
+
+    // then
+    final var activatingEvents = waitForActivatingEvents(3);
+    assertThat(activatingEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastCommandPosition - 2, lastCommandPosition - 1, lastCommandPosition);
+    verify(streamWriter, times(3)).flush();
+  }
+
+  @Test
+  public void shouldProcessCommandsOfFailedBatchOneByOne() {
+    // given
+    final long lastCommandPosition = writeActivateCommands();
+    final long failingCommandPosition = lastCommandPosition - 1;
+
+    // when
+    startStreamProcessor(new ActivatingProcessor(FAILING_PROCESS_INSTANCE_KEY, false));
+
+    // then
+    final var activatingEvents = waitForActivatingEvents(2);
+    assertThat(activatingEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastCommandPosition - 2, lastCommandPosition);
+
+    final var rejection =
+        streamProcessorRule
+            .events()
+            .onlyProcessInstanceRecords()
+            .onlyRejections()
+            .getFirst();
+    assertThat(rejection.getSourceRecordPosition()).isEqualTo(failingCommandPosition);
+    assertThat(rejection.getRejectionType()).isEqualTo(RejectionType.PROCESSING_ERROR);
+  }
+
+  @Test
+  public void shouldNotifyListenerAboutCommandsOfBatchOnce() {
+    // given
+    final long lastCommandPosition = writeActivateCommands();
+    final List<Long> processedPositions = recordProcessedPositions();
+
+    // when
+    startStreamProcessor(new ActivatingProcessor(NO_FAILING_PROCESS_INSTANCE, false));
+
+    // then
+    waitForActivatingEvents(3);
+    TestUtil.waitUntil(() -> processedPositions.size() >= 3);
+    assertThat(processedPositions)
+        .containsExactly(lastCommandPosition - 2, lastCommandPosition - 1, lastCommandPosition);
+  }
+
+  @Test
+  public void shouldNotNotifyListenerAboutCommandsOfFailedBatch() {
+    // given
+    final long lastCommandPosition = writeActivateCommands();
+    final List<Long> processedPositions = recordProcessedPositions();
+
+    // when
+    startStreamProcessor(new ActivatingProcessor(FAILING_PROCESS_INSTANCE_KEY, false));
+
+    // then
+    waitForActivatingEvents(2);
+    TestUtil.waitUntil(() -> processedPositions.size() >= 3);
+    assertThat(processedPositions)
+        .containsExactly(lastCommandPosition - 2, lastCommandPosition - 1, lastCommandPosition);
+  }
+
+  @Test
+  public void shouldNotifyListenerAboutSkippedRecordsOfFailedBatchOnce() {
+    // given
+    final long lastCommandPosition =
+        streamProcessorRule.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().job(JobIntent.COMPLETE),
+            RecordToWrite.command()
+                .processInstance(
+                    ACTIVATE_ELEMENT, Records.processInstance(FAILING_PROCESS_INSTANCE_KEY)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+    final long skippedPosition = lastCommandPosition - 2;
+    final List<Long> processedPositions = recordProcessedPositions();
+    final List<Long> skippedPositions = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation ->
+                skippedPositions.add(invocation.<LoggedEvent>getArgument(0).getPosition()))
+        .when(streamProcessorRule.getMockStreamProcessorListener())
+        .onSkipped(any());
+
+    // when
+    startStreamProcessor(new ActivatingProcessor(FAILING_PROCESS_INSTANCE_KEY, false));
+
+    // then
+    waitForActivatingEvents(2);
+    TestUtil.waitUntil(() -> processedPositions.size() >= 3);
+    assertThat(processedPositions)
+        .containsExactly(lastCommandPosition - 3, lastCommandPosition - 1, lastCommandPosition);
+    assertThat(skippedPositions).containsExactly(skippedPosition);
+  }
+
+  private List<Long> recordProcessedPositions() {
+    // the listener is called with a reused record, so its position is recorded immediately
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation ->
+                processedPositions.add(invocation.<TypedRecord<?>>getArgument(0).getPosition()))
+        .when(streamProcessorRule.getMockStreamProcessorListener())
+        .onProcessed(any());
+    return processedPositions;
+  }
+
+  private long writeActivateCommands() {
+    return streamProcessorRule.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command()
+            .processInstance(
+                ACTIVATE_ELEMENT, Records.processInstance(FAILING_PROCESS_INSTANCE_KEY)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)));
+  }
+
+  private void startStreamProcessor(final TypedRecordProcessor<ProcessInstanceRecord> processor) {
+    streamProcessorRule.startTypedStreamProcessorNotAwaitOpening(
+        context ->
+            TypedRecordProcessors.processors(
+                    context.getZeebeState().getKeyGenerator(), context.getWriters())
+                .onCommand(ValueType.PROCESS_INSTANCE, ACTIVATE_ELEMENT, processor),
+        batchWriter -> {
+          streamWriter = spy(new TypedStreamWriterImpl(batchWriter));
+          return streamWriter;
+        });
+  }
+
+  private List<Record<ProcessInstanceRecord>> waitForActivatingEvents(final int count) {
+    TestUtil.waitUntil(() -> activatingEvents().count() >= count);
+    return activatingEvents().collect(Collectors.toList());
+  }
+
+  private TypedRecordStream<ProcessInstanceRecord> activatingEvents() {
+    return streamProcessorRule
+        .events()
+        .onlyProcessInstanceRecords()
+        .onlyEvents()
+        .withIntent(ELEMENT_ACTIVATING);
+  }
+
+  /**
+   * Writes an activating event for each command, except for the command of the given failing
+   * process instance, and optionally adds a side effect for each command.
+   */
+  private static final class ActivatingProcessor
+      implements TypedRecordProcessor<ProcessInstanceRecord> {
+
+    private final long failingProcessInstanceKey;
+    private final boolean withSideEffect;
+
+    private ActivatingProcessor(
+        final long failingProcessInstanceKey, final boolean withSideEffect) {
+      this.failingProcessInstanceKey = failingProcessInstanceKey;
+      this.withSideEffect = withSideEffect;
+    }
+
+    @Override
+    public void processRecord(
+        final long position,
+        final TypedRecord<ProcessInstanceRecord> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      if (record.getValue().getProcessInstanceKey() == failingProcessInstanceKey) {
+        throw new IllegalStateException("expected");
+      }
+
+      streamWriter.appendFollowUpEvent(record.getKey(), ELEMENT_ACTIVATING, record.getValue());
+      if (withSideEffect) {
+        sideEffect.accept(() -> true);
+      }
+    }
+  }
+}
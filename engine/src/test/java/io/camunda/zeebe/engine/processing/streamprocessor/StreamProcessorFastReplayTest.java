@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static io.camunda.zeebe.engine.util.RecordToWrite.command;
+import static io.camunda.zeebe.engine.util.RecordToWrite.event;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.EventApplier;
+import io.camunda.zeebe.engine.util.Records;
+import io.camunda.zeebe.engine.util.StreamProcessorRule;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.verification.VerificationWithTimeout;
+
+public final class StreamProcessorFastReplayTest {
+
+  private static final VerificationWithTimeout TIMEOUT = timeout(2_000L);
+  private static final ProcessInstanceRecord RECORD = Records.processInstance(1);
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule()
+          .withEngineConfiguration(
+              new EngineConfiguration().setFastReplay(true).setMaxRecordsInReplayBatch(100));
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock private TypedRecordProcessor<?> typedRecordProcessor;
+  @Mock private EventApplier eventApplier;
+
+  @Test
+  public void shouldReplayEventsOfAllBatches() {
+    // given
+    writeBatches();
+
+    // when
+    startStreamProcessor();
+
+    // then
+    final InOrder inOrder = inOrder(typedRecordProcessor, eventApplier);
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(1L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(2L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(3L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(typedRecordProcessor, TIMEOUT).onRecovered(any());
+    inOrder.verifyNoMoreInteractions();
+
+    final var keyGenerator = streamProcessorRule.getZeebeState().getKeyGenerator();
+    assertThat(keyGenerator.nextKey()).isEqualTo(4L);
+  }
+
+  @Test
+  public void shouldReplayAllBatchesOfTransactionAgainOnRetry() {
+    // given
+    final long lastCommandPosition = writeBatches();
+    doThrow(new RecoverableException("expected"))
+        .doNothing()
+        .when(eventApplier)
+        .applyState(eq(3L), any(), any());
+
+    // when
+    startStreamProcessor();
+
+    // then
+    final InOrder inOrder = inOrder(typedRecordProcessor, eventApplier);
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(1L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(2L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(3L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(1L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(2L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(eventApplier, TIMEOUT).applyState(eq(3L), eq(ELEMENT_ACTIVATING), any());
+    inOrder.verify(typedRecordProcessor, TIMEOUT).onRecovered(any());
+
+    assertThat(streamProcessorRule.getStreamProcessor(0).getLastProcessedPositionAsync().join())
+        .isEqualTo(lastCommandPosition);
+  }
+
+  private long writeBatches() {
+    streamProcessorRule.writeBatch(
+        command().processInstance(ACTIVATE_ELEMENT, RECORD),
+        event().key(1L).processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+    streamProcessorRule.writeBatch(
+        command().processInstance(ACTIVATE_ELEMENT, RECORD),
+        event().key(2L).processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+    final long lastBatchPosition =
+        streamProcessorRule.writeBatch(
+            command().processInstance(ACTIVATE_ELEMENT, RECORD),
+            event().key(3L).processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+    // the position of the command is the one before the event
+    return lastBatchPosition - 1;
+  }
+
+  private void startStreamProcessor() {
+    streamProcessorRule
+        .withEventApplierFactory(zeebeState -> eventApplier)
+        .startTypedStreamProcessor(
+            (processors, context) ->
+                processors.onCommand(
+                    ValueType.PROCESS_INSTANCE, ACTIVATE_ELEMENT, typedRecordProcessor));
+  }
+}
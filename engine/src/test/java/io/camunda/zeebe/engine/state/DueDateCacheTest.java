@@ -0,0 +1,332 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+final class DueDateCacheTest {
+
+  private final FakeIndex index = new FakeIndex();
+
+  @Test
+  void shouldVisitDueEntriesInOrder() {
+    // given
+    final var cache = new DueDateCache(10);
+    index.add(3, 30);
+    index.add(1, 10);
+    index.add(2, 20);
+    index.add(5, 50);
+    final var visited = new ArrayList<Long>();
+
+    // when
+    final var nextDueDate =
+        cache.visitDueEntries(3, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(10L, 20L, 30L);
+    assertThat(nextDueDate).isEqualTo(5);
+  }
+
+  @Test
+  void shouldVisitEntriesWithSameDueDateInOrderOfKey() {
+    // given
+    final var cache = new DueDateCache(10);
+    cache.visitDueEntries(0, index, (dueDate, key, secondKey) -> true);
+    cache.add(1, 40, 0);
+    cache.add(1, 20, 0);
+    cache.add(1, 30, 0);
+    cache.add(1, 10, 0);
+    final var visited = new ArrayList<Long>();
+
+    // when
+    cache.visitDueEntries(1, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(10L, 20L, 30L, 40L);
+  }
+
+  @Test
+  void shouldReturnNoDueDateIfIndexIsEmpty() {
+    // given
+    final var cache = new DueDateCache(10);
+
+    // when
+    final var nextDueDate = cache.visitDueEntries(3, index, (dueDate, key, secondKey) -> true);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldStopVisitingIfEntryIsNotConsumed() {
+    // given
+    final var cache = new DueDateCache(10);
+    index.add(1, 10);
+    index.add(2, 20);
+    index.add(3, 30);
+    final var visited = new ArrayList<Long>();
+
+    // when
+    final var nextDueDate =
+        cache.visitDueEntries(
+            5,
+            index,
+            (dueDate, key, secondKey) -> {
+              visited.add(key);
+              return key != 20;
+            });
+
+    // then
+    assertThat(visited).containsExactly(10L, 20L);
+    assertThat(nextDueDate).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepVisitedEntriesUntilRemoved() {
+    // given
+    final var cache = new DueDateCache(10);
+    index.add(1, 10);
+    index.add(2, 20);
+    cache.visitDueEntries(5, index, (dueDate, key, secondKey) -> true);
+
+    // when
+    cache.remove(1, 10);
+    final var visited = new ArrayList<Long>();
+    cache.visitDueEntries(5, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(20L);
+    assertThat(index.scans).isEqualTo(1);
+  }
+
+  @Test
+  void shouldMirrorAddedEntriesWithoutScanningIndex() {
+    // given
+    final var cache = new DueDateCache(10);
+    index.add(5, 50);
+    cache.visitDueEntries(0, index, (dueDate, key, secondKey) -> true);
+
+    // when
+    cache.add(2, 20, 200);
+    final var visited = new ArrayList<Long>();
+    final var nextDueDate =
+        cache.visitDueEntries(3, index, (dueDate, key, secondKey) -> visited.add(secondKey));
+
+    // then
+    assertThat(visited).containsExactly(200L);
+    assertThat(nextDueDate).isEqualTo(5);
+    assertThat(index.scans).isEqualTo(1);
+  }
+
+  @Test
+  void shouldLoadIndexAgainOnceExhausted() {
+    // given
+    final var cache = new DueDateCache(2);
+    index.add(1, 10);
+    index.add(2, 20);
+    index.add(3, 30);
+    final var nextDueDate = cache.visitDueEntries(0, index, (dueDate, key, secondKey) -> true);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(nextDueDate).isEqualTo(1);
+
+    // when
+    index.remove(1, 10);
+    cache.remove(1, 10);
+    index.remove(2, 20);
+    cache.remove(2, 20);
+    final var visited = new ArrayList<Long>();
+    cache.visitDueEntries(3, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(30L);
+    assertThat(index.scans).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSplitEntriesWithSameDueDate() {
+    // given
+    final var cache = new DueDateCache(2);
+    index.add(1, 10);
+    index.add(1, 11);
+    index.add(1, 12);
+    index.add(2, 20);
+    final var visited = new ArrayList<Long>();
+
+    // when
+    final var nextDueDate =
+        cache.visitDueEntries(1, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(10L, 11L, 12L);
+    assertThat(nextDueDate).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldVisitDueEntriesBeyondCapacity() {
+    // given
+    final var cache = new DueDateCache(2);
+    for (int i = 1; i <= 5; i++) {
+      index.add(i, i * 10);
+    }
+    final var firstVisit = new ArrayList<Long>();
+    cache.visitDueEntries(5, index, (dueDate, key, secondKey) -> firstVisit.add(key));
+
+    // when - the entries are not removed yet, e.g. because the commands are not processed
+    final var secondVisit = new ArrayList<Long>();
+    final var nextDueDate =
+        cache.visitDueEntries(5, index, (dueDate, key, secondKey) -> secondVisit.add(key));
+
+    // then
+    assertThat(firstVisit).containsExactly(10L, 20L, 30L, 40L, 50L);
+    assertThat(secondVisit).containsExactly(10L, 20L, 30L, 40L, 50L);
+    assertThat(nextDueDate).isEqualTo(-1);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReturnNextDueDateOfIndexBeyondCapacity() {
+    // given
+    final var cache = new DueDateCache(2);
+    for (int i = 1; i <= 5; i++) {
+      index.add(i, i * 10);
+    }
+
+    // when
+    final var nextDueDate = cache.visitDueEntries(3, index, (dueDate, key, secondKey) -> true);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(4);
+  }
+
+  @Test
+  void shouldVisitDueEntriesFromGivenEntry() {
+    // given
+    final var cache = new DueDateCache(2);
+    for (int i = 1; i <= 5; i++) {
+      index.add(i, i * 10);
+    }
+    final var visitedFromCache = new ArrayList<Long>();
+    final var visitedFromIndex = new ArrayList<Long>();
+
+    // when
+    cache.visitDueEntries(
+        5, 2, 200, 20, index, (dueDate, key, secondKey) -> visitedFromCache.add(key));
+    final var scansBefore = index.scans;
+    cache.visitDueEntries(
+        5, 4, 0, 0, index, (dueDate, key, secondKey) -> visitedFromIndex.add(key));
+
+    // then
+    assertThat(visitedFromCache).containsExactly(20L, 30L, 40L, 50L);
+    assertThat(visitedFromIndex).containsExactly(40L, 50L);
+    assertThat(index.scans).isEqualTo(scansBefore + 1);
+  }
+
+  @Test
+  void shouldNotMissEntriesAddedWhenFull() {
+    // given
+    final var cache = new DueDateCache(2);
+    index.add(1, 10);
+    index.add(5, 50);
+    cache.visitDueEntries(0, index, (dueDate, key, secondKey) -> true);
+
+    // when
+    index.add(3, 30);
+    cache.add(3, 30, 0);
+    final var visited = new ArrayList<Long>();
+    cache.visitDueEntries(4, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(10L, 30L);
+  }
+
+  @Test
+  void shouldKeepCachingEntriesAfterBeingFull() {
+    // given
+    final var cache = new DueDateCache(2);
+    index.add(1, 10);
+    index.add(5, 50);
+    cache.visitDueEntries(0, index, (dueDate, key, secondKey) -> true);
+
+    index.add(3, 30);
+    cache.add(3, 30, 300);
+    index.remove(1, 10);
+    cache.remove(1, 10);
+
+    // when
+    index.add(2, 20);
+    cache.add(2, 20, 200);
+    final var visited = new ArrayList<Long>();
+    cache.visitDueEntries(3, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(20L, 30L);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(index.scans).describedAs("the due entries are visited from the cache").isEqualTo(1);
+  }
+
+  @Test
+  void shouldLoadIndexAgainAfterInvalidation() {
+    // given
+    final var cache = new DueDateCache(10);
+    index.add(1, 10);
+    cache.visitDueEntries(0, index, (dueDate, key, secondKey) -> true);
+    // a change of a rolled back transaction
+    cache.remove(1, 10);
+
+    // when
+    cache.invalidate();
+    final var visited = new ArrayList<Long>();
+    cache.visitDueEntries(1, index, (dueDate, key, secondKey) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(10L);
+    assertThat(index.scans).isEqualTo(2);
+  }
+
+  private static final class FakeIndex implements DueDateCache.IndexScanner {
+
+    private final TreeSet<long[]> entries =
+        new TreeSet<>(
+            (first, second) -> {
+              final var byDueDate = Long.compare(first[0], second[0]);
+              return byDueDate != 0 ? byDueDate : Long.compare(first[1], second[1]);
+            });
+    private int scans;
+
+    void add(final long dueDate, final long key) {
+      entries.add(new long[] {dueDate, key});
+    }
+
+    void remove(final long dueDate, final long key) {
+      entries.remove(new long[] {dueDate, key});
+    }
+
+    @Override
+    public void scan(
+        final long fromDueDate,
+        final long fromSecondKey,
+        final long fromKey,
+        final DueDateCache.EntryVisitor collector) {
+      scans++;
+      // the second key is derived from the key, so it doesn't change the order
+      final List<long[]> snapshot =
+          new ArrayList<>(entries.tailSet(new long[] {fromDueDate, fromKey}, true));
+      for (final var entry : snapshot) {
+        if (!collector.visit(entry[0], entry[1], entry[1] * 10)) {
+          return;
+        }
+      }
+    }
+  }
+}
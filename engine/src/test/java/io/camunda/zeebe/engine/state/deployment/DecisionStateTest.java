@@ -17,6 +17,9 @@ import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateExtension;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRequirementsRecord;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(ZeebeStateExtension.class)
 public final class DecisionStateTest {
 
+  private static final String DMN_RESOURCE = "/dmn/decision-table.dmn";
+
   private MutableZeebeState zeebeState;
   private MutableDecisionState decisionState;
 
@@ -340,6 +345,74 @@ public final class DecisionStateTest {
         .contains(decision3.getDecisionKey());
   }
 
+  @DisplayName("should return empty if no DRG is deployed to parse by key")
+  @Test
+  void shouldReturnEmptyIfNoDrgIsDeployedToParseByKey() {
+    // when
+    final var parsedDrg = decisionState.findParsedDecisionRequirementsByKey(1L);
+
+    // then
+    assertThat(parsedDrg).isEmpty();
+  }
+
+  @DisplayName("should find parsed DRG by key")
+  @Test
+  void shouldFindParsedDecisionRequirementsByKey() throws IOException {
+    // given
+    final var drg = sampleDecisionRequirementsRecord().setResource(readDmnResource());
+    decisionState.storeDecisionRequirements(drg);
+
+    // when
+    final var parsedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // then
+    assertThat(parsedDrg).isNotEmpty();
+    assertThat(parsedDrg.get().isValid()).isTrue();
+    assertThat(parsedDrg.get().getId()).isEqualTo("force_users");
+  }
+
+  @DisplayName("should return the cached parsed DRG on subsequent queries")
+  @Test
+  void shouldCacheParsedDecisionRequirements() throws IOException {
+    // given
+    final var drg = sampleDecisionRequirementsRecord().setResource(readDmnResource());
+    decisionState.storeDecisionRequirements(drg);
+    final var parsedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // when
+    final var cachedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // then
+    assertThat(cachedDrg).isNotEmpty();
+    assertThat(cachedDrg.get()).isSameAs(parsedDrg.get());
+  }
+
+  @DisplayName("should return an invalid parsed DRG if the resource is not valid")
+  @Test
+  void shouldReturnInvalidParsedDecisionRequirements() {
+    // given
+    final var drg = sampleDecisionRequirementsRecord();
+    decisionState.storeDecisionRequirements(drg);
+
+    // when
+    final var parsedDrg =
+        decisionState.findParsedDecisionRequirementsByKey(drg.getDecisionRequirementsKey());
+
+    // then
+    assertThat(parsedDrg).isNotEmpty();
+    assertThat(parsedDrg.get().isValid()).isFalse();
+    assertThat(parsedDrg.get().getFailureMessage()).isNotBlank();
+  }
+
+  private DirectBuffer readDmnResource() throws IOException {
+    try (final var resource = getClass().getResourceAsStream(DMN_RESOURCE)) {
+      return new UnsafeBuffer(resource.readAllBytes());
+    }
+  }
+
   private DecisionRecord sampleDecisionRecord() {
     return new DecisionRecord()
         .setDecisionId("decision-id")
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.EngineCacheMetrics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import org.junit.jupiter.api.Test;
+
+final class DeployedProcessCacheTest {
+
+  private static final long PROCESS_SIZE = 100L;
+
+  private final DeployedProcessCache cache =
+      new DeployedProcessCache(2 * PROCESS_SIZE, new EngineCacheMetrics("process-test", 1));
+
+  @Test
+  void shouldReturnCachedProcessByKeyAndByVersion() {
+    // given
+    final var process = deployedProcess("process", 1, 1L);
+
+    // when
+    cache.put(process, PROCESS_SIZE, false);
+
+    // then
+    assertThat(cache.get(1L)).isSameAs(process);
+    assertThat(cache.get(wrapString("process"), 1)).isSameAs(process);
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.get(wrapString("process"), 2)).isNull();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedProcessWhenExceedingBudget() {
+    // given
+    cache.put(deployedProcess("process", 1, 1L), PROCESS_SIZE, false);
+    cache.put(deployedProcess("process", 2, 2L), PROCESS_SIZE, false);
+    cache.get(1L);
+
+    // when
+    cache.put(deployedProcess("process", 3, 3L), PROCESS_SIZE, false);
+
+    // then
+    assertThat(cache.get(1L)).isNotNull();
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.get(wrapString("process"), 2)).isNull();
+    assertThat(cache.get(3L)).isNotNull();
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+    assertThat(cache.getSize()).isEqualTo(2 * PROCESS_SIZE);
+  }
+
+  @Test
+  void shouldNotTouchProcessOnPeek() {
+    // given
+    cache.put(deployedProcess("process", 1, 1L), PROCESS_SIZE, false);
+    cache.put(deployedProcess("process", 2, 2L), PROCESS_SIZE, false);
+
+    // when
+    final var peekedProcess = cache.peek(wrapString("process"), 1);
+    cache.put(deployedProcess("process", 3, 3L), PROCESS_SIZE, false);
+
+    // then
+    assertThat(peekedProcess).isNotNull();
+    assertThat(peekedProcess.getKey()).isEqualTo(1L);
+    assertThat(cache.peek(wrapString("process"), 1)).isNull();
+    assertThat(cache.peek(wrapString("process"), 2)).isNotNull();
+  }
+
+  @Test
+  void shouldNotEvictPinnedProcesses() {
+    // given
+    cache.put(deployedProcess("a", 1, 1L), PROCESS_SIZE, true);
+    cache.put(deployedProcess("b", 1, 2L), PROCESS_SIZE, true);
+
+    // when
+    cache.put(deployedProcess("c", 1, 3L), PROCESS_SIZE, true);
+
+    // then
+    assertThat(cache.get(1L)).isNotNull();
+    assertThat(cache.get(2L)).isNotNull();
+    assertThat(cache.get(3L)).isNotNull();
+    assertThat(cache.getSize()).isEqualTo(3 * PROCESS_SIZE);
+  }
+
+  @Test
+  void shouldEvictUnpinnedVersions() {
+    // given
+    cache.put(deployedProcess("a", 1, 1L), PROCESS_SIZE, true);
+    cache.put(deployedProcess("b", 1, 2L), PROCESS_SIZE, true);
+    cache.put(deployedProcess("c", 1, 3L), PROCESS_SIZE, true);
+
+    // when
+    cache.unpinVersions(wrapString("a"));
+
+    // then
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.get(2L)).isNotNull();
+    assertThat(cache.get(3L)).isNotNull();
+    assertThat(cache.getSize()).isEqualTo(2 * PROCESS_SIZE);
+  }
+
+  @Test
+  void shouldReplaceProcessWithSameKey() {
+    // given
+    cache.put(deployedProcess("process", 1, 1L), PROCESS_SIZE, false);
+    final var process = deployedProcess("process", 1, 1L);
+
+    // when
+    cache.put(process, PROCESS_SIZE, true);
+
+    // then
+    assertThat(cache.get(1L)).isSameAs(process);
+    assertThat(cache.getEntryCount()).isEqualTo(1);
+    assertThat(cache.getSize()).isEqualTo(PROCESS_SIZE);
+  }
+
+  private static DeployedProcess deployedProcess(
+      final String bpmnProcessId, final int version, final long key) {
+    final var processRecord =
+        new ProcessRecord()
+            .setBpmnProcessId(bpmnProcessId)
+            .setVersion(version)
+            .setKey(key)
+            .setResourceName("process.bpmn")
+            .setResource(wrapString("resource"))
+            .setChecksum(wrapString("checksum"));
+    final var persistedProcess = new PersistedProcess();
+    persistedProcess.wrap(processRecord, key);
+
+    return new DeployedProcess(new ExecutableProcess(bpmnProcessId), persistedProcess);
+  }
+}
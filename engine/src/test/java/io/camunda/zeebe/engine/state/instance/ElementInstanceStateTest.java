@@ -318,6 +318,44 @@ public final class ElementInstanceStateTest {
     assertThat(nonEmptyColumns).describedAs("Expected all columns to be empty").isEmpty();
   }
 
+  @Test
+  public void shouldGetMultiInstanceOutputElements() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    elementInstanceState.newInstance(
+        100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    elementInstanceState.setMultiInstanceOutputElement(100, 1, MsgPackUtil.asMsgPack("1"));
+    elementInstanceState.setMultiInstanceOutputElement(100, 3, MsgPackUtil.asMsgPack("3"));
+
+    // then
+    assertThat(elementInstanceState.getMultiInstanceOutputElement(100, 1))
+        .isEqualTo(MsgPackUtil.asMsgPack("1"));
+    assertThat(elementInstanceState.getMultiInstanceOutputElement(100, 2)).isNull();
+    assertThat(elementInstanceState.getMultiInstanceOutputElement(100, 3))
+        .isEqualTo(MsgPackUtil.asMsgPack("3"));
+    assertThat(elementInstanceState.getMultiInstanceOutputElement(101, 1)).isNull();
+  }
+
+  @Test
+  public void shouldRemoveMultiInstanceOutputElementsOnRemoval() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    elementInstanceState.newInstance(
+        100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.setMultiInstanceOutputElement(100, 1, MsgPackUtil.asMsgPack("1"));
+    elementInstanceState.setMultiInstanceOutputElement(100, 2, MsgPackUtil.asMsgPack("2"));
+
+    // when
+    elementInstanceState.removeInstance(100);
+
+    // then
+    assertThat(elementInstanceState.getMultiInstanceOutputElement(100, 1)).isNull();
+    assertThat(elementInstanceState.getMultiInstanceOutputElement(100, 2)).isNull();
+    assertThat(zeebeState.isEmpty(ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS)).isTrue();
+  }
+
   @Test
   public void shouldUpdateAwaitResultMetadata() {
     final long key = 10L;
@@ -170,6 +170,40 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersStoredAfterPreviousLookup() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    state.processTimersWithDueDateBefore(500L, t -> true);
+
+    // when
+    createTimerInstance(2, 2, 800L);
+    createTimerInstance(3, 3, 3000L);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(2L, 1L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldNotFindTimersRemovedAfterPreviousLookup() {
+    // given
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    state.processTimersWithDueDateBefore(500L, t -> true);
+
+    // when
+    state.remove(timer1);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(2L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.message;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.state.immutable.MessageState.Index;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -236,6 +237,43 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldContinueVisitingMessagesAfterIndex() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 1000));
+    messageState.put(4L, createMessage("name", "correlationKey", "{}", "nr4", 2000));
+
+    // when
+    final List<Long> readMessages = new ArrayList<>();
+    final long nextDeadline =
+        messageState.visitMessagesWithDeadlineBefore(
+            2000, new Index(1000, 2L), m -> readMessages.add(m.getMessageKey()));
+
+    // then
+    assertThat(readMessages).containsExactly(3L, 4L);
+    assertThat(nextDeadline).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldReturnDeadlineOfFirstNotConsumedMessage() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1500));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 3000));
+
+    // when
+    final List<Long> readMessages = new ArrayList<>();
+    final long nextDeadline =
+        messageState.visitMessagesWithDeadlineBefore(
+            2000, null, m -> readMessages.add(m.getMessageKey()) && m.getMessageKey() < 2L);
+
+    // then
+    assertThat(readMessages).containsExactly(1L, 2L);
+    assertThat(nextDeadline).isEqualTo(1500);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
@@ -362,6 +362,71 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldGetVariableOnRepeatedLookups() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    // when
+    variableState.getVariable(child, wrapString("a"));
+    variableState.getVariable(child, wrapString("a"));
+    variableState.getVariable(child, wrapString("b"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+    assertEquality(variableState.getVariable(child, wrapString("b")), "2");
+    assertThat(variableState.getVariable(child, wrapString("c"))).isNull();
+  }
+
+  @Test
+  public void shouldGetUpdatedVariableAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+  }
+
+  @Test
+  public void shouldGetShadowingVariableAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variableState.getVariable(parent, wrapString("a")), "1");
+  }
+
+  @Test
+  public void shouldNotGetRemovedVariableAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+  }
+
   @Test
   public void shouldNotGetVariableInstanceLocal() {
     // given
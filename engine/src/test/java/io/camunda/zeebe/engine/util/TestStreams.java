@@ -16,6 +16,7 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor;
@@ -87,6 +88,7 @@ public final class TestStreams {
 
   private Function<MutableZeebeState, EventApplier> eventApplierFactory = EventAppliers::new;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -119,6 +121,10 @@ public final class TestStreams {
     this.streamProcessorMode = streamProcessorMode;
   }
 
+  public void withEngineConfiguration(final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -286,7 +292,8 @@ public final class TestStreams {
             .listener(mockStreamProcessorListener)
             .streamProcessorFactory(wrappedFactory)
             .eventApplierFactory(eventApplierFactory)
-            .streamProcessorMode(streamProcessorMode);
+            .streamProcessorMode(streamProcessorMode)
+            .engineConfiguration(engineConfiguration);
 
     if (streamWriterFactory != null) {
       builder.typedStreamWriterFactory(streamWriterFactory);
@@ -63,6 +63,14 @@ public final class JobActivationClient {
     return this;
   }
 
+  public JobActivationClient withAdditionalTypes(final String... additionalTypes) {
+    final ValueArray<StringValue> types = jobBatchRecord.additionalTypes();
+    Arrays.stream(additionalTypes)
+        .map(BufferUtil::wrapString)
+        .forEach(buffer -> types.add().wrap(buffer));
+    return this;
+  }
+
   public JobActivationClient withTimeout(final long timeout) {
     jobBatchRecord.setTimeout(timeout);
     return this;
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.engine.util.StreamProcessorRule;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+
+public final class JobBatchClient {
+
+  private final StreamProcessorRule environmentRule;
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord();
+
+  public JobBatchClient(final StreamProcessorRule environmentRule) {
+    this.environmentRule = environmentRule;
+  }
+
+  public JobBatchClient withJob(final long jobKey) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add();
+    return this;
+  }
+
+  public JobBatchClient withJob(final long jobKey, final int retries, final String errorMessage) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add().setRetries(retries).setErrorMessage(errorMessage);
+    return this;
+  }
+
+  public Record<JobBatchRecordValue> complete() {
+    return writeCommand(JobBatchIntent.COMPLETE, JobBatchIntent.COMPLETED);
+  }
+
+  public Record<JobBatchRecordValue> fail() {
+    return writeCommand(JobBatchIntent.FAIL, JobBatchIntent.FAILED);
+  }
+
+  private Record<JobBatchRecordValue> writeCommand(
+      final JobBatchIntent intent, final JobBatchIntent resultIntent) {
+    final long position = environmentRule.writeCommand(intent, jobBatchRecord);
+
+    return RecordingExporter.jobBatchRecords(resultIntent)
+        .withSourceRecordPosition(position)
+        .getFirst();
+  }
+}
@@ -7,25 +7,35 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>The operations are serialized as nd-json directly into a single buffer, which is kept when the
+ * request is cleared. This way, a request can be reused for the next bulk without allocating the
+ * memory again, and the buffer is written as it is when the request is sent.
  */
 final class BulkIndexRequest implements ContentProducer {
-  private static final ObjectMapper MAPPER = new ObjectMapper().enable(Feature.ALLOW_SINGLE_QUOTES);
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .enable(Feature.ALLOW_SINGLE_QUOTES)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final List<IndexedOperation> operations = new ArrayList<>();
+  private final OperationsBuffer buffer = new OperationsBuffer();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -46,18 +56,25 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = MAPPER.writer().writeValueAsBytes(record);
+      MAPPER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.size();
+      MAPPER.writeValue(buffer, record);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop the partially serialized operation
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final int sourceLength = buffer.size() - 1 - sourceOffset;
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
-    operations.add(command);
+    operations.add(new IndexedOperation(action, sourceOffset, sourceLength));
   }
 
   /** Returns the number of operations indexed so far. */
@@ -75,9 +92,10 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely. The allocated memory is kept to be reused by the next bulk. */
   void clear() {
     operations.clear();
+    buffer.reset();
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -87,9 +105,15 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /** Returns copies of the currently indexed operations. */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream()
+        .map(
+            operation ->
+                new BulkOperation(
+                    operation.metadata(),
+                    buffer.copyOf(operation.sourceOffset(), operation.sourceLength())))
+        .toList();
   }
 
   /**
@@ -98,13 +122,22 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
+
+  private record IndexedOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
+
+  /** A byte array output stream which gives access to its content without copying it. */
+  private static final class OperationsBuffer extends ByteArrayOutputStream {
+
+    private void truncate(final int size) {
+      count = size;
+    }
+
+    private byte[] copyOf(final int offset, final int length) {
+      return Arrays.copyOfRange(buf, offset, offset + length);
+    }
+  }
 }
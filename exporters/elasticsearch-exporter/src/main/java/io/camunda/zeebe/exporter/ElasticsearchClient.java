@@ -17,13 +17,18 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -33,8 +38,13 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
 
+  // bulks which were sent asynchronously, in the order they were sent; guarded by this
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  // cleared bulks of acknowledged requests, which are reused for the next bulks; guarded by this
+  private final Deque<BulkIndexRequest> pooledBulks = new ArrayDeque<>();
+
+  private BulkIndexRequest bulkIndexRequest;
   private ElasticsearchMetrics metrics;
 
   ElasticsearchClient(final ElasticsearchExporterConfiguration configuration) {
@@ -110,6 +120,57 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Sends the bulk request to Elastic without waiting for the response, unless it's currently
+   * empty. The records are indexed into a new bulk afterwards. At most {@code
+   * bulk.maxInFlightRequests} requests are sent concurrently; if the limit is reached, it waits for
+   * the oldest request to be acknowledged. Requests which failed before are sent again first.
+   *
+   * <p>Once a request and all requests which were sent before it are acknowledged, the given
+   * listener is called with the position of the last record of the request. The listener is called
+   * from the threads of the http client, while holding the lock of this client, such that it's
+   * called with increasing positions; it must not block.
+   *
+   * @param position the position of the last record of the current bulk
+   * @param acknowledgedPositionListener called with the position up to which all records are
+   *     acknowledged
+   * @throws ElasticsearchExporterException if the oldest request failed, or was not acknowledged
+   *     in time while the limit of requests is reached; the current bulk is sent on the next call
+   */
+  public void flushAsync(final long position, final LongConsumer acknowledgedPositionListener) {
+    for (final InFlightBulk failedBulk : takeFailedBulks()) {
+      sendAsync(failedBulk, acknowledgedPositionListener);
+    }
+
+    if (bulkIndexRequest.isEmpty()) {
+      return;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = new InFlightBulk(bulkIndexRequest, position);
+    synchronized (this) {
+      awaitInFlightCapacity();
+      inFlightBulks.add(bulk);
+      bulkIndexRequest = pooledBulks.isEmpty() ? new BulkIndexRequest() : pooledBulks.poll();
+    }
+    sendAsync(bulk, acknowledgedPositionListener);
+  }
+
+  /**
+   * Waits until all bulks which were sent asynchronously are acknowledged or failed, or the request
+   * timeout is elapsed.
+   */
+  public synchronized void awaitInFlightBulks() {
+    final long deadline = System.currentTimeMillis() + configuration.requestTimeoutMs;
+    long remaining = configuration.requestTimeoutMs;
+    while (inFlightBulks.stream().anyMatch(InFlightBulk::isPending) && remaining > 0) {
+      waitForCompletion(remaining);
+      remaining = deadline - System.currentTimeMillis();
+    }
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -148,18 +209,25 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final Response httpResponse;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      httpResponse = client.performRequest(request);
+      httpResponse = client.performRequest(createBulkRequest(bulkIndexRequest));
     } catch (final ResponseException e) {
       throw new ElasticsearchExporterException("Elastic returned an error response on flush", e);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
 
+    verifyBulkResponse(httpResponse);
+  }
+
+  private Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
+  private void verifyBulkResponse(final Response httpResponse) {
     final BulkIndexResponse response;
     try {
       response = MAPPER.readValue(httpResponse.getEntity().getContent(), BulkIndexResponse.class);
@@ -172,6 +240,104 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private void sendAsync(final InFlightBulk bulk, final LongConsumer acknowledgedPositionListener) {
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    client.performRequestAsync(
+        createBulkRequest(bulk.request),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            try {
+              verifyBulkResponse(response);
+            } catch (final ElasticsearchExporterException e) {
+              onBulkCompleted(bulk, e, acknowledgedPositionListener);
+              return;
+            }
+            onBulkCompleted(bulk, null, acknowledgedPositionListener);
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.observeDuration();
+            onBulkCompleted(bulk, exception, acknowledgedPositionListener);
+          }
+        });
+  }
+
+  private void onBulkCompleted(
+      final InFlightBulk bulk,
+      final Exception failure,
+      final LongConsumer acknowledgedPositionListener) {
+    long acknowledgedPosition = -1;
+    synchronized (this) {
+      if (failure != null) {
+        metrics.recordFailedFlush();
+        bulk.failure = failure;
+      } else {
+        bulk.acknowledged = true;
+      }
+      bulk.pending = false;
+
+      // the position is only updated for the bulks of which all predecessors are acknowledged
+      while (!inFlightBulks.isEmpty() && inFlightBulks.peek().acknowledged) {
+        final var acknowledgedBulk = inFlightBulks.poll();
+        acknowledgedPosition = acknowledgedBulk.position;
+        acknowledgedBulk.request.clear();
+        pooledBulks.add(acknowledgedBulk.request);
+      }
+
+      // notified under the lock, as the responses of concurrent requests complete on different
+      // threads, which would otherwise report their positions out of order
+      if (acknowledgedPosition >= 0) {
+        acknowledgedPositionListener.accept(acknowledgedPosition);
+      }
+
+      notifyAll();
+    }
+  }
+
+  private synchronized List<InFlightBulk> takeFailedBulks() {
+    final var failedBulks = new ArrayList<InFlightBulk>();
+    for (final InFlightBulk bulk : inFlightBulks) {
+      if (bulk.failure != null) {
+        bulk.failure = null;
+        bulk.pending = true;
+        failedBulks.add(bulk);
+      }
+    }
+    return failedBulks;
+  }
+
+  private void awaitInFlightCapacity() {
+    final long deadline = System.currentTimeMillis() + configuration.requestTimeoutMs;
+    while (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      final var oldestBulk = inFlightBulks.peek();
+      if (oldestBulk.failure != null) {
+        throw new ElasticsearchExporterException(
+            "Failed to flush bulk, will send it again on the next flush", oldestBulk.failure);
+      }
+
+      final long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        throw new ElasticsearchExporterException(
+            String.format(
+                "Expected to send bulk, but the %d in-flight bulk requests were not acknowledged within %d ms",
+                inFlightBulks.size(), configuration.requestTimeoutMs));
+      }
+      waitForCompletion(remaining);
+    }
+  }
+
+  private void waitForCompletion(final long timeoutMs) {
+    try {
+      wait(timeoutMs);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ElasticsearchExporterException("Interrupted while waiting for bulk requests", e);
+    }
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -215,4 +381,21 @@ class ElasticsearchClient implements AutoCloseable {
       throw new ElasticsearchExporterException("Failed to put component template", e);
     }
   }
+
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private boolean pending = true;
+    private boolean acknowledged;
+    private Exception failure;
+
+    private InFlightBulk(final BulkIndexRequest request, final long position) {
+      this.request = request;
+      this.position = position;
+    }
+
+    private boolean isPending() {
+      return pending;
+    }
+  }
 }
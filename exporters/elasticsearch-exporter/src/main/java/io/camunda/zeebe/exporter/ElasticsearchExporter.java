@@ -60,6 +60,9 @@ public class ElasticsearchExporter implements Exporter {
 
     try {
       flush();
+      if (isFlushingAsync()) {
+        client.awaitInFlightBulks();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -101,6 +104,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 0. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -136,8 +146,17 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    client.flush();
-    controller.updateLastExportedRecordPosition(lastPosition);
+    if (isFlushingAsync()) {
+      // the position is updated once the bulk and all bulks before it are acknowledged
+      client.flushAsync(lastPosition, controller::updateLastExportedRecordPosition);
+    } else {
+      client.flush();
+      controller.updateLastExportedRecordPosition(lastPosition);
+    }
+  }
+
+  private boolean isFlushingAsync() {
+    return configuration.bulk.maxInFlightRequests > 0;
   }
 
   private void createIndexTemplates() {
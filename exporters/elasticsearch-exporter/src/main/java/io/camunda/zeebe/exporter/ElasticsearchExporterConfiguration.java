@@ -21,6 +21,9 @@ public class ElasticsearchExporterConfiguration {
   /** The request timeout for the elastic search client. The timeout unit is milliseconds. */
   public int requestTimeoutMs = 30_000;
 
+  /** If true, the requests to Elasticsearch are compressed with gzip. */
+  public boolean requestCompression = false;
+
   public final IndexConfiguration index = new IndexConfiguration();
   public final BulkConfiguration bulk = new BulkConfiguration();
   private final AuthenticationConfiguration authentication = new AuthenticationConfiguration();
@@ -39,6 +42,8 @@ public class ElasticsearchExporterConfiguration {
         + "url='"
         + url
         + '\''
+        + ", requestCompression="
+        + requestCompression
         + ", index="
         + index
         + ", bulk="
@@ -208,6 +213,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which are sent without waiting for their responses; if 0, the
+    // exporter waits for the response of each bulk request before it exports the next records
+    public int maxInFlightRequests = 0;
 
     @Override
     public String toString() {
@@ -218,6 +226,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -39,7 +39,8 @@ final class RestClientFactory {
                 b ->
                     b.setConnectTimeout(config.requestTimeoutMs)
                         .setSocketTimeout(config.requestTimeoutMs))
-            .setHttpClientConfigCallback(b -> configureHttpClient(config, b));
+            .setHttpClientConfigCallback(b -> configureHttpClient(config, b))
+            .setCompressionEnabled(config.requestCompression);
 
     return builder.build();
   }
@@ -9,10 +9,12 @@ package io.camunda.zeebe.exporter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,9 +29,11 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.http.entity.BasicHttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -217,4 +221,104 @@ final class ElasticsearchClientTest {
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
   }
+
+  @Nested
+  final class FlushAsyncTest {
+    private final List<Long> acknowledgedPositions = new CopyOnWriteArrayList<>();
+    private final ArgumentCaptor<ResponseListener> listenerCaptor =
+        ArgumentCaptor.forClass(ResponseListener.class);
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.memoryLimit = Integer.MAX_VALUE;
+      config.bulk.delay = Integer.MAX_VALUE;
+      config.bulk.size = Integer.MAX_VALUE;
+      config.bulk.maxInFlightRequests = 2;
+    }
+
+    @Test
+    void shouldNotWaitForResponse() {
+      // given
+      client.index(factory.generateRecord());
+
+      // when
+      client.flushAsync(1, acknowledgedPositions::add);
+
+      // then
+      verify(restClient).performRequestAsync(any(Request.class), listenerCaptor.capture());
+      assertThat(bulkRequest.isEmpty()).isFalse();
+      assertThat(acknowledgedPositions).isEmpty();
+    }
+
+    @Test
+    void shouldAcknowledgePositionOfContiguousBulks() throws IOException {
+      // given
+      client.index(factory.generateRecord());
+      client.flushAsync(1, acknowledgedPositions::add);
+      client.index(factory.generateRecord());
+      client.flushAsync(2, acknowledgedPositions::add);
+      verify(restClient, times(2))
+          .performRequestAsync(any(Request.class), listenerCaptor.capture());
+      final var listeners = listenerCaptor.getAllValues();
+
+      // when
+      listeners.get(1).onSuccess(bulkResponse());
+
+      // then
+      assertThat(acknowledgedPositions).isEmpty();
+
+      // when
+      listeners.get(0).onSuccess(bulkResponse());
+
+      // then
+      assertThat(acknowledgedPositions).containsExactly(2L);
+    }
+
+    @Test
+    void shouldSendFailedBulkAgainOnNextFlush() {
+      // given
+      client.index(factory.generateRecord());
+      client.flushAsync(1, acknowledgedPositions::add);
+      verify(restClient).performRequestAsync(any(Request.class), listenerCaptor.capture());
+      listenerCaptor.getValue().onFailure(new IOException("Injected failure"));
+
+      // when
+      client.flushAsync(1, acknowledgedPositions::add);
+
+      // then
+      verify(restClient, times(2))
+          .performRequestAsync(any(Request.class), listenerCaptor.capture());
+      assertThat(acknowledgedPositions).isEmpty();
+    }
+
+    @Test
+    void shouldFailIfMaxInFlightRequestsAreReached() {
+      // given
+      config.bulk.maxInFlightRequests = 1;
+      config.requestTimeoutMs = 1;
+      client.index(factory.generateRecord());
+      client.flushAsync(1, acknowledgedPositions::add);
+
+      // when
+      client.index(factory.generateRecord());
+
+      // then
+      assertThatThrownBy(() -> client.flushAsync(2, acknowledgedPositions::add))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(restClient, times(1)).performRequestAsync(any(Request.class), any());
+    }
+
+    private Response bulkResponse() throws IOException {
+      final var httpEntity = new BasicHttpEntity();
+      final var serializedContent =
+          MAPPER.writeValueAsBytes(new BulkIndexResponse(false, List.of()));
+      httpEntity.setContent(new ByteArrayInputStream(serializedContent));
+      httpEntity.setContentLength(serializedContent.length);
+      httpEntity.setContentType("application/json");
+
+      final var response = mock(Response.class);
+      when(response.getEntity()).thenReturn(httpEntity);
+      return response;
+    }
+  }
 }
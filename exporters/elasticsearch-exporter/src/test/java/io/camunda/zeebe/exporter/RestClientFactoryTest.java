@@ -9,6 +9,10 @@ package io.camunda.zeebe.exporter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
@@ -20,6 +24,7 @@ import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.protocol.BasicHttpContext;
 import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -84,6 +89,51 @@ final class RestClientFactoryTest {
     assertThat(credentialsProvider.getCredentials(AuthScope.ANY)).isNull();
   }
 
+  @Test
+  void shouldCompressRequests() throws IOException {
+    // given
+    config.requestCompression = true;
+
+    // when
+    final var contentEncoding = sendRequestAndGetContentEncoding();
+
+    // then
+    assertThat(contentEncoding).isEqualTo("gzip");
+  }
+
+  @Test
+  void shouldNotCompressRequestsByDefault() throws IOException {
+    // when
+    final var contentEncoding = sendRequestAndGetContentEncoding();
+
+    // then
+    assertThat(contentEncoding).isNull();
+  }
+
+  private String sendRequestAndGetContentEncoding() throws IOException {
+    final var contentEncoding = new AtomicReference<String>();
+    final var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          contentEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+          exchange.sendResponseHeaders(200, -1);
+          exchange.close();
+        });
+    server.start();
+
+    config.url = "http://localhost:" + server.getAddress().getPort();
+    final var request = new Request("POST", "/_bulk");
+    request.setJsonEntity("{}");
+    try (final var client = RestClientFactory.of(config)) {
+      client.performRequest(request);
+    } finally {
+      server.stop(0);
+    }
+
+    return contentEncoding.get();
+  }
+
   private static final class NoopCallback implements FutureCallback<HttpResponse> {
     private static final NoopCallback INSTANCE = new NoopCallback();
 
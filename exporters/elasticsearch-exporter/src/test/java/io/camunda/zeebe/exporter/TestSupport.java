@@ -102,7 +102,8 @@ final class TestSupport {
             ValueType.PROCESS_INSTANCE_RESULT,
             ValueType.DEPLOYMENT_DISTRIBUTION,
             ValueType.PROCESS_EVENT,
-            ValueType.MESSAGE_START_EVENT_SUBSCRIPTION);
+            ValueType.MESSAGE_START_EVENT_SUBSCRIPTION,
+            ValueType.MULTI_INSTANCE_OUTPUT_ELEMENT);
     return EnumSet.complementOf(excludedValueTypes).stream();
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el;
 
 import java.util.Optional;
+import java.util.Set;
 
 /** A parsed expression. */
 public interface Expression {
@@ -23,6 +24,17 @@ public interface Expression {
    */
   Optional<String> getVariableName();
 
+  /**
+   * Returns the names of the variables which the expression refers to, e.g. {@code x} and {@code
+   * y} for the expression {@code x.a + y}. A property of a variable is not a variable itself. The
+   * names can also include variables which are declared in the expression, e.g. the iteration
+   * variable of a {@code for} loop.
+   *
+   * @return the names of the referenced variables, or an empty set if the expression doesn't refer
+   *     to any variable
+   */
+  Set<String> getReferencedVariableNames();
+
   /**
    * @return {@code true} if it is an static expression that does not require additional context
    *     variables
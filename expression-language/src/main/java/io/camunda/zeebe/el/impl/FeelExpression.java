@@ -8,15 +8,19 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private Set<String> referencedVariableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
@@ -32,6 +36,16 @@ public final class FeelExpression implements Expression {
     return extractVariableName(expression.expression());
   }
 
+  @Override
+  public Set<String> getReferencedVariableNames() {
+    if (referencedVariableNames == null) {
+      final var variableNames = new HashSet<String>();
+      collectReferencedVariableNames(expression.expression(), variableNames);
+      referencedVariableNames = Set.copyOf(variableNames);
+    }
+    return referencedVariableNames;
+  }
+
   @Override
   public boolean isStatic() {
     return false;
@@ -59,6 +73,28 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  private static void collectReferencedVariableNames(
+      final Object node, final Set<String> variableNames) {
+    if (node instanceof Ref) {
+      final var ref = (Ref) node;
+      variableNames.add(ref.names().head());
+      return;
+    }
+    // the syntax tree consists of case classes, tuples and options, which are all products, and of
+    // collections of them
+    final scala.collection.Iterator<?> children;
+    if (node instanceof scala.collection.Iterable) {
+      children = ((scala.collection.Iterable<?>) node).iterator();
+    } else if (node instanceof Product) {
+      children = ((Product) node).productIterator();
+    } else {
+      return;
+    }
+    while (children.hasNext()) {
+      collectReferencedVariableNames(children.next(), variableNames);
+    }
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
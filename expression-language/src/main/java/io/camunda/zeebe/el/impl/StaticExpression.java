@@ -18,6 +18,7 @@ import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 /**
@@ -60,6 +61,11 @@ public final class StaticExpression implements Expression, EvaluationResult {
     return Optional.empty();
   }
 
+  @Override
+  public Set<String> getReferencedVariableNames() {
+    return Set.of();
+  }
+
   @Override
   public boolean isStatic() {
     return true;
@@ -94,6 +94,36 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).startsWith("failed to parse expression 'x ?! 5'");
   }
 
+  @Test
+  public void shouldReturnReferencedVariableNames() {
+    // when
+    final var expression =
+        expressionLanguage.parseExpression("=list contains(results, x.y) and count(z) > 2");
+
+    // then
+    assertThat(expression.getReferencedVariableNames())
+        .containsExactlyInAnyOrder("results", "x", "z");
+  }
+
+  @Test
+  public void shouldNotReturnNamesWhichAreNoVariableReferences() {
+    // when
+    final var expression =
+        expressionLanguage.parseExpression("={results: 1}.results + string length(\"results\")");
+
+    // then
+    assertThat(expression.getReferencedVariableNames()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNoReferencedVariableNamesForStaticValue() {
+    // when
+    final var expression = expressionLanguage.parseExpression("results");
+
+    // then
+    assertThat(expression.getReferencedVariableNames()).isEmpty();
+  }
+
   @Test
   public void shouldEvaluateStaticStringValue() {
     final var expression = expressionLanguage.parseExpression("x");
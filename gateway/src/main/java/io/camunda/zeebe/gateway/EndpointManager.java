@@ -9,13 +9,20 @@ package io.camunda.zeebe.gateway;
 
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -24,6 +31,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -34,6 +43,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployResourceRequest
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
@@ -43,29 +55,54 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentReques
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchJobResult;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.util.VersionUtil;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
 
 public final class EndpointManager {
 
+  private static final int MAX_JOB_BATCH_REQUESTS_IN_FLIGHT = 4;
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
+  private final JobStreamHandler jobStreamHandler;
   private final RequestRetryHandler requestRetryHandler;
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
 
   public EndpointManager(
-      final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
+      final BrokerClient brokerClient,
+      final ActivateJobsHandler activateJobsHandler,
+      final JobStreamHandler jobStreamHandler) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.activateJobsHandler = activateJobsHandler;
+    this.jobStreamHandler = jobStreamHandler;
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
   }
 
@@ -149,6 +186,11 @@ public final class EndpointManager {
     activateJobsHandler.activateJobs(request, responseObserver);
   }
 
+  public StreamObserver<StreamJobsRequest> streamJobs(
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    return jobStreamHandler.openStream(responseObserver);
+  }
+
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
       final ServerStreamObserver<CancelProcessInstanceResponse> responseObserver) {
@@ -169,6 +211,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendJobBatchRequests(
+        request.getJobsList(),
+        CompleteJobRequest::getJobKey,
+        BrokerCompleteJobsRequest::new,
+        RequestMapper::addJobToCompleteJobsRequest,
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -182,18 +236,25 @@ public final class EndpointManager {
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
       final ServerStreamObserver<CreateProcessInstanceWithResultResponse> responseObserver) {
+    final boolean binaryVariables = request.getBinaryVariables();
+    final BrokerResponseMapper<ProcessInstanceResultRecord, CreateProcessInstanceWithResultResponse>
+        responseMapper =
+            (key, response) ->
+                ResponseMapper.toCreateProcessInstanceWithResultResponse(
+                    key, response, binaryVariables);
+
     if (request.getRequestTimeout() > 0) {
       sendRequestWithRetryPartitions(
           request,
           RequestMapper::toCreateProcessInstanceWithResultRequest,
-          ResponseMapper::toCreateProcessInstanceWithResultResponse,
+          responseMapper,
           responseObserver,
           Duration.ofMillis(request.getRequestTimeout()));
     } else {
       sendRequestWithRetryPartitions(
           request,
           RequestMapper::toCreateProcessInstanceWithResultRequest,
-          ResponseMapper::toCreateProcessInstanceWithResultResponse,
+          responseMapper,
           responseObserver);
     }
   }
@@ -229,6 +290,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void failJobs(
+      final FailJobsRequest request,
+      final ServerStreamObserver<FailJobsResponse> responseObserver) {
+    sendJobBatchRequests(
+        request.getJobsList(),
+        FailJobRequest::getJobKey,
+        BrokerFailJobsRequest::new,
+        RequestMapper::addJobToFailJobsRequest,
+        ResponseMapper::toFailJobsResponse,
+        responseObserver);
+  }
+
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
@@ -377,6 +450,79 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Groups the jobs by their partition, which is encoded in the job key, and sends the commands of
+   * each partition's jobs as one batch command to the partition. Responds with the results of all
+   * jobs once every batch command is either processed or failed. The results keep the order of the
+   * given jobs.
+   */
+  private <JobRequestT, BrokerRequestT extends BrokerExecuteCommand<JobBatchRecord>, GrpcResponseT>
+      void sendJobBatchRequests(
+          final List<JobRequestT> jobs,
+          final ToLongFunction<JobRequestT> jobKeyExtractor,
+          final IntFunction<BrokerRequestT> batchRequestFactory,
+          final BiConsumer<BrokerRequestT, JobRequestT> jobMapper,
+          final Function<List<JobCommandResult>, GrpcResponseT> responseMapper,
+          final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    final JobCommandResult[] results = new JobCommandResult[jobs.size()];
+    final Map<Integer, JobBatch<BrokerRequestT>> batchesByPartition = new TreeMap<>();
+    for (int index = 0; index < jobs.size(); index++) {
+      final JobRequestT job = jobs.get(index);
+      final long jobKey = jobKeyExtractor.applyAsLong(job);
+      final JobBatch<BrokerRequestT> batch =
+          batchesByPartition.computeIfAbsent(
+              Protocol.decodePartitionId(jobKey),
+              partitionId -> new JobBatch<>(batchRequestFactory.apply(partitionId)));
+
+      try {
+        jobMapper.accept(batch.request(), job);
+      } catch (final Exception e) {
+        results[index] = toJobCommandResult(jobKey, e);
+        continue;
+      }
+
+      batch.jobIndexes().add(index);
+      batch.jobKeys().add(jobKey);
+    }
+
+    final Queue<JobBatch<?>> batches = new ConcurrentLinkedQueue<>();
+    batchesByPartition.values().stream()
+        .filter(batch -> !batch.jobIndexes().isEmpty())
+        .forEach(batches::add);
+
+    new JobBatchRequests(
+            batches,
+            results,
+            () -> {
+              streamObserver.onNext(responseMapper.apply(Arrays.asList(results)));
+              streamObserver.onCompleted();
+            })
+        .send();
+  }
+
+  private JobCommandResult toJobCommandResult(final long jobKey, final Throwable error) {
+    final Status status = errorMapper.mapError(error).getStatus();
+    final String message = status.getDescription();
+    return JobCommandResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCode(status.getCode().value())
+        .setMessage(message != null ? message : "")
+        .build();
+  }
+
+  private JobCommandResult toJobCommandResult(
+      final Intent intent, final JobBatchJobResult jobResult) {
+    final long jobKey = jobResult.getJobKey();
+    final RejectionType rejectionType = jobResult.getRejectionType();
+    if (rejectionType == RejectionType.NULL_VAL) {
+      return JobCommandResult.newBuilder().setJobKey(jobKey).build();
+    }
+
+    final BrokerRejection rejection =
+        new BrokerRejection(intent, jobKey, rejectionType, jobResult.getRejectionReason());
+    return toJobCommandResult(jobKey, new BrokerRejectionException(rejection));
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -386,4 +532,85 @@ public final class EndpointManager {
     streamObserver.onNext(grpcResponse);
     streamObserver.onCompleted();
   }
+
+  /**
+   * The batch command of the jobs of one partition, with the indexes of the jobs in the request and
+   * their keys.
+   */
+  private record JobBatch<BrokerRequestT extends BrokerExecuteCommand<JobBatchRecord>>(
+      BrokerRequestT request, List<Integer> jobIndexes, List<Long> jobKeys) {
+
+    private JobBatch(final BrokerRequestT request) {
+      this(request, new ArrayList<>(), new ArrayList<>());
+    }
+  }
+
+  /**
+   * Sends the batch commands of a complete or fail jobs request. At most {@link
+   * #MAX_JOB_BATCH_REQUESTS_IN_FLIGHT} batch commands are sent at the same time; the next one is
+   * sent once a response arrives, so a request with jobs of many partitions doesn't flood the
+   * brokers. The results are written by the threads which receive the broker responses; the last of
+   * them completes the request, and sees all results since it decremented the counter last.
+   */
+  private final class JobBatchRequests {
+
+    private final Queue<JobBatch<?>> batches;
+    private final JobCommandResult[] results;
+    private final Runnable onCompleted;
+    private final AtomicInteger pendingBatches;
+
+    private JobBatchRequests(
+        final Queue<JobBatch<?>> batches,
+        final JobCommandResult[] results,
+        final Runnable onCompleted) {
+      this.batches = batches;
+      this.results = results;
+      this.onCompleted = onCompleted;
+      pendingBatches = new AtomicInteger(batches.size());
+    }
+
+    private void send() {
+      if (batches.isEmpty()) {
+        onCompleted.run();
+        return;
+      }
+
+      for (int i = 0; i < MAX_JOB_BATCH_REQUESTS_IN_FLIGHT; i++) {
+        sendNextBatch();
+      }
+    }
+
+    private void sendNextBatch() {
+      final JobBatch<?> batch = batches.poll();
+      if (batch == null) {
+        return;
+      }
+
+      brokerClient.sendRequestWithRetry(
+          batch.request(),
+          (key, response) -> {
+            final Intent intent = batch.request().getIntent();
+            int i = 0;
+            for (final JobBatchJobResult jobResult : response.jobResults()) {
+              results[batch.jobIndexes().get(i++)] = toJobCommandResult(intent, jobResult);
+            }
+            onBatchDone();
+          },
+          error -> {
+            for (int i = 0; i < batch.jobIndexes().size(); i++) {
+              results[batch.jobIndexes().get(i)] =
+                  toJobCommandResult(batch.jobKeys().get(i), error);
+            }
+            onBatchDone();
+          });
+    }
+
+    private void onBatchDone() {
+      if (pendingBatches.decrementAndGet() == 0) {
+        onCompleted.run();
+      } else {
+        sendNextBatch();
+      }
+    }
+  }
 }
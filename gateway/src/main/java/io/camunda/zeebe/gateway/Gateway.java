@@ -19,6 +19,7 @@ import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
@@ -26,6 +27,7 @@ import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.InterceptorRepository;
 import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -43,6 +45,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import me.dinowernli.grpc.prometheus.Configuration;
@@ -116,15 +119,20 @@ public final class Gateway {
     healthManager.setStatus(Status.STARTING);
     brokerClient = buildBrokerClient();
 
+    final var jobStreamHandlerFuture = createAndStartJobStreamHandler(brokerClient);
     createAndStartActivateJobsHandler(brokerClient)
+        .thenCombine(
+            jobStreamHandlerFuture,
+            (activateJobsHandler, jobStreamHandler) ->
+                new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler))
         .whenComplete(
-            (activateJobsHandler, error) -> {
+            (endpointManager, error) -> {
               if (error != null) {
                 resultFuture.completeExceptionally(error);
                 return;
               }
 
-              final var serverResult = createAndStartServer(activateJobsHandler);
+              final var serverResult = createAndStartServer(endpointManager);
               if (serverResult.isLeft()) {
                 final var exception = serverResult.getLeft();
                 resultFuture.completeExceptionally(exception);
@@ -138,9 +146,7 @@ public final class Gateway {
     return resultFuture;
   }
 
-  private Either<Exception, Server> createAndStartServer(
-      final ActivateJobsHandler activateJobsHandler) {
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+  private Either<Exception, Server> createAndStartServer(final EndpointManager endpointManager) {
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     try {
@@ -223,15 +229,23 @@ public final class Gateway {
   private CompletableFuture<ActivateJobsHandler> createAndStartActivateJobsHandler(
       final BrokerClient brokerClient) {
     final var handler = buildActivateJobsHandler(brokerClient);
-    return submitActorToActivateJobs(handler);
+    return submitActor("ActivateJobsHandler", handler);
   }
 
-  private CompletableFuture<ActivateJobsHandler> submitActorToActivateJobs(
-      final ActivateJobsHandler handler) {
-    final var future = new CompletableFuture<ActivateJobsHandler>();
+  private CompletableFuture<JobStreamHandler> createAndStartJobStreamHandler(
+      final BrokerClient brokerClient) {
+    final var handler =
+        new JobStreamHandler(
+            brokerClient, gatewayCfg.getJobActivation().isQueryPartitionsInParallel());
+    return submitActor("JobStreamHandler", handler);
+  }
+
+  private <T extends Consumer<ActorControl>> CompletableFuture<T> submitActor(
+      final String name, final T handler) {
+    final var future = new CompletableFuture<T>();
     final var actor =
         Actor.newActor()
-            .name("ActivateJobsHandler")
+            .name(name)
             .actorStartedHandler(handler.andThen(t -> future.complete(handler)))
             .build();
     actorSchedulingService.submitActor(actor);
@@ -239,15 +253,21 @@ public final class Gateway {
   }
 
   private ActivateJobsHandler buildActivateJobsHandler(final BrokerClient brokerClient) {
+    final var queryPartitionsInParallel =
+        gatewayCfg.getJobActivation().isQueryPartitionsInParallel();
     if (gatewayCfg.getLongPolling().isEnabled()) {
-      return buildLongPollingHandler(brokerClient);
+      return buildLongPollingHandler(brokerClient, queryPartitionsInParallel);
     } else {
-      return new RoundRobinActivateJobsHandler(brokerClient);
+      return new RoundRobinActivateJobsHandler(brokerClient, queryPartitionsInParallel);
     }
   }
 
-  private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+  private LongPollingActivateJobsHandler buildLongPollingHandler(
+      final BrokerClient brokerClient, final boolean queryPartitionsInParallel) {
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setQueryPartitionsInParallel(queryPartitionsInParallel)
+        .build();
   }
 
   private ServerServiceDefinition applyInterceptors(final BindableService service) {
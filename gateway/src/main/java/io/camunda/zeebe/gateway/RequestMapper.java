@@ -13,10 +13,12 @@ import com.fasterxml.jackson.core.JsonParseException;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeployResourceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
@@ -90,6 +92,15 @@ public final class RequestMapper {
         .setErrorMessage(grpcRequest.getErrorMessage());
   }
 
+  public static void addJobToFailJobsRequest(
+      final BrokerFailJobsRequest brokerRequest, final FailJobRequest grpcRequest) {
+    brokerRequest.addJob(
+        grpcRequest.getJobKey(),
+        grpcRequest.getRetries(),
+        grpcRequest.getRetryBackOff(),
+        grpcRequest.getErrorMessage());
+  }
+
   public static BrokerThrowErrorRequest toThrowErrorRequest(final ThrowErrorRequest grpcRequest) {
     return new BrokerThrowErrorRequest(grpcRequest.getJobKey(), grpcRequest.getErrorCode())
         .setErrorMessage(grpcRequest.getErrorMessage());
@@ -101,6 +112,11 @@ public final class RequestMapper {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  public static void addJobToCompleteJobsRequest(
+      final BrokerCompleteJobsRequest brokerRequest, final CompleteJobRequest grpcRequest) {
+    brokerRequest.addJob(grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
+  }
+
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
       final CreateProcessInstanceRequest grpcRequest) {
     final BrokerCreateProcessInstanceRequest brokerRequest =
@@ -161,7 +177,8 @@ public final class RequestMapper {
         .setTimeout(grpcRequest.getTimeout())
         .setWorker(grpcRequest.getWorker())
         .setMaxJobsToActivate(grpcRequest.getMaxJobsToActivate())
-        .setVariables(grpcRequest.getFetchVariableList());
+        .setVariables(grpcRequest.getFetchVariableList())
+        .setAdditionalTypes(grpcRequest.getAdditionalTypeList());
   }
 
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
@@ -10,10 +10,13 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -21,6 +24,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionRequirementsM
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
@@ -38,6 +43,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -118,6 +124,10 @@ public final class ResponseMapper {
     return FailJobResponse.getDefaultInstance();
   }
 
+  public static FailJobsResponse toFailJobsResponse(final List<JobCommandResult> results) {
+    return FailJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static ThrowErrorResponse toThrowErrorResponse(
       final long key, final JobRecord brokerResponse) {
     return ThrowErrorResponse.getDefaultInstance();
@@ -128,6 +138,10 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(final List<JobCommandResult> results) {
+    return CompleteJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
@@ -140,13 +154,31 @@ public final class ResponseMapper {
 
   public static CreateProcessInstanceWithResultResponse toCreateProcessInstanceWithResultResponse(
       final long key, final ProcessInstanceResultRecord brokerResponse) {
-    return CreateProcessInstanceWithResultResponse.newBuilder()
-        .setProcessDefinitionKey(brokerResponse.getProcessDefinitionKey())
-        .setBpmnProcessId(bufferAsString(brokerResponse.getBpmnProcessIdBuffer()))
-        .setVersion(brokerResponse.getVersion())
-        .setProcessInstanceKey(brokerResponse.getProcessInstanceKey())
-        .setVariables(bufferAsJson(brokerResponse.getVariablesBuffer()))
-        .build();
+    return toCreateProcessInstanceWithResultResponse(key, brokerResponse, false);
+  }
+
+  /**
+   * @param binaryVariables if true, the variables are passed through as MessagePack document
+   *     instead of being converted to JSON
+   */
+  public static CreateProcessInstanceWithResultResponse toCreateProcessInstanceWithResultResponse(
+      final long key,
+      final ProcessInstanceResultRecord brokerResponse,
+      final boolean binaryVariables) {
+    final var responseBuilder =
+        CreateProcessInstanceWithResultResponse.newBuilder()
+            .setProcessDefinitionKey(brokerResponse.getProcessDefinitionKey())
+            .setBpmnProcessId(bufferAsString(brokerResponse.getBpmnProcessIdBuffer()))
+            .setVersion(brokerResponse.getVersion())
+            .setProcessInstanceKey(brokerResponse.getProcessInstanceKey());
+
+    if (binaryVariables) {
+      responseBuilder.setVariablesMsgPack(bufferAsByteString(brokerResponse.getVariablesBuffer()));
+    } else {
+      responseBuilder.setVariables(bufferAsJson(brokerResponse.getVariablesBuffer()));
+    }
+
+    return responseBuilder.build();
   }
 
   public static CancelProcessInstanceResponse toCancelProcessInstanceResponse(
@@ -161,6 +193,15 @@ public final class ResponseMapper {
 
   public static ActivateJobsResponse toActivateJobsResponse(
       final long key, final JobBatchRecord brokerResponse) {
+    return toActivateJobsResponse(key, brokerResponse, false);
+  }
+
+  /**
+   * @param binaryVariables if true, the variables of the jobs are passed through as MessagePack
+   *     documents instead of being converted to JSON
+   */
+  public static ActivateJobsResponse toActivateJobsResponse(
+      final long key, final JobBatchRecord brokerResponse, final boolean binaryVariables) {
     final ActivateJobsResponse.Builder responseBuilder = ActivateJobsResponse.newBuilder();
 
     final Iterator<LongValue> jobKeys = brokerResponse.jobKeys().iterator();
@@ -169,7 +210,7 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
+      final ActivatedJob.Builder activatedJob =
           ActivatedJob.newBuilder()
               .setKey(jobKey.getValue())
               .setType(bufferAsString(job.getTypeBuffer()))
@@ -182,9 +223,13 @@ public final class ResponseMapper {
               .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
               .setWorker(bufferAsString(job.getWorkerBuffer()))
               .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
+              .setDeadline(job.getDeadline());
+
+      if (binaryVariables) {
+        activatedJob.setVariablesMsgPack(bufferAsByteString(job.getVariablesBuffer()));
+      } else {
+        activatedJob.setVariables(bufferAsJson(job.getVariablesBuffer()));
+      }
 
       responseBuilder.addJobs(activatedJob);
     }
@@ -201,6 +246,11 @@ public final class ResponseMapper {
     return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
   }
 
+  private static ByteString bufferAsByteString(final DirectBuffer buffer) {
+    // the array is a copy of the buffer, so it can be wrapped without copying it again
+    return UnsafeByteOperations.unsafeWrap(bufferAsArray(buffer));
+  }
+
   @FunctionalInterface
   public interface BrokerResponseMapper<BrokerResponseDto, GrpcResponseT> {
     GrpcResponseT apply(long key, BrokerResponseDto responseDto);
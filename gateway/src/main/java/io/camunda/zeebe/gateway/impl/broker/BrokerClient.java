@@ -82,5 +82,12 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
+  /**
+   * Subscribes the given handler to the notifications about available jobs. Every subscription is
+   * kept until the client is closed, so several handlers can be subscribed to the same topic.
+   *
+   * @param topic the topic of the notifications
+   * @param handler consumer that will be invoked with the job type of each notification
+   */
   void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
 }
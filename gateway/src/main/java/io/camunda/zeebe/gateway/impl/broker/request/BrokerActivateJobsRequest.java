@@ -49,6 +49,15 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  public BrokerActivateJobsRequest setAdditionalTypes(final List<String> additionalTypes) {
+    final ValueArray<StringValue> types = requestDto.additionalTypes();
+    additionalTypes.stream()
+        .map(BufferUtil::wrapString)
+        .forEach(buffer -> types.add().wrap(buffer));
+
+    return this;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
@@ -26,6 +26,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private boolean initialized = false;
 
@@ -87,6 +88,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   public List<InterceptorCfg> getInterceptors() {
     return interceptors;
   }
@@ -97,7 +107,8 @@ public class GatewayCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, security, longPolling, interceptors);
+    return Objects.hash(
+        network, cluster, threads, security, longPolling, jobActivation, interceptors);
   }
 
   @Override
@@ -114,6 +125,7 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(jobActivation, that.jobActivation)
         && Objects.equals(interceptors, that.interceptors);
   }
 
@@ -130,6 +142,8 @@ public class GatewayCfg {
         + security
         + ", longPollingCfg="
         + longPolling
+        + ", jobActivationCfg="
+        + jobActivation
         + ", interceptors="
         + interceptors
         + '}';
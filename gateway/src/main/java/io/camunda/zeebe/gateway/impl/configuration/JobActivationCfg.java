@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private boolean queryPartitionsInParallel =
+      ConfigurationDefaults.DEFAULT_QUERY_PARTITIONS_IN_PARALLEL;
+
+  public boolean isQueryPartitionsInParallel() {
+    return queryPartitionsInParallel;
+  }
+
+  public JobActivationCfg setQueryPartitionsInParallel(final boolean queryPartitionsInParallel) {
+    this.queryPartitionsInParallel = queryPartitionsInParallel;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(queryPartitionsInParallel);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return queryPartitionsInParallel == that.queryPartitionsInParallel;
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{" + "queryPartitionsInParallel=" + queryPartitionsInParallel + '}';
+  }
+}
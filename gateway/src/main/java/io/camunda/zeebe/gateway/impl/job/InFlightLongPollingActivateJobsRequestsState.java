@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.impl.job;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -17,6 +18,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public final class InFlightLongPollingActivateJobsRequestsState {
 
   private final String jobType;
+  private final List<String> jobTypes;
   private final LongPollingMetrics metrics;
   private final Queue<InflightActivateJobsRequest> activeRequests = new LinkedList<>();
   private final Queue<InflightActivateJobsRequest> pendingRequests = new LinkedList<>();
@@ -26,12 +28,22 @@ public final class InFlightLongPollingActivateJobsRequestsState {
 
   private final AtomicBoolean ongoingNotification = new AtomicBoolean(false);
 
+  /**
+   * @param jobType the name of the state, used to label its metrics
+   * @param jobTypes the job types for which the requests of this state wait
+   * @param metrics the long polling metrics
+   */
   public InFlightLongPollingActivateJobsRequestsState(
-      final String jobType, final LongPollingMetrics metrics) {
+      final String jobType, final List<String> jobTypes, final LongPollingMetrics metrics) {
     this.jobType = jobType;
+    this.jobTypes = jobTypes;
     this.metrics = metrics;
   }
 
+  public List<String> getJobTypes() {
+    return jobTypes;
+  }
+
   public void incrementFailedAttempts(final long lastUpdatedTime) {
     failedAttempts++;
     this.lastUpdatedTime = lastUpdatedTime;
@@ -16,6 +16,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.slf4j.Logger;
 
@@ -23,9 +25,11 @@ public class InflightActivateJobsRequest {
 
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private final long requestId;
+  private final ActivateJobsRequest grpcRequest;
   private final BrokerActivateJobsRequest request;
   private final ServerStreamObserver<ActivateJobsResponse> responseObserver;
   private final String jobType;
+  private final List<String> jobTypes;
   private final String worker;
   private final int maxJobsToActivate;
   private final Duration longPollingTimeout;
@@ -41,9 +45,11 @@ public class InflightActivateJobsRequest {
       final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
     this(
         requestId,
+        request,
         RequestMapper.toActivateJobsRequest(request),
         responseObserver,
         request.getType(),
+        request.getAdditionalTypeList(),
         request.getWorker(),
         request.getMaxJobsToActivate(),
         request.getRequestTimeout());
@@ -51,16 +57,22 @@ public class InflightActivateJobsRequest {
 
   private InflightActivateJobsRequest(
       final long requestId,
+      final ActivateJobsRequest grpcRequest,
       final BrokerActivateJobsRequest request,
       final ServerStreamObserver<ActivateJobsResponse> responseObserver,
       final String jobType,
+      final List<String> additionalJobTypes,
       final String worker,
       final int maxJobsToActivate,
       final long longPollingTimeout) {
     this.requestId = requestId;
+    this.grpcRequest = grpcRequest;
     this.request = request;
     this.responseObserver = responseObserver;
     this.jobType = jobType;
+    jobTypes = new ArrayList<>(additionalJobTypes.size() + 1);
+    jobTypes.add(jobType);
+    jobTypes.addAll(additionalJobTypes);
     this.worker = worker;
     this.maxJobsToActivate = maxJobsToActivate;
     this.longPollingTimeout =
@@ -133,10 +145,24 @@ public class InflightActivateJobsRequest {
     return responseObserver.isCancelled();
   }
 
+  /** Returns true if the variables of the activated jobs are sent as MessagePack documents. */
+  public boolean isBinaryVariables() {
+    return grpcRequest.getBinaryVariables();
+  }
+
   public BrokerActivateJobsRequest getRequest() {
     return request;
   }
 
+  /**
+   * Creates a new broker request for this activation. Other than {@link #getRequest()}, the
+   * returned request is not shared, so it can be sent while other requests of this activation are
+   * still in flight.
+   */
+  public BrokerActivateJobsRequest newRequest() {
+    return RequestMapper.toActivateJobsRequest(grpcRequest);
+  }
+
   public ServerStreamObserver<ActivateJobsResponse> getResponseObserver() {
     return responseObserver;
   }
@@ -145,6 +171,17 @@ public class InflightActivateJobsRequest {
     return jobType;
   }
 
+  /**
+   * @return the job type of the request, followed by its additional job types
+   */
+  public List<String> getTypes() {
+    return jobTypes;
+  }
+
+  public boolean hasAdditionalTypes() {
+    return jobTypes.size() > 1;
+  }
+
   public String getWorker() {
     return worker;
   }
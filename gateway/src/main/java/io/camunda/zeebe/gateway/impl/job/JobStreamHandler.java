@@ -0,0 +1,274 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler.toInflightActivateJobsRequest;
+
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Pushes jobs to the workers which opened a stream via the StreamJobs RPC. Each stream registers
+ * the job type it handles, and the amount of jobs the worker can take (its credits). Jobs are
+ * activated for a stream as soon as a broker notifies the gateway that jobs of its type are
+ * available, and whenever the worker adds credits, so workers don't have to poll for jobs.
+ *
+ * <p>The activation itself is delegated to a {@link RoundRobinActivateJobsHandler}, which activates
+ * at most as many jobs as the stream has credits left. All streams are only accessed from the actor
+ * of this handler.
+ */
+public final class JobStreamHandler implements Consumer<ActorControl> {
+
+  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final Duration RESOURCE_EXHAUSTED_RETRY_DELAY = Duration.ofMillis(500);
+  private static final String ERROR_MSG_NEGATIVE_CAPACITY =
+      "Expected to add a capacity of at least 0 to the job stream, but it was %d";
+
+  // jobType -> open streams of that type
+  private final Map<String, List<JobStream>> jobTypeStreams = new HashMap<>();
+  private final RoundRobinActivateJobsHandler activateJobsHandler;
+  private final BrokerClient brokerClient;
+  private final BrokerTopologyManager topologyManager;
+
+  private ActorControl actor;
+
+  public JobStreamHandler(
+      final BrokerClient brokerClient, final boolean queryPartitionsInParallel) {
+    this.brokerClient = brokerClient;
+    topologyManager = brokerClient.getTopologyManager();
+    activateJobsHandler =
+        new RoundRobinActivateJobsHandler(brokerClient, queryPartitionsInParallel);
+  }
+
+  @Override
+  public void accept(final ActorControl actor) {
+    this.actor = actor;
+    activateJobsHandler.accept(actor);
+    actor.run(
+        () ->
+            brokerClient.subscribeJobAvailableNotification(
+                JOBS_AVAILABLE_TOPIC, this::onNotification));
+  }
+
+  /**
+   * Opens a new job stream. The stream is registered with the first request that is passed to the
+   * returned observer; every request adds its capacity to the credits of the stream.
+   *
+   * @param responseObserver the stream to push the activated jobs to
+   * @return the observer of the requests of the client
+   */
+  public StreamObserver<StreamJobsRequest> openStream(
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    return new JobStream(responseObserver);
+  }
+
+  private void onNotification(final String jobType) {
+    LOG.trace("Received jobs available notification for type {}.", jobType);
+    actor.run(
+        () -> {
+          final var streams = jobTypeStreams.get(jobType);
+          if (streams != null) {
+            // copy the streams, as activating jobs may close a stream
+            List.copyOf(streams).forEach(this::activateJobs);
+          }
+        });
+  }
+
+  private void activateJobs(final JobStream stream) {
+    if (!stream.isOpen() || stream.credits <= 0) {
+      return;
+    }
+
+    if (stream.isActivating) {
+      // the running activation may not see the new jobs or credits; activate again afterwards
+      stream.activateAgain = true;
+      return;
+    }
+
+    final var topology = topologyManager.getTopology();
+    if (topology == null) {
+      // without topology, the jobs are activated with the next notification
+      return;
+    }
+
+    stream.isActivating = true;
+    stream.activateAgain = false;
+    activateJobsHandler.activateJobs(
+        topology.getPartitionsCount(),
+        stream.newActivation(),
+        error -> {
+          stream.isActivating = false;
+          stream.closeWithError(error);
+        },
+        (remainingAmount, resourceExhaustedWasPresent) -> {
+          stream.isActivating = false;
+          if (stream.activateAgain) {
+            activateJobs(stream);
+          } else if (resourceExhaustedWasPresent) {
+            actor.runDelayed(RESOURCE_EXHAUSTED_RETRY_DELAY, () -> activateJobs(stream));
+          }
+        });
+  }
+
+  private final class JobStream implements StreamObserver<StreamJobsRequest> {
+
+    private final ServerStreamObserver<ActivateJobsResponse> responseObserver;
+    private final ActivationObserver activationObserver = new ActivationObserver();
+
+    private ActivateJobsRequest activationRequest;
+    private int credits;
+    private boolean isActivating;
+    private boolean activateAgain;
+    private boolean isClosed;
+
+    private JobStream(final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+      this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public void onNext(final StreamJobsRequest request) {
+      actor.run(() -> onRequest(request));
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      LOG.trace("Job stream was closed by the client with error", error);
+      actor.run(this::close);
+    }
+
+    @Override
+    public void onCompleted() {
+      actor.run(
+          () -> {
+            if (isClosed) {
+              return;
+            }
+            close();
+            try {
+              responseObserver.onCompleted();
+            } catch (final Exception e) {
+              LOG.warn("Failed to complete job stream of type {}", getType(), e);
+            }
+          });
+    }
+
+    private void onRequest(final StreamJobsRequest request) {
+      if (isClosed) {
+        return;
+      }
+
+      final var capacity = request.getCapacity();
+      if (capacity < 0) {
+        final var status =
+            Status.newBuilder()
+                .setCode(Code.INVALID_ARGUMENT_VALUE)
+                .setMessage(String.format(ERROR_MSG_NEGATIVE_CAPACITY, capacity))
+                .build();
+        closeWithError(StatusProto.toStatusException(status));
+        return;
+      }
+
+      if (activationRequest == null) {
+        activationRequest =
+            ActivateJobsRequest.newBuilder()
+                .setType(request.getType())
+                .setWorker(request.getWorker())
+                .setTimeout(request.getTimeout())
+                .addAllFetchVariable(request.getFetchVariableList())
+                .setBinaryVariables(request.getBinaryVariables())
+                .build();
+        jobTypeStreams.computeIfAbsent(getType(), type -> new ArrayList<>()).add(this);
+      }
+
+      credits = (int) Math.min(Integer.MAX_VALUE, (long) credits + capacity);
+      activateJobs(this);
+    }
+
+    private String getType() {
+      return activationRequest != null ? activationRequest.getType() : null;
+    }
+
+    private boolean isOpen() {
+      return !(isClosed || responseObserver.isCancelled());
+    }
+
+    private InflightActivateJobsRequest newActivation() {
+      final var request = activationRequest.toBuilder().setMaxJobsToActivate(credits).build();
+      return toInflightActivateJobsRequest(request, activationObserver);
+    }
+
+    private void close() {
+      if (isClosed) {
+        return;
+      }
+      isClosed = true;
+
+      final var streams = jobTypeStreams.get(getType());
+      if (streams != null) {
+        streams.remove(this);
+        if (streams.isEmpty()) {
+          jobTypeStreams.remove(getType());
+        }
+      }
+    }
+
+    private void closeWithError(final Throwable error) {
+      if (isClosed) {
+        return;
+      }
+      close();
+      try {
+        responseObserver.onError(error);
+      } catch (final Exception e) {
+        LOG.warn("Failed to send terminating error to client.", e);
+      }
+    }
+
+    /**
+     * Forwards the jobs of an activation to the client and consumes the credits of the stream. The
+     * end of an activation doesn't close the stream, so completion and errors are not forwarded.
+     */
+    private final class ActivationObserver implements ServerStreamObserver<ActivateJobsResponse> {
+
+      @Override
+      public void onNext(final ActivateJobsResponse response) {
+        responseObserver.onNext(response);
+        credits -= response.getJobsCount();
+      }
+
+      @Override
+      public void onError(final Throwable error) {}
+
+      @Override
+      public void onCompleted() {}
+
+      @Override
+      public boolean isCancelled() {
+        return !isOpen();
+      }
+    }
+  }
+}
@@ -23,9 +23,11 @@ import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.grpc.protobuf.StatusProto;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 
@@ -43,9 +45,11 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
   private final RoundRobinActivateJobsHandler activateJobsHandler;
   private final BrokerClient brokerClient;
 
-  // jobType -> state
+  // jobType -> state; requests with additional job types are kept under the joined job types
   private final Map<String, InFlightLongPollingActivateJobsRequestsState> jobTypeState =
       new ConcurrentHashMap<>();
+  // keys of the states in jobTypeState which wait for jobs of more than one type
+  private final Set<String> multiTypeStateKeys = ConcurrentHashMap.newKeySet();
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
@@ -58,9 +62,11 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final boolean queryPartitionsInParallel) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    activateJobsHandler =
+        new RoundRobinActivateJobsHandler(brokerClient, queryPartitionsInParallel);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -106,8 +112,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       return;
     }
 
-    final var type = request.getType();
-    final var state = getJobTypeState(type);
+    final var state = getJobTypeState(request);
 
     if (!request.hasScheduledTimer()) {
       addTimeOut(state, request);
@@ -123,8 +128,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
   public void activateJobs(final InflightActivateJobsRequest request) {
     actor.run(
         () -> {
-          final InFlightLongPollingActivateJobsRequestsState state =
-              getJobTypeState(request.getType());
+          final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(request);
 
           if (state.shouldAttempt(failedAttemptThreshold)) {
             activateJobsUnchecked(state, request);
@@ -134,9 +138,24 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
         });
   }
 
-  private InFlightLongPollingActivateJobsRequestsState getJobTypeState(final String jobType) {
+  private InFlightLongPollingActivateJobsRequestsState getJobTypeState(
+      final InflightActivateJobsRequest request) {
+    final var stateKey = getStateKey(request);
+    if (request.hasAdditionalTypes()) {
+      multiTypeStateKeys.add(stateKey);
+    }
+    return getJobTypeState(stateKey, request.getTypes());
+  }
+
+  private InFlightLongPollingActivateJobsRequestsState getJobTypeState(
+      final String stateKey, final List<String> jobTypes) {
     return jobTypeState.computeIfAbsent(
-        jobType, type -> new InFlightLongPollingActivateJobsRequestsState(type, metrics));
+        stateKey,
+        key -> new InFlightLongPollingActivateJobsRequestsState(key, jobTypes, metrics));
+  }
+
+  private static String getStateKey(final InflightActivateJobsRequest request) {
+    return request.hasAdditionalTypes() ? String.join(",", request.getTypes()) : request.getType();
   }
 
   private void activateJobsUnchecked(
@@ -162,17 +181,28 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
-    final var state = jobTypeState.get(jobType);
+    notifyState(jobType, jobTypeState.get(jobType));
 
+    // requests for more than one job type are also unblocked by jobs of their additional types
+    for (final var stateKey : multiTypeStateKeys) {
+      final var state = jobTypeState.get(stateKey);
+      if (state != null && state.getJobTypes().contains(jobType)) {
+        notifyState(stateKey, state);
+      }
+    }
+  }
+
+  private void notifyState(
+      final String stateKey, final InFlightLongPollingActivateJobsRequestsState state) {
     if (state != null && state.shouldNotifyAndStartNotification()) {
-      LOG.trace("Handle jobs available notification for type {}.", jobType);
+      LOG.trace("Handle jobs available notification for type {}.", stateKey);
       actor.run(
           () -> {
-            resetFailedAttemptsAndHandlePendingRequests(jobType);
+            resetFailedAttemptsAndHandlePendingRequests(stateKey);
             state.completeNotification();
           });
     } else {
-      LOG.trace("Ignore jobs available notification for type {}.", jobType);
+      LOG.trace("Ignore jobs available notification for type {}.", stateKey);
     }
   }
 
@@ -187,7 +217,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
         actor.submit(
             () -> {
               state.removeActiveRequest(request);
-              final var type = request.getType();
+              final var type = getStateKey(request);
               final var errorMsg = String.format(ERROR_MSG_ACTIVATED_EXHAUSTED, type);
               final var status =
                   Status.newBuilder()
@@ -211,7 +241,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
           () -> {
             request.complete();
             state.removeActiveRequest(request);
-            resetFailedAttemptsAndHandlePendingRequests(request.getType());
+            resetFailedAttemptsAndHandlePendingRequests(getStateKey(request));
           });
     }
   }
@@ -227,8 +257,11 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
         });
   }
 
-  private void resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
-    final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
+  private void resetFailedAttemptsAndHandlePendingRequests(final String stateKey) {
+    final InFlightLongPollingActivateJobsRequestsState state = jobTypeState.get(stateKey);
+    if (state == null) {
+      return;
+    }
 
     state.resetFailedAttempts();
 
@@ -242,7 +275,8 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
           });
     } else {
       if (!state.hasActiveRequests()) {
-        jobTypeState.remove(jobType);
+        jobTypeState.remove(stateKey);
+        multiTypeStateKeys.remove(stateKey);
       }
     }
   }
@@ -255,7 +289,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
             + " be kept open until a new job of this type is created or until timeout of '{}'.",
         request.getWorker(),
         request.getMaxJobsToActivate(),
-        request.getType(),
+        getStateKey(request),
         request.getLongPollingTimeout(longPollingTimeout));
     state.enqueueRequest(request);
   }
@@ -307,6 +341,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private boolean queryPartitionsInParallel;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -328,10 +363,19 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       return this;
     }
 
+    public Builder setQueryPartitionsInParallel(final boolean queryPartitionsInParallel) {
+      this.queryPartitionsInParallel = queryPartitionsInParallel;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          queryPartitionsInParallel);
     }
   }
 }
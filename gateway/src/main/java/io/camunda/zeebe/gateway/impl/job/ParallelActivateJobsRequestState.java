@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Tracks an activate jobs request which queries all partitions at once. The jobs to activate are
+ * split over the partitions of a round, such that all of them together never activate more jobs
+ * than requested. A partition which activated as many jobs as it was asked for, or which truncated
+ * its batch, may have more jobs available; it is queried again in the next round, after the
+ * partitions which weren't queried yet. Rounds are repeated until enough jobs were activated or no
+ * partition is left to query.
+ */
+public final class ParallelActivateJobsRequestState {
+
+  private final Deque<Integer> partitionIds;
+  private int remainingAmount;
+  private int pendingResponses;
+  private boolean resourceExhaustedWasPresent;
+  private boolean completed;
+
+  public ParallelActivateJobsRequestState(
+      final Collection<Integer> partitionIds, final int remainingAmount) {
+    this.partitionIds = new ArrayDeque<>(partitionIds);
+    this.remainingAmount = remainingAmount;
+  }
+
+  /**
+   * Starts the next round of requests.
+   *
+   * @return the requests to send in this round, or an empty list if no more jobs should be
+   *     activated
+   */
+  public List<PartitionRequest> nextRound() {
+    final var partitionCount = Math.min(partitionIds.size(), remainingAmount);
+    if (partitionCount <= 0) {
+      return List.of();
+    }
+
+    final var amountPerPartition = remainingAmount / partitionCount;
+    final var partitionsWithOneMore = remainingAmount % partitionCount;
+    final var requests = new ArrayList<PartitionRequest>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      final var amount = amountPerPartition + (i < partitionsWithOneMore ? 1 : 0);
+      requests.add(new PartitionRequest(partitionIds.poll(), amount));
+    }
+
+    pendingResponses = partitionCount;
+    return requests;
+  }
+
+  public void onJobsActivated(
+      final PartitionRequest request, final int activatedJobs, final boolean truncated) {
+    pendingResponses--;
+    remainingAmount -= activatedJobs;
+    if (activatedJobs >= request.maxJobsToActivate() || truncated) {
+      partitionIds.offer(request.partitionId());
+    }
+  }
+
+  public void onFailure(final boolean resourceExhausted) {
+    pendingResponses--;
+    resourceExhaustedWasPresent |= resourceExhausted;
+  }
+
+  public boolean isRoundCompleted() {
+    return pendingResponses == 0;
+  }
+
+  public int getRemainingAmount() {
+    return remainingAmount;
+  }
+
+  public boolean wasResourceExhaustedPresent() {
+    return resourceExhaustedWasPresent;
+  }
+
+  /** Marks the request as completed; responses which arrive afterwards are not sent anymore. */
+  public void complete() {
+    completed = true;
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  public record PartitionRequest(int partitionId, int maxJobsToActivate) {}
+}
@@ -23,6 +23,7 @@ import io.camunda.zeebe.gateway.impl.broker.RoundRobinDispatchStrategy;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.job.ParallelActivateJobsRequestState.PartitionRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
@@ -31,6 +32,7 @@ import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
 import io.grpc.protobuf.StatusProto;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,6 +42,11 @@ import java.util.function.Consumer;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>If partitions are queried in parallel, the request is sent to all partitions at once instead,
+ * splitting the jobs to activate over them; see {@link ParallelActivateJobsRequestState}. The
+ * round-robin order then only decides which partitions are asked for more jobs if the amount can't
+ * be split evenly.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
@@ -51,11 +58,18 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final boolean queryPartitionsInParallel;
 
   private ActorControl actor;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, false);
+  }
+
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient, final boolean queryPartitionsInParallel) {
     this.brokerClient = brokerClient;
+    this.queryPartitionsInParallel = queryPartitionsInParallel;
     topologyManager = brokerClient.getTopologyManager();
   }
 
@@ -88,6 +102,16 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     final var maxJobsToActivate = request.getMaxJobsToActivate();
     final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
 
+    if (queryPartitionsInParallel) {
+      final var partitionIds = new ArrayList<Integer>(partitionsCount);
+      partitionIterator.forEachRemaining(partitionIds::add);
+      final var requestState =
+          new ParallelActivateJobsRequestState(partitionIds, maxJobsToActivate);
+      activateJobsInParallel(
+          request, requestState, new ResponseObserverDelegate(onError, onCompleted));
+      return;
+    }
+
     final var requestState =
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
@@ -149,7 +173,8 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         () -> {
           final var response = brokerResponse.getResponse();
           final ActivateJobsResponse grpcResponse =
-              ResponseMapper.toActivateJobsResponse(brokerResponse.getKey(), response);
+              ResponseMapper.toActivateJobsResponse(
+                  brokerResponse.getKey(), response, request.isBinaryVariables());
           final var jobsCount = grpcResponse.getJobsCount();
           final var jobsActivated = jobsCount > 0;
 
@@ -179,6 +204,122 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         });
   }
 
+  private void activateJobsInParallel(
+      final InflightActivateJobsRequest request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate) {
+    actor.run(
+        () -> {
+          if (!request.isOpen()) {
+            requestState.complete();
+            return;
+          }
+
+          final var partitionRequests = requestState.nextRound();
+          if (partitionRequests.isEmpty()) {
+            // enough jobs activated or no more partitions left to check
+            requestState.complete();
+            delegate.onCompleted(
+                requestState.getRemainingAmount(), requestState.wasResourceExhaustedPresent());
+            return;
+          }
+
+          for (final var partitionRequest : partitionRequests) {
+            // every partition needs its own request, as they are all in flight at the same time
+            final var brokerRequest =
+                request.newRequest().setMaxJobsToActivate(partitionRequest.maxJobsToActivate());
+            brokerRequest.setPartitionId(partitionRequest.partitionId());
+
+            brokerClient
+                .sendRequest(brokerRequest)
+                .whenComplete(
+                    (brokerResponse, error) ->
+                        actor.run(
+                            () ->
+                                handleParallelResponse(
+                                    request,
+                                    requestState,
+                                    delegate,
+                                    partitionRequest,
+                                    brokerResponse,
+                                    error)));
+          }
+        });
+  }
+
+  private void handleParallelResponse(
+      final InflightActivateJobsRequest request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final PartitionRequest partitionRequest,
+      final BrokerResponse<JobBatchRecord> brokerResponse,
+      final Throwable error) {
+    if (error != null) {
+      handleParallelResponseError(request, requestState, delegate, partitionRequest, error);
+      return;
+    }
+
+    final var response = brokerResponse.getResponse();
+    final ActivateJobsResponse grpcResponse =
+        ResponseMapper.toActivateJobsResponse(
+            brokerResponse.getKey(), response, request.isBinaryVariables());
+    final var jobsCount = grpcResponse.getJobsCount();
+
+    if (jobsCount > 0) {
+      final Either<Exception, Boolean> result =
+          requestState.isCompleted()
+              ? Either.right(false)
+              : request.tryToSendActivatedJobs(grpcResponse);
+
+      if (!result.getOrElse(false)) {
+        final var reason = createReasonMessage(result);
+        logResponseNotSent(request.getType(), response.getJobKeys(), reason);
+        reactivateJobs(grpcResponse.getJobsList(), reason);
+
+        if (!requestState.isCompleted()) {
+          requestState.complete();
+          cancelActivateJobsRequest(reason, delegate);
+        }
+        return;
+      }
+    }
+
+    requestState.onJobsActivated(partitionRequest, jobsCount, response.getTruncated());
+    continueWithNextRound(request, requestState, delegate);
+  }
+
+  private void handleParallelResponseError(
+      final InflightActivateJobsRequest request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final PartitionRequest partitionRequest,
+      final Throwable error) {
+    if (isRejection(error)) {
+      if (!requestState.isCompleted()) {
+        requestState.complete();
+        delegate.onError(error);
+      }
+      return;
+    }
+
+    final var wasResourceExhausted = wasResourceExhausted(error);
+    if (!wasResourceExhausted) {
+      logErrorResponse(partitionRequest.partitionId(), request.getType(), error);
+    }
+
+    requestState.onFailure(wasResourceExhausted);
+    continueWithNextRound(request, requestState, delegate);
+  }
+
+  private void continueWithNextRound(
+      final InflightActivateJobsRequest request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate) {
+    if (requestState.isRoundCompleted() && !requestState.isCompleted()) {
+      activateJobsInParallel(request, requestState, delegate);
+    }
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
@@ -13,6 +13,7 @@ import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
 import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
@@ -107,6 +108,14 @@ public class ActivateJobsStub
         requestDto.getMaxJobsToActivate(),
         requestDto.getTypeBuffer(),
         requestDto.getWorkerBuffer());
+    for (final StringValue additionalType : requestDto.additionalTypes()) {
+      addJobs(
+          response,
+          partitionId,
+          requestDto.getMaxJobsToActivate() - response.getJobKeys().size(),
+          additionalType.getValue(),
+          requestDto.getWorkerBuffer());
+    }
 
     return new BrokerResponse<>(
         response, partitionId, Protocol.encodePartitionId(partitionId, JOB_BATCH_KEY));
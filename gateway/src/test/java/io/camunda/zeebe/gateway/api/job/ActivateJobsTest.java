@@ -120,6 +120,62 @@ public final class ActivateJobsTest extends GatewayTest {
         .containsExactlyInAnyOrderElementsOf(fetchVariables);
   }
 
+  @Test
+  public void shouldReturnVariablesAsMsgPack() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs("foo", 1);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("foo")
+            .setMaxJobsToActivate(1)
+            .setBinaryVariables(true)
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+    final ActivatedJob job = responses.next().getJobs(0);
+    assertThat(job.getVariables()).isEmpty();
+    assertThat(job.getVariablesMsgPack().toByteArray())
+        .isEqualTo(BufferUtil.bufferAsArray(ActivateJobsStub.VARIABLES_MSGPACK));
+    JsonUtil.assertEquality(job.getCustomHeaders(), stub.getCustomHeaders());
+  }
+
+  @Test
+  public void shouldActivateJobsOfAdditionalTypes() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs("foo", 1);
+    stub.addAvailableJobs("bar", 2);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType("foo")
+            .addAdditionalType("bar")
+            .setMaxJobsToActivate(3)
+            .build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+    assertThat(responses.next().getJobsList())
+        .extracting(ActivatedJob::getType)
+        .containsExactly("foo", "bar", "bar");
+
+    final BrokerActivateJobsRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getRequestWriter().additionalTypes())
+        .extracting(v -> BufferUtil.bufferAsString(v.getValue()))
+        .containsExactly("bar");
+  }
+
   @Test
   public void shouldActivateJobsRoundRobin() {
     // given
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.grpc.Status.Code;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldSendOneBatchCommandPerPartition() {
+    // given
+    final JobBatchCommandStub stub = new JobBatchCommandStub();
+    stub.registerWith(brokerClient);
+
+    final long firstJobKey = Protocol.encodePartitionId(2, 1);
+    final long secondJobKey = Protocol.encodePartitionId(1, 2);
+    final long thirdJobKey = Protocol.encodePartitionId(2, 3);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(firstJobKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(secondJobKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(thirdJobKey))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    final List<BrokerCompleteJobsRequest> brokerRequests =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerCompleteJobsRequest.class::cast)
+            .collect(Collectors.toList());
+    assertThat(brokerRequests)
+        .extracting(
+            BrokerCompleteJobsRequest::getPartitionId,
+            brokerRequest -> brokerRequest.getRequestWriter().getJobKeys())
+        .containsExactly(
+            tuple(1, List.of(secondJobKey)), tuple(2, List.of(firstJobKey, thirdJobKey)));
+    assertThat(brokerRequests)
+        .extracting(BrokerCompleteJobsRequest::getIntent)
+        .containsOnly(JobBatchIntent.COMPLETE);
+
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey, JobCommandResult::getCode)
+        .containsExactly(
+            tuple(firstJobKey, Code.OK.value()),
+            tuple(secondJobKey, Code.OK.value()),
+            tuple(thirdJobKey, Code.OK.value()));
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    final long completedJobKey = Protocol.encodePartitionId(1, 1);
+    final long missingJobKey = Protocol.encodePartitionId(1, 2);
+    final JobBatchCommandStub stub =
+        new JobBatchCommandStub().rejectJob(missingJobKey, RejectionType.NOT_FOUND, "expected");
+    stub.registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(missingJobKey))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(completedJobKey))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(brokerClient.getBrokerRequests()).hasSize(1);
+    assertThat(response.getResultsList()).hasSize(2);
+    assertThat(response.getResults(0).getJobKey()).isEqualTo(missingJobKey);
+    assertThat(response.getResults(0).getCode()).isEqualTo(Code.NOT_FOUND.value());
+    assertThat(response.getResults(0).getMessage()).contains("expected");
+    assertThat(response.getResults(1).getJobKey()).isEqualTo(completedJobKey);
+    assertThat(response.getResults(1).getCode()).isEqualTo(Code.OK.value());
+    assertThat(response.getResults(1).getMessage()).isEmpty();
+  }
+
+  @Test
+  public void shouldRespondToEmptyRequest() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.grpc.Status.Code;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class FailJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    final JobBatchCommandStub stub = new JobBatchCommandStub();
+    stub.registerWith(brokerClient);
+
+    final long firstJobKey = Protocol.encodePartitionId(1, 1);
+    final long secondJobKey = Protocol.encodePartitionId(2, 2);
+    final long thirdJobKey = Protocol.encodePartitionId(1, 3);
+
+    final FailJobsRequest request =
+        FailJobsRequest.newBuilder()
+            .addJobs(
+                FailJobRequest.newBuilder()
+                    .setJobKey(firstJobKey)
+                    .setRetries(1)
+                    .setErrorMessage("first"))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(secondJobKey).setRetries(2))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(thirdJobKey).setRetries(3))
+            .build();
+
+    // when
+    final FailJobsResponse response = client.failJobs(request);
+
+    // then
+    final List<BrokerFailJobsRequest> brokerRequests =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerFailJobsRequest.class::cast)
+            .collect(Collectors.toList());
+    assertThat(brokerRequests)
+        .extracting(
+            BrokerFailJobsRequest::getPartitionId,
+            brokerRequest -> brokerRequest.getRequestWriter().getJobKeys())
+        .containsExactly(
+            tuple(1, List.of(firstJobKey, thirdJobKey)), tuple(2, List.of(secondJobKey)));
+    assertThat(brokerRequests)
+        .extracting(BrokerFailJobsRequest::getIntent)
+        .containsOnly(JobBatchIntent.FAIL);
+    assertThat(brokerRequests.get(0).getRequestWriter().getJobs())
+        .extracting(JobRecordValue::getRetries, JobRecordValue::getErrorMessage)
+        .containsExactly(tuple(1, "first"), tuple(3, ""));
+
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey)
+        .containsExactly(firstJobKey, secondJobKey, thirdJobKey);
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getCode)
+        .containsOnly(Code.OK.value());
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    final long failedJobKey = Protocol.encodePartitionId(1, 1);
+    final long missingJobKey = Protocol.encodePartitionId(2, 2);
+    final JobBatchCommandStub stub =
+        new JobBatchCommandStub().rejectJob(missingJobKey, RejectionType.NOT_FOUND, "expected");
+    stub.registerWith(brokerClient);
+
+    final FailJobsRequest request =
+        FailJobsRequest.newBuilder()
+            .addJobs(FailJobRequest.newBuilder().setJobKey(failedJobKey))
+            .addJobs(FailJobRequest.newBuilder().setJobKey(missingJobKey))
+            .build();
+
+    // when
+    final FailJobsResponse response = client.failJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey, JobCommandResult::getCode)
+        .containsExactly(
+            tuple(failedJobKey, Code.OK.value()), tuple(missingJobKey, Code.NOT_FOUND.value()));
+    assertThat(response.getResults(1).getMessage()).contains("expected");
+  }
+}
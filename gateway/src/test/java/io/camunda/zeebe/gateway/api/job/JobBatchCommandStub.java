@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class JobBatchCommandStub
+    implements RequestStub<BrokerExecuteCommand<JobBatchRecord>, BrokerResponse<JobBatchRecord>> {
+
+  public static final long BATCH_KEY = 123;
+
+  private final Map<Long, RejectionType> rejectionTypes = new HashMap<>();
+  private final Map<Long, String> rejectionReasons = new HashMap<>();
+
+  public JobBatchCommandStub rejectJob(
+      final long jobKey, final RejectionType rejectionType, final String rejectionReason) {
+    rejectionTypes.put(jobKey, rejectionType);
+    rejectionReasons.put(jobKey, rejectionReason);
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<JobBatchRecord> handle(final BrokerExecuteCommand<JobBatchRecord> request)
+      throws Exception {
+    final JobBatchRecord requestValue = (JobBatchRecord) request.getRequestWriter();
+    final JobBatchRecord responseValue = new JobBatchRecord();
+    for (final LongValue jobKey : requestValue.jobKeys()) {
+      responseValue.jobKeys().add().setValue(jobKey.getValue());
+      responseValue
+          .jobResults()
+          .add()
+          .setJobKey(jobKey.getValue())
+          .setRejectionType(rejectionTypes.getOrDefault(jobKey.getValue(), RejectionType.NULL_VAL))
+          .setRejectionReason(rejectionReasons.getOrDefault(jobKey.getValue(), ""));
+    }
+    return new BrokerResponse<>(responseValue, request.getPartitionId(), BATCH_KEY);
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerCompleteJobsRequest.class, this);
+    gateway.registerHandler(BrokerFailJobsRequest.class, this);
+  }
+}
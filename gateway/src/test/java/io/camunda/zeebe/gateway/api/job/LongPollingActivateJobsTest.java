@@ -186,6 +186,27 @@ public final class LongPollingActivateJobsTest {
         .handle(any());
   }
 
+  @Test
+  public void shouldUnblockRequestWhenJobsOfAdditionalTypeAvailable() {
+    // given
+    final String otherType = "other-type";
+    final InflightActivateJobsRequest request =
+        getLongPollingActivateJobsRequest(TYPE, otherType);
+    final StreamObserver<ActivateJobsResponse> responseSpy = request.getResponseObserver();
+
+    handler.activateJobs(request);
+
+    // when
+    waitUntil(request::hasScheduledTimer);
+    activateJobsStub.addAvailableJobs(otherType, 1);
+    brokerClient.notifyJobsAvailable(otherType);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    verify(responseSpy, times(1)).onNext(any());
+    verify(responseSpy, times(1)).onCompleted();
+  }
+
   @Test
   public void shouldCompleteAfterRequestTimeout() {
     // given
@@ -964,11 +985,13 @@ public final class LongPollingActivateJobsTest {
     return getLongPollingActivateJobsRequest(TYPE);
   }
 
-  private InflightActivateJobsRequest getLongPollingActivateJobsRequest(final String jobType) {
+  private InflightActivateJobsRequest getLongPollingActivateJobsRequest(
+      final String jobType, final String... additionalTypes) {
     final var requestId = getNextRequestId();
     final var request =
         ActivateJobsRequest.newBuilder()
             .setType(jobType)
+            .addAllAdditionalType(List.of(additionalTypes))
             .setMaxJobsToActivate(MAX_JOBS_TO_ACTIVATE)
             .build();
     final var responseSpy = spy(ServerStreamObserver.class);
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class ParallelActivateJobsTest extends GatewayTest {
+
+  private static final String TYPE = "test";
+
+  public ParallelActivateJobsTest() {
+    super(getConfig());
+  }
+
+  private static GatewayCfg getConfig() {
+    final var config = new GatewayCfg();
+    config.getLongPolling().setEnabled(false);
+    config.getJobActivation().setQueryPartitionsInParallel(true);
+    return config;
+  }
+
+  @Test
+  public void shouldSplitJobsToActivateOverAllPartitions() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs(TYPE, 0);
+    final var partitionsCount = getPartitionsCount();
+
+    // when
+    final var jobs = activateJobs(2 * partitionsCount + 1);
+
+    // then
+    assertThat(jobs).isEmpty();
+    assertThat(getBrokerRequests())
+        .hasSize(partitionsCount)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .doesNotHaveDuplicates();
+    assertThat(getBrokerRequests())
+        .extracting(request -> request.getRequestWriter().getMaxJobsToActivate())
+        .containsOnly(2, 3)
+        .containsOnlyOnce(3);
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanRequested() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs(TYPE, 100);
+    final var partitionsCount = getPartitionsCount();
+
+    // when
+    final var jobs = activateJobs(partitionsCount + 2);
+
+    // then
+    assertThat(jobs).hasSize(partitionsCount + 2);
+    assertThat(getBrokerRequests()).hasSize(partitionsCount);
+  }
+
+  @Test
+  public void shouldQueryPartitionWithMoreJobsAgain() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    final ActivateJobsStub emptyStub = new ActivateJobsStub();
+    stub.addAvailableJobs(TYPE, 20);
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<?>>)
+            request ->
+                request.getPartitionId() == Protocol.START_PARTITION_ID
+                    ? stub.handle(request)
+                    : emptyStub.handle(request));
+    final var partitionsCount = getPartitionsCount();
+
+    // when
+    final var jobs = activateJobs(2 * partitionsCount);
+
+    // then
+    assertThat(jobs).hasSize(2 * partitionsCount);
+    assertThat(jobs)
+        .extracting(Protocol::decodePartitionId)
+        .containsOnly(Protocol.START_PARTITION_ID);
+    assertThat(getBrokerRequests()).hasSize(partitionsCount + 1);
+  }
+
+  private List<Long> activateJobs(final int maxJobsToActivate) {
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(TYPE)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+
+    final List<Long> jobKeys = new ArrayList<>();
+    client
+        .activateJobs(request)
+        .forEachRemaining(
+            response -> response.getJobsList().forEach(job -> jobKeys.add(job.getKey())));
+    return jobKeys;
+  }
+
+  private int getPartitionsCount() {
+    return brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+  }
+
+  private List<BrokerActivateJobsRequest> getBrokerRequests() {
+    final List<BrokerActivateJobsRequest> requests = new ArrayList<>();
+    for (final BrokerRequest<?> request : brokerClient.getBrokerRequests()) {
+      requests.add((BrokerActivateJobsRequest) request);
+    }
+    return requests;
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamJobsRequest;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class StreamJobsTest {
+
+  private static final String TYPE = "test";
+  private static final String WORKER = "worker";
+  private static final long TIMEOUT = 1000L;
+
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final RecordingResponseObserver responseObserver = new RecordingResponseObserver();
+  private ActivateJobsStub activateJobsStub;
+  private JobStreamHandler handler;
+  private int partitionsCount;
+
+  @Before
+  public void setup() {
+    handler = new JobStreamHandler(brokerClient, false);
+    submitActorToStreamJobs(handler);
+
+    activateJobsStub = spy(new ActivateJobsStub());
+    activateJobsStub.registerWith(brokerClient);
+    activateJobsStub.addAvailableJobs(TYPE, 0);
+
+    partitionsCount = brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+  }
+
+  @Test
+  public void shouldPushAvailableJobsWhenStreamIsOpened() {
+    // given
+    activateJobsStub.addAvailableJobs(TYPE, 2);
+
+    // when
+    final var requestObserver = handler.openStream(responseObserver);
+    requestObserver.onNext(streamJobsRequest(5));
+
+    // then
+    Awaitility.await().until(() -> responseObserver.jobs.size() == 2);
+    assertThat(responseObserver.jobs)
+        .allSatisfy(
+            job -> {
+              assertThat(job.getType()).isEqualTo(TYPE);
+              assertThat(job.getWorker()).isEqualTo(WORKER);
+            });
+  }
+
+  @Test
+  public void shouldPushJobsWhenNotifiedAboutAvailableJobs() throws Exception {
+    // given
+    final var requestObserver = handler.openStream(responseObserver);
+    requestObserver.onNext(streamJobsRequest(5));
+    verify(activateJobsStub, timeout(2000).times(partitionsCount)).handle(any());
+
+    // when
+    activateJobsStub.addAvailableJobs(TYPE, 3);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    Awaitility.await().until(() -> responseObserver.jobs.size() == 3);
+  }
+
+  @Test
+  public void shouldNotPushJobsWhenNotifiedAboutOtherType() throws Exception {
+    // given
+    final var requestObserver = handler.openStream(responseObserver);
+    requestObserver.onNext(streamJobsRequest(5));
+    verify(activateJobsStub, timeout(2000).times(partitionsCount)).handle(any());
+
+    // when
+    activateJobsStub.addAvailableJobs("other", 3);
+    brokerClient.notifyJobsAvailable("other");
+
+    // then
+    verify(activateJobsStub, timeout(500).times(partitionsCount)).handle(any());
+    assertThat(responseObserver.jobs).isEmpty();
+  }
+
+  @Test
+  public void shouldNotPushMoreJobsThanCapacity() throws Exception {
+    // given
+    activateJobsStub.addAvailableJobs(TYPE, 5);
+    final var requestObserver = handler.openStream(responseObserver);
+    requestObserver.onNext(streamJobsRequest(2));
+    Awaitility.await().until(() -> responseObserver.jobs.size() == 2);
+    verify(activateJobsStub, timeout(2000).times(1)).handle(any());
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(activateJobsStub, timeout(500).times(1)).handle(any());
+    assertThat(responseObserver.jobs).hasSize(2);
+  }
+
+  @Test
+  public void shouldPushJobsWhenCapacityIsAdded() {
+    // given
+    activateJobsStub.addAvailableJobs(TYPE, 5);
+    final var requestObserver = handler.openStream(responseObserver);
+    requestObserver.onNext(streamJobsRequest(2));
+    Awaitility.await().until(() -> responseObserver.jobs.size() == 2);
+
+    // when
+    requestObserver.onNext(StreamJobsRequest.newBuilder().setCapacity(3).build());
+
+    // then
+    Awaitility.await().until(() -> responseObserver.jobs.size() == 5);
+  }
+
+  @Test
+  public void shouldNotPushJobsAfterStreamIsCompleted() throws Exception {
+    // given
+    final var requestObserver = handler.openStream(responseObserver);
+    requestObserver.onNext(streamJobsRequest(5));
+    verify(activateJobsStub, timeout(2000).times(partitionsCount)).handle(any());
+
+    // when
+    requestObserver.onCompleted();
+    Awaitility.await().until(() -> responseObserver.isCompleted);
+    activateJobsStub.addAvailableJobs(TYPE, 3);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(activateJobsStub, timeout(500).times(partitionsCount)).handle(any());
+    assertThat(responseObserver.jobs).isEmpty();
+  }
+
+  @Test
+  public void shouldCloseStreamOnNegativeCapacity() {
+    // given
+    final var requestObserver = handler.openStream(responseObserver);
+
+    // when
+    requestObserver.onNext(streamJobsRequest(-1));
+
+    // then
+    Awaitility.await().until(() -> responseObserver.error != null);
+    assertThat(responseObserver.error)
+        .isInstanceOf(StatusException.class)
+        .extracting(error -> ((StatusException) error).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+  }
+
+  private StreamJobsRequest streamJobsRequest(final int capacity) {
+    return StreamJobsRequest.newBuilder()
+        .setType(TYPE)
+        .setWorker(WORKER)
+        .setTimeout(TIMEOUT)
+        .setCapacity(capacity)
+        .build();
+  }
+
+  private void submitActorToStreamJobs(final JobStreamHandler handler) {
+    final var future = new CompletableFuture<>();
+    final var actor =
+        Actor.newActor()
+            .name("JobStreamHandler-Test")
+            .actorStartedHandler(handler.andThen(future::complete))
+            .build();
+    actorSchedulerRule.submitActor(actor);
+    future.join();
+  }
+
+  private static final class RecordingResponseObserver
+      implements ServerStreamObserver<ActivateJobsResponse> {
+
+    private final List<ActivatedJob> jobs = new CopyOnWriteArrayList<>();
+    private volatile Throwable error;
+    private volatile boolean isCompleted;
+
+    @Override
+    public void onNext(final ActivateJobsResponse response) {
+      jobs.addAll(response.getJobsList());
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onCompleted() {
+      isCompleted = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.camunda.zeebe.gateway.GatewayGrpcService;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
@@ -48,9 +49,14 @@ public final class StubbedGateway {
 
   public void start() throws IOException {
     final var activateJobsHandler = buildActivateJobsHandler(brokerClient);
-    submitActorToActivateJobs((Consumer<ActorControl>) activateJobsHandler);
+    submitActor("ActivateJobsHandler", (Consumer<ActorControl>) activateJobsHandler);
 
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    final var jobStreamHandler =
+        new JobStreamHandler(brokerClient, config.getJobActivation().isQueryPartitionsInParallel());
+    submitActor("JobStreamHandler", jobStreamHandler);
+
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     final InProcessServerBuilder serverBuilder =
@@ -76,11 +82,11 @@ public final class StubbedGateway {
     return GatewayGrpc.newBlockingStub(channel);
   }
 
-  private void submitActorToActivateJobs(final Consumer<ActorControl> consumer) {
+  private void submitActor(final String name, final Consumer<ActorControl> consumer) {
     final var future = new CompletableFuture<>();
     final var actor =
         Actor.newActor()
-            .name("ActivateJobsHandler")
+            .name(name)
             .actorStartedHandler(consumer.andThen(future::complete))
             .build();
     actorScheduler.submitActor(actor);
@@ -88,14 +94,19 @@ public final class StubbedGateway {
   }
 
   private ActivateJobsHandler buildActivateJobsHandler(final BrokerClient brokerClient) {
+    final var queryPartitionsInParallel = config.getJobActivation().isQueryPartitionsInParallel();
     if (config.getLongPolling().isEnabled()) {
-      return buildLongPollingHandler(brokerClient);
+      return buildLongPollingHandler(brokerClient, queryPartitionsInParallel);
     } else {
-      return new RoundRobinActivateJobsHandler(brokerClient);
+      return new RoundRobinActivateJobsHandler(brokerClient, queryPartitionsInParallel);
     }
   }
 
-  private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+  private LongPollingActivateJobsHandler buildLongPollingHandler(
+      final BrokerClient brokerClient, final boolean queryPartitionsInParallel) {
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setQueryPartitionsInParallel(queryPartitionsInParallel)
+        .build();
   }
 }
@@ -31,6 +31,16 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given entry regardless of the density of the index, e.g. to restore the entries of
+   * a segment from its persisted index.
+   *
+   * @param index the index of the record
+   * @param position the position of the record with in its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
   /**
    * Looks up the position of the given index.
    *
@@ -58,6 +68,16 @@ interface JournalIndex {
    */
   Long lookupAsqn(long asqn, long indexUpperBound);
 
+  /**
+   * Passes the entries with an index between the given indexes, both inclusive, to the consumer in
+   * ascending order.
+   *
+   * @param fromIndex the lowest index of the entries
+   * @param toIndex the highest index of the entries
+   * @param consumer the consumer of the entries
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
   /**
    * Delete all entries after the given index.
    *
@@ -78,4 +98,15 @@ interface JournalIndex {
 
   /** Delete all index mappings */
   void clear();
+
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+
+    /**
+     * @param index the index of the record
+     * @param position the position of the record with in its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void accept(long index, int position, long asqn);
+  }
 }
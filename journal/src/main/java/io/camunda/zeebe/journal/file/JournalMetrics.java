@@ -46,6 +46,23 @@ class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram FLUSHED_RECORDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flushed_records")
+          .help("Number of records which were flushed to disk at once")
+          .labelNames(PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000)
+          .register();
+
+  private static final Histogram SEGMENT_PREALLOCATION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_preallocation_time")
+          .help("Time spend to preallocate the file of the next segment in the background")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -75,10 +92,18 @@ class JournalMetrics {
     SEGMENT_FLUSH_TIME.labels(logName).time(segmentFlush);
   }
 
+  public void observeFlushedRecords(final long flushedRecords) {
+    FLUSHED_RECORDS.labels(logName).observe(flushedRecords);
+  }
+
   public void observeSegmentTruncation(final Runnable segmentTruncation) {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
 
+  public Histogram.Timer startSegmentPreallocationTimer() {
+    return SEGMENT_PREALLOCATION_TIME.labels(logName).startTimer();
+  }
+
   public Timer startJournalOpenDurationTimer() {
     return JOURNAL_OPEN_DURATION.labels(logName).startTimer();
   }
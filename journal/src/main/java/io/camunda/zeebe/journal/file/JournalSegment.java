@@ -234,6 +234,7 @@ class JournalSegment implements AutoCloseable {
     writer.close();
     final var target = file.getFileMarkedForDeletion();
     try {
+      SegmentIndexFile.delete(file.indexFile());
       FileUtil.moveDurably(file.file().toPath(), target);
     } catch (final IOException e) {
       throw new JournalException(e);
@@ -33,6 +33,8 @@ final class JournalSegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
+  private static final String PREALLOCATED_EXTENSION = "preallocated";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -107,6 +109,17 @@ final class JournalSegmentFile {
             EXTENSION));
   }
 
+  /**
+   * Creates the file of a segment which is prepared in the background, before it becomes a segment
+   * file. See {@link SegmentPreallocator}.
+   */
+  static File createPreallocatedSegmentFile(
+      final String name, final File directory, final long id) {
+    final File segmentFile = createSegmentFile(name, directory, id);
+    return new File(
+        directory, segmentFile.getName() + EXTENSION_SEPARATOR + PREALLOCATED_EXTENSION);
+  }
+
   /**
    * Returns the segment file.
    *
@@ -120,6 +133,18 @@ final class JournalSegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the file of the persisted index of the segment.
+   *
+   * @return The index file, see {@link SegmentIndexFile}.
+   */
+  public Path indexFile() {
+    final String name = file.getName();
+    final String indexFileName =
+        name.substring(0, name.lastIndexOf(EXTENSION_SEPARATOR) + 1) + INDEX_EXTENSION;
+    return Path.of(file.getParent(), indexFileName);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -141,4 +166,15 @@ final class JournalSegmentFile {
     final var deleteExtensionIndex = fileName.lastIndexOf(DELETE_EXTENSION_SEPARATOR);
     return isSegmentFile(journalName, fileName.substring(0, deleteExtensionIndex));
   }
+
+  public static boolean isPreallocatedSegmentFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    if (!fileName.endsWith(EXTENSION_SEPARATOR + PREALLOCATED_EXTENSION)) {
+      return false;
+    }
+    final var preallocatedExtensionIndex = fileName.lastIndexOf(EXTENSION_SEPARATOR);
+    return isSegmentFile(journalName, fileName.substring(0, preallocatedExtensionIndex));
+  }
 }
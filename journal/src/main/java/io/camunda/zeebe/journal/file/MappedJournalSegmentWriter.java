@@ -16,6 +16,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
@@ -28,20 +29,26 @@ import io.camunda.zeebe.journal.file.record.RecordData;
 import io.camunda.zeebe.journal.file.record.RecordMetadata;
 import io.camunda.zeebe.journal.file.record.SBESerializer;
 import io.camunda.zeebe.util.Either;
+import java.io.IOException;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Segment writer. */
 class MappedJournalSegmentWriter {
 
+  private static final Logger LOG = LoggerFactory.getLogger(MappedJournalSegmentWriter.class);
+
   private final MappedByteBuffer buffer;
   private final JournalSegment segment;
   private final JournalIndex index;
   private final long firstIndex;
   private JournalRecord lastEntry;
+  private int lastEntryPosition;
   private boolean isOpen = true;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
@@ -61,7 +68,9 @@ class MappedJournalSegmentWriter {
     firstIndex = segment.index();
     this.buffer = buffer;
     writeBuffer.wrap(buffer);
-    reset(0, lastWrittenIndex);
+    if (!restoreIndex()) {
+      reset(0, lastWrittenIndex);
+    }
   }
 
   public long getLastIndex() {
@@ -80,6 +89,11 @@ class MappedJournalSegmentWriter {
     }
   }
 
+  /** Returns the position after the last written record, i.e. the number of used bytes. */
+  public int getPosition() {
+    return buffer.position();
+  }
+
   public Either<SegmentFull, JournalRecord> append(final long asqn, final DirectBuffer data) {
     // Store the entry index.
     final long recordIndex = getNextIndex();
@@ -165,6 +179,7 @@ class MappedJournalSegmentWriter {
         serializer.readData(
             writeBuffer, startPosition + frameLength + metadataLength, recordLength);
     lastEntry = new PersistedJournalRecord(metadata, data);
+    lastEntryPosition = startPosition;
     index.index(lastEntry, startPosition);
   }
 
@@ -210,6 +225,7 @@ class MappedJournalSegmentWriter {
         // read version so that buffer's position is advanced
         FrameUtil.readVersion(buffer);
         lastEntry = recordUtil.read(buffer, nextIndex);
+        lastEntryPosition = position;
         nextIndex++;
         this.index.index(lastEntry, position);
         buffer.mark();
@@ -246,6 +262,10 @@ class MappedJournalSegmentWriter {
       return;
     }
 
+    // The persisted index doesn't match the segment anymore; it's written again once the segment
+    // is full.
+    deletePersistedIndex();
+
     // Reset the last entry.
     lastEntry = null;
 
@@ -265,6 +285,92 @@ class MappedJournalSegmentWriter {
     buffer.force();
   }
 
+  /**
+   * Persists the index entries of the segment, such that the segment doesn't need to be scanned
+   * when the journal is opened again. Must only be called once the segment is full, i.e. when the
+   * next segment is created. A failure is only logged, since the index can be rebuilt anyway.
+   */
+  public void persistIndex() {
+    if (lastEntry == null) {
+      return;
+    }
+
+    final var indexFile = segment.file().indexFile();
+    try {
+      SegmentIndexFile.write(
+          indexFile, firstIndex, lastEntry.index(), lastEntryPosition, this.index);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist the index of segment {} to {}, it will be rebuilt on restart",
+          segment,
+          indexFile,
+          e);
+    }
+  }
+
+  /**
+   * Restores the index entries of the segment from its persisted index, if there is one, instead of
+   * scanning the segment. The persisted index is only used if its last record is still the last
+   * record of the segment.
+   *
+   * @return true if the index was restored, false if the segment must be scanned
+   */
+  private boolean restoreIndex() {
+    final SegmentIndexFile persistedIndex;
+    try {
+      final var indexFile = SegmentIndexFile.read(segment.file().indexFile());
+      if (indexFile.isEmpty()) {
+        return false;
+      }
+      persistedIndex = indexFile.get();
+    } catch (final IOException e) {
+      LOG.warn("Failed to read the persisted index of segment {}, scanning it instead", segment, e);
+      return false;
+    }
+
+    final int lastPosition = persistedIndex.lastPosition();
+    if (persistedIndex.firstIndex() != firstIndex
+        || persistedIndex.lastIndex() < firstIndex
+        || lastPosition < descriptorLength
+        || lastPosition >= buffer.capacity()) {
+      return false;
+    }
+
+    try {
+      buffer.position(lastPosition);
+      if (!FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+      FrameUtil.readVersion(buffer);
+      final var persistedLastEntry = recordUtil.read(buffer, persistedIndex.lastIndex());
+      if (FrameUtil.hasValidVersion(buffer)) {
+        // records were appended after the index was persisted
+        return false;
+      }
+
+      lastEntry = persistedLastEntry;
+      lastEntryPosition = lastPosition;
+    } catch (final CorruptedLogException | InvalidIndex | BufferUnderflowException e) {
+      LOG.debug("Persisted index of segment {} is outdated, scanning it instead", segment, e);
+      return false;
+    } finally {
+      if (lastEntry == null) {
+        buffer.position(descriptorLength);
+      }
+    }
+
+    persistedIndex.restoreTo(index);
+    return true;
+  }
+
+  private void deletePersistedIndex() {
+    try {
+      SegmentIndexFile.delete(segment.file().indexFile());
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+  }
+
   public void close() {
     if (isOpen) {
       isOpen = false;
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * The persisted index of a sealed segment, i.e. of a segment which is full and isn't appended to
+ * anymore. It's written next to the segment when the next segment is created, and contains the
+ * index entries of the segment and the position of its last record. When the journal is opened, a
+ * segment with a persisted index doesn't need to be scanned to rebuild its index; only its last
+ * record is read, to verify that the persisted index is still up to date.
+ *
+ * <p>The file consists of the version, the first and last index of the segment, the position of
+ * the last record, the number of entries, the entries (index, position, asqn), and the checksum of
+ * all previous bytes. A file which is incomplete or doesn't match its checksum is ignored.
+ */
+final class SegmentIndexFile {
+
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH = 3 * Integer.BYTES + 2 * Long.BYTES;
+  private static final int ENTRY_LENGTH = Integer.BYTES + 2 * Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final ByteBuffer entries;
+
+  private SegmentIndexFile(
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final ByteBuffer entries) {
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.entries = entries;
+  }
+
+  /**
+   * Writes the entries of the given index between the first and the last index of the segment to
+   * the file. The file isn't flushed durably, so that creating the next segment doesn't wait for
+   * it; if it's lost or incomplete, the segment is scanned again.
+   */
+  static void write(
+      final Path file,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex index)
+      throws IOException {
+    final int[] entryCount = new int[1];
+    index.forEach(firstIndex, lastIndex, (i, position, asqn) -> entryCount[0]++);
+
+    final int checksumOffset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(checksumOffset + CHECKSUM_LENGTH)
+            .order(ENDIANNESS)
+            .putInt(VERSION)
+            .putLong(firstIndex)
+            .putLong(lastIndex)
+            .putInt(lastPosition)
+            .putInt(entryCount[0]);
+    index.forEach(
+        firstIndex,
+        lastIndex,
+        (i, position, asqn) -> buffer.putLong(i).putInt(position).putLong(asqn));
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, checksumOffset));
+    buffer.flip();
+
+    try (final var channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * Reads the persisted index from the given file.
+   *
+   * @return the persisted index, or nothing if the file doesn't exist or isn't valid
+   */
+  static Optional<SegmentIndexFile> read(final Path file) throws IOException {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    }
+
+    if (buffer.capacity() < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.getInt(0) != VERSION) {
+      return Optional.empty();
+    }
+
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    final long checksumOffset = HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH;
+    if (entryCount < 0 || checksumOffset + CHECKSUM_LENGTH != buffer.capacity()) {
+      return Optional.empty();
+    }
+
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, (int) checksumOffset);
+    if (checksum != buffer.getLong((int) checksumOffset)) {
+      return Optional.empty();
+    }
+
+    buffer.position(Integer.BYTES);
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final ByteBuffer entries =
+        buffer.position(HEADER_LENGTH).limit((int) checksumOffset).slice().order(ENDIANNESS);
+    return Optional.of(new SegmentIndexFile(firstIndex, lastIndex, lastPosition, entries));
+  }
+
+  /** Deletes the persisted index, if it exists. */
+  static void delete(final Path file) throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  long firstIndex() {
+    return firstIndex;
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastPosition() {
+    return lastPosition;
+  }
+
+  /** Adds the persisted entries to the given index. */
+  void restoreTo(final JournalIndex index) {
+    for (int offset = 0; offset < entries.limit(); offset += ENTRY_LENGTH) {
+      index.restore(
+          entries.getLong(offset),
+          entries.getInt(offset + Long.BYTES),
+          entries.getLong(offset + Long.BYTES + Integer.BYTES));
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares the file of the next segment in the background, while the current segment is still
+ * appended to. The file is created under a temporary name, filled with zeros such that its blocks
+ * are allocated on disk, and mapped. Rolling over to the next segment then only renames the file
+ * and writes the descriptor, instead of creating and mapping the file on the append path.
+ *
+ * <p>A prepared file has no descriptor, so it's never loaded as segment. If the journal is closed
+ * before the file is used, the file is deleted; left over files are deleted when the journal is
+ * opened again.
+ *
+ * <p>The preallocator is not thread-safe; it's used by the thread which appends to the journal.
+ */
+final class SegmentPreallocator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPreallocator.class);
+  private static final int ZEROS_BUFFER_SIZE = 64 * 1024;
+
+  private final String name;
+  private final File directory;
+  private final JournalMetrics metrics;
+  private final ExecutorService executor;
+
+  private CompletableFuture<PreallocatedFile> pendingFile;
+  private long pendingSegmentId;
+
+  SegmentPreallocator(final String name, final File directory, final JournalMetrics metrics) {
+    this.name = name;
+    this.directory = directory;
+    this.metrics = metrics;
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "journal-preallocator-" + name);
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Starts to prepare the file of the segment with the given id in the background, unless it's
+   * already prepared. A file which was prepared for another segment is discarded.
+   */
+  void preallocate(final long segmentId, final int maxSegmentSize) {
+    if (pendingFile != null) {
+      if (pendingSegmentId == segmentId) {
+        return;
+      }
+      discard(pendingFile);
+    }
+
+    final var file = JournalSegmentFile.createPreallocatedSegmentFile(name, directory, segmentId);
+    pendingSegmentId = segmentId;
+    pendingFile = CompletableFuture.supplyAsync(() -> allocate(file, maxSegmentSize), executor);
+  }
+
+  /**
+   * Returns the prepared file of the segment with the given id, if it's ready. Otherwise, the
+   * caller has to create the segment file itself; the pending file is discarded then.
+   *
+   * @return the prepared file, or {@code null} if no file is ready for this segment
+   */
+  PreallocatedFile take(final long segmentId, final int maxSegmentSize) {
+    if (pendingFile == null) {
+      return null;
+    }
+
+    final var file = pendingFile;
+    pendingFile = null;
+    if (pendingSegmentId != segmentId
+        || !file.isDone()
+        || file.isCompletedExceptionally()
+        || file.join().buffer().capacity() != maxSegmentSize) {
+      discard(file);
+      return null;
+    }
+
+    return file.join();
+  }
+
+  void close() {
+    if (pendingFile != null) {
+      discard(pendingFile);
+      pendingFile = null;
+    }
+    executor.shutdown();
+  }
+
+  private PreallocatedFile allocate(final File file, final int maxSegmentSize) {
+    final var timer = metrics.startSegmentPreallocationTimer();
+    try (final var channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final var zeros = ByteBuffer.allocateDirect(ZEROS_BUFFER_SIZE);
+      long position = 0;
+      while (position < maxSegmentSize) {
+        zeros.clear().limit((int) Math.min(ZEROS_BUFFER_SIZE, maxSegmentSize - position));
+        position += channel.write(zeros, position);
+      }
+      channel.force(true);
+
+      final var buffer = channel.map(MapMode.READ_WRITE, 0, maxSegmentSize);
+      return new PreallocatedFile(file, buffer);
+    } catch (final IOException e) {
+      LOG.warn("Failed to preallocate segment file {}", file, e);
+      deleteFile(file);
+      throw new UncheckedIOException(e);
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
+  private static void discard(final CompletableFuture<PreallocatedFile> file) {
+    // the file may still be prepared; it's deleted once it's done
+    file.thenAccept(PreallocatedFile::delete);
+  }
+
+  private static void deleteFile(final File file) {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete preallocated segment file {}. It will be deleted on the next start.",
+          file,
+          e);
+    }
+  }
+
+  /** A prepared segment file, which is filled with zeros and mapped. */
+  static final class PreallocatedFile {
+
+    private final File file;
+    private final MappedByteBuffer buffer;
+
+    private PreallocatedFile(final File file, final MappedByteBuffer buffer) {
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    File file() {
+      return file;
+    }
+
+    MappedByteBuffer buffer() {
+      return buffer;
+    }
+
+    void delete() {
+      IoUtil.unmap(buffer);
+      deleteFile(file);
+    }
+  }
+}
@@ -24,6 +24,7 @@ import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentPreallocator.PreallocatedFile;
 import io.camunda.zeebe.journal.file.record.CorruptedLogException;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.File;
@@ -38,6 +39,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,6 +65,8 @@ public final class SegmentedJournal implements Journal {
   private static final int SEGMENT_BUFFER_FACTOR = 3;
   private static final int FIRST_SEGMENT_ID = 1;
   private static final int INITIAL_INDEX = 1;
+  // the file of the next segment is preallocated once the current segment is filled to this ratio
+  private static final double PREALLOCATION_FILL_RATIO = 0.5;
   private final JournalMetrics journalMetrics;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private final String name;
@@ -77,6 +81,7 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final long lastWrittenIndex;
   private final StampedLock rwlock = new StampedLock();
+  private final SegmentPreallocator preallocator;
 
   public SegmentedJournal(
       final String name,
@@ -84,11 +89,14 @@ public final class SegmentedJournal implements Journal {
       final int maxSegmentSize,
       final long minFreeSpace,
       final JournalIndex journalIndex,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final boolean preallocateSegmentFiles) {
     this.name = checkNotNull(name, "name cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
     this.maxSegmentSize = maxSegmentSize;
     journalMetrics = new JournalMetrics(name);
+    preallocator =
+        preallocateSegmentFiles ? new SegmentPreallocator(name, directory, journalMetrics) : null;
     minFreeDiskSpace = minFreeSpace;
     this.journalIndex = journalIndex;
     this.lastWrittenIndex = lastWrittenIndex;
@@ -236,6 +244,9 @@ public final class SegmentedJournal implements Journal {
             });
     currentSegment = null;
     open = false;
+    if (preallocator != null) {
+      preallocator.close();
+    }
   }
 
   /** Opens the segments. */
@@ -392,6 +403,27 @@ public final class SegmentedJournal implements Journal {
     return currentSegment;
   }
 
+  /**
+   * Starts to prepare the file of the next segment in the background, if segment files are
+   * preallocated. It's called once the current segment is filled beyond the {@link
+   * #getPreallocationThreshold() threshold}, such that the next segment can be created quickly.
+   */
+  synchronized void preallocateNextSegment() {
+    if (preallocator != null && currentSegment != null) {
+      preallocator.preallocate(getLastSegment().descriptor().id() + 1, maxSegmentSize);
+    }
+  }
+
+  /**
+   * Returns the position in the current segment after which the file of the next segment is
+   * preallocated, or {@link Integer#MAX_VALUE} if segment files are not preallocated.
+   */
+  int getPreallocationThreshold() {
+    return preallocator != null
+        ? (int) (maxSegmentSize * PREALLOCATION_FILL_RATIO)
+        : Integer.MAX_VALUE;
+  }
+
   /**
    * Returns the segment following the segment with the given ID.
    *
@@ -538,7 +570,10 @@ public final class SegmentedJournal implements Journal {
     try (final DirectoryStream<Path> segmentsToDelete =
         Files.newDirectoryStream(
             directory.toPath(),
-            path -> JournalSegmentFile.isDeletedSegmentFile(name, path.getFileName().toString()))) {
+            path ->
+                JournalSegmentFile.isDeletedSegmentFile(name, path.getFileName().toString())
+                    || JournalSegmentFile.isPreallocatedSegmentFile(
+                        name, path.getFileName().toString()))) {
       segmentsToDelete.forEach(this::deleteDeferredFile);
     } catch (final IOException e) {
       log.warn(
@@ -652,7 +687,16 @@ public final class SegmentedJournal implements Journal {
     final MappedByteBuffer mappedSegment;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      // a previous segment with the same id may have left its persisted index behind
+      SegmentIndexFile.delete(new JournalSegmentFile(segmentFile).indexFile());
+      final var preallocatedFile =
+          preallocator != null
+              ? preallocator.take(descriptor.id(), descriptor.maxSegmentSize())
+              : null;
+      mappedSegment =
+          preallocatedFile != null
+              ? usePreallocatedFile(segmentFile, descriptor, preallocatedFile)
+              : mapNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(String.format("Failed to map new segment %s", segmentFile), e);
     }
@@ -722,6 +766,37 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  /**
+   * Renames the preallocated file to the segment file, such that only the descriptor needs to be
+   * written. If the segment file exists already, the preallocated file is discarded and the segment
+   * is mapped as usual.
+   */
+  private MappedByteBuffer usePreallocatedFile(
+      final File segmentFile,
+      final JournalSegmentDescriptor descriptor,
+      final PreallocatedFile preallocatedFile)
+      throws IOException {
+    if (segmentFile.exists()) {
+      preallocatedFile.delete();
+      return mapNewSegment(segmentFile, descriptor);
+    }
+
+    try {
+      Files.move(
+          preallocatedFile.file().toPath(),
+          segmentFile.toPath(),
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      log.warn("Failed to use preallocated file for segment {}", segmentFile, e);
+      preallocatedFile.delete();
+      return mapNewSegment(segmentFile, descriptor);
+    }
+
+    final var mappedSegment = preallocatedFile.buffer();
+    mappedSegment.order(ENDIANNESS);
+    return mappedSegment;
+  }
+
   private MappedByteBuffer mapSegment(
       final File segmentFile,
       final JournalSegmentDescriptor descriptor,
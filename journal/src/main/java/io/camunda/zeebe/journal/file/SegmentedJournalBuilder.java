@@ -37,6 +37,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private long lastWrittenIndex = -1L;
+  private boolean preallocateSegmentFiles = false;
 
   protected SegmentedJournalBuilder() {}
 
@@ -128,9 +129,31 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the file of the next segment is prepared in the background, once the current
+   * segment is filled beyond half of its size. The file is then only renamed when the journal rolls
+   * over to the next segment, instead of being created and mapped on the append path.
+   *
+   * <p>By default, segment files are not preallocated.
+   *
+   * @param preallocateSegmentFiles whether to preallocate the file of the next segment
+   * @return the journal builder
+   */
+  public SegmentedJournalBuilder withPreallocateSegmentFiles(
+      final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+    return this;
+  }
+
   public SegmentedJournal build() {
     final JournalIndex journalIndex = new SparseJournalIndex(journalIndexDensity);
     return new SegmentedJournal(
-        name, directory, maxSegmentSize, freeDiskSpace, journalIndex, lastWrittenIndex);
+        name,
+        directory,
+        maxSegmentSize,
+        freeDiskSpace,
+        journalIndex,
+        lastWrittenIndex,
+        preallocateSegmentFiles);
   }
 }
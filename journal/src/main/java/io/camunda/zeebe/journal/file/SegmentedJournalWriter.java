@@ -25,12 +25,17 @@ class SegmentedJournalWriter {
   private final JournalMetrics journalMetrics;
   private JournalSegment currentSegment;
   private MappedJournalSegmentWriter currentWriter;
+  private final int preallocationThreshold;
+  private long lastFlushedIndex;
+  private boolean nextSegmentPreallocated;
 
   public SegmentedJournalWriter(final SegmentedJournal journal) {
     this.journal = journal;
     journalMetrics = journal.getJournalMetrics();
+    preallocationThreshold = journal.getPreallocationThreshold();
     currentSegment = journal.getLastSegment();
     currentWriter = currentSegment.writer();
+    lastFlushedIndex = currentWriter.getLastIndex();
   }
 
   public long getLastIndex() {
@@ -48,6 +53,7 @@ class SegmentedJournalWriter {
   public JournalRecord append(final long asqn, final DirectBuffer data) {
     final var appendResult = currentWriter.append(asqn, data);
     if (appendResult.isRight()) {
+      preallocateNextSegmentIfFilled();
       return appendResult.get();
     }
 
@@ -66,6 +72,7 @@ class SegmentedJournalWriter {
   public void append(final JournalRecord record) {
     final var appendResult = currentWriter.append(record);
     if (appendResult.isRight()) {
+      preallocateNextSegmentIfFilled();
       return;
     }
 
@@ -83,6 +90,8 @@ class SegmentedJournalWriter {
   public void reset(final long index) {
     currentSegment = journal.resetSegments(index);
     currentWriter = currentSegment.writer();
+    nextSegmentPreallocated = false;
+    lastFlushedIndex = Math.min(lastFlushedIndex, index - 1);
   }
 
   public void deleteAfter(final long index) {
@@ -91,14 +100,20 @@ class SegmentedJournalWriter {
       journal.removeSegment(currentSegment);
       currentSegment = journal.getLastSegment();
       currentWriter = currentSegment.writer();
+      nextSegmentPreallocated = false;
     }
 
     // Truncate the current index.
     currentWriter.truncate(index);
+    lastFlushedIndex = Math.min(lastFlushedIndex, index);
   }
 
   public void flush() {
     journalMetrics.observeSegmentFlush(currentWriter::flush);
+
+    final long lastIndex = getLastIndex();
+    journalMetrics.observeFlushedRecords(Math.max(lastIndex - lastFlushedIndex, 0));
+    lastFlushedIndex = lastIndex;
   }
 
   public void close() {
@@ -107,7 +122,16 @@ class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentWriter.flush();
+    currentWriter.persistIndex();
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
+    nextSegmentPreallocated = false;
+  }
+
+  private void preallocateNextSegmentIfFilled() {
+    if (!nextSegmentPreallocated && currentWriter.getPosition() >= preallocationThreshold) {
+      nextSegmentPreallocated = true;
+      journal.preallocateNextSegment();
+    }
   }
 }
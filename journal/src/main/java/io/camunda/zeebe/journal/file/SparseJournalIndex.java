@@ -16,17 +16,32 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every {@code density}th record. Since the records are indexed in ascending order, the
+ * entries are appended to primitive, sorted arrays and looked up by binary search; neither indexing
+ * nor looking up a record allocates, except when the arrays grow.
+ */
 class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+  // index -> position of the indexed records, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index -> asqn of the indexed records with an asqn, sorted by index and by asqn alike, since the
+  // asqn of the records grows with their index
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+  // asqn entries with a lower index are kept on compaction to look up an asqn, but are not returned
+  // when looking up the asqn before an index upper bound
+  private long asqnIndexLowerBound = Long.MIN_VALUE;
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,19 +51,19 @@ class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
-      }
+      add(index, position, indexedEntry.asqn());
     }
   }
 
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    add(index, position, asqn);
+  }
+
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int entry = floor(indexes, size, index);
+    return entry >= 0 ? new IndexInfo(indexes[entry], positions[entry]) : null;
   }
 
   @Override
@@ -58,45 +73,115 @@ class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final int entry = floor(asqns, asqnSize, asqn);
+    if (entry < 0) {
+      return null;
+    }
+
+    if (asqnIndexes[entry] <= indexUpperBound) {
+      return asqnIndexes[entry];
+    }
+
+    final int boundedEntry = floor(asqnIndexes, asqnSize, indexUpperBound);
+    if (boundedEntry < 0 || asqnIndexes[boundedEntry] < asqnIndexLowerBound) {
+      return null;
+    }
+    return asqnIndexes[boundedEntry];
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    int asqnEntry = floor(asqnIndexes, asqnSize, fromIndex - 1) + 1;
+    for (int entry = floor(indexes, size, fromIndex - 1) + 1; entry < size; entry++) {
+      final long index = indexes[entry];
+      if (index > toIndex) {
+        return;
       }
+
+      while (asqnEntry < asqnSize && asqnIndexes[asqnEntry] < index) {
+        asqnEntry++;
+      }
+      final boolean hasAsqn = asqnEntry < asqnSize && asqnIndexes[asqnEntry] == index;
+      consumer.accept(
+          index, positions[entry], hasAsqn ? asqns[asqnEntry] : SegmentedJournal.ASQN_IGNORE);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    size = floor(indexes, size, index) + 1;
+    asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final int deletedEntries = floor(indexes, size, index - 1) + 1;
+    if (deletedEntries > 0) {
+      size -= deletedEntries;
+      System.arraycopy(indexes, deletedEntries, indexes, 0, size);
+      System.arraycopy(positions, deletedEntries, positions, 0, size);
+    }
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    // keep the asqn of the last record before the index, to still find the first remaining record
+    // by an asqn between the two
+    final int asqnFloorEntry = floor(asqnIndexes, asqnSize, index);
+    if (asqnFloorEntry >= 0) {
+      asqnSize -= asqnFloorEntry;
+      System.arraycopy(asqnIndexes, asqnFloorEntry, asqnIndexes, 0, asqnSize);
+      System.arraycopy(asqns, asqnFloorEntry, asqns, 0, asqnSize);
+      asqnIndexLowerBound = Math.max(asqnIndexLowerBound, index);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    size = 0;
+    asqnSize = 0;
+    asqnIndexLowerBound = Long.MIN_VALUE;
+  }
+
+  private void add(final long index, final int position, final long asqn) {
+    // a record is indexed again if the segment is reset after a truncation, in which case the
+    // entries of the record and the following records are replaced
+    if ((size > 0 && indexes[size - 1] >= index)
+        || (asqnSize > 0 && asqnIndexes[asqnSize - 1] >= index)) {
+      deleteAfter(index - 1);
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size * 2);
+      positions = Arrays.copyOf(positions, size * 2);
+    }
+    indexes[size] = index;
+    positions[size] = position;
+    size++;
+
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      if (asqnSize == asqnIndexes.length) {
+        asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize * 2);
+        asqns = Arrays.copyOf(asqns, asqnSize * 2);
+      }
+      asqnIndexes[asqnSize] = index;
+      asqns[asqnSize] = asqn;
+      asqnSize++;
+    }
+  }
+
+  /**
+   * Returns the offset of the greatest value which is less than or equal to the given value, or -1
+   * if there is no such value.
+   */
+  private static int floor(final long[] values, final int size, final long value) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (values[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return high;
   }
 }
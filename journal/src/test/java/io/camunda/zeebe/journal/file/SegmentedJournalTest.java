@@ -26,6 +26,7 @@ import io.camunda.zeebe.journal.file.record.SBESerializer;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -370,6 +371,99 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeClose.lookup(secondIndexedPosition).position());
   }
 
+  @Test
+  void shouldPersistIndexOfFullSegment() {
+    // given
+    final int entriesPerSegment = 10;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    assertThat(indexFile).doesNotExist();
+
+    // when
+    journal.append(entriesPerSegment + 1, data);
+
+    // then
+    assertThat(indexFile).exists();
+    assertThat(journal.getLastSegment().file().indexFile()).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexFromPersistedIndexAfterRestart() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment + 1; i++) {
+      journal.append(i + 1, data);
+    }
+    final var indexBeforeClose = journal.getJournalIndex();
+    final var positionBeforeClose = indexBeforeClose.lookup(entriesPerSegment).position();
+    final var lastRecord = JournalTest.copyRecord(journal.append(data));
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(entriesPerSegment).position())
+        .isEqualTo(positionBeforeClose);
+    assertThat(indexAfterRestart.lookupAsqn(entriesPerSegment)).isEqualTo(entriesPerSegment);
+    assertThat(journal.getLastIndex()).isEqualTo(lastRecord.index());
+
+    final var reader = journal.openReader();
+    reader.seek(entriesPerSegment);
+    assertThat(reader.next().index()).isEqualTo(entriesPerSegment);
+  }
+
+  @Test
+  void shouldScanSegmentIfPersistedIndexIsCorrupted() throws Exception {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var positionBeforeClose =
+        journal.getJournalIndex().lookup(entriesPerSegment).position();
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    journal.close();
+
+    // when
+    final byte[] bytes = Files.readAllBytes(indexFile);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(indexFile, bytes);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(entriesPerSegment).position())
+        .isEqualTo(positionBeforeClose);
+    assertThat(journal.getFirstSegment().lastIndex()).isEqualTo(entriesPerSegment);
+  }
+
+  @Test
+  void shouldDeletePersistedIndexOnTruncate() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    assertThat(indexFile).exists();
+
+    // when
+    journal.deleteAfter(entriesPerSegment - 2);
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(journal.getLastIndex()).isEqualTo(entriesPerSegment - 2);
+  }
+
   @Test
   void shouldHandlePartiallyWrittenDescriptor() throws Exception {
     // given
@@ -650,16 +744,70 @@ class SegmentedJournalTest {
     assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
   }
 
+  @Test
+  void shouldReadRecordsOfSegmentsWithPreallocatedFiles() {
+    // given
+    final var journal = openJournal(2, entrySize, true);
+    for (int i = 1; i <= 10; i++) {
+      journal.append(i, data);
+    }
+    journal.close();
+
+    // when
+    final var reopenedJournal = openJournal(2, entrySize, true);
+    final var reader = reopenedJournal.openReader();
+
+    // then
+    assertThat(reopenedJournal.getLastIndex()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++) {
+      assertThat(reader.hasNext()).isTrue();
+      final var record = reader.next();
+      assertThat(record.index()).isEqualTo(i);
+      assertThat(record.asqn()).isEqualTo(i);
+      assertThat(record.data()).isEqualTo(data);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldDeleteLeftOverPreallocatedFilesOnOpen() throws Exception {
+    // given
+    final File logDirectory = directory.resolve("data").toFile();
+    Files.createDirectories(logDirectory.toPath());
+    final File preallocatedFile =
+        JournalSegmentFile.createPreallocatedSegmentFile(JOURNAL_NAME, logDirectory, 2);
+    Files.write(preallocatedFile.toPath(), new byte[1024]);
+
+    // when
+    final var journal = openJournal(2, entrySize, true);
+
+    // then
+    assertThat(preallocatedFile).doesNotExist();
+    assertThat(
+            logDirectory.listFiles(
+                file -> JournalSegmentFile.isSegmentFile(JOURNAL_NAME, file.getName())))
+        .hasSize(1);
+    assertThat(journal.getFirstSegment().descriptor().id()).isEqualTo(1);
+  }
+
   private SegmentedJournal openJournal(final float entriesPerSegment) {
     return openJournal(entriesPerSegment, entrySize);
   }
 
   private SegmentedJournal openJournal(final float entriesPerSegment, final int entrySize) {
+    return openJournal(entriesPerSegment, entrySize, false);
+  }
+
+  private SegmentedJournal openJournal(
+      final float entriesPerSegment,
+      final int entrySize,
+      final boolean preallocateSegmentFiles) {
     return SegmentedJournal.builder()
         .withDirectory(directory.resolve("data").toFile())
         .withMaxSegmentSize(
             (int) (entrySize * entriesPerSegment) + JournalSegmentDescriptor.getEncodingLength())
         .withJournalIndexDensity(journalIndexDensity)
+        .withPreallocateSegmentFiles(preallocateSegmentFiles)
         .withName(JOURNAL_NAME)
         .build();
   }
@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -238,4 +240,54 @@ class SparseJournalIndexTest {
     assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
+
+  @Test
+  void shouldReplaceEntriesWhenIndexedAgain() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(6, 6), 12);
+
+    // when
+    index.index(asJournalRecord(4, 5), 9);
+
+    // then
+    assertEquals(4, index.lookup(6).index());
+    assertEquals(9, index.lookup(6).position());
+    assertEquals(4, index.lookupAsqn(6));
+    assertEquals(2, index.lookupAsqn(4));
+  }
+
+  @Test
+  void shouldPassEntriesInRange() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(4, SegmentedJournal.ASQN_IGNORE), 8);
+    index.index(asJournalRecord(6, 6), 12);
+    index.index(asJournalRecord(8, 8), 16);
+
+    // when
+    final List<String> entries = new ArrayList<>();
+    index.forEach(3, 6, (i, position, asqn) -> entries.add(i + ":" + position + ":" + asqn));
+
+    // then
+    assertEquals(List.of("4:8:-1", "6:12:6"), entries);
+  }
+
+  @Test
+  void shouldRestoreEntriesRegardlessOfDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+
+    // when
+    index.restore(2, 4, 2);
+    index.restore(4, 8, SegmentedJournal.ASQN_IGNORE);
+
+    // then
+    assertEquals(4, index.lookup(4).index());
+    assertEquals(8, index.lookup(4).position());
+    assertEquals(2, index.lookupAsqn(10));
+  }
 }
@@ -36,6 +36,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   @Override
   public T add() {
     try {
+      decodeValue();
       return value.add();
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
@@ -50,6 +51,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decodeValue();
     return value.isEmpty();
   }
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value of a lazily read property, until it's decoded on the first access
+  private UnsafeBuffer encodedValue;
+  private MsgPackReader encodedValueReader;
+  private boolean isEncoded;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +46,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    isEncoded = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
     value.reset();
   }
 
@@ -57,6 +65,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodeValue();
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -76,7 +86,44 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value and only remembers where it's encoded. The value is decoded on the first
+   * access, so the underlying buffer must not be modified until then. A malformed value is detected
+   * on the first access too.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    if (encodedValue == null) {
+      encodedValue = new UnsafeBuffer(0, 0);
+      encodedValueReader = new MsgPackReader();
+    }
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+
+    value.reset();
+    isSet = true;
+    isEncoded = true;
+  }
+
+  /** Decodes the value of a lazily read property, if it isn't decoded yet. */
+  protected void decodeValue() {
+    if (!isEncoded) {
+      return;
+    }
+
+    isEncoded = false;
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      isSet = false;
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    decodeValue();
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +150,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +171,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
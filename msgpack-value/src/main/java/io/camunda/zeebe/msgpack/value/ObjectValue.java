@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
@@ -22,11 +23,27 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing table of the declared properties by the hash of their keys; built on first read
+  private BaseProperty<? extends BaseValue>[] propertyIndex;
+  private boolean lazyDecoding;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndex = null;
     return this;
   }
 
+  /**
+   * Sets whether the values of the declared properties are decoded lazily on read, i.e. on the
+   * first access of a property instead of when the object is read. This is useful for objects of
+   * which usually only a few properties are accessed. The read buffer must not be modified as long
+   * as the object is used, which applies then to all property types, not only to strings, binaries
+   * and documents which wrap the buffer anyway. By default, the values are decoded on read.
+   */
+  public void setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -90,24 +107,19 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(decodedKey, i);
+      final boolean isDeclared = prop != null;
 
       if (prop == null) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding && isDeclared) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -123,6 +135,69 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  /**
+   * Returns the declared property with the given key, or {@code null} if the key is not declared.
+   * The properties are usually encoded in the order of their declaration, so the property at the
+   * position of the key is checked first, before the key is looked up in the index.
+   */
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(
+      final StringValue key, final int position) {
+    if (position < declaredProperties.size()) {
+      final BaseProperty<? extends BaseValue> prop = declaredProperties.get(position);
+      if (prop.getKey().equals(key)) {
+        return prop;
+      }
+    }
+
+    if (propertyIndex == null) {
+      propertyIndex = createPropertyIndex(declaredProperties);
+    }
+
+    final int mask = propertyIndex.length - 1;
+    for (int slot = hashKey(key) & mask; propertyIndex[slot] != null; slot = (slot + 1) & mask) {
+      final BaseProperty<? extends BaseValue> prop = propertyIndex[slot];
+      if (prop.getKey().equals(key)) {
+        return prop;
+      }
+    }
+
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BaseProperty<? extends BaseValue>[] createPropertyIndex(
+      final List<BaseProperty<? extends BaseValue>> properties) {
+    // at most half of the slots are used, so that a lookup finds a free slot quickly
+    final int capacity = Integer.highestOneBit(Math.max(properties.size(), 1) * 2) << 1;
+    final BaseProperty<? extends BaseValue>[] index = new BaseProperty[capacity];
+    final int mask = capacity - 1;
+
+    for (final BaseProperty<? extends BaseValue> prop : properties) {
+      int slot = hashKey(prop.getKey()) & mask;
+      while (index[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = prop;
+    }
+
+    return index;
+  }
+
+  /** A cheap hash of the key, using its length and the first, middle and last byte. */
+  private static int hashKey(final StringValue key) {
+    final int length = key.getLength();
+    if (length == 0) {
+      return 0;
+    }
+
+    final DirectBuffer bytes = key.getValue();
+    int hash = length;
+    hash = 31 * hash + bytes.getByte(0);
+    hash = 31 * hash + bytes.getByte(length >> 1);
+    hash = 31 * hash + bytes.getByte(length - 1);
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
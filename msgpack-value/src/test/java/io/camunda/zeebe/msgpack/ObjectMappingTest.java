@@ -387,4 +387,93 @@ public final class ObjectMappingTest {
     assertThatBuffer(pojo.getString()).hasBytes(BUF1);
     assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
   }
+
+  @Test
+  public void shouldDeserializePOJOLazily() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(encodePOJO(123L));
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
+  }
+
+  @Test
+  public void shouldSerializeLazilyDeserializedPOJO() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encodePOJO(123L));
+
+    // when
+    pojo.setLong(5L);
+    final UnsafeBuffer resultBuffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(resultBuffer, 0);
+
+    // then
+    final Map<String, Object> msgPackMap =
+        MsgPackUtil.asMap(resultBuffer, 0, resultBuffer.capacity());
+    assertThat(msgPackMap)
+        .hasSize(7)
+        .contains(
+            entry("enumProp", POJOEnum.BAR.toString()),
+            entry("longProp", 5L),
+            entry("intProp", 123L),
+            entry("stringProp", "bar"),
+            entry("binaryProp", BUF1.byteArray()));
+  }
+
+  @Test
+  public void shouldFailOnAccessOfMalformedLazilyDeserializedValue() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encodePOJO(Integer.MAX_VALUE + 1L));
+
+    // when
+    final Throwable failure = catchThrowable(pojo::getInt);
+
+    // then
+    assertThat(failure)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("intProp");
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+  }
+
+  private static DirectBuffer encodePOJO(final long intValue) {
+    return encodeMsgPack(
+        (w) -> {
+          w.writeMapHeader(7);
+
+          w.writeString(wrapString("enumProp"));
+          w.writeString(wrapString(POJOEnum.BAR.toString()));
+
+          w.writeString(wrapString("binaryProp"));
+          w.writeBinary(BUF1);
+
+          w.writeString(wrapString("stringProp"));
+          w.writeString(BUF2);
+
+          w.writeString(wrapString("packedProp"));
+          w.writeRaw(MSGPACK_BUF1);
+
+          w.writeString(wrapString("longProp"));
+          w.writeInteger(88888L);
+
+          w.writeString(wrapString("intProp"));
+          w.writeInteger(intValue);
+
+          w.writeString(wrapString("objectProp"));
+          w.writeRaw(MSGPACK_BUF1);
+        });
+  }
 }
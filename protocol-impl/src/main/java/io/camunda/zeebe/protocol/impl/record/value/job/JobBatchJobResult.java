@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.job;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.ObjectValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+
+/**
+ * The result of the command of a single job which is part of a job batch command. The rejection
+ * type is {@link RejectionType#NULL_VAL} if the command of the job was processed successfully.
+ */
+@JsonIgnoreProperties({
+  /* 'encodedLength' is a technical field needed for MsgPack and inherited from ObjectValue; it has
+  no purpose in exported JSON records*/
+  "encodedLength"
+})
+public final class JobBatchJobResult extends ObjectValue {
+
+  private final LongProperty jobKeyProp = new LongProperty("jobKey", -1);
+  private final EnumProperty<RejectionType> rejectionTypeProp =
+      new EnumProperty<>("rejectionType", RejectionType.class, RejectionType.NULL_VAL);
+  private final StringProperty rejectionReasonProp = new StringProperty("rejectionReason", "");
+
+  public JobBatchJobResult() {
+    declareProperty(jobKeyProp)
+        .declareProperty(rejectionTypeProp)
+        .declareProperty(rejectionReasonProp);
+  }
+
+  public long getJobKey() {
+    return jobKeyProp.getValue();
+  }
+
+  public JobBatchJobResult setJobKey(final long jobKey) {
+    jobKeyProp.setValue(jobKey);
+    return this;
+  }
+
+  public RejectionType getRejectionType() {
+    return rejectionTypeProp.getValue();
+  }
+
+  public JobBatchJobResult setRejectionType(final RejectionType rejectionType) {
+    rejectionTypeProp.setValue(rejectionType);
+    return this;
+  }
+
+  public String getRejectionReason() {
+    return BufferUtil.bufferAsString(rejectionReasonProp.getValue());
+  }
+
+  public JobBatchJobResult setRejectionReason(final String rejectionReason) {
+    rejectionReasonProp.setValue(rejectionReason);
+    return this;
+  }
+}
@@ -28,7 +28,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public final class JobBatchRecord extends UnifiedRecordValue implements JobBatchRecordValue {
 
-  private final StringProperty typeProp = new StringProperty("type");
+  private final StringProperty typeProp = new StringProperty("type", "");
   private final StringProperty workerProp = new StringProperty("worker", "");
   private final LongProperty timeoutProp = new LongProperty("timeout", -1);
   private final IntegerProperty maxJobsToActivateProp =
@@ -39,6 +39,10 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>("variables", new StringValue());
   private final BooleanProperty truncatedProp = new BooleanProperty("truncated", false);
+  private final ArrayProperty<StringValue> additionalTypesProp =
+      new ArrayProperty<>("additionalTypes", new StringValue());
+  private final ArrayProperty<JobBatchJobResult> jobResultsProp =
+      new ArrayProperty<>("jobResults", new JobBatchJobResult());
 
   public JobBatchRecord() {
     declareProperty(typeProp)
@@ -48,7 +52,9 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobKeysProp)
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
-        .declareProperty(truncatedProp);
+        .declareProperty(truncatedProp)
+        .declareProperty(additionalTypesProp)
+        .declareProperty(jobResultsProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -73,6 +79,28 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return variablesProp;
   }
 
+  /**
+   * Further job types to activate, next to the one set as {@link #getType() type}. Jobs of the
+   * additional types are activated in the given order if the batch is not full yet after the jobs
+   * of the main type were activated.
+   */
+  public ValueArray<StringValue> additionalTypes() {
+    return additionalTypesProp;
+  }
+
+  public boolean hasAdditionalTypes() {
+    return !additionalTypesProp.isEmpty();
+  }
+
+  /**
+   * The result of each job of a complete or fail job batch command, in the order of the {@link
+   * #jobKeys() job keys}. A job which could not be completed or failed, e.g. because it doesn't
+   * exist anymore, doesn't affect the other jobs of the batch.
+   */
+  public ValueArray<JobBatchJobResult> jobResults() {
+    return jobResultsProp;
+  }
+
   public boolean getTruncated() {
     return truncatedProp.getValue();
   }
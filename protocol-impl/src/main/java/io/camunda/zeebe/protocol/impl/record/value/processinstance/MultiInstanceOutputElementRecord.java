@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.processinstance;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.value.MultiInstanceOutputElementRecordValue;
+import org.agrona.DirectBuffer;
+
+@SuppressWarnings("java:S2160")
+public final class MultiInstanceOutputElementRecord extends UnifiedRecordValue
+    implements MultiInstanceOutputElementRecordValue {
+  private final LongProperty multiInstanceBodyKeyProperty =
+      new LongProperty("multiInstanceBodyKey");
+  private final IntegerProperty loopCounterProperty = new IntegerProperty("loopCounter");
+  private final BinaryProperty outputElementProperty = new BinaryProperty("outputElement");
+  private final LongProperty processDefinitionKeyProperty =
+      new LongProperty("processDefinitionKey", -1);
+  private final LongProperty processInstanceKeyProperty =
+      new LongProperty("processInstanceKey", -1);
+
+  public MultiInstanceOutputElementRecord() {
+    declareProperty(multiInstanceBodyKeyProperty)
+        .declareProperty(loopCounterProperty)
+        .declareProperty(outputElementProperty)
+        .declareProperty(processDefinitionKeyProperty)
+        .declareProperty(processInstanceKeyProperty);
+  }
+
+  @Override
+  public long getMultiInstanceBodyKey() {
+    return multiInstanceBodyKeyProperty.getValue();
+  }
+
+  public MultiInstanceOutputElementRecord setMultiInstanceBodyKey(final long multiInstanceBodyKey) {
+    multiInstanceBodyKeyProperty.setValue(multiInstanceBodyKey);
+    return this;
+  }
+
+  @Override
+  public int getLoopCounter() {
+    return loopCounterProperty.getValue();
+  }
+
+  public MultiInstanceOutputElementRecord setLoopCounter(final int loopCounter) {
+    loopCounterProperty.setValue(loopCounter);
+    return this;
+  }
+
+  @Override
+  public String getOutputElement() {
+    return MsgPackConverter.convertToJson(outputElementProperty.getValue());
+  }
+
+  @JsonIgnore
+  public DirectBuffer getOutputElementBuffer() {
+    return outputElementProperty.getValue();
+  }
+
+  public MultiInstanceOutputElementRecord setOutputElement(final DirectBuffer outputElement) {
+    outputElementProperty.setValue(outputElement);
+    return this;
+  }
+
+  @Override
+  public long getProcessDefinitionKey() {
+    return processDefinitionKeyProperty.getValue();
+  }
+
+  public MultiInstanceOutputElementRecord setProcessDefinitionKey(final long processDefinitionKey) {
+    processDefinitionKeyProperty.setValue(processDefinitionKey);
+    return this;
+  }
+
+  @Override
+  public long getProcessInstanceKey() {
+    return processInstanceKeyProperty.getValue();
+  }
+
+  public MultiInstanceOutputElementRecord setProcessInstanceKey(final long processInstanceKey) {
+    processInstanceKeyProperty.setValue(processInstanceKey);
+    return this;
+  }
+}
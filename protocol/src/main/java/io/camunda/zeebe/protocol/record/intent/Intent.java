@@ -42,7 +42,8 @@ public interface Intent {
           DecisionRequirementsIntent.class,
           DecisionEvaluationIntent.class,
           MessageStartEventSubscriptionIntent.class,
-          ProcessInstanceResultIntent.class);
+          ProcessInstanceResultIntent.class,
+          MultiInstanceOutputElementIntent.class);
   short NULL_VAL = 255;
   Intent UNKNOWN =
       new Intent() {
@@ -105,6 +106,8 @@ public interface Intent {
         return DecisionRequirementsIntent.from(intent);
       case DECISION_EVALUATION:
         return DecisionEvaluationIntent.from(intent);
+      case MULTI_INSTANCE_OUTPUT_ELEMENT:
+        return MultiInstanceOutputElementIntent.from(intent);
       case NULL_VAL:
       case SBE_UNKNOWN:
         return Intent.UNKNOWN;
@@ -160,6 +163,8 @@ public interface Intent {
         return DecisionRequirementsIntent.valueOf(intent);
       case DECISION_EVALUATION:
         return DecisionEvaluationIntent.valueOf(intent);
+      case MULTI_INSTANCE_OUTPUT_ELEMENT:
+        return MultiInstanceOutputElementIntent.valueOf(intent);
       case NULL_VAL:
       case SBE_UNKNOWN:
         return Intent.UNKNOWN;
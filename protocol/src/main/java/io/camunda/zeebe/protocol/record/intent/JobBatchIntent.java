@@ -17,7 +17,13 @@ package io.camunda.zeebe.protocol.record.intent;
 
 public enum JobBatchIntent implements Intent {
   ACTIVATE((short) 0),
-  ACTIVATED((short) 1);
+  ACTIVATED((short) 1),
+
+  COMPLETE((short) 2),
+  COMPLETED((short) 3),
+
+  FAIL((short) 4),
+  FAILED((short) 5);
 
   private final short value;
 
@@ -35,6 +41,14 @@ public enum JobBatchIntent implements Intent {
         return ACTIVATE;
       case 1:
         return ACTIVATED;
+      case 2:
+        return COMPLETE;
+      case 3:
+        return COMPLETED;
+      case 4:
+        return FAIL;
+      case 5:
+        return FAILED;
       default:
         return Intent.UNKNOWN;
     }
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.protocol.record.value;
+
+import io.camunda.zeebe.protocol.record.ImmutableProtocol;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import org.immutables.value.Value;
+
+/**
+ * Represents the output element of a single inner instance of a parallel multi-instance body,
+ * collected when the inner instance completed.
+ *
+ * <p>The output elements are kept apart from the variables of the multi-instance body, and are
+ * merged into its output collection when the body completes.
+ */
+@Value.Immutable
+@ImmutableProtocol(builder = ImmutableMultiInstanceOutputElementRecordValue.Builder.class)
+public interface MultiInstanceOutputElementRecordValue extends RecordValue, ProcessInstanceRelated {
+
+  /**
+   * @return the key of the multi-instance body the output element belongs to
+   */
+  long getMultiInstanceBodyKey();
+
+  /**
+   * @return the loop counter of the inner instance which produced the output element
+   */
+  int getLoopCounter();
+
+  /**
+   * @return the output element, as JSON
+   */
+  String getOutputElement();
+
+  /**
+   * @return the key of the deployed process this instance belongs to.
+   */
+  long getProcessDefinitionKey();
+}
@@ -56,6 +56,9 @@ final class IntentEncodingDecodingTest {
             MessageStartEventSubscriptionIntent.class, MessageStartEventSubscriptionIntent::from));
     result.addAll(
         buildParameterSets(MessageSubscriptionIntent.class, MessageSubscriptionIntent::from));
+    result.addAll(
+        buildParameterSets(
+            MultiInstanceOutputElementIntent.class, MultiInstanceOutputElementIntent::from));
     result.addAll(buildParameterSets(ProcessEventIntent.class, ProcessEventIntent::from));
     result.addAll(
         buildParameterSets(
@@ -8,10 +8,21 @@
 package io.camunda.zeebe.scheduler;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
+/**
+ * Metrics of the actor scheduler. The execution latency and count are always recorded. The other
+ * metrics are recorded only if they are enabled, since they are observed for every task execution
+ * and every submission of a task; the callers must check {@link #isEnabled()} before recording
+ * them.
+ */
 final class ActorMetrics {
 
+  static final ActorMetrics DISABLED = new ActorMetrics(false);
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
   private static final Histogram EXECUTION_LATENCY =
       Histogram.build()
           .namespace("zeebe")
@@ -28,6 +39,77 @@ final class ActorMetrics {
           .labelNames("actorName")
           .register();
 
+  private static final Counter EXECUTION_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_execution_time")
+          .help("Total time in seconds a certain actor task ran on an actor thread")
+          .labelNames("actorName")
+          .register();
+
+  private static final Histogram SCHEDULING_DELAY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_task_scheduling_delay")
+          .help("Time in seconds a certain actor task waited in the queue before it was executed")
+          .labelNames("actorName")
+          .buckets(0.00001, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1)
+          .register();
+
+  private static final Histogram JOBS_PER_EXECUTION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_task_jobs_per_execution")
+          .help("Number of jobs a certain actor task executed before it released the thread")
+          .labelNames("actorName")
+          .exponentialBuckets(1, 2, 10)
+          .register();
+
+  private static final Gauge QUEUED_TASKS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_thread_group_queued_tasks")
+          .help("Number of actor tasks which wait in the queues of a thread group")
+          .labelNames("threadGroup")
+          .register();
+
+  private static final Counter STOLEN_TASKS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_group_stolen_tasks")
+          .help("Number of actor tasks which were stolen from the queue of another thread")
+          .labelNames("threadGroup")
+          .register();
+
+  private static final Counter THREAD_STATE_TRANSITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_state_transitions")
+          .help("Number of times an actor thread became idle or busy")
+          .labelNames("thread", "state")
+          .register();
+
+  private static final Counter THREAD_STATE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_state_time")
+          .help("Total time in seconds an actor thread was idle or busy")
+          .labelNames("thread", "state")
+          .register();
+
+  private static final String STATE_IDLE = "idle";
+  private static final String STATE_BUSY = "busy";
+
+  private final boolean enabled;
+
+  ActorMetrics(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
   Histogram.Timer startExecutionTimer(final String name) {
     return EXECUTION_LATENCY.labels(name).startTimer();
   }
@@ -35,4 +117,45 @@ final class ActorMetrics {
   void countExecution(final String name) {
     EXECUTION_COUNT.labels(name).inc();
   }
+
+  void observeExecution(final String name, final long executionNanos, final int executedJobs) {
+    EXECUTION_TIME.labels(name).inc(toSeconds(executionNanos));
+    JOBS_PER_EXECUTION.labels(name).observe(executedJobs);
+  }
+
+  void observeSchedulingDelay(final String name, final long delayNanos) {
+    SCHEDULING_DELAY.labels(name).observe(toSeconds(delayNanos));
+  }
+
+  void taskQueued(final String threadGroup) {
+    QUEUED_TASKS.labels(threadGroup).inc();
+  }
+
+  void taskDequeued(final String threadGroup, final boolean stolen) {
+    QUEUED_TASKS.labels(threadGroup).dec();
+    if (stolen) {
+      STOLEN_TASKS.labels(threadGroup).inc();
+    }
+  }
+
+  /**
+   * @param busyNanos the time the thread was busy before it became idle
+   */
+  void threadBecameIdle(final String thread, final long busyNanos) {
+    THREAD_STATE_TRANSITIONS.labels(thread, STATE_IDLE).inc();
+    THREAD_STATE_TIME.labels(thread, STATE_BUSY).inc(toSeconds(busyNanos));
+  }
+
+  /**
+   * @param idleNanos the time the thread was idle before it became busy
+   */
+  void threadBecameBusy(final String thread, final long idleNanos) {
+    THREAD_STATE_TRANSITIONS.labels(thread, STATE_BUSY).inc();
+    THREAD_STATE_TIME.labels(thread, STATE_IDLE).inc(toSeconds(idleNanos));
+  }
+
+  private static double toSeconds(final long nanos) {
+    // the durations are measured with different clocks, which may be controlled in tests
+    return Math.max(0, nanos) / NANOS_PER_SECOND;
+  }
 }
@@ -109,6 +109,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
 
     private ActorTimerQueue actorTimerQueue;
+    private boolean metricsEnabled;
 
     public String getSchedulerName() {
       return schedulerName;
@@ -155,6 +156,21 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isMetricsEnabled() {
+      return metricsEnabled;
+    }
+
+    /**
+     * Enables the detailed metrics of the scheduler, i.e. the run time, the scheduling delay and
+     * the number of jobs per execution of each actor, the queued and stolen tasks per thread group,
+     * and the idle and busy times of the threads. They are disabled by default, since they are
+     * recorded for every execution of a task.
+     */
+    public ActorSchedulerBuilder setMetricsEnabled(final boolean metricsEnabled) {
+      this.metricsEnabled = metricsEnabled;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -38,6 +38,10 @@ public class ActorTask {
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
+  /** The time at which the task was queued; only set if the scheduler metrics are enabled. */
+  long queuedAtNanos;
+  /** The number of jobs executed by the last invocation of {@link #execute(ActorThread)}. */
+  int executedJobs;
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
@@ -110,10 +114,12 @@ public class ActorTask {
 
   public boolean execute(final ActorThread runner) {
     schedulingState.set(TaskSchedulingState.ACTIVE);
+    executedJobs = 0;
 
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
       currentJob.execute(runner);
+      executedJobs++;
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -41,7 +41,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   protected final ActorTimerQueue timerJobQueue;
   protected ActorTaskRunnerIdleStrategy idleStrategy = new ActorTaskRunnerIdleStrategy();
   ActorTask currentTask;
-  private final ActorMetrics actorMetrics = new ActorMetrics();
+  private final ActorMetrics actorMetrics;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
   private final int threadId;
@@ -64,6 +64,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
+    actorMetrics = threadGroup != null ? threadGroup.getMetrics() : ActorMetrics.DISABLED;
   }
 
   private void doWork() {
@@ -77,8 +78,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var actorName = currentTask.actor.getName();
+      if (actorMetrics.isEnabled()) {
+        actorMetrics.observeSchedulingDelay(
+            actorName, System.nanoTime() - currentTask.queuedAtNanos);
+      }
+
       try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
-        executeCurrentTask();
+        executeCurrentTask(actorName);
       }
       actorMetrics.countExecution(actorName);
     } else {
@@ -86,11 +92,12 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
-  private void executeCurrentTask() {
+  private void executeCurrentTask(final String actorName) {
     final var properties = currentTask.getActor().getContext();
     MDC.setContextMap(properties);
     idleStrategy.onTaskExecuted();
 
+    final long startNanos = actorMetrics.isEnabled() ? System.nanoTime() : 0;
     boolean resubmit = false;
 
     try {
@@ -103,6 +110,12 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       clock.update();
     }
 
+    if (actorMetrics.isEnabled()) {
+      // record it before the task is resubmitted, since another thread may execute it afterwards
+      actorMetrics.observeExecution(
+          actorName, System.nanoTime() - startNanos, currentTask.executedJobs);
+    }
+
     if (resubmit) {
       currentTask.resubmit();
     }
@@ -262,6 +275,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
         clock.update();
         idleTimeStart = clock.getNanoTime();
         isIdle = true;
+
+        if (actorMetrics.isEnabled()) {
+          actorMetrics.threadBecameIdle(getName(), idleTimeStart - busyTimeStart);
+        }
       }
 
       backoff.idle();
@@ -273,6 +290,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       if (isIdle) {
         busyTimeStart = clock.getNanoTime();
         isIdle = false;
+
+        if (actorMetrics.isEnabled()) {
+          actorMetrics.threadBecameBusy(getName(), busyTimeStart - idleTimeStart);
+        }
       }
     }
   }
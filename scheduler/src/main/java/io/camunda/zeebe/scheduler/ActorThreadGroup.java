@@ -21,13 +21,15 @@ public abstract class ActorThreadGroup {
   protected final ActorThread[] threads;
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
+  private final ActorMetrics metrics;
 
   public ActorThreadGroup(
       final String groupName, final int numOfThreads, final ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    metrics = builder.isMetricsEnabled() ? new ActorMetrics(true) : ActorMetrics.DISABLED;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, groupName, metrics);
 
     threads = new ActorThread[numOfThreads];
 
@@ -59,6 +61,10 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  ActorMetrics getMetrics() {
+    return metrics;
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -15,9 +15,17 @@ import java.util.concurrent.ThreadLocalRandom;
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final String groupName;
+  private final ActorMetrics metrics;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, "", ActorMetrics.DISABLED);
+  }
+
+  WorkStealingGroup(final int numOfThreads, final String groupName, final ActorMetrics metrics) {
     this.numOfThreads = numOfThreads;
+    this.groupName = groupName;
+    this.metrics = metrics;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -32,6 +40,10 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
+    if (metrics.isEnabled()) {
+      task.queuedAtNanos = System.nanoTime();
+      metrics.taskQueued(groupName);
+    }
     taskQueues[threadId].append(task);
   }
 
@@ -45,8 +57,15 @@ public final class WorkStealingGroup implements TaskScheduler {
     final ActorThread currentThread = ActorThread.current();
     ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
 
+    boolean stolen = false;
+
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+      stolen = nextTask != null;
+    }
+
+    if (nextTask != null && metrics.isEnabled()) {
+      metrics.taskDequeued(groupName, stolen);
     }
 
     return nextTask;
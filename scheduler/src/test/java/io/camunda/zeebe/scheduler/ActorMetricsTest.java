@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorMetricsTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRecordTaskExecutionIfEnabled() {
+    // given
+    startScheduler(true);
+    final var actor = new TestActor("metrics-enabled");
+
+    // when
+    scheduler.submitActor(actor).join();
+    actor.doWork().join();
+
+    // then
+    assertThat(getActorSample("zeebe_actor_task_execution_time_total", actor)).isPositive();
+    assertThat(getActorSample("zeebe_actor_task_scheduling_delay_count", actor)).isPositive();
+    assertThat(getActorSample("zeebe_actor_task_jobs_per_execution_sum", actor)).isPositive();
+  }
+
+  @Test
+  void shouldNotRecordTaskExecutionIfDisabled() {
+    // given
+    startScheduler(false);
+    final var actor = new TestActor("metrics-disabled");
+
+    // when
+    scheduler.submitActor(actor).join();
+    actor.doWork().join();
+
+    // then
+    assertThat(getActorSample("zeebe_actor_task_execution_count_total", actor)).isPositive();
+    assertThat(getActorSample("zeebe_actor_task_execution_time_total", actor)).isNull();
+    assertThat(getActorSample("zeebe_actor_task_scheduling_delay_count", actor)).isNull();
+    assertThat(getActorSample("zeebe_actor_task_jobs_per_execution_sum", actor)).isNull();
+  }
+
+  private void startScheduler(final boolean metricsEnabled) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMetricsEnabled(metricsEnabled)
+            .build();
+    scheduler.start();
+  }
+
+  private Double getActorSample(final String name, final Actor actor) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        name, new String[] {"actorName"}, new String[] {actor.getName()});
+  }
+
+  private static final class TestActor extends Actor {
+
+    private final String name;
+
+    private TestActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> doWork() {
+      return actor.call(() -> {});
+    }
+  }
+}
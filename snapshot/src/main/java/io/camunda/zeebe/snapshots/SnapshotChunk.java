@@ -26,7 +26,9 @@ public interface SnapshotChunk {
   String getChunkName();
 
   /**
-   * @return the checksum of the content, can be use to verify the integrity of the content
+   * @return the checksum of the whole file content, can be use to verify the integrity of the
+   *     content; if the file is split into multiple chunks, it can only be verified once all of
+   *     them were received
    */
   long getChecksum();
 
@@ -35,8 +37,32 @@ public interface SnapshotChunk {
    */
   byte[] getContent();
 
+  /**
+   * @return the position in the file at which the content of this chunk starts, which is only
+   *     greater than 0 if the file is split into multiple chunks
+   */
+  default long getFileBlockPosition() {
+    return 0;
+  }
+
+  /**
+   * @return the size of the whole file, which is greater than the length of the content if the
+   *     file is split into multiple chunks
+   */
+  default long getTotalFileSize() {
+    return getContent().length;
+  }
+
   /**
    * @return the checksum of the entire snapshot
    */
   long getSnapshotChecksum();
+
+  /**
+   * @return true if the chunk has no content, but refers to the chunk with the same name and
+   *     checksum in the latest snapshot of the receiver, which can be reused as is
+   */
+  default boolean isReference() {
+    return false;
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,24 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Sets the chunks which the receiver of this snapshot already holds. Chunks with the same name
+   * and checksum are then returned as {@link SnapshotChunk#isReference() references} without
+   * content, such that they don't have to be transferred again. Does nothing by default, i.e. all
+   * chunks are returned with their content.
+   *
+   * @param knownChunks the checksums of the chunks the receiver holds, by chunk name
+   */
+  default void setKnownChunks(final Map<String, Long> knownChunks) {}
+
+  /**
+   * Sets the maximum size of the content of a chunk. Files which are larger are split into
+   * multiple chunks with the same name, which are returned one after the other, such that the
+   * memory needed to send and receive a chunk is bounded regardless of the file size. Does nothing
+   * by default, i.e. each chunk contains a whole file.
+   *
+   * @param maximumChunkSize the maximum size of the content of a chunk in bytes
+   */
+  default void setMaximumChunkSize(final int maximumChunkSize) {}
 }
@@ -19,10 +19,13 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.zip.Checksum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +42,16 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
 
+  // the snapshot which referenced chunks are reused from, and the checksums of its files
+  private FileBasedSnapshot referencedSnapshot;
+  private Map<String, Long> referencedSnapshotChecksums;
+
+  // the file which is currently received in multiple chunks, if any, and the checksum of the
+  // content received so far
+  private String currentFileName;
+  private long currentFilePosition;
+  private final Checksum currentFileChecksum = SnapshotChunkUtil.newChecksum();
+
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotMetadata metadata,
       final Path directory,
@@ -66,12 +79,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
-  private boolean containsChunk(final String chunkId) {
-    return Files.exists(directory.resolve(chunkId));
+  private boolean containsChunk(final SnapshotChunk snapshotChunk) {
+    final var chunkName = snapshotChunk.getChunkName();
+    if (chunkName.equals(currentFileName)) {
+      return snapshotChunk.getFileBlockPosition() < currentFilePosition;
+    }
+
+    return Files.exists(directory.resolve(chunkName));
   }
 
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    if (containsChunk(snapshotChunk)) {
       return;
     }
 
@@ -94,8 +112,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
-
+    checkFileBlockPositionIsValid(snapshotChunk, snapshotId, chunkName);
     final var tmpSnapshotDirectory = directory;
     try {
       FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
@@ -105,27 +122,83 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    if (snapshotChunk.getFileBlockPosition() == 0 && Files.exists(snapshotFile)) {
       throw new SnapshotWriteException(
           String.format(
               "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
     }
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    if (snapshotChunk.isReference()) {
+      linkReferencedSnapshotChunk(snapshotChunk, snapshotFile);
+    } else {
+      final byte[] content = snapshotChunk.getContent();
+      writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+      checkChunkChecksumIsValid(snapshotChunk, content, snapshotFile, snapshotId);
+    }
   }
 
-  private void checkChunkChecksumIsValid(
+  private void checkFileBlockPositionIsValid(
       final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
       throws SnapshotWriteException {
+    final var expectedChunkName = currentFileName != null ? currentFileName : chunkName;
+    final var expectedPosition = currentFileName != null ? currentFilePosition : 0;
+    final var position = snapshotChunk.getFileBlockPosition();
+
+    if (!expectedChunkName.equals(chunkName) || expectedPosition != position) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected snapshot chunk %s (%s) at position %d, but got chunk %s at position %d",
+              expectedChunkName, snapshotId, expectedPosition, chunkName, position));
+    }
+  }
+
+  /**
+   * Verifies the checksum of the file once its last chunk is written. As the checksum covers the
+   * whole file, the chunks of a file which is split into multiple chunks are added to the checksum
+   * once they are written, such that the file never has to be read into memory as a whole. If the
+   * checksum doesn't match, the written file is deleted again.
+   */
+  private void checkChunkChecksumIsValid(
+      final SnapshotChunk snapshotChunk,
+      final byte[] content,
+      final Path snapshotFile,
+      final String snapshotId)
+      throws SnapshotWriteException {
+    if (snapshotChunk.getFileBlockPosition() == 0) {
+      currentFileChecksum.reset();
+    }
+    currentFileChecksum.update(content);
+
+    if (!isLastFileBlock(snapshotChunk, content)) {
+      return;
+    }
+
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = currentFileChecksum.getValue();
 
     if (expectedChecksum != actualChecksum) {
+      discardFile(snapshotFile);
       throw new SnapshotWriteException(
           String.format(
               "Expected to have checksum %d for snapshot chunk %s (%s), but calculated %d",
-              expectedChecksum, chunkName, snapshotId, actualChecksum));
+              expectedChecksum, snapshotChunk.getChunkName(), snapshotId, actualChecksum));
+    }
+  }
+
+  private boolean isLastFileBlock(final SnapshotChunk snapshotChunk, final byte[] content) {
+    return snapshotChunk.getFileBlockPosition() + content.length
+        >= snapshotChunk.getTotalFileSize();
+  }
+
+  private void discardFile(final Path file) throws SnapshotWriteException {
+    currentFileName = null;
+    currentFilePosition = 0;
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to delete partially received file %s", file), e);
     }
   }
 
@@ -173,10 +246,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
-    try (var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var isFirstFileBlock = snapshotChunk.getFileBlockPosition() == 0;
+    final var isLastFileBlock = isLastFileBlock(snapshotChunk, content);
+    final OpenOption[] options =
+        isFirstFileBlock
+            ? new OpenOption[] {StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE}
+            : new OpenOption[] {StandardOpenOption.WRITE, StandardOpenOption.APPEND};
+
+    try (var channel = FileChannel.open(snapshotFile, options)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
@@ -184,15 +264,97 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         buffer.limit(buffer.capacity());
       }
 
-      channel.force(true);
-    } catch (IOException e) {
+      // flushing the last block of a file flushes all blocks which were appended before
+      if (isLastFileBlock) {
+        channel.force(true);
+      }
+    } catch (final IOException e) {
+      // the file is received again from its first chunk, which must not find a partial file
+      discardFile(snapshotFile);
       throw new SnapshotWriteException(
           String.format("Failed to write snapshot chunk %s", snapshotChunk), e);
     }
 
+    if (isLastFileBlock) {
+      currentFileName = null;
+      currentFilePosition = 0;
+    } else {
+      currentFileName = snapshotChunk.getChunkName();
+      currentFilePosition = snapshotChunk.getFileBlockPosition() + content.length;
+    }
+
     LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
   }
 
+  /**
+   * Reuses the file of a referenced chunk from the latest snapshot. As the files of a snapshot are
+   * immutable, the file is hard-linked instead of copied, so unchanged files of consecutive
+   * snapshots take up disk space only once.
+   */
+  private void linkReferencedSnapshotChunk(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot = snapshotStore.getLatestFileBasedSnapshot().orElse(null);
+    if (latestSnapshot == null) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot chunk %s from the latest snapshot, but there is none",
+              chunkName));
+    }
+
+    final var latestChecksum = getReferencedSnapshotChecksums(latestSnapshot).get(chunkName);
+    if (latestChecksum == null || latestChecksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot chunk %s with checksum %d from the latest snapshot %s, but it has checksum %s",
+              chunkName, snapshotChunk.getChecksum(), latestSnapshot.getId(), latestChecksum));
+    }
+
+    final var referencedFile = latestSnapshot.getDirectory().resolve(chunkName);
+    try {
+      Files.createLink(snapshotFile, referencedFile);
+    } catch (final UnsupportedOperationException | IOException linkError) {
+      LOGGER.debug(
+          "Failed to link snapshot chunk {} to {}, copying it instead",
+          referencedFile,
+          snapshotFile,
+          linkError);
+      copyReferencedSnapshotChunk(referencedFile, snapshotFile);
+    }
+
+    LOGGER.trace("Reused snapshot chunk {} for file {}", referencedFile, snapshotFile);
+  }
+
+  private void copyReferencedSnapshotChunk(final Path referencedFile, final Path snapshotFile)
+      throws SnapshotWriteException {
+    try {
+      Files.copy(referencedFile, snapshotFile);
+      try (var channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to copy snapshot chunk %s to %s", referencedFile, snapshotFile),
+          e);
+    }
+  }
+
+  private Map<String, Long> getReferencedSnapshotChecksums(final FileBasedSnapshot latestSnapshot)
+      throws SnapshotWriteException {
+    if (!latestSnapshot.equals(referencedSnapshot)) {
+      try {
+        referencedSnapshotChecksums = latestSnapshot.getFileChecksums();
+        referencedSnapshot = latestSnapshot;
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to read the checksums of snapshot %s", latestSnapshot.getId()),
+            e);
+      }
+    }
+
+    return referencedSnapshotChecksums;
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     final CompletableActorFuture<Void> abortFuture = new CompletableActorFuture<>();
@@ -247,6 +409,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (currentFileName != null) {
+      future.completeExceptionally(
+          new IllegalStateException(
+              String.format(
+                  "Expected all chunks of file '%s' to be received, but only got %d bytes.",
+                  currentFileName, currentFilePosition)));
+      return;
+    }
+
     if (files.length != expectedTotalCount) {
       future.completeExceptionally(
           new IllegalStateException(
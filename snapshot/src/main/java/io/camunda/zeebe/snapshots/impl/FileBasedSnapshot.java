@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,12 +69,23 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksum, getFileChecksums());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
+  /**
+   * Returns the checksums of the files of this snapshot, as persisted in its checksum file. The
+   * checksum files of older versions only contain the combined checksum, in which case the returned
+   * map is empty.
+   *
+   * @return the checksums of the files of this snapshot, by file name
+   */
+  Map<String, Long> getFileChecksums() throws IOException {
+    return SnapshotChecksum.read(checksumFile).getChecksums();
+  }
+
   @Override
   public void delete() {
     // the checksum, as a mark file, should be deleted first
@@ -17,6 +17,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
@@ -28,6 +29,14 @@ import org.agrona.concurrent.UnsafeBuffer;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Files which the receiver already holds with the same checksum, e.g. SST files which didn't
+ * change since the previous snapshot, are returned as reference chunks without content; see {@link
+ * #setKnownChunks(Map)}.
+ *
+ * <p>Files which are larger than the maximum chunk size are split into multiple chunks, which are
+ * read one after the other via positional reads; see {@link #setMaximumChunkSize(int)}. All chunks
+ * of a file have the same chunk ID, i.e. the file name.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
@@ -40,9 +49,25 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private final Map<String, Long> fileChecksums;
+  private Map<String, Long> knownChunks = Map.of();
+  private int maximumChunkSize = Integer.MAX_VALUE;
+
+  // the file which is currently split into multiple chunks, if any
+  private String currentFileName;
+  private long currentFilePosition;
+  private long currentFileSize;
+  private long currentFileChecksum;
 
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+    this(directory, checksum, Map.of());
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final Map<String, Long> fileChecksums)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
@@ -69,10 +94,15 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     final var path = decodeChunkId(id);
     chunksView = chunks.tailSet(path, true);
+    currentFileName = null;
   }
 
   @Override
   public ByteBuffer nextId() {
+    if (currentFileName != null) {
+      return encodeChunkId(currentFileName);
+    }
+
     if (chunksView.isEmpty()) {
       return null;
     }
@@ -80,32 +110,96 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return encodeChunkId(chunksView.first());
   }
 
+  @Override
+  public void setKnownChunks(final Map<String, Long> knownChunks) {
+    this.knownChunks = knownChunks;
+  }
+
+  @Override
+  public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (maximumChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the maximum chunk size to be positive, but was %d", maximumChunkSize));
+    }
+
+    this.maximumChunkSize = maximumChunkSize;
+  }
+
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    currentFileName = null;
   }
 
   @Override
   public boolean hasNext() {
-    return !chunksView.isEmpty();
+    return currentFileName != null || !chunksView.isEmpty();
   }
 
   @Override
   public SnapshotChunk next() {
+    try {
+      if (currentFileName != null) {
+        return nextFileBlock();
+      }
+
+      return nextFile();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private SnapshotChunk nextFile() throws IOException {
     final var chunkName = chunksView.pollFirst();
     if (chunkName == null) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    final var fileName = chunkName.toString();
+    final var fileChecksum = fileChecksums.get(fileName);
+    if (fileChecksum != null && fileChecksum.equals(knownChunks.get(fileName))) {
+      return SnapshotChunkUtil.createReferenceChunk(
+          fileName, fileChecksum, snapshotID, totalCount, snapshotChecksum);
+    }
 
-    try {
+    final var path = directory.resolve(fileName);
+    final var fileSize = Files.size(path);
+    if (fileSize <= maximumChunkSize) {
       return SnapshotChunkUtil.createSnapshotChunkFromFile(
           path, snapshotID, totalCount, snapshotChecksum);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
     }
+
+    currentFileName = fileName;
+    currentFilePosition = 0;
+    currentFileSize = fileSize;
+    currentFileChecksum =
+        fileChecksum != null ? fileChecksum : SnapshotChunkUtil.createChecksum(path);
+    return nextFileBlock();
+  }
+
+  private SnapshotChunk nextFileBlock() throws IOException {
+    final var path = directory.resolve(currentFileName);
+    final var fileBlockPosition = currentFilePosition;
+    final var fileBlockSize = (int) Math.min(maximumChunkSize, currentFileSize - fileBlockPosition);
+    final var chunk =
+        SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+            path,
+            fileBlockPosition,
+            fileBlockSize,
+            currentFileSize,
+            currentFileChecksum,
+            snapshotID,
+            totalCount,
+            snapshotChecksum);
+
+    currentFilePosition += fileBlockSize;
+    if (currentFilePosition >= currentFileSize) {
+      currentFileName = null;
+    }
+
+    return chunk;
   }
 
   private ByteBuffer encodeChunkId(final CharSequence path) {
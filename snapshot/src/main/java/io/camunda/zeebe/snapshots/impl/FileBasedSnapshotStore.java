@@ -226,6 +226,13 @@ public final class FileBasedSnapshotStore extends Actor
     return Optional.ofNullable(currentPersistedSnapshotRef.get());
   }
 
+  /**
+   * @return the latest snapshot, which received snapshots may reuse files of
+   */
+  Optional<FileBasedSnapshot> getLatestFileBasedSnapshot() {
+    return Optional.ofNullable(currentPersistedSnapshotRef.get());
+  }
+
   @Override
   public ActorFuture<Void> purgePendingSnapshots() {
     final CompletableActorFuture<Void> abortFuture = new CompletableActorFuture<>();
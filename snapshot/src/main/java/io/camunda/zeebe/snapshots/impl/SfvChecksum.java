@@ -17,6 +17,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -63,6 +64,14 @@ final class SfvChecksum {
     return combinedChecksum.getValue();
   }
 
+  /**
+   * @return the checksums of the individual files, by file name; empty if the checksum was read
+   *     from a file which only contains the combined value
+   */
+  public SortedMap<String, Long> getChecksums() {
+    return Collections.unmodifiableSortedMap(checksums);
+  }
+
   public void setSnapshotDirectoryComment(String headerComment) {
     this.snapshotDirectoryComment = headerComment;
   }
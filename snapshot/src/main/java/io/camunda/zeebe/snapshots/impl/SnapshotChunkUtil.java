@@ -8,11 +8,16 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
+import org.agrona.IoUtil;
 
 final class SnapshotChunkUtil {
 
@@ -28,6 +33,20 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
+  /** Computes the checksum of the given file without reading it into memory as a whole. */
+  static long createChecksum(final Path file) throws IOException {
+    final Checksum checksum = newChecksum();
+    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+    return checksum.getValue();
+  }
+
   static SnapshotChunk createSnapshotChunkFromFile(
       final Path chunkFile,
       final String snapshotId,
@@ -42,7 +61,60 @@ final class SnapshotChunkUtil {
         chunkFile.getFileName().toString(),
         checksum,
         content,
-        snapshotChecksum);
+        snapshotChecksum,
+        false,
+        0,
+        content.length);
+  }
+
+  /**
+   * Creates a chunk which contains only a block of the given file, read at the given position.
+   *
+   * @param fileChecksum the checksum of the whole file
+   */
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
+      final Path chunkFile,
+      final long fileBlockPosition,
+      final int fileBlockSize,
+      final long totalFileSize,
+      final long fileChecksum,
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum)
+      throws IOException {
+    final byte[] content = new byte[fileBlockSize];
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    try (final FileChannel channel = FileChannel.open(chunkFile, StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, fileBlockPosition + buffer.position()) < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes of %s at position %d, but reached the end of the file",
+                  fileBlockSize, chunkFile, fileBlockPosition));
+        }
+      }
+    }
+
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        chunkFile.getFileName().toString(),
+        fileChecksum,
+        content,
+        snapshotChecksum,
+        false,
+        fileBlockPosition,
+        totalFileSize);
+  }
+
+  static SnapshotChunk createReferenceChunk(
+      final String chunkName,
+      final long checksum,
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, chunkName, checksum, new byte[0], snapshotChecksum, true, 0, 0);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +124,9 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final boolean reference;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +134,19 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final boolean reference,
+        final long fileBlockPosition,
+        final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.reference = reference;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
     }
 
     @Override
@@ -97,5 +178,20 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public boolean isReference() {
+      return reference;
+    }
+
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
   }
 }
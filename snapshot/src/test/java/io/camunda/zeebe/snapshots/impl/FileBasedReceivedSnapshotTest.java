@@ -268,6 +268,31 @@ public class FileBasedReceivedSnapshotTest {
             receivedSnapshot.getPath().resolve(firstChunk.getChunkName()));
   }
 
+  @Test
+  public void shouldReceiveChunkAgainAfterInvalidChunkChecksum() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      final var firstChunk = snapshotChunkReader.next();
+      final var corruptedChunk = SnapshotChunkWrapper.withChecksum(firstChunk, 0xCAFEL);
+      assertThatThrownBy(() -> receivedSnapshot.apply(corruptedChunk).get())
+          .hasCauseInstanceOf(SnapshotWriteException.class);
+
+      // when
+      receivedSnapshot.apply(firstChunk).join();
+
+      // then
+      assertThat(receivedSnapshot.getPath())
+          .asInstanceOf(DirectoryAssert.factory())
+          .as("the corrupted chunk was deleted and the chunk was received again")
+          .isDirectoryContainingExactly(
+              receivedSnapshot.getPath().resolve(firstChunk.getChunkName()));
+    }
+  }
+
   @Test
   public void shouldNotWriteChunkWithWrongTotalChunkCount() {
     // given
@@ -322,11 +347,142 @@ public class FileBasedReceivedSnapshotTest {
             receivedSnapshot.getPath().resolve(firstChunk.getChunkName()));
   }
 
+  @Test
+  public void shouldLinkReferencedChunksFromLatestSnapshot() throws IOException {
+    // given
+    final var firstReceivedSnapshot =
+        (FileBasedSnapshot) receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondPersistedSnapshot = takePersistedSnapshot(2L);
+
+    // when
+    final var receivedSnapshot =
+        receiveSnapshot(secondPersistedSnapshot, firstReceivedSnapshot.getFileChecksums());
+
+    // then
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(
+              Files.isSameFile(
+                  receivedSnapshot.getPath().resolve(fileName),
+                  firstReceivedSnapshot.getPath().resolve(fileName)))
+          .as("the unchanged file %s is linked from the latest snapshot", fileName)
+          .isTrue();
+    }
+
+    final var secondReceivedSnapshot = receivedSnapshot.persist().join();
+    assertThat(secondReceivedSnapshot.getChecksum())
+        .isEqualTo(secondPersistedSnapshot.getChecksum());
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(secondReceivedSnapshot.getPath().resolve(entry.getKey()))
+          .hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotWriteReferencedChunkWhichLatestSnapshotDoesNotContain() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setKnownChunks(
+          ((FileBasedSnapshot) persistedSnapshot).getFileChecksums());
+      final var referenceChunk = snapshotChunkReader.next();
+      final var future = receivedSnapshot.apply(referenceChunk);
+
+      // then
+      assertThat(referenceChunk.isReference()).isTrue();
+      assertThatThrownBy(future::get).hasCauseInstanceOf(SnapshotWriteException.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    assertThat(receivedSnapshot.getPath()).isEmptyDirectory();
+  }
+
+  @Test
+  public void shouldReceiveFilesSplitIntoMultipleChunks() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksum()).isEqualTo(persistedSnapshot.getChecksum());
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(entry.getKey()))
+          .hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotWriteFileChunkReceivedOutOfOrder() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      snapshotChunkReader.next();
+      final var secondChunk = snapshotChunkReader.next();
+
+      // when
+      final var future = receivedSnapshot.apply(secondChunk);
+
+      // then
+      assertThat(secondChunk.getFileBlockPosition()).isEqualTo(4L);
+      assertThatThrownBy(future::get).hasCauseInstanceOf(SnapshotWriteException.class);
+    }
+    assertThat(receivedSnapshot.getPath()).doesNotExist();
+  }
+
+  @Test
+  public void shouldDeleteFileSplitIntoMultipleChunksWithInvalidChecksum() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(8);
+      final var firstChunk = snapshotChunkReader.next();
+      final var lastChunk = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstChunk).join();
+
+      // when
+      final var corruptedChunk = SnapshotChunkWrapper.withChecksum(lastChunk, 0xCAFEL);
+      final var future = receivedSnapshot.apply(corruptedChunk);
+
+      // then
+      assertThat(lastChunk.getChunkName()).isEqualTo(firstChunk.getChunkName());
+      assertThatThrownBy(future::get).hasCauseInstanceOf(SnapshotWriteException.class);
+      assertThat(receivedSnapshot.getPath().resolve(firstChunk.getChunkName()))
+          .as("the partially received file was deleted")
+          .doesNotExist();
+    }
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
+    return receiveSnapshot(persistedSnapshot, Map.of());
+  }
+
+  private ReceivedSnapshot receiveSnapshot(
+      final PersistedSnapshot persistedSnapshot, final Map<String, Long> knownChunks) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
 
     try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setKnownChunks(knownChunks);
       while (snapshotChunkReader.hasNext()) {
         receivedSnapshot.apply(snapshotChunkReader.next()).join();
       }
@@ -9,7 +9,9 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -17,7 +19,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -25,6 +29,8 @@ import org.junit.rules.TemporaryFolder;
 public final class FileBasedSnapshotChunkReaderTest {
 
   private static final long SNAPSHOT_CHECKSUM = 1L;
+  private static final long CONTENT_CHECKSUM =
+      SnapshotChunkUtil.createChecksum("content".getBytes(StandardCharsets.UTF_8));
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
   private Path snapshotDirectory;
 
@@ -88,7 +94,105 @@ public final class FileBasedSnapshotChunkReaderTest {
     }
   }
 
+  @Test
+  public void shouldReadKnownChunksAsReferences() throws IOException {
+    // given
+    final var reader = newReader(Map.of("bar", CONTENT_CHECKSUM, "foo", CONTENT_CHECKSUM));
+
+    // when
+    reader.setKnownChunks(Map.of("bar", CONTENT_CHECKSUM, "foo", CONTENT_CHECKSUM + 1));
+
+    // then
+    final var referenceChunk = reader.next();
+    assertThat(referenceChunk.getChunkName()).isEqualTo("bar");
+    assertThat(referenceChunk.isReference()).isTrue();
+    assertThat(referenceChunk.getChecksum()).isEqualTo(CONTENT_CHECKSUM);
+    assertThat(referenceChunk.getContent()).isEmpty();
+    assertThat(referenceChunk.getTotalCount()).isEqualTo(2);
+    assertThat(referenceChunk.getSnapshotChecksum()).isEqualTo(SNAPSHOT_CHECKSUM);
+
+    final var changedChunk = reader.next();
+    assertThat(changedChunk.getChunkName()).isEqualTo("foo");
+    assertThat(changedChunk.isReference()).isFalse();
+    assertThat(snapshotDirectory.resolve("foo")).hasBinaryContent(changedChunk.getContent());
+  }
+
+  @Test
+  public void shouldReadKnownChunksWithContentIfChecksumsAreUnknown() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.setKnownChunks(Map.of("bar", CONTENT_CHECKSUM, "foo", CONTENT_CHECKSUM));
+
+    // then
+    assertThat(reader.next().isReference()).isFalse();
+    assertThat(reader.next().isReference()).isFalse();
+  }
+
+  @Test
+  public void shouldSplitFilesLargerThanMaximumChunkSize() throws IOException {
+    // given
+    final var reader = newReader();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    final var chunkIds = new ArrayList<ByteBuffer>();
+
+    // when
+    reader.setMaximumChunkSize(3);
+    while (reader.hasNext()) {
+      chunkIds.add(reader.nextId());
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(chunks)
+        .extracting(
+            SnapshotChunk::getChunkName,
+            SnapshotChunk::getFileBlockPosition,
+            chunk -> new String(chunk.getContent(), StandardCharsets.UTF_8))
+        .containsExactly(
+            tuple("bar", 0L, "con"),
+            tuple("bar", 3L, "ten"),
+            tuple("bar", 6L, "t"),
+            tuple("foo", 0L, "con"),
+            tuple("foo", 3L, "ten"),
+            tuple("foo", 6L, "t"));
+    assertThat(chunks)
+        .allSatisfy(
+            chunk -> {
+              assertThat(chunk.getTotalFileSize()).isEqualTo(7L);
+              assertThat(chunk.getChecksum()).isEqualTo(CONTENT_CHECKSUM);
+              assertThat(chunk.getTotalCount()).isEqualTo(2);
+            });
+    assertThat(chunkIds)
+        .extracting(id -> StandardCharsets.UTF_8.decode(id).toString())
+        .containsExactly("bar", "bar", "bar", "foo", "foo", "foo");
+  }
+
+  @Test
+  public void shouldNotSplitFilesWhichFitIntoChunk() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.setMaximumChunkSize(7);
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("bar");
+    assertThat(chunk.getFileBlockPosition()).isZero();
+    assertThat(chunk.getTotalFileSize()).isEqualTo(7L);
+    assertThat(snapshotDirectory.resolve("bar")).hasBinaryContent(chunk.getContent());
+    assertThat(reader.next().getChunkName()).isEqualTo("foo");
+    assertThat(reader.hasNext()).isFalse();
+  }
+
   private FileBasedSnapshotChunkReader newReader() throws IOException {
+    return newReader(Map.of());
+  }
+
+  private FileBasedSnapshotChunkReader newReader(final Map<String, Long> fileChecksums)
+      throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
     for (final var chunk : Arrays.asList("foo", "bar")) {
       final var path = snapshotDirectory.resolve(chunk);
@@ -96,6 +200,6 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, "content");
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, fileChecksums);
   }
 }
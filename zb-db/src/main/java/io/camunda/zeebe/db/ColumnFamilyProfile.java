@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Describes the access pattern of a column family. When every column family is stored in its own
+ * native RocksDB column family, the profile is used to tune the memtable size, the compaction
+ * style and the bloom filter of that column family.
+ *
+ * <p>Column family enums can assign a profile to each of their values by implementing {@link
+ * ProfiledColumnFamily}; all other column families use {@link #DEFAULT}.
+ */
+public enum ColumnFamilyProfile {
+  /** Entries which are read and written at a moderate rate, and live for a moderate time. */
+  DEFAULT,
+
+  /**
+   * Small entries which are written and deleted at a high rate, e.g. indexes of due dates or of
+   * activatable jobs. Most of them should be deleted while still in the memtable, so they get
+   * larger memtables.
+   */
+  SHORT_LIVED,
+
+  /**
+   * Large entries which are written once and rarely read afterwards, e.g. deployed resources. They
+   * get small memtables, and a compaction style with less write amplification.
+   */
+  COLD
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Can be implemented by a column family enum to assign a {@link ColumnFamilyProfile} to each of its
+ * values.
+ */
+public interface ProfiledColumnFamily {
+
+  /**
+   * @return the access profile of this column family
+   */
+  ColumnFamilyProfile getProfile();
+}
@@ -38,4 +38,11 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Disables the consistency checks, i.e. the preconditions and foreign key checks, for the
+   * operations of this transaction until it is committed or rolled back. Intended for operations
+   * which were already checked before, e.g. when the events are replayed.
+   */
+  void disableConsistencyChecks();
 }
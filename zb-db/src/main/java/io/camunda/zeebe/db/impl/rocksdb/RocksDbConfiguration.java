@@ -18,6 +18,7 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_STATISTICS_ENABLED = false;
   public static final boolean DEFAULT_WAL_DISABLED = false;
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final boolean DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED = false;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -46,6 +47,16 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Stores each column family in its own native RocksDB column family, instead of multiplexing all
+   * of them into the default column family. This gives each column family its own memtables, SST
+   * files and bloom filters, tuned by its {@link io.camunda.zeebe.db.ColumnFamilyProfile}.
+   *
+   * <p>Existing databases are migrated to the configured layout when they are opened, so the
+   * setting can be changed between restarts.
+   */
+  private boolean nativeColumnFamiliesEnabled = DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -120,4 +131,14 @@ public final class RocksDbConfiguration {
     this.walDisabled = walDisabled;
     return this;
   }
+
+  public boolean isNativeColumnFamiliesEnabled() {
+    return nativeColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamiliesEnabled(
+      final boolean nativeColumnFamiliesEnabled) {
+    this.nativeColumnFamiliesEnabled = nativeColumnFamiliesEnabled;
+    return this;
+  }
 }
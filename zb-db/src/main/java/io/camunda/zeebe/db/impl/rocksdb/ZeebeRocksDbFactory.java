@@ -7,10 +7,13 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import io.camunda.zeebe.db.ColumnFamilyProfile;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ProfiledColumnFamily;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,6 +23,8 @@ import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -28,13 +33,13 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
@@ -43,14 +48,41 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     RocksDB.loadLibrary();
   }
 
+  // this is a current guess and candidate for further tuning
+  // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
+  // 0.15
+  // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
+  // create a filter for each memtable, allowing us to skip the prefixes if possible
+  private static final double MEMTABLE_PREFIX_FILTER_MEMORY = 0.15;
+
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final Class<ColumnFamilyType> columnFamilyType;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings) {
+    this(rocksDbConfiguration, consistencyChecksSettings, null);
+  }
+
+  /**
+   * @param columnFamilyType the type of the column families, which is required to create one
+   *     native RocksDB column family per column family if {@link
+   *     RocksDbConfiguration#isNativeColumnFamiliesEnabled()} is set
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final Class<ColumnFamilyType> columnFamilyType) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
+    this.columnFamilyType = columnFamilyType;
+
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled() && columnFamilyType == null) {
+      throw new IllegalStateException(
+          "Expected the column family type to be known when native column families are enabled, "
+              + "but none was given");
+    }
   }
 
   @Override
@@ -58,18 +90,34 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     final ZeebeTransactionDb<ColumnFamilyType> db;
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
-      // column family options have to be closed as last
-      final var columnFamilyOptions = createColumnFamilyOptions(closeables);
-      closeables.add(columnFamilyOptions);
       final var dbOptions = createDefaultDbOptions(closeables);
-      closeables.add(dbOptions);
+      final ColumnFamilyOptions defaultColumnFamilyOptions;
+      final List<ColumnFamilyDescriptor> columnFamilies;
+      if (rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+        // all column families share the same block cache, and the memory of their memtables is
+        // charged to that cache, such that the memory limit applies to the database as a whole
+        final var blockCache = createBlockCache(closeables, getTotalMemoryBudget());
+        final var writeBufferManager =
+            new WriteBufferManager(getTotalMemoryBudget() - getBlockCacheMemory(), blockCache);
+        closeables.add(writeBufferManager);
+        dbOptions.setWriteBufferManager(writeBufferManager);
 
-      final var options = new Options(dbOptions, columnFamilyOptions);
-      closeables.add(options);
+        defaultColumnFamilyOptions =
+            createColumnFamilyOptions(closeables, blockCache, ColumnFamilyProfile.DEFAULT);
+        columnFamilies = createNativeColumnFamilies(closeables, blockCache);
+      } else {
+        // column family options have to be closed as last
+        defaultColumnFamilyOptions = createColumnFamilyOptions(closeables);
+        closeables.add(defaultColumnFamilyOptions);
+        columnFamilies = List.of();
+      }
+      closeables.add(dbOptions);
 
       db =
           ZeebeTransactionDb.openTransactionalDb(
-              options,
+              dbOptions,
+              defaultColumnFamilyOptions,
+              columnFamilies,
               pathName.getAbsolutePath(),
               closeables,
               rocksDbConfiguration,
@@ -91,8 +139,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // unless native column families are enabled, we only use the default CF
+            .setCreateMissingColumnFamilies(rocksDbConfiguration.isNativeColumnFamiliesEnabled())
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -158,35 +206,97 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
       final List<AutoCloseable> closeables) {
-    final var columnFamilyOptions = new ColumnFamilyOptions();
+    final var blockCache = createBlockCache(closeables, getBlockCacheMemory());
+    final var tableConfig = createTableFormatConfig(closeables, blockCache, true);
+    return createTunedColumnFamilyOptions(getMemtableMemory(), CompactionStyle.LEVEL, tableConfig);
+  }
+
+  /**
+   * Creates one descriptor per column family, ordered by ordinal. Each native column family is
+   * tuned according to its {@link ColumnFamilyProfile}, unless the user provided column family
+   * options, which then apply to all of them.
+   */
+  private List<ColumnFamilyDescriptor> createNativeColumnFamilies(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
+    final var columnFamilies = new ArrayList<ColumnFamilyDescriptor>();
+    for (final var columnFamily : columnFamilyType.getEnumConstants()) {
+      final var profile =
+          columnFamily instanceof ProfiledColumnFamily profiled
+              ? profiled.getProfile()
+              : ColumnFamilyProfile.DEFAULT;
+      final var options = createColumnFamilyOptions(closeables, blockCache, profile);
+      columnFamilies.add(
+          new ColumnFamilyDescriptor(
+              columnFamily.name().getBytes(StandardCharsets.UTF_8), options));
+    }
+    return columnFamilies;
+  }
 
-    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final Cache blockCache,
+      final ColumnFamilyProfile profile) {
+    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    final ColumnFamilyOptions options;
+    if (!userProvidedColumnFamilyOptions.isEmpty()) {
+      options = createFromUserOptions(userProvidedColumnFamilyOptions);
+    } else {
+      // the write buffer manager bounds the memory of all memtables together, so a single family
+      // only gets a fraction of the memtable budget
+      final var memtableMemory = getMemtableMemory();
+      options =
+          switch (profile) {
+            case SHORT_LIVED -> createTunedColumnFamilyOptions(
+                memtableMemory / 2,
+                CompactionStyle.LEVEL,
+                createTableFormatConfig(closeables, blockCache, true));
+            case COLD -> createTunedColumnFamilyOptions(
+                memtableMemory / 8,
+                CompactionStyle.UNIVERSAL,
+                createTableFormatConfig(closeables, blockCache, false));
+            case DEFAULT -> createTunedColumnFamilyOptions(
+                memtableMemory / 4,
+                CompactionStyle.LEVEL,
+                createTableFormatConfig(closeables, blockCache, true));
+          };
+    }
+
+    closeables.add(options);
+    return options;
+  }
+
+  private long getTotalMemoryBudget() {
+    return rocksDbConfiguration.getMemoryLimit();
+  }
+
+  private long getBlockCacheMemory() {
     // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
     // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    return getTotalMemoryBudget() / 3;
+  }
+
+  private long getMemtableMemory() {
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
     // memtable which takes a bit of memory which must be accounted for from the memtable's memory
     final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
-    // this is a current guess and candidate for further tuning
-    // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
-    // 0.15
-    // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
-    // create
-    // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
-    final var memtableMemory =
-        Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
-                * (1 - memtablePrefixFilterMemory));
-
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    return Math.round(
+        ((getTotalMemoryBudget() - getBlockCacheMemory()) / (double) maxConcurrentMemtableCount)
+            * (1 - MEMTABLE_PREFIX_FILTER_MEMORY));
+  }
+
+  private ColumnFamilyOptions createTunedColumnFamilyOptions(
+      final long memtableMemory,
+      final CompactionStyle compactionStyle,
+      final TableFormatConfig tableConfig) {
+    final var columnFamilyOptions = new ColumnFamilyOptions();
+    final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
 
     return columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
+        .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_FILTER_MEMORY)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -198,7 +308,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         // compaction
         .setLevelCompactionDynamicLevelBytes(true)
         .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
+        .setCompactionStyle(compactionStyle)
         // L-0 means immediately flushed memtables
         .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
         .setLevel0SlowdownWritesTrigger(
@@ -232,24 +342,34 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
+  private Cache createBlockCache(
       final List<AutoCloseable> closeables, final long blockCacheMemory) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
     final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
+
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final Cache cache, final boolean withBloomFilter) {
+    final var tableConfig =
+        new BlockBasedTableConfig()
+            .setBlockCache(cache)
+            // increasing block size means reducing memory usage, but increasing read iops
+            .setBlockSize(32 * 1024L)
+            // full and partitioned filters use a more efficient bloom filter implementation when
+            // using format 5
+            .setFormatVersion(5);
+
+    // rarely read column families don't need to spend memory on filters
+    if (withBloomFilter) {
+      final var filter = new BloomFilter(10, false);
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
 
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
-
-    return new BlockBasedTableConfig()
-        .setBlockCache(cache)
-        // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
-        // full and partitioned filters use a more efficient bloom filter implementation when
-        // using format 5
-        .setFormatVersion(5)
-        .setFilterPolicy(filter)
+    return tableConfig
         // caching and pinning indexes and filters is important to keep reads/seeks fast when we
         // have many memtables, and pinning them ensures they are never evicted from the block
         // cache
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Moves entries between the shared default column family and the native per-family column
+ * families. Since every key keeps its 8 byte column family prefix in both layouts, the target of an
+ * entry is derived from its key alone and migrating is a plain copy of the key and value.
+ */
+final class ColumnFamilyLayoutMigration {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int BATCH_SIZE = 10_000;
+
+  private final RocksDB db;
+
+  ColumnFamilyLayoutMigration(final RocksDB db) {
+    this.db = db;
+  }
+
+  /**
+   * Moves every entry of the given source column family into the native column family that
+   * corresponds to its key prefix. Entries with an unknown prefix stay where they are.
+   *
+   * @return the number of moved entries
+   */
+  long moveToNativeColumnFamilies(
+      final ColumnFamilyHandle source, final List<ColumnFamilyHandle> targets)
+      throws RocksDBException {
+    final var moved =
+        move(
+            source,
+            key -> {
+              final var ordinal = readColumnFamilyOrdinal(key);
+              return ordinal >= 0 && ordinal < targets.size() ? targets.get((int) ordinal) : null;
+            });
+    if (moved > 0) {
+      LOG.info("Moved {} entries into native column families", moved);
+    }
+    return moved;
+  }
+
+  /**
+   * Moves every entry of the given source column family into the given target column family.
+   *
+   * @return the number of moved entries
+   */
+  long moveAll(final ColumnFamilyHandle source, final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var moved = move(source, key -> target);
+    if (moved > 0) {
+      LOG.info("Moved {} entries into the shared default column family", moved);
+    }
+    return moved;
+  }
+
+  boolean isEmpty(final ColumnFamilyHandle columnFamily) {
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final RocksIterator iterator = db.newIterator(columnFamily, readOptions)) {
+      iterator.seekToFirst();
+      return !iterator.isValid();
+    }
+  }
+
+  private long move(final ColumnFamilyHandle source, final TargetResolver resolver)
+      throws RocksDBException {
+    long moved = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final RocksIterator iterator = db.newIterator(source, readOptions);
+        final var batch = new WriteBatch()) {
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        final var target = resolver.resolve(key);
+        if (target == null || target == source) {
+          continue;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        moved++;
+
+        if (batch.count() >= BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+    return moved;
+  }
+
+  private static long readColumnFamilyOrdinal(final byte[] key) {
+    if (key.length < Long.BYTES) {
+      return -1;
+    }
+    return ByteBuffer.wrap(key).order(ZeebeDbConstants.ZB_DB_BYTE_ORDER).getLong();
+  }
+
+  @FunctionalInterface
+  private interface TargetResolver {
+    ColumnFamilyHandle resolve(byte[] key);
+  }
+}
@@ -69,7 +69,7 @@ public final class ForeignKeyChecker {
       throws Exception {
     final var exists =
         transaction.get(
-                transactionDb.getDefaultNativeHandle(),
+                transactionDb.getColumnFamilyNativeHandle(foreignKey.columnFamily()),
                 transactionDb.getReadOptionsNativeHandle(),
                 key,
                 keyLength)
@@ -87,7 +87,8 @@ public final class ForeignKeyChecker {
       final int prefixLength) {
     try (final var iterator =
         transaction.newIterator(
-            transactionDb.getPrefixReadOptions(), transactionDb.getDefaultHandle())) {
+            transactionDb.getPrefixReadOptions(),
+            transactionDb.getColumnFamilyHandle(foreignKey.columnFamily()))) {
 
       RocksDbInternal.seek(
           iterator, ZeebeTransactionDb.getNativeHandle(iterator), prefix, prefixLength);
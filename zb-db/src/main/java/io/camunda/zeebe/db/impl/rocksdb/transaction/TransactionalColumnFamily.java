@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -51,6 +52,8 @@ class TransactionalColumnFamily<
   private final ValueType valueInstance;
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
 
   private final ForeignKeyChecker foreignKeyChecker;
 
@@ -68,6 +71,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -81,7 +86,7 @@ class TransactionalColumnFamily<
           assertKeyDoesNotExist(transaction);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -98,7 +103,7 @@ class TransactionalColumnFamily<
           assertKeyExists(transaction);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -114,7 +119,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
           assertForeignKeysExist(transaction, key, value);
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -129,7 +134,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  columnFamilyNativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -172,6 +177,21 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(new DbNullKey(), visitor));
   }
 
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(
+        transaction -> {
+          // the key buffer is only read when seeking, so it may be reused by the visitor afterwards
+          columnFamilyContext.writeKey(startAtKey);
+          forEachInPrefix(
+              new DbNullKey(),
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength(),
+              visitor);
+        });
+  }
+
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
@@ -198,7 +218,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           assertKeyExists(transaction);
           transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
         });
@@ -210,7 +230,7 @@ class TransactionalColumnFamily<
         transaction -> {
           columnFamilyContext.writeKey(key);
           transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
+              columnFamilyNativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength());
         });
@@ -223,7 +243,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  columnFamilyNativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -249,7 +269,8 @@ class TransactionalColumnFamily<
 
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
-    if (!consistencyChecksSettings.enableForeignKeyChecks()) {
+    if (!consistencyChecksSettings.enableForeignKeyChecks()
+        || transaction.areConsistencyChecksDisabled()) {
       return;
     }
     for (final var key : keys) {
@@ -260,12 +281,13 @@ class TransactionalColumnFamily<
   }
 
   private void assertKeyDoesNotExist(final ZeebeTransaction transaction) throws Exception {
-    if (!consistencyChecksSettings.enablePreconditions()) {
+    if (!consistencyChecksSettings.enablePreconditions()
+        || transaction.areConsistencyChecksDisabled()) {
       return;
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -276,12 +298,13 @@ class TransactionalColumnFamily<
   }
 
   private void assertKeyExists(final ZeebeTransaction transaction) throws Exception {
-    if (!consistencyChecksSettings.enablePreconditions()) {
+    if (!consistencyChecksSettings.enablePreconditions()
+        || transaction.areConsistencyChecksDisabled()) {
       return;
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -303,7 +326,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
@@ -315,6 +338,18 @@ class TransactionalColumnFamily<
    */
   private void forEachInPrefix(
       final DbKey prefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(prefix, null, 0, visitor);
+  }
+
+  /**
+   * Same as {@link #forEachInPrefix(DbKey, KeyValuePairVisitor)}, but seeks to the given key
+   * instead of the prefix, if it is not {@code null}. The key must start with the prefix.
+   */
+  private void forEachInPrefix(
+      final DbKey prefix,
+      final byte[] seekKey,
+      final int seekKeyLength,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
     /*
      * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
      * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
@@ -335,8 +370,8 @@ class TransactionalColumnFamily<
             for (RocksDbInternal.seek(
                     iterator,
                     ZeebeTransactionDb.getNativeHandle(iterator),
-                    prefixKey,
-                    prefixLength);
+                    seekKey != null ? seekKey : prefixKey,
+                    seekKey != null ? seekKeyLength : prefixLength);
                 iterator.isValid() && shouldVisitNext;
                 iterator.next()) {
               final byte[] keyBytes = iterator.key();
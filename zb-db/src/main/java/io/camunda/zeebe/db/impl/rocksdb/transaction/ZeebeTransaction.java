@@ -24,6 +24,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final TransactionRenovator transactionRenovator;
 
   private boolean inCurrentTransaction;
+  private boolean consistencyChecksDisabled;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -78,6 +79,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return inCurrentTransaction;
   }
 
+  boolean areConsistencyChecksDisabled() {
+    return consistencyChecksDisabled;
+  }
+
   @Override
   public void run(final TransactionOperation operations) throws Exception {
     try {
@@ -117,13 +122,20 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void disableConsistencyChecks() {
+    consistencyChecksDisabled = true;
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    consistencyChecksDisabled = false;
     transaction.commit();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    consistencyChecksDisabled = false;
     transaction.rollback();
   }
 
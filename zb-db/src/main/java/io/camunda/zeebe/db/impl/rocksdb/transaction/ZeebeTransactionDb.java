@@ -18,14 +18,23 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
@@ -45,6 +54,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final ColumnFamilyHandle[] columnFamilyHandles;
+  private final long[] columnFamilyNativeHandles;
   private final ConsistencyChecksSettings consistencyChecksSettings;
 
   protected ZeebeTransactionDb(
@@ -53,8 +64,31 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings) {
+    this(
+        defaultHandle,
+        List.of(),
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings);
+  }
+
+  /**
+   * @param columnFamilyHandles the native column family handles, indexed by the ordinal of the
+   *     column family they belong to; if empty, all column families share the default handle
+   */
+  protected ZeebeTransactionDb(
+      final ColumnFamilyHandle defaultHandle,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final OptimisticTransactionDB optimisticTransactionDB,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.columnFamilyHandles = columnFamilyHandles.toArray(new ColumnFamilyHandle[0]);
+    columnFamilyNativeHandles =
+        columnFamilyHandles.stream().mapToLong(ZeebeTransactionDb::getNativeHandle).toArray();
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -74,27 +108,98 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(defaultWriteOptions);
   }
 
+  /**
+   * Opens the database at the given path with the given column family layout. If {@code
+   * columnFamilies} is empty, all column families are stored in the default RocksDB column family
+   * and are only separated by their key prefix. Otherwise, it must contain one descriptor per
+   * column family, ordered by ordinal, and each column family is stored in its own native RocksDB
+   * column family.
+   *
+   * <p>Since the key prefix is kept in both layouts, a database written with one layout is migrated
+   * to the other one on open by moving the entries between the RocksDB column families.
+   */
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
-          final Options options,
+          final DBOptions dbOptions,
+          final ColumnFamilyOptions defaultColumnFamilyOptions,
+          final List<ColumnFamilyDescriptor> columnFamilies,
           final String path,
           final List<AutoCloseable> closables,
           final RocksDbConfiguration rocksDbConfiguration,
           final ConsistencyChecksSettings consistencyChecksSettings)
           throws RocksDBException {
+    final var descriptors = new ArrayList<ColumnFamilyDescriptor>();
+    descriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, defaultColumnFamilyOptions));
+    descriptors.addAll(columnFamilies);
+    // column families which are not part of the requested layout still have to be opened, so
+    // their entries can be migrated
+    for (final var existingName : listExistingColumnFamilies(path)) {
+      if (descriptors.stream().noneMatch(d -> Arrays.equals(d.getName(), existingName))) {
+        descriptors.add(new ColumnFamilyDescriptor(existingName, defaultColumnFamilyOptions));
+      }
+    }
+
+    final var handles = new ArrayList<ColumnFamilyHandle>();
     final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options, path);
+        OptimisticTransactionDB.open(dbOptions, path, descriptors, handles);
     closables.add(optimisticTransactionDB);
-    final var defaultColumnFamilyHandle = optimisticTransactionDB.getDefaultColumnFamily();
+    // handles have to be closed before the database
+    closables.addAll(handles);
+
+    final var defaultColumnFamilyHandle = handles.get(0);
+    final var columnFamilyHandles = handles.subList(1, 1 + columnFamilies.size());
+    final var obsoleteHandles = handles.subList(1 + columnFamilies.size(), handles.size());
+    migrateLayout(
+        optimisticTransactionDB, defaultColumnFamilyHandle, columnFamilyHandles, obsoleteHandles);
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        columnFamilyHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
         consistencyChecksSettings);
   }
 
+  private static List<byte[]> listExistingColumnFamilies(final String path)
+      throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
+
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path);
+    }
+  }
+
+  private static void migrateLayout(
+      final RocksDB db,
+      final ColumnFamilyHandle defaultHandle,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final List<ColumnFamilyHandle> obsoleteHandles)
+      throws RocksDBException {
+    final var migration = new ColumnFamilyLayoutMigration(db);
+    if (!columnFamilyHandles.isEmpty()) {
+      migration.moveToNativeColumnFamilies(defaultHandle, columnFamilyHandles);
+    }
+
+    for (final var obsoleteHandle : obsoleteHandles) {
+      if (columnFamilyHandles.isEmpty()) {
+        migration.moveAll(obsoleteHandle, defaultHandle);
+      } else {
+        migration.moveToNativeColumnFamilies(obsoleteHandle, columnFamilyHandles);
+      }
+
+      if (migration.isEmpty(obsoleteHandle)) {
+        LOG.info(
+            "Dropping column family {} which is not used anymore",
+            new String(obsoleteHandle.getName(), StandardCharsets.UTF_8));
+        db.dropColumnFamily(obsoleteHandle);
+      }
+    }
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -120,6 +225,24 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return defaultNativeHandle;
   }
 
+  /**
+   * @return the handle of the RocksDB column family which stores the given column family; this is
+   *     the default handle unless native column families are used
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<?> columnFamily) {
+    if (columnFamilyHandles.length == 0) {
+      return defaultHandle;
+    }
+    return columnFamilyHandles[columnFamily.ordinal()];
+  }
+
+  protected long getColumnFamilyNativeHandle(final Enum<?> columnFamily) {
+    if (columnFamilyNativeHandles.length == 0) {
+      return defaultNativeHandle;
+    }
+    return columnFamilyNativeHandles[columnFamily.ordinal()];
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -147,9 +270,21 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (columnFamilyHandles.length > 0) {
+        // with native column families, numeric properties are summed up over all of them
+        propertyValue =
+            String.valueOf(optimisticTransactionDB.getAggregatedLongProperty(propertyName));
+      }
     } catch (final RocksDBException rde) {
-      LOG.debug(rde.getMessage(), rde);
+      LOG.trace("Property {} cannot be aggregated, falling back to default", propertyName, rde);
+    }
+
+    if (propertyValue == null) {
+      try {
+        propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      } catch (final RocksDBException rde) {
+        LOG.debug(rde.getMessage(), rde);
+      }
     }
     return Optional.ofNullable(propertyValue);
   }
@@ -287,6 +287,39 @@ public final class ColumnFamilyTest {
     assertThat(values).containsExactly((long) Short.MAX_VALUE, 255L, 123L);
   }
 
+  @Test
+  public void shouldUseWhileTrueStartingAtKey() {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(6734, 921);
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(1, Short.MAX_VALUE);
+    upsertKeyValuePair(Short.MAX_VALUE, 1);
+
+    // when
+    final List<Long> keysFromExistingKey = new ArrayList<>();
+    key.wrapLong(1213);
+    columnFamily.whileTrue(
+        key,
+        (key, value) -> {
+          keysFromExistingKey.add(key.getValue());
+          return key.getValue() != 6734;
+        });
+
+    final List<Long> keysFromMissingKey = new ArrayList<>();
+    key.wrapLong(5000);
+    columnFamily.whileTrue(
+        key,
+        (key, value) -> {
+          keysFromMissingKey.add(key.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keysFromExistingKey).containsExactly(1213L, 4567L, 6734L);
+    assertThat(keysFromMissingKey).containsExactly(6734L, (long) Short.MAX_VALUE);
+  }
+
   @Test
   public void shouldDeleteWhileTrue() {
     // given
@@ -354,6 +387,33 @@ public final class ColumnFamilyTest {
         .isInstanceOf(ZeebeDbInconsistentException.class);
   }
 
+  @Test
+  public void shouldNotCheckConsistencyIfDisabledForTransaction() throws Exception {
+    // given
+    final var transactionContext = zeebeDb.createContext();
+    final var foreignKey = new DbForeignKey<>(new DbLong(), DefaultColumnFamily.DEFAULT);
+    foreignKey.inner().wrapLong(2);
+    final var columnFamilyWithForeignKey =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, key, foreignKey);
+    key.wrapLong(1);
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.disableConsistencyChecks();
+    transaction.run(
+        () -> {
+          columnFamilyWithForeignKey.update(key, foreignKey);
+          columnFamilyWithForeignKey.insert(key, foreignKey);
+        });
+    transaction.commit();
+
+    // then
+    assertThat(columnFamilyWithForeignKey.exists(key)).isTrue();
+    assertThatThrownBy(() -> columnFamilyWithForeignKey.insert(key, foreignKey))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
   @Test
   public void shouldThrowOnMissingForeignKeyInKeyPosition() {
     // given
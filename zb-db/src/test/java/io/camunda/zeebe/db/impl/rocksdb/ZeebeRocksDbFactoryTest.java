@@ -10,20 +10,27 @@ package io.camunda.zeebe.db.impl.rocksdb;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.db.ColumnFamilyProfile;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ProfiledColumnFamily;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -118,4 +125,122 @@ public final class ZeebeRocksDbFactoryTest {
         .hasMessageContaining(
             "Expected to create column family options for RocksDB, but one or many values are undefined in the context of RocksDB");
   }
+
+  @Test
+  public void shouldCreateNativeColumnFamilies() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+
+    // when
+    try (final var db = createDb(pathName, true)) {
+      put(db, TestColumnFamilies.HOT, 1L, 10L);
+      put(db, TestColumnFamilies.COLD, 1L, 20L);
+
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, 1L)).isEqualTo(10L);
+      assertThat(get(db, TestColumnFamilies.COLD, 1L)).isEqualTo(20L);
+    }
+    assertThat(listColumnFamilies(pathName)).containsExactlyInAnyOrder("default", "HOT", "COLD");
+  }
+
+  @Test
+  public void shouldMigrateToNativeColumnFamilies() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    try (final var db = createDb(pathName, false)) {
+      put(db, TestColumnFamilies.HOT, 1L, 10L);
+      put(db, TestColumnFamilies.COLD, 1L, 20L);
+    }
+
+    // when
+    try (final var db = createDb(pathName, true)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, 1L)).isEqualTo(10L);
+      assertThat(get(db, TestColumnFamilies.COLD, 1L)).isEqualTo(20L);
+      assertThat(db.isEmpty(TestColumnFamilies.HOT, db.createContext())).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldMigrateBackToSharedColumnFamily() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    try (final var db = createDb(pathName, true)) {
+      put(db, TestColumnFamilies.HOT, 1L, 10L);
+      put(db, TestColumnFamilies.COLD, 1L, 20L);
+    }
+
+    // when
+    try (final var db = createDb(pathName, false)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, 1L)).isEqualTo(10L);
+      assertThat(get(db, TestColumnFamilies.COLD, 1L)).isEqualTo(20L);
+    }
+    assertThat(listColumnFamilies(pathName)).containsExactly("default");
+  }
+
+  @Test
+  public void shouldFailToEnableNativeColumnFamiliesWithoutColumnFamilyType() {
+    // expect
+    assertThatThrownBy(
+            () ->
+                new ZeebeRocksDbFactory<TestColumnFamilies>(
+                    new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true),
+                    new ConsistencyChecksSettings()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static ZeebeDb<TestColumnFamilies> createDb(
+      final File pathName, final boolean nativeColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration().setNativeColumnFamiliesEnabled(nativeColumnFamilies),
+            new ConsistencyChecksSettings(true, true),
+            TestColumnFamilies.class)
+        .createDb(pathName);
+  }
+
+  private static void put(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long key,
+      final long value) {
+    final var dbKey = new DbLong();
+    final var dbValue = new DbLong();
+    final var context = db.createContext();
+    dbKey.wrapLong(key);
+    dbValue.wrapLong(value);
+    db.createColumnFamily(columnFamily, context, dbKey, dbValue).upsert(dbKey, dbValue);
+  }
+
+  private static long get(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    final var context = db.createContext();
+    dbKey.wrapLong(key);
+    return db.createColumnFamily(columnFamily, context, dbKey, new DbLong()).get(dbKey).getValue();
+  }
+
+  private static List<String> listColumnFamilies(final File pathName) throws Exception {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, pathName.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies implements ProfiledColumnFamily {
+    HOT(ColumnFamilyProfile.SHORT_LIVED),
+    COLD(ColumnFamilyProfile.COLD);
+
+    private final ColumnFamilyProfile profile;
+
+    TestColumnFamilies(final ColumnFamilyProfile profile) {
+      this.profile = profile;
+    }
+
+    @Override
+    public ColumnFamilyProfile getProfile() {
+      return profile;
+    }
+  }
 }